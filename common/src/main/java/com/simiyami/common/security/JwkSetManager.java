@@ -0,0 +1,288 @@
+package com.simiyami.common.security;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * Keycloak JWK Set 관리자
+ * - 빈 초기화 단계에서 키를 미리 받아 둠 (웹 서버 기동/Eureka UP 등록보다 먼저 끝남)
+ * - refresh 주기마다 백그라운드에서 갱신하고, 실패하면 기존 키를 그대로 쓰면서 짧은 간격으로 재시도
+ * - 모르는 kid가 들어오면 진행 중인 조회 하나를 모든 요청이 공유 (요청마다 조회하지 않음)
+ * - 모르는 kid로 인한 조회는 최소 간격을 둬서 위조된 kid로 Keycloak을 반복 호출할 수 없게 함
+ *
+ * [Note]
+ * Keycloak 장애 중에는 마지막으로 받은 키로 계속 검증합니다.
+ * 장애 중에 키가 교체되면 새 kid 토큰은 복구될 때까지 401이 됩니다.
+ */
+public class JwkSetManager implements JWKSource<SecurityContext>, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JwkSetManager.class);
+
+    private static final String REFRESH_METRIC = "jwks.refresh";
+
+    private final URI jwkSetUri;
+    private final Duration refreshInterval;
+    private final Duration retryInterval;
+    private final long unknownKidCooldownNanos;
+    private final Duration requestTimeout;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoTime;
+
+    private final HttpClient httpClient;
+    private final ScheduledExecutorService scheduler;
+
+    private final AtomicReference<CompletableFuture<Keys>> inFlight = new AtomicReference<>();
+    private volatile Keys keys = Keys.EMPTY;
+    private volatile long lastAttemptNanos;
+
+    /**
+     * @param refreshInterval 정상 상태의 갱신 주기 (Keycloak 키 교체 주기보다 충분히 짧게)
+     * @param retryInterval 갱신 실패 시 재시도 간격
+     * @param unknownKidCooldown 모르는 kid로 인한 조회 사이의 최소 간격
+     * @param requestTimeout JWK Set 조회 타임아웃 (시작 시 대기 시간 상한이기도 함)
+     */
+    public JwkSetManager(URI jwkSetUri, Duration refreshInterval, Duration retryInterval,
+                         Duration unknownKidCooldown, Duration requestTimeout, MeterRegistry meterRegistry) {
+        this(jwkSetUri, refreshInterval, retryInterval, unknownKidCooldown, requestTimeout, meterRegistry,
+            System::nanoTime);
+    }
+
+    JwkSetManager(URI jwkSetUri, Duration refreshInterval, Duration retryInterval, Duration unknownKidCooldown,
+                  Duration requestTimeout, MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        this.jwkSetUri = jwkSetUri;
+        this.refreshInterval = refreshInterval;
+        this.retryInterval = retryInterval;
+        this.unknownKidCooldownNanos = unknownKidCooldown.toNanos();
+        this.requestTimeout = requestTimeout;
+        this.meterRegistry = meterRegistry;
+        this.nanoTime = nanoTime;
+        this.lastAttemptNanos = nanoTime.getAsLong() - unknownKidCooldownNanos;
+
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(requestTimeout)
+            .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("jwks.keys", this, manager -> manager.keys.set().size())
+            .description("Number of keys in the current JWK Set")
+            .register(meterRegistry);
+        Gauge.builder("jwks.age", this, manager -> manager.age().toMillis() / 1000.0)
+            .description("Seconds since the JWK Set was last fetched successfully")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 키를 한 번 받아 두고 백그라운드 갱신을 시작
+     * - requestTimeout 안에 받지 못해도 기동은 계속하고 retryInterval 간격으로 재시도
+     */
+    public void start() {
+        CompletableFuture<Keys> initial = refresh("startup");
+        try {
+            initial.get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("JWK Set 초기 조회 실패, 백그라운드에서 재시도: {}", jwkSetUri);
+        }
+        initial.whenComplete((ignored, error) -> scheduleNext(isLoaded() ? refreshInterval : retryInterval));
+    }
+
+    /**
+     * kid에 해당하는 키 후보
+     * - 알고 있는 kid면 즉시 완료된 결과를 반환
+     * - 모르는 kid면 공유 조회가 끝난 뒤의 결과 (조회가 실패해도 기존 키 기준으로 완료)
+     * @param kid 토큰 헤더의 kid (없으면 전체 키)
+     */
+    public CompletableFuture<List<JWK>> candidates(String kid) {
+        List<JWK> found = keys.find(kid);
+        if (!found.isEmpty() || kid == null) {
+            return CompletableFuture.completedFuture(found);
+        }
+        return refreshForUnknownKid().thenApply(refreshed -> refreshed.find(kid));
+    }
+
+    /**
+     * Nimbus JWT 처리기용 (서블릿 스택처럼 호출 스레드에서 기다려도 되는 경우)
+     */
+    @Override
+    public List<JWK> get(JWKSelector selector, SecurityContext context) throws KeySourceException {
+        Set<String> keyIds = selector.getMatcher().getKeyIDs();
+        String kid = keyIds == null || keyIds.isEmpty() ? null : keyIds.iterator().next();
+        try {
+            List<JWK> found = candidates(kid).get(requestTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return selector.select(new JWKSet(found));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new KeySourceException("JWK Set 조회 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new KeySourceException("JWK Set 조회 실패", e);
+        }
+    }
+
+    /**
+     * 한 번이라도 키를 받았는지 여부
+     */
+    public boolean isLoaded() {
+        return keys != Keys.EMPTY;
+    }
+
+    /**
+     * 현재 보유한 키 수
+     */
+    public int size() {
+        return keys.set().size();
+    }
+
+    /**
+     * 마지막으로 키를 받은 뒤 지난 시간 (받은 적이 없으면 Duration.ZERO)
+     */
+    public Duration age() {
+        Keys current = keys;
+        return current == Keys.EMPTY ? Duration.ZERO : Duration.ofNanos(nanoTime.getAsLong() - current.fetchedAtNanos());
+    }
+
+    /**
+     * 갱신 주기를 두 번 이상 놓쳐 오래된 키를 쓰고 있는지 여부
+     */
+    public boolean isStale() {
+        return isLoaded() && age().compareTo(refreshInterval.multipliedBy(2)) > 0;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+        httpClient.shutdownNow();
+    }
+
+    private CompletableFuture<Keys> refreshForUnknownKid() {
+        CompletableFuture<Keys> pending = inFlight.get();
+        if (pending != null) {
+            return pending;
+        }
+        if (nanoTime.getAsLong() - lastAttemptNanos < unknownKidCooldownNanos) {
+            return CompletableFuture.completedFuture(keys);
+        }
+        return refresh("unknown-kid");
+    }
+
+    /**
+     * 진행 중인 조회가 있으면 그 결과를 공유하고, 없으면 새로 조회
+     * - 실패해도 예외 대신 기존 키로 완료 (호출자는 항상 쓸 수 있는 키를 받음)
+     */
+    private CompletableFuture<Keys> refresh(String cause) {
+        CompletableFuture<Keys> created = new CompletableFuture<>();
+        CompletableFuture<Keys> existing = inFlight.compareAndExchange(null, created);
+        if (existing != null) {
+            return existing;
+        }
+
+        lastAttemptNanos = nanoTime.getAsLong();
+        fetch().whenComplete((fetched, error) -> {
+            if (error == null) {
+                keys = fetched;
+                meterRegistry.counter(REFRESH_METRIC, "cause", cause, "result", "success").increment();
+            } else {
+                meterRegistry.counter(REFRESH_METRIC, "cause", cause, "result", "failure").increment();
+                log.warn("JWK Set 조회 실패 ({}), 기존 키 {}개로 계속 검증: {}",
+                    cause, keys.set().size(), rootCause(error).toString());
+            }
+            inFlight.set(null);
+            created.complete(keys);
+        });
+        return created;
+    }
+
+    private CompletableFuture<Keys> fetch() {
+        HttpRequest request = HttpRequest.newBuilder(jwkSetUri)
+            .timeout(requestTimeout)
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+            .thenApply(response -> {
+                if (response.statusCode() != 200) {
+                    throw new IllegalStateException("JWK Set 응답 코드 " + response.statusCode());
+                }
+                try {
+                    return Keys.of(JWKSet.parse(response.body()), nanoTime.getAsLong());
+                } catch (ParseException e) {
+                    throw new IllegalStateException("JWK Set 형식 오류", e);
+                }
+            });
+    }
+
+    private void scheduleNext(Duration delay) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        scheduler.schedule(() -> {
+            long startedAt = nanoTime.getAsLong();
+            refresh("scheduled").whenComplete((refreshed, error) ->
+                scheduleNext(refreshed.fetchedAtNanos() >= startedAt ? refreshInterval : retryInterval));
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Throwable rootCause(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    /**
+     * 조회한 JWK Set과 kid 색인 (불변)
+     */
+    record Keys(JWKSet set, Map<String, List<JWK>> byKid, long fetchedAtNanos) {
+
+        static final Keys EMPTY = new Keys(new JWKSet(), Map.of(), Long.MIN_VALUE);
+
+        static Keys of(JWKSet set, long fetchedAtNanos) {
+            Map<String, List<JWK>> byKid = new HashMap<>();
+            for (JWK key : set.getKeys()) {
+                if (key.getKeyID() != null) {
+                    byKid.computeIfAbsent(key.getKeyID(), kid -> new ArrayList<>(1)).add(key);
+                }
+            }
+            byKid.replaceAll((kid, list) -> List.copyOf(list));
+            return new Keys(set, Map.copyOf(byKid), fetchedAtNanos);
+        }
+
+        List<JWK> find(String kid) {
+            if (kid == null) {
+                return set.getKeys();
+            }
+            return byKid.getOrDefault(kid, List.of());
+        }
+    }
+}
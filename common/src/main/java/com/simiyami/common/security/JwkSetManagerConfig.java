@@ -0,0 +1,46 @@
+package com.simiyami.common.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * JwkSetManager와 jwks health 등록 (각 서비스의 JwkSetConfig가 @Import)
+ * - JWT 디코더는 서비스 스택(WebFlux/서블릿)에 따라 달라서 각 서비스가 직접 만듦
+ * - jwks health가 키를 받기 전까지 DOWN이므로 eureka.client.healthcheck.enabled=true면 그 전에는 UP으로 등록되지 않음
+ */
+@Configuration
+public class JwkSetManagerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public JwkSetManager jwkSetManager(
+            @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") URI jwkSetUri,
+            @Value("${security.jwks.refresh-interval:5m}") Duration refreshInterval,
+            @Value("${security.jwks.retry-interval:10s}") Duration retryInterval,
+            @Value("${security.jwks.unknown-kid-cooldown:30s}") Duration unknownKidCooldown,
+            @Value("${security.jwks.request-timeout:3s}") Duration requestTimeout,
+            MeterRegistry meterRegistry) {
+        return new JwkSetManager(jwkSetUri, refreshInterval, retryInterval, unknownKidCooldown, requestTimeout,
+            meterRegistry);
+    }
+
+    @Bean
+    public HealthIndicator jwksHealthIndicator(JwkSetManager jwkSetManager) {
+        return () -> {
+            if (!jwkSetManager.isLoaded()) {
+                return Health.down().withDetail("reason", "JWK Set not loaded").build();
+            }
+            return Health.up()
+                .withDetail("keys", jwkSetManager.size())
+                .withDetail("age", jwkSetManager.age().toString())
+                .withDetail("stale", jwkSetManager.isStale())
+                .build();
+        };
+    }
+}
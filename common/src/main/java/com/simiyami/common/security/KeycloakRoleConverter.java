@@ -0,0 +1,121 @@
+package com.simiyami.common.security;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * KeyCloak JWT의 realm_access.roles + resource_access.{clientId}.roles를 ROLE_ authority로 변환
+ * - 역할 이름별 SimpleGrantedAuthority를 한 번만 만들어 재사용 ("ROLE_" + role 문자열 생성 없음)
+ * - 같은 역할 조합(claim 모양)이면 미리 만든 불변 authority 리스트를 그대로 반환
+ * - 요청 경로에서 Stream/getClaimAsMap 변환 없이 claim 원본을 바로 읽음
+ *
+ * [Note]
+ * 역할 조합은 사용자 유형 수만큼만 생기지만, 상한(maxShapes)을 넘으면 캐시하지 않고 매번 만듭니다.
+ */
+public class KeycloakRoleConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+    private static final int DEFAULT_MAX_ROLES = 1024;
+    private static final int DEFAULT_MAX_SHAPES = 4096;
+
+    private final String clientId;
+    private final int maxRoles;
+    private final int maxShapes;
+    private final Map<String, GrantedAuthority> authorities = new ConcurrentHashMap<>();
+    private final Map<RolesShape, List<GrantedAuthority>> shapes = new ConcurrentHashMap<>();
+
+    /**
+     * @param clientId resource_access 아래에서 역할을 읽을 클라이언트 ID
+     */
+    public KeycloakRoleConverter(String clientId) {
+        this(clientId, DEFAULT_MAX_ROLES, DEFAULT_MAX_SHAPES);
+    }
+
+    KeycloakRoleConverter(String clientId, int maxRoles, int maxShapes) {
+        this.clientId = clientId;
+        this.maxRoles = maxRoles;
+        this.maxShapes = maxShapes;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        Map<String, Object> claims = jwt.getClaims();
+        List<?> realmRoles = roles(claims.get("realm_access"));
+        List<?> clientRoles = claims.get("resource_access") instanceof Map<?, ?> resourceAccess
+            ? roles(resourceAccess.get(clientId))
+            : List.of();
+
+        if (realmRoles.isEmpty() && clientRoles.isEmpty()) {
+            return List.of();
+        }
+
+        // 조회용 키는 claim 리스트를 그대로 감싸고, 저장할 때만 복사
+        List<GrantedAuthority> cached = shapes.get(new RolesShape(realmRoles, clientRoles));
+        if (cached != null) {
+            return cached;
+        }
+
+        List<GrantedAuthority> converted = toAuthorities(realmRoles, clientRoles);
+        if (shapes.size() < maxShapes) {
+            shapes.putIfAbsent(new RolesShape(copyOf(realmRoles), copyOf(clientRoles)), converted);
+        }
+        return converted;
+    }
+
+    /**
+     * 역할 이름에 해당하는 authority (상한 안에서는 같은 인스턴스)
+     */
+    GrantedAuthority authorityOf(String role) {
+        GrantedAuthority authority = authorities.get(role);
+        if (authority != null) {
+            return authority;
+        }
+        authority = new SimpleGrantedAuthority(ROLE_PREFIX + role);
+        if (authorities.size() < maxRoles) {
+            GrantedAuthority existing = authorities.putIfAbsent(role, authority);
+            return existing != null ? existing : authority;
+        }
+        return authority;
+    }
+
+    private List<GrantedAuthority> toAuthorities(List<?> realmRoles, List<?> clientRoles) {
+        List<GrantedAuthority> result = new ArrayList<>(realmRoles.size() + clientRoles.size());
+        addAll(result, realmRoles);
+        addAll(result, clientRoles);
+        return Collections.unmodifiableList(result);
+    }
+
+    private void addAll(List<GrantedAuthority> result, List<?> roles) {
+        for (int i = 0, size = roles.size(); i < size; i++) {
+            if (roles.get(i) instanceof String role) {
+                result.add(authorityOf(role));
+            }
+        }
+    }
+
+    private static List<?> roles(Object access) {
+        if (access instanceof Map<?, ?> map && map.get("roles") instanceof List<?> roles) {
+            return roles;
+        }
+        return List.of();
+    }
+
+    private static List<?> copyOf(List<?> roles) {
+        return roles.isEmpty() ? List.of() : Collections.unmodifiableList(new ArrayList<>(roles));
+    }
+
+    /**
+     * 역할 조합 캐시 키 (List.equals/hashCode라 구현체가 달라도 내용이 같으면 같은 키)
+     */
+    private record RolesShape(List<?> realmRoles, List<?> clientRoles) {
+    }
+}
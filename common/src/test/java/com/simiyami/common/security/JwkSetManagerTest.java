@@ -0,0 +1,246 @@
+package com.simiyami.common.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwkSetManagerTest {
+
+    private MockJwksServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private JwkSetManager manager;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockJwksServer();
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (manager != null) {
+            manager.close();
+        }
+        server.stop();
+    }
+
+    private JwkSetManager createManager(Duration refreshInterval) {
+        manager = new JwkSetManager(server.uri(), refreshInterval, Duration.ofMillis(50), Duration.ofSeconds(30),
+            Duration.ofSeconds(2), meterRegistry, nanos::get);
+        return manager;
+    }
+
+    @Test
+    @DisplayName("시작 시 키를 미리 받아 두고 이후 검증은 조회 없이 처리한다")
+    void shouldPrefetchKeysOnStart() throws Exception {
+        RSAKey key = server.addKey("kid-1");
+        createManager(Duration.ofMinutes(5)).start();
+
+        assertThat(manager.isLoaded()).isTrue();
+        assertThat(manager.candidates("kid-1").get()).extracting(JWK::getKeyID).containsExactly("kid-1");
+        assertThat(decode(signedToken(key))).isNotNull();
+        assertThat(server.requests).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 요청이 동시에 몰려도 조회는 한 번만 수행한다")
+    void shouldShareFetchForUnknownKid() throws Exception {
+        server.addKey("kid-1");
+        createManager(Duration.ofMinutes(5)).start();
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        server.addKey("kid-2");
+        server.hold();
+        List<CompletableFuture<List<JWK>>> results = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            results.add(manager.candidates("kid-2"));
+        }
+        server.release();
+
+        for (CompletableFuture<List<JWK>> result : results) {
+            assertThat(result.get(2, TimeUnit.SECONDS)).extracting(JWK::getKeyID).containsExactly("kid-2");
+        }
+        assertThat(server.requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("모르는 kid 조회는 최소 간격 안에서 반복하지 않는다")
+    void shouldNotRefetchWithinCooldown() throws Exception {
+        server.addKey("kid-1");
+        createManager(Duration.ofMinutes(5)).start();
+        nanos.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        assertThat(manager.candidates("forged-1").get()).isEmpty();
+        assertThat(manager.candidates("forged-2").get()).isEmpty();
+        assertThat(manager.candidates("forged-3").get()).isEmpty();
+
+        assertThat(server.requests).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Keycloak 장애 중에는 기존 키로 계속 검증한다")
+    void shouldServeStaleKeysWhileKeycloakIsDown() throws Exception {
+        RSAKey key = server.addKey("kid-1");
+        createManager(Duration.ofMillis(50)).start();
+
+        server.failing = true;
+        int requests = server.requests.get();
+        await(() -> server.requests.get() >= requests + 2);
+
+        assertThat(manager.isLoaded()).isTrue();
+        assertThat(decode(signedToken(key))).isNotNull();
+        assertThat(meterRegistry.get("jwks.refresh").tag("cause", "scheduled").tag("result", "failure")
+            .counter().count()).isPositive();
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신으로 교체된 키를 미리 받는다")
+    void shouldRefreshInBackground() throws Exception {
+        server.addKey("kid-1");
+        createManager(Duration.ofMillis(50)).start();
+
+        server.addKey("kid-2");
+        await(() -> manager.size() == 2);
+
+        int requests = server.requests.get();
+        assertThat(manager.candidates("kid-2").get()).hasSize(1);
+        assertThat(server.requests.get()).isLessThanOrEqualTo(requests + 1);
+    }
+
+    @Test
+    @DisplayName("시작 시 조회에 실패해도 기동은 계속하고 재시도로 키를 받는다")
+    void shouldRetryWhenStartupFetchFails() throws Exception {
+        server.addKey("kid-1");
+        server.failing = true;
+        createManager(Duration.ofMinutes(5)).start();
+
+        assertThat(manager.isLoaded()).isFalse();
+
+        server.failing = false;
+        await(manager::isLoaded);
+    }
+
+    /**
+     * 서블릿 스택 디코더와 같은 방식 (JWKSource.get으로 키 선택)
+     */
+    private JWTClaimsSet decode(String token) throws Exception {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, manager));
+        return processor.process(token, null);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    private static String signedToken(RSAKey key) throws JOSEException {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("user-1")
+            .issueTime(new Date())
+            .expirationTime(Date.from(Instant.now().plusSeconds(300)))
+            .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        return jwt.serialize();
+    }
+
+    /**
+     * Keycloak certs 엔드포인트 대역
+     */
+    static class MockJwksServer {
+
+        final AtomicInteger requests = new AtomicInteger();
+        volatile boolean failing;
+
+        private final HttpServer server;
+        private final List<RSAKey> keys = new ArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        MockJwksServer() throws IOException {
+            server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            server.createContext("/certs", exchange -> {
+                requests.incrementAndGet();
+                try {
+                    gate.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] body;
+                synchronized (keys) {
+                    body = new JWKSet(new ArrayList<JWK>(keys)).toString(true).getBytes(StandardCharsets.UTF_8);
+                }
+                exchange.sendResponseHeaders(failing ? 503 : 200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            });
+            server.start();
+        }
+
+        URI uri() {
+            return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/certs");
+        }
+
+        RSAKey addKey(String kid) throws JOSEException {
+            RSAKey key = new RSAKeyGenerator(2048).keyID(kid).generate();
+            synchronized (keys) {
+                keys.add(key);
+            }
+            return key;
+        }
+
+        void hold() {
+            gate = new CountDownLatch(1);
+        }
+
+        void release() {
+            gate.countDown();
+        }
+
+        void stop() {
+            release();
+            server.stop(0);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.simiyami.common.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeycloakRoleConverterTest {
+
+    private final KeycloakRoleConverter converter = new KeycloakRoleConverter("spike-order-client");
+
+    @Test
+    @DisplayName("realm 역할과 클라이언트 역할을 순서대로 ROLE_ authority로 변환한다")
+    void shouldConvertRealmAndClientRoles() {
+        Jwt jwt = jwt(List.of("user", "offline_access"), List.of("order-read"));
+
+        assertThat(converter.convert(jwt)).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_user", "ROLE_offline_access", "ROLE_order-read");
+    }
+
+    @Test
+    @DisplayName("다른 클라이언트의 역할은 무시한다")
+    void shouldIgnoreOtherClients() {
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .claim("resource_access", Map.of("account", Map.of("roles", List.of("manage-account"))))
+            .build();
+
+        assertThat(converter.convert(jwt)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역할 claim이 없거나 모양이 다르면 빈 리스트를 반환한다")
+    void shouldReturnEmptyWhenClaimsMissing() {
+        Jwt noRoles = Jwt.withTokenValue("token").header("alg", "RS256").subject("user-1").build();
+        Jwt malformed = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .claim("realm_access", "admin")
+            .claim("resource_access", Map.of("spike-order-client", List.of("admin")))
+            .build();
+
+        assertThat(converter.convert(noRoles)).isEmpty();
+        assertThat(converter.convert(malformed)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 역할 조합이면 같은 불변 리스트를 재사용한다")
+    void shouldReuseListForSameShape() {
+        Collection<GrantedAuthority> first = converter.convert(jwt(List.of("user", "admin"), List.of()));
+        Collection<GrantedAuthority> second = converter.convert(jwt(new ArrayList<>(List.of("user", "admin")), List.of()));
+
+        assertThat(second).isSameAs(first);
+        assertThatThrownBy(() -> second.clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("역할 이름별 authority 인스턴스를 공유한다")
+    void shouldInternAuthorities() {
+        List<GrantedAuthority> first = List.copyOf(converter.convert(jwt(List.of("user"), List.of())));
+        List<GrantedAuthority> second = List.copyOf(converter.convert(jwt(List.of("admin", "user"), List.of())));
+
+        assertThat(second.get(1)).isSameAs(first.get(0));
+    }
+
+    @Test
+    @DisplayName("캐시 상한을 넘어도 변환 결과는 같다")
+    void shouldConvertBeyondCacheLimits() {
+        KeycloakRoleConverter limited = new KeycloakRoleConverter("spike-order-client", 1, 1);
+
+        limited.convert(jwt(List.of("user"), List.of()));
+        Collection<GrantedAuthority> uncached = limited.convert(jwt(List.of("admin"), List.of("order-write")));
+
+        assertThat(uncached).extracting(GrantedAuthority::getAuthority)
+            .containsExactly("ROLE_admin", "ROLE_order-write");
+        assertThat(limited.convert(jwt(List.of("admin"), List.of("order-write")))).isNotSameAs(uncached);
+    }
+
+    private static Jwt jwt(List<String> realmRoles, List<String> clientRoles) {
+        return Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("user-1")
+            .issuedAt(Instant.now())
+            .claim("realm_access", Map.of("roles", realmRoles))
+            .claim("resource_access", Map.of("spike-order-client", Map.of("roles", clientRoles)))
+            .build();
+    }
+}
@@ -0,0 +1,137 @@
+package com.simiyami.gateway.config;
+
+import com.simiyami.common.security.KeycloakRoleConverter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * JWT 역할 → authority 변환 비교 (KeyCloak 토큰 모양)
+ * - legacy: 기존 getClaimAsMap + Stream.concat + "ROLE_" 문자열 연결
+ * - precompiled: KeycloakRoleConverter (authority 재사용, 역할 조합별 불변 리스트)
+ * - shapes: 토큰에 나타나는 역할 조합 수 (사용자 유형 수)
+ *
+ * 실행: gradle :gateway:jmh -PjmhArgs='RoleConversionBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RoleConversionBenchmark {
+
+    private static final int TOKEN_COUNT = 1024;
+
+    @Param({"1", "16"})
+    public int shapes;
+
+    private Jwt[] tokens;
+    private int index;
+    private KeycloakRoleConverter converter;
+
+    @Setup
+    public void setUp() {
+        converter = new KeycloakRoleConverter("spike-order-client");
+        tokens = new Jwt[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = keycloakToken(i % shapes);
+        }
+    }
+
+    private Jwt nextToken() {
+        index = (index + 1) & (TOKEN_COUNT - 1);
+        return tokens[index];
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> legacy() {
+        return legacyConvert(nextToken());
+    }
+
+    @Benchmark
+    public Collection<GrantedAuthority> precompiled() {
+        return converter.convert(nextToken());
+    }
+
+    /**
+     * 디코딩된 KeyCloak 토큰과 같은 형태 (JSON 파싱 결과인 ArrayList/Map)
+     */
+    private static Jwt keycloakToken(int shape) {
+        List<Object> realmRoles = new ArrayList<>(List.of("default-roles-spike-order", "offline_access",
+            "uma_authorization", "user"));
+        if ((shape & 1) != 0) {
+            realmRoles.add("admin");
+        }
+        List<Object> clientRoles = new ArrayList<>();
+        clientRoles.add("order-read");
+        for (int bit = 1; bit < 4; bit++) {
+            if ((shape & (1 << bit)) != 0) {
+                clientRoles.add("store-" + bit);
+            }
+        }
+        return Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .header("kid", "kid-1")
+            .subject("f3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(300))
+            .claim("preferred_username", "user" + shape)
+            .claim("realm_access", Map.of("roles", realmRoles))
+            .claim("resource_access", Map.of(
+                "spike-order-client", Map.of("roles", clientRoles),
+                "account", Map.of("roles", List.of("manage-account", "view-profile"))))
+            .build();
+    }
+
+    /**
+     * 기존 SecurityConfig 변환 로직
+     */
+    @SuppressWarnings("unchecked")
+    private static Collection<GrantedAuthority> legacyConvert(Jwt jwt) {
+        Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
+        Stream<String> realmRoles = Stream.empty();
+        if (realmAccess != null) {
+            List<String> roles = (List<String>) realmAccess.get("roles");
+            if (roles != null) {
+                realmRoles = roles.stream();
+            }
+        }
+
+        Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
+        Stream<String> clientRoles = Stream.empty();
+        if (resourceAccess != null) {
+            Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("spike-order-client");
+            if (clientAccess != null) {
+                List<String> roles = (List<String>) clientAccess.get("roles");
+                if (roles != null) {
+                    clientRoles = roles.stream();
+                }
+            }
+        }
+
+        return Stream.concat(realmRoles, clientRoles)
+            .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+            .collect(Collectors.toList());
+    }
+}
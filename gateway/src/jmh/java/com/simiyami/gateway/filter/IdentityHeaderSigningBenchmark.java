@@ -0,0 +1,59 @@
+package com.simiyami.gateway.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 게이트웨이가 요청마다 추가로 쓰는 사용자 정보 헤더 서명 비용
+ * - order-api 쪽 절감분은 order-api의 IdentityVerificationBenchmark와 함께 봐야 함
+ *
+ * 실행: gradle :gateway:jmh -PjmhArgs='IdentityHeaderSigningBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IdentityHeaderSigningBenchmark {
+
+    private IdentityHeaderSigner signer;
+    private JwtAuthenticationToken authentication;
+
+    @Setup
+    public void setUp() {
+        signer = new IdentityHeaderSigner("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject("f3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d")
+            .claim("preferred_username", "testuser")
+            .claim("email", "testuser@example.com")
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .build();
+        authentication = new JwtAuthenticationToken(jwt, List.of(
+            new SimpleGrantedAuthority("ROLE_default-roles-spike-order"),
+            new SimpleGrantedAuthority("ROLE_offline_access"),
+            new SimpleGrantedAuthority("ROLE_user")));
+    }
+
+    @Benchmark
+    public String sign() {
+        return signer.sign(authentication);
+    }
+}
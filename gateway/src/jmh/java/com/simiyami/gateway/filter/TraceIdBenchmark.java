@@ -0,0 +1,128 @@
+package com.simiyami.gateway.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trace ID 생성/전파 비교
+ * - generate*: ID 생성만 비교 (UUID.randomUUID vs TraceIdGenerator)
+ * - filter*: 요청 하나를 필터에 통과시키고 응답을 커밋하는 비용 비교 (기존 Decorator 방식 vs beforeCommit)
+ *   MockServerWebExchange 생성/커밋 비용이 커서, 필터 자체 비용은 exchangeOnly 결과를 빼서 비교
+ *   clientTraceId=true는 클라이언트가 X-Trace-Id를 보낸 경우
+ *
+ * 실행: gradle :gateway:jmh -PjmhArgs='TraceIdBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class TraceIdBenchmark {
+
+    private static final GatewayFilterChain COMMITTING_CHAIN = exchange -> exchange.getResponse().setComplete();
+
+    private final TraceIdGenerator generator = new TraceIdGenerator(1);
+    private final TraceIdFilter filter = new TraceIdFilter();
+    private final LegacyTraceIdFilter legacyFilter = new LegacyTraceIdFilter();
+
+    @Param({"false", "true"})
+    public boolean clientTraceId;
+
+    @Benchmark
+    public String generateUuid() {
+        return UUID.randomUUID().toString();
+    }
+
+    @Benchmark
+    public String generateTraceId() {
+        return generator.nextTraceId();
+    }
+
+    @Benchmark
+    public ServerWebExchange exchangeOnly() {
+        MockServerWebExchange exchange = newExchange();
+        COMMITTING_CHAIN.filter(exchange).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange filterLegacy() {
+        MockServerWebExchange exchange = newExchange();
+        legacyFilter.filter(exchange, COMMITTING_CHAIN).block();
+        return exchange;
+    }
+
+    @Benchmark
+    public ServerWebExchange filterBeforeCommit() {
+        MockServerWebExchange exchange = newExchange();
+        filter.filter(exchange, COMMITTING_CHAIN).block();
+        return exchange;
+    }
+
+    private MockServerWebExchange newExchange() {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/orders");
+        if (clientTraceId) {
+            request.header("X-Trace-Id", "0190f2a3-5b7c-0001-9f3e-2a1b4c5d6e7f");
+        }
+        return MockServerWebExchange.from(request.build());
+    }
+
+    /**
+     * 변경 전 TraceIdFilter (UUID.randomUUID + exchange.mutate + 응답 Decorator)
+     */
+    static class LegacyTraceIdFilter {
+
+        Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+            String traceId = exchange.getRequest().getHeaders().getFirst("X-Trace-Id");
+            if (traceId == null || traceId.isBlank()) {
+                traceId = UUID.randomUUID().toString();
+            }
+            final String finalTraceId = traceId;
+
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                .header("X-Trace-Id", traceId)
+                .build();
+
+            ServerHttpResponse originalResponse = exchange.getResponse();
+            ServerHttpResponseDecorator decoratedResponse = new ServerHttpResponseDecorator(originalResponse) {
+                @Override
+                public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+                    getHeaders().add("X-Trace-Id", finalTraceId);
+                    return super.writeWith(body);
+                }
+
+                @Override
+                public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+                    getHeaders().add("X-Trace-Id", finalTraceId);
+                    return super.writeAndFlushWith(body);
+                }
+            };
+
+            return chain.filter(exchange.mutate().request(request).response(decoratedResponse).build());
+        }
+    }
+}
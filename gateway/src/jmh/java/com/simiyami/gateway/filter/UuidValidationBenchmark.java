@@ -0,0 +1,75 @@
+package com.simiyami.gateway.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 멱등키 UUID 검증 비교
+ * - legacy: 기존 UUID.fromString + 예외 처리
+ * - strict: UuidFormat (예외/할당 없음)
+ *
+ * 실행: gradle :gateway:jmh -PjmhArgs='UuidValidationBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UuidValidationBenchmark {
+
+    private static final int KEY_COUNT = 1024;
+
+    @Param({"valid", "malformed"})
+    public String keyType;
+
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        keys = new String[KEY_COUNT];
+        for (int i = 0; i < KEY_COUNT; i++) {
+            String uuid = UUID.randomUUID().toString();
+            // 봇이 보내는 잘못된 키: 한 글자가 16진수가 아닌 경우
+            keys[i] = keyType.equals("valid") ? uuid : uuid.substring(0, 35) + 'z';
+        }
+    }
+
+    private String nextKey() {
+        index = (index + 1) & (KEY_COUNT - 1);
+        return keys[index];
+    }
+
+    @Benchmark
+    public void legacy(Blackhole blackhole) {
+        blackhole.consume(legacyIsValid(nextKey()));
+    }
+
+    @Benchmark
+    public void strict(Blackhole blackhole) {
+        blackhole.consume(UuidFormat.isValid(nextKey()));
+    }
+
+    private static boolean legacyIsValid(String str) {
+        try {
+            UUID.fromString(str);
+            return true;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.simiyami.gateway.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 단계별 지연 시간 기록 비용 (목표: 단계당 약 50ns 이하)
+ * - nanoTime: System.nanoTime() 두 번 (측정 자체의 비용)
+ * - recordAllow/recordStatus: Timer 조회 + 히스토그램 기록
+ *
+ * 실행: gradle :gateway:jmh -PjmhArgs='StageRecordingBenchmark'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class StageRecordingBenchmark {
+
+    private StageMetrics.Stage stage;
+
+    @Setup
+    public void setUp() {
+        stage = new StageMetrics(new SimpleMeterRegistry()).stage("rate-limit");
+        stage.recordAllow("order-api", 1);
+        stage.recordStatus("order-api", 429, 1);
+    }
+
+    @Benchmark
+    public long nanoTime() {
+        long start = System.nanoTime();
+        return System.nanoTime() - start;
+    }
+
+    @Benchmark
+    public void recordAllow() {
+        long start = System.nanoTime();
+        stage.recordAllow("order-api", System.nanoTime() - start);
+    }
+
+    @Benchmark
+    public void recordStatus() {
+        long start = System.nanoTime();
+        stage.recordStatus("order-api", 429, System.nanoTime() - start);
+    }
+}
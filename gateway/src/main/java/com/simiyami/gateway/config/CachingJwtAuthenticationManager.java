@@ -0,0 +1,121 @@
+package com.simiyami.gateway.config;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 검증된 JWT 인증 결과 캐시
+ * - 같은 토큰이 분당 수백 번 들어오므로 RSA 서명 검증과 authority 변환을 토큰 만료(exp)까지 한 번만 수행
+ * - 키는 토큰 원문 대신 SHA-256 해시 (메모리에 토큰 원문을 보관하지 않음)
+ * - 같은 토큰의 첫 요청이 동시에 몰려도 검증은 한 번만 수행하고 나머지는 그 결과를 기다림
+ * - 검증 실패 결과는 캐시하지 않음
+ */
+public class CachingJwtAuthenticationManager implements ReactiveAuthenticationManager {
+
+    private static final String CACHE_NAME = "gateway.jwt";
+
+    // exp 클레임이 없는 토큰의 최대 보관 시간
+    private static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+
+    private final ReactiveAuthenticationManager delegate;
+    private final AsyncCache<TokenHash, Authentication> cache;
+
+    public CachingJwtAuthenticationManager(ReactiveAuthenticationManager delegate, long maxEntries,
+                                           MeterRegistry meterRegistry) {
+        this(delegate, maxEntries, meterRegistry, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtAuthenticationManager(ReactiveAuthenticationManager delegate, long maxEntries,
+                                    MeterRegistry meterRegistry, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfter(new Expiry<TokenHash, Authentication>() {
+                @Override
+                public long expireAfterCreate(TokenHash key, Authentication authentication, long currentTime) {
+                    return untilExpiry(authentication, clock).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenHash key, Authentication authentication, long currentTime,
+                                              long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(TokenHash key, Authentication authentication, long currentTime,
+                                            long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .recordStats()
+            .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(CACHE_NAME + ".cache.hit.ratio", cache, c -> c.synchronous().stats().hitRate())
+            .description("Hit ratio of the verified JWT cache")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<Authentication> authenticate(Authentication authentication) {
+        if (!(authentication instanceof BearerTokenAuthenticationToken bearer)) {
+            return delegate.authenticate(authentication);
+        }
+        TokenHash key = TokenHash.of(bearer.getToken());
+        return Mono.fromFuture(() -> cache.get(key, (hash, executor) -> delegate.authenticate(bearer).toFuture()));
+    }
+
+    private static Duration untilExpiry(Authentication authentication, Clock clock) {
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            Instant expiresAt = jwtAuthentication.getToken().getExpiresAt();
+            if (expiresAt != null) {
+                Duration remaining = Duration.between(clock.instant(), expiresAt);
+                return remaining.isNegative() ? Duration.ZERO : remaining;
+            }
+        }
+        return DEFAULT_TTL;
+    }
+
+    /**
+     * 토큰의 SHA-256 해시 (256비트를 long 4개로 보관해 equals/hashCode를 배열 없이 계산)
+     */
+    record TokenHash(long h0, long h1, long h2, long h3) {
+
+        // MessageDigest는 스레드 안전하지 않고 생성 비용이 있으므로 스레드별로 재사용
+        private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(TokenHash::sha256);
+
+        static TokenHash of(String token) {
+            ByteBuffer digest = ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+            return new TokenHash(digest.getLong(), digest.getLong(), digest.getLong(), digest.getLong());
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+    }
+}
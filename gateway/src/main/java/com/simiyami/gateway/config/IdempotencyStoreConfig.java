@@ -0,0 +1,54 @@
+package com.simiyami.gateway.config;
+
+import com.simiyami.gateway.filter.IdempotencyStore;
+import com.simiyami.gateway.filter.InMemoryIdempotencyStore;
+import com.simiyami.gateway.filter.RedisIdempotencyStore;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멱등키 저장소 설정
+ * - idempotency.store.type=memory (기본값): 인스턴스 메모리 (크기 제한)
+ * - idempotency.store.type=redis: Redis 프로토콜 저장소 공유 (다중 인스턴스 환경)
+ */
+@Configuration
+public class IdempotencyStoreConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "idempotency.store.type", havingValue = "memory", matchIfMissing = true)
+    static class Memory {
+
+        @Bean
+        public IdempotencyStore inMemoryIdempotencyStore(
+                @Value("${idempotency.store.memory.max-bytes:67108864}") long maxBytes) {
+            return new InMemoryIdempotencyStore(maxBytes);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "idempotency.store.type", havingValue = "redis")
+    static class Redis {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient idempotencyRedisClient(@Value("${idempotency.store.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, byte[]> idempotencyRedisConnection(RedisClient idempotencyRedisClient) {
+            return idempotencyRedisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        }
+
+        @Bean
+        public IdempotencyStore redisIdempotencyStore(StatefulRedisConnection<String, byte[]> idempotencyRedisConnection) {
+            return new RedisIdempotencyStore(idempotencyRedisConnection);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.simiyami.gateway.config;
+
+import com.simiyami.common.security.JwkSetManager;
+import com.simiyami.common.security.JwkSetManagerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * JWT 서명 키 설정
+ * - 기본 NimbusReactiveJwtDecoder의 지연 조회 대신 JwkSetManager(common)가 미리 받아 둔 키로 검증
+ */
+@Configuration
+@Import(JwkSetManagerConfig.class)
+public class JwkSetConfig {
+
+    @Bean
+    public ReactiveJwtDecoder jwtDecoder(
+            JwkSetManager jwkSetManager,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri) {
+        NimbusReactiveJwtDecoder decoder = NimbusReactiveJwtDecoder
+            .withJwkSource(jwt -> Mono.fromFuture(jwkSetManager.candidates(jwt.getHeader().getKeyID()))
+                .flatMapIterable(Function.identity()))
+            .build();
+        decoder.setJwtValidator(issuerUri.isEmpty()
+            ? JwtValidators.createDefault()
+            : JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
+    }
+}
@@ -0,0 +1,49 @@
+package com.simiyami.gateway.config;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * 프로세스 내 설정 전파 채널
+ * - 버전은 채널 하나가 발급하므로 채널을 공유하는 인스턴스끼리 순서가 정해짐
+ * - 구독자 모두에게 동기적으로 전달하며, 보낸 인스턴스는 이미 같은 버전을 가지고 있어 스스로 무시함
+ * - 게이트웨이가 한 대일 때는 구독자가 자기 자신뿐이므로 사실상 전파 없음
+ */
+public class LocalRateLimitConfigChannel implements RateLimitConfigChannel {
+
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicReference<StoreRateLimitSnapshot> latest = new AtomicReference<>();
+    private final List<Consumer<StoreRateLimitSnapshot>> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public long nextVersion() {
+        return version.incrementAndGet();
+    }
+
+    @Override
+    public void publish(StoreRateLimitSnapshot snapshot) {
+        StoreRateLimitSnapshot stored = latest.accumulateAndGet(snapshot,
+            (current, next) -> current == null || current.version() < next.version() ? next : current);
+        if (stored != snapshot) {
+            return;
+        }
+        for (Consumer<StoreRateLimitSnapshot> subscriber : subscribers) {
+            subscriber.accept(snapshot);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<StoreRateLimitSnapshot> subscriber) {
+        subscribers.add(subscriber);
+        latest().ifPresent(subscriber);
+    }
+
+    @Override
+    public Optional<StoreRateLimitSnapshot> latest() {
+        return Optional.ofNullable(latest.get());
+    }
+}
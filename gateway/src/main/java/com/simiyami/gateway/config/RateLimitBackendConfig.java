@@ -0,0 +1,63 @@
+package com.simiyami.gateway.config;
+
+import com.simiyami.gateway.filter.LocalRateLimitBackend;
+import com.simiyami.gateway.filter.ProxyManagerRateLimitBackend;
+import com.simiyami.gateway.filter.RateLimitBackend;
+import io.github.bucket4j.distributed.ExpirationAfterWriteStrategy;
+import io.github.bucket4j.redis.lettuce.Bucket4jLettuce;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit 버킷 백엔드 설정
+ * - rate-limit.backend.type=local (기본값): 인스턴스 메모리
+ * - rate-limit.backend.type=redis: Redis 프로토콜 저장소 공유 (다중 인스턴스 환경)
+ */
+@Configuration
+public class RateLimitBackendConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "rate-limit.backend.type", havingValue = "local", matchIfMissing = true)
+    static class Local {
+
+        @Bean
+        public RateLimitBackend localRateLimitBackend() {
+            return new LocalRateLimitBackend();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "rate-limit.backend.type", havingValue = "redis")
+    static class Redis {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient rateLimitRedisClient(@Value("${rate-limit.backend.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, byte[]> rateLimitRedisConnection(RedisClient rateLimitRedisClient) {
+            return rateLimitRedisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        }
+
+        @Bean
+        public RateLimitBackend redisRateLimitBackend(StatefulRedisConnection<String, byte[]> rateLimitRedisConnection) {
+            // 다 채워진 버킷은 저장소에서 만료시켜도 결과가 같으므로 refill 시간 기준으로 TTL 설정
+            var proxyManager = Bucket4jLettuce.casBasedBuilder(rateLimitRedisConnection)
+                .expirationAfterWrite(ExpirationAfterWriteStrategy
+                    .basedOnTimeForRefillingBucketUpToMax(Duration.ofSeconds(10)))
+                .build();
+
+            return new ProxyManagerRateLimitBackend(proxyManager);
+        }
+    }
+}
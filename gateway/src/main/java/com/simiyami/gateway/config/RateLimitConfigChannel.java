@@ -0,0 +1,35 @@
+package com.simiyami.gateway.config;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 게이트웨이 인스턴스 간 Rate Limit 설정 전파 채널
+ * - 변경분이 아니라 전체 스냅샷을 전파하고, 스냅샷 버전은 채널이 모든 인스턴스에 걸쳐 단조 증가하도록 발급
+ * - 받는 쪽은 가진 버전보다 큰 스냅샷만 반영 (순서가 뒤바뀌거나 중복된 메시지는 버림)
+ * - local: 단일 프로세스 내 전달 (기본값)
+ * - redis: Redis INCR로 버전 발급, 마지막 스냅샷을 Redis에 보관하고 Pub/Sub으로 모든 인스턴스에 전달
+ */
+public interface RateLimitConfigChannel {
+
+    /**
+     * 새 스냅샷에 붙일 버전 (이전에 발급한 어떤 버전보다 큼)
+     */
+    long nextVersion();
+
+    /**
+     * 이 인스턴스에서 만든 스냅샷을 다른 인스턴스로 전파 (보관 중인 스냅샷보다 버전이 작으면 전파하지 않음)
+     */
+    void publish(StoreRateLimitSnapshot snapshot);
+
+    /**
+     * 다른 인스턴스가 전파한 스냅샷 수신 (자기 자신이 보낸 스냅샷도 받을 수 있음)
+     * - 구독 시점과 연결이 다시 맺어질 때마다 마지막 스냅샷을 한 번 더 전달 (놓친 변경 동기화)
+     */
+    void subscribe(Consumer<StoreRateLimitSnapshot> subscriber);
+
+    /**
+     * 마지막으로 전파된 스냅샷 (아직 없으면 empty)
+     */
+    Optional<StoreRateLimitSnapshot> latest();
+}
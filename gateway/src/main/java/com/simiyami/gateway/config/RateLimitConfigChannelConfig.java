@@ -0,0 +1,60 @@
+package com.simiyami.gateway.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Rate Limit 설정 변경 전파 채널 설정
+ * - rate-limit.config-channel.type=local (기본값): 인스턴스 내부에서만 반영
+ * - rate-limit.config-channel.type=redis: Redis Pub/Sub으로 모든 게이트웨이 인스턴스에 전파
+ */
+@Configuration
+public class RateLimitConfigChannelConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "rate-limit.config-channel.type", havingValue = "local", matchIfMissing = true)
+    static class Local {
+
+        @Bean
+        public RateLimitConfigChannel localRateLimitConfigChannel() {
+            return new LocalRateLimitConfigChannel();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "rate-limit.config-channel.type", havingValue = "redis")
+    static class Redis {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient configChannelRedisClient(@Value("${rate-limit.config-channel.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, String> configChannelConnection(RedisClient configChannelRedisClient) {
+            return configChannelRedisClient.connect();
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisPubSubConnection<String, String> configChannelPubSubConnection(
+                RedisClient configChannelRedisClient) {
+            return configChannelRedisClient.connectPubSub();
+        }
+
+        @Bean
+        public RateLimitConfigChannel redisRateLimitConfigChannel(
+                @Value("${rate-limit.config-channel.redis.topic}") String topic,
+                StatefulRedisConnection<String, String> configChannelConnection,
+                StatefulRedisPubSubConnection<String, String> configChannelPubSubConnection,
+                ObjectMapper objectMapper) {
+            return new RedisRateLimitConfigChannel(topic, configChannelConnection, configChannelPubSubConnection,
+                objectMapper);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.simiyami.gateway.config;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * 예약된 Rate Limit 변경 구간 (프로모션 등)
+ * - startAt에 limits를 적용하고 endAt에 적용 직전 값으로 되돌림
+ *
+ * @param id 예약 ID
+ * @param limits 구간 동안 적용할 가게별 Rate Limit
+ * @param startAt 적용 시각
+ * @param endAt 복원 시각
+ */
+public record RateLimitSchedule(String id, Map<String, Long> limits, Instant startAt, Instant endAt) {
+
+    public RateLimitSchedule {
+        limits = Map.copyOf(limits);
+    }
+}
@@ -0,0 +1,71 @@
+package com.simiyami.gateway.config;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 대기 중인 Rate Limit 예약을 로컬 파일에 보관
+ * - 게이트웨이 재시작 후에도 예약이 유지되도록 변경될 때마다 전체 목록을 다시 씀
+ * - 진행 중인 예약은 적용 직전 값도 함께 보관 (재시작 후에도 종료 시각에 원래 값으로 복원)
+ * - 임시 파일에 쓴 뒤 원자적으로 교체하므로 쓰는 도중 종료되어도 이전 내용이 남음
+ * - 블로킹 파일 I/O이므로 이벤트 루프가 아닌 스레드에서 호출
+ */
+class RateLimitScheduleFile {
+
+    private static final TypeReference<List<Entry>> ENTRY_LIST = new TypeReference<>() {
+    };
+
+    /**
+     * 보관 항목
+     * @param previous 적용 직전 가게별 값 (시작 전이면 null, 기본값이었던 가게는 없음)
+     */
+    record Entry(RateLimitSchedule schedule, Map<String, Long> previous) {
+    }
+
+    private final Path path;
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    RateLimitScheduleFile(Path path) {
+        this.path = path;
+    }
+
+    List<Entry> load() {
+        if (!Files.exists(path)) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(path.toFile(), ENTRY_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read rate limit schedules from " + path, e);
+        }
+    }
+
+    /**
+     * 쓰기나 교체가 실패해도 임시 파일은 남기지 않음 (교체에 성공했으면 이미 없음)
+     */
+    void save(Collection<Entry> entries) {
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writeValue(temp.toFile(), entries);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write rate limit schedules to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.simiyami.gateway.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Redis 기반 설정 전파 채널
+ * - 버전은 {topic}:version 키의 INCR로 발급 (모든 게이트웨이 인스턴스에 걸쳐 순서가 정해짐)
+ * - 스냅샷 보관과 발행은 Lua 스크립트 하나로 처리: {topic}:snapshot 해시의 버전보다 클 때만 저장하고 Pub/Sub으로 발행
+ * - 구독이 (재연결 후 자동 재구독 포함) 확인될 때마다 보관된 스냅샷을 읽어 끊긴 동안 놓친 변경을 따라잡음
+ * - 발행과 재동기화 읽기는 비동기로 수행하므로 Admin API 응답이나 Redis 이벤트 루프를 막지 않음
+ *
+ * [Note]
+ * 버전 발급(INCR)은 스냅샷을 만들기 전에 순서를 정해야 하므로 동기 호출입니다.
+ */
+public class RedisRateLimitConfigChannel implements RateLimitConfigChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRateLimitConfigChannel.class);
+
+    /**
+     * KEYS[1]: 스냅샷 해시, ARGV[1]: 버전, ARGV[2]: 스냅샷 JSON, ARGV[3]: Pub/Sub 채널
+     */
+    static final String PUBLISH_SCRIPT = """
+        local current = tonumber(redis.call('HGET', KEYS[1], 'version') or '0')
+        if current >= tonumber(ARGV[1]) then
+          return 0
+        end
+        redis.call('HSET', KEYS[1], 'version', ARGV[1], 'body', ARGV[2])
+        redis.call('PUBLISH', ARGV[3], ARGV[2])
+        return 1
+        """;
+
+    private final String channel;
+    private final String versionKey;
+    private final String snapshotKey;
+    private final StatefulRedisConnection<String, String> connection;
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+    private final ObjectMapper objectMapper;
+
+    public RedisRateLimitConfigChannel(String channel,
+                                       StatefulRedisConnection<String, String> connection,
+                                       StatefulRedisPubSubConnection<String, String> pubSubConnection,
+                                       ObjectMapper objectMapper) {
+        this.channel = channel;
+        this.versionKey = channel + ":version";
+        this.snapshotKey = channel + ":snapshot";
+        this.connection = connection;
+        this.pubSubConnection = pubSubConnection;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public long nextVersion() {
+        return connection.sync().incr(versionKey);
+    }
+
+    @Override
+    public void publish(StoreRateLimitSnapshot snapshot) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Rate limit snapshot could not be serialized", e);
+        }
+        connection.async().<Long>eval(PUBLISH_SCRIPT, ScriptOutputType.INTEGER, new String[]{snapshotKey},
+                Long.toString(snapshot.version()), body, channel)
+            .whenComplete((published, error) -> {
+                if (error != null) {
+                    log.warn("Rate limit snapshot {} could not be published", snapshot.version(), error);
+                }
+            });
+    }
+
+    @Override
+    public void subscribe(Consumer<StoreRateLimitSnapshot> subscriber) {
+        pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String receivedChannel, String message) {
+                if (!channel.equals(receivedChannel)) {
+                    return;
+                }
+                decode(message).ifPresent(subscriber);
+            }
+
+            @Override
+            public void subscribed(String subscribedChannel, long count) {
+                if (channel.equals(subscribedChannel)) {
+                    resync(subscriber);
+                }
+            }
+        });
+        pubSubConnection.sync().subscribe(channel);
+        latest().ifPresent(subscriber);
+    }
+
+    @Override
+    public Optional<StoreRateLimitSnapshot> latest() {
+        return decode(connection.sync().hget(snapshotKey, "body"));
+    }
+
+    private void resync(Consumer<StoreRateLimitSnapshot> subscriber) {
+        connection.async().hget(snapshotKey, "body").whenComplete((body, error) -> {
+            if (error != null) {
+                log.warn("Rate limit snapshot could not be read after resubscribe", error);
+                return;
+            }
+            decode(body).ifPresent(subscriber);
+        });
+    }
+
+    private Optional<StoreRateLimitSnapshot> decode(String body) {
+        if (body == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(body, StoreRateLimitSnapshot.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed rate limit snapshot: {}", body, e);
+            return Optional.empty();
+        }
+    }
+}
@@ -1,31 +1,30 @@
 package com.simiyami.gateway.config;
 
+import com.simiyami.common.security.KeycloakRoleConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtReactiveAuthenticationManager;
 import org.springframework.security.oauth2.server.resource.authentication.ReactiveJwtAuthenticationConverterAdapter;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
 
     @Bean
-    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ReactiveAuthenticationManager jwtAuthenticationManager) {
         http
             .csrf(ServerHttpSecurity.CsrfSpec::disable)
             .authorizeExchange(exchanges -> exchanges
@@ -33,48 +32,30 @@ public class SecurityConfig {
                 .pathMatchers("/admin/**").hasRole("admin")
                 .anyExchange().authenticated())
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())));
+                .jwt(jwt -> jwt.authenticationManager(jwtAuthenticationManager)));
 
         return http.build();
     }
 
     /**
-     * KeyCloak JWT에서 realm_access.roles를 Spring Security authority로 변환
+     * JWT 검증 + authority 변환 결과를 토큰 만료 시각까지 캐시하는 인증 매니저
+     */
+    @Bean
+    public ReactiveAuthenticationManager jwtAuthenticationManager(
+            ReactiveJwtDecoder jwtDecoder,
+            MeterRegistry meterRegistry,
+            @Value("${security.jwt-cache.max-entries:100000}") long maxEntries) {
+        JwtReactiveAuthenticationManager manager = new JwtReactiveAuthenticationManager(jwtDecoder);
+        manager.setJwtAuthenticationConverter(jwtAuthenticationConverter());
+        return new CachingJwtAuthenticationManager(manager, maxEntries, meterRegistry);
+    }
+
+    /**
+     * KeyCloak JWT의 realm/client 역할을 Spring Security authority로 변환
      */
     private Converter<Jwt, Mono<AbstractAuthenticationToken>> jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
-        converter.setJwtGrantedAuthoritiesConverter(jwt -> {
-            // realm_access.roles 추출
-            Map<String, Object> realmAccess = jwt.getClaimAsMap("realm_access");
-            Stream<String> realmRoles = Stream.empty();
-            if (realmAccess != null) {
-                @SuppressWarnings("unchecked")
-                List<String> roles = (List<String>) realmAccess.get("roles");
-                if (roles != null) {
-                    realmRoles = roles.stream();
-                }
-            }
-
-            // resource_access.spike-order-client.roles 추출
-            Map<String, Object> resourceAccess = jwt.getClaimAsMap("resource_access");
-            Stream<String> clientRoles = Stream.empty();
-            if (resourceAccess != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> clientAccess = (Map<String, Object>) resourceAccess.get("spike-order-client");
-                if (clientAccess != null) {
-                    @SuppressWarnings("unchecked")
-                    List<String> roles = (List<String>) clientAccess.get("roles");
-                    if (roles != null) {
-                        clientRoles = roles.stream();
-                    }
-                }
-            }
-
-            // ROLE_ 접두사 추가하여 GrantedAuthority로 변환
-            return Stream.concat(realmRoles, clientRoles)
-                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
-                .collect(Collectors.toList());
-        });
+        converter.setJwtGrantedAuthoritiesConverter(new KeycloakRoleConverter("spike-order-client"));
         return new ReactiveJwtAuthenticationConverterAdapter(converter);
     }
 }
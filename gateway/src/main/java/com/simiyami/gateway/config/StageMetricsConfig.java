@@ -0,0 +1,77 @@
+package com.simiyami.gateway.config;
+
+import com.simiyami.gateway.metrics.GatewayStagesEndpoint;
+import com.simiyami.gateway.metrics.StageMetrics;
+import com.simiyami.gateway.metrics.TimedGlobalFilter;
+import com.simiyami.gateway.metrics.TimedReactiveJwtDecoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+/**
+ * 게이트웨이 단계별 지연 시간 계측 설정
+ * - 이 프로젝트의 GlobalFilter(TraceId, IdempotencyKey, RateLimit, StoreRateLimit)와 JWT 검증을 감싸서 측정
+ * - gateway.stage-metrics.enabled=false로 끌 수 있음
+ */
+@Configuration
+@ConditionalOnProperty(name = "gateway.stage-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class StageMetricsConfig {
+
+    private static final String FILTER_PACKAGE = "com.simiyami.gateway.filter.";
+
+    @Bean
+    public StageMetrics stageMetrics(MeterRegistry meterRegistry) {
+        return new StageMetrics(meterRegistry);
+    }
+
+    @Bean
+    public GatewayStagesEndpoint gatewayStagesEndpoint(StageMetrics stageMetrics) {
+        return new GatewayStagesEndpoint(stageMetrics);
+    }
+
+    @Bean
+    public static BeanPostProcessor stageInstrumentationPostProcessor(ObjectProvider<StageMetrics> stageMetrics) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof GlobalFilter filter && bean instanceof Ordered ordered
+                    && bean.getClass().getName().startsWith(FILTER_PACKAGE)) {
+                    return new TimedGlobalFilter(filter, ordered.getOrder(),
+                        stageMetrics.getObject().stage(stageName(bean.getClass().getSimpleName())));
+                }
+                if (bean instanceof ReactiveJwtDecoder decoder && !(bean instanceof TimedReactiveJwtDecoder)) {
+                    return new TimedReactiveJwtDecoder(decoder, stageMetrics.getObject().stage("jwt"));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * 필터 클래스 이름을 단계 이름으로 변환 (StoreRateLimitFilter → store-rate-limit)
+     */
+    static String stageName(String filterClassName) {
+        String name = filterClassName.endsWith("Filter")
+            ? filterClassName.substring(0, filterClassName.length() - "Filter".length())
+            : filterClassName;
+        StringBuilder stage = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c)) {
+                if (i > 0) {
+                    stage.append('-');
+                }
+                stage.append(Character.toLowerCase(c));
+            } else {
+                stage.append(c);
+            }
+        }
+        return stage.toString();
+    }
+}
@@ -1,22 +1,98 @@
 package com.simiyami.gateway.config;
 
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultThreadFactory;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * 가게별 Rate Limit 설정 저장소
  * - 기본값: 5000 req/min
  * - 이벤트 시 동적으로 조절 가능
+ * - 설정은 버전이 붙은 불변 스냅샷으로 보관하고, 변경 시 구독자(필터)에게 새 스냅샷을 push
+ * - 스냅샷 버전은 RateLimitConfigChannel이 모든 게이트웨이 인스턴스에 걸쳐 단조 증가하도록 발급하고,
+ *   변경 후 전체 스냅샷을 채널로 전파 (받는 쪽은 가진 버전보다 큰 스냅샷만 반영하므로 순서가 뒤바뀐 메시지를 버림)
+ * - 시작할 때와 채널 재연결 시 채널에 보관된 마지막 스냅샷으로 동기화
+ * - 예약 변경(프로모션 구간)은 타이머 휠로 시작/종료 시각에 적용/복원하고, 대기/진행 중인 예약은 로컬 파일에 보관
+ *   - 진행 중인 예약은 적용 직전 값도 보관해 재시작 후 다시 적용할 때 그 값을 덮어쓰지 않고 종료 시각에 복원
+ *   - 파일 쓰기는 전용 락 안에서 그 시점의 목록을 읽어 쓰므로 나중에 쓴 파일이 항상 최신 목록
+ *   - 파일 쓰기와 Redis 버전 발급이 블로킹이므로 Admin API는 boundedElastic 스케줄러에서 호출
+ *
+ * [Note]
+ * 같은 가게에 구간이 겹치는 예약이 있으면 각 예약은 자신이 적용되기 직전 값으로 복원합니다.
+ * 구간 도중 Admin API로 직접 바꾼 값도 종료 시각에 덮어쓰게 됩니다.
+ * 두 인스턴스에서 거의 동시에 바꾸면 버전이 큰 스냅샷이 이깁니다 (작은 버전의 변경은 큰 버전 스냅샷에 없으면 사라짐).
+ * 예약은 인스턴스별입니다. 등록을 받은 인스턴스의 타이머와 로컬 파일에만 있고, 적용/복원 결과만 채널로 전파됩니다.
+ * 그래서 예약 조회/취소는 그 인스턴스로 가야 하고, 그 인스턴스가 내려가 있는 동안에는 시작/종료 시각이 지나도
+ * 적용되지 않다가 재시작 후 적용됩니다 (다른 인스턴스가 이어받지 않음).
  */
 @Component
 public class StoreRateLimitConfig {
 
     private static final long DEFAULT_STORE_LIMIT = 5000;
 
-    // 가게별 커스텀 Rate Limit 저장소
-    private final Map<String, Long> storeLimits = new ConcurrentHashMap<>();
+    // 예약 시각 정밀도 (프로모션 시작/종료는 초 단위면 충분)
+    private static final long TIMER_TICK_MILLIS = 100;
+
+    private final RateLimitConfigChannel channel;
+    private final List<Consumer<StoreRateLimitSnapshot>> subscribers = new CopyOnWriteArrayList<>();
+
+    // 예약 관련 (scheduleFile이 null이면 예약을 파일에 보관하지 않음)
+    private final RateLimitScheduleFile scheduleFile;
+    private final Clock clock;
+    private final Map<String, ScheduledWindow> schedules = new ConcurrentHashMap<>();
+    private final Object persistLock = new Object();
+    private Timer timer;
+
+    // 변경은 락 안에서 copy-on-write로만 수행하고, 읽기는 volatile 스냅샷 참조 한 번으로 끝냄
+    private volatile StoreRateLimitSnapshot snapshot = new StoreRateLimitSnapshot(0, DEFAULT_STORE_LIMIT, Map.of());
+
+    public StoreRateLimitConfig() {
+        this(new LocalRateLimitConfigChannel());
+    }
+
+    public StoreRateLimitConfig(RateLimitConfigChannel channel) {
+        this(channel, null, null, Clock.systemUTC());
+    }
+
+    @Autowired
+    public StoreRateLimitConfig(RateLimitConfigChannel channel,
+                                @Value("${rate-limit.schedule.file}") Path scheduleFile) {
+        this(channel, new RateLimitScheduleFile(scheduleFile), null, Clock.systemUTC());
+    }
+
+    /**
+     * @param timer 예약 실행용 타이머 (null이면 첫 예약 시 HashedWheelTimer 생성)
+     */
+    StoreRateLimitConfig(RateLimitConfigChannel channel, RateLimitScheduleFile scheduleFile, Timer timer, Clock clock) {
+        this.channel = channel;
+        this.scheduleFile = scheduleFile;
+        this.timer = timer;
+        this.clock = clock;
+        channel.subscribe(this::apply);
+        restoreSchedules();
+    }
 
     /**
      * 특정 가게의 Rate Limit 조회
@@ -24,7 +100,7 @@ public class StoreRateLimitConfig {
      * @return Rate Limit (기본값 5000)
      */
     public long getLimit(String storeId) {
-        return storeLimits.getOrDefault(storeId, DEFAULT_STORE_LIMIT);
+        return snapshot.limitOf(storeId);
     }
 
     /**
@@ -33,7 +109,18 @@ public class StoreRateLimitConfig {
      * @param limit 새로운 Rate Limit
      */
     public void setLimit(String storeId, long limit) {
-        storeLimits.put(storeId, limit);
+        setLimits(Map.of(storeId, limit));
+    }
+
+    /**
+     * 여러 가게의 Rate Limit을 한 번에 설정 (스냅샷 버전은 한 번만 증가)
+     * @param limits 가게별 새로운 Rate Limit
+     */
+    public void setLimits(Map<String, Long> limits) {
+        if (limits.isEmpty()) {
+            return;
+        }
+        change(limits, Set.of());
     }
 
     /**
@@ -41,7 +128,7 @@ public class StoreRateLimitConfig {
      * @param storeId 가게 ID
      */
     public void resetToDefault(String storeId) {
-        storeLimits.remove(storeId);
+        change(Map.of(), Set.of(storeId));
     }
 
     /**
@@ -57,6 +144,273 @@ public class StoreRateLimitConfig {
      * @return 가게별 커스텀 Rate Limit 맵
      */
     public Map<String, Long> getAllCustomLimits() {
-        return new ConcurrentHashMap<>(storeLimits);
+        return new ConcurrentHashMap<>(snapshot.customLimits());
+    }
+
+    /**
+     * 현재 설정 스냅샷
+     */
+    public StoreRateLimitSnapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 설정 변경 구독
+     * - 등록 즉시 현재 스냅샷을 한 번 전달하고, 이후 변경될 때마다 새 스냅샷 전달
+     */
+    public void subscribe(Consumer<StoreRateLimitSnapshot> subscriber) {
+        subscribers.add(subscriber);
+        subscriber.accept(snapshot);
+    }
+
+    /**
+     * Rate Limit 변경 예약
+     * - startAt에 limits 적용, endAt에 적용 직전 값으로 복원
+     * - startAt이 이미 지났으면 즉시 적용
+     * @throws IllegalArgumentException limits가 비어 있거나 구간이 올바르지 않은 경우
+     */
+    public RateLimitSchedule schedule(Map<String, Long> limits, Instant startAt, Instant endAt) {
+        if (limits.isEmpty()) {
+            throw new IllegalArgumentException("limits must not be empty");
+        }
+        if (limits.values().stream().anyMatch(limit -> limit == null || limit <= 0)) {
+            throw new IllegalArgumentException("limit must be a positive number");
+        }
+        if (!endAt.isAfter(startAt) || !endAt.isAfter(clock.instant())) {
+            throw new IllegalArgumentException("endAt must be after startAt and in the future");
+        }
+
+        RateLimitSchedule schedule = new RateLimitSchedule(UUID.randomUUID().toString(), limits, startAt, endAt);
+        register(schedule, null);
+        persistSchedules();
+        return schedule;
+    }
+
+    /**
+     * 시작 시각 순으로 정렬된 대기/진행 중인 예약 목록
+     */
+    public List<RateLimitSchedule> getSchedules() {
+        List<RateLimitSchedule> result = new ArrayList<>();
+        for (ScheduledWindow window : schedules.values()) {
+            result.add(window.schedule);
+        }
+        result.sort(Comparator.comparing(RateLimitSchedule::startAt));
+        return result;
+    }
+
+    /**
+     * 예약 취소 (이미 적용된 예약은 즉시 복원)
+     * @return 예약이 존재했는지 여부
+     */
+    public boolean cancelSchedule(String scheduleId) {
+        ScheduledWindow window;
+        synchronized (this) {
+            window = schedules.get(scheduleId);
+            if (window == null) {
+                return false;
+            }
+            window.startTimeout.cancel();
+            window.endTimeout.cancel();
+        }
+        end(window);
+        return true;
+    }
+
+    @PreDestroy
+    public synchronized void stopTimer() {
+        if (timer != null) {
+            timer.stop();
+        }
+    }
+
+    // 타이머 작업(start/end)은 같은 락을 잡으므로 타이머 핸들이 모두 설정된 뒤에 실행됨
+    private synchronized void register(RateLimitSchedule schedule, Map<String, Long> previous) {
+        ScheduledWindow window = new ScheduledWindow(schedule);
+        window.previous = previous;
+        schedules.put(schedule.id(), window);
+        window.startTimeout = timer().newTimeout(t -> start(window), delayUntil(schedule.startAt()), TimeUnit.MILLISECONDS);
+        window.endTimeout = timer().newTimeout(t -> end(window), delayUntil(schedule.endAt()), TimeUnit.MILLISECONDS);
+    }
+
+    private void start(ScheduledWindow window) {
+        Map<String, Long> limits = window.schedule.limits();
+        long issued = channel.nextVersion();
+        StoreRateLimitSnapshot next;
+        synchronized (this) {
+            if (schedules.get(window.schedule.id()) != window || window.started) {
+                return;
+            }
+            // 종료 시 복원할 수 있도록 적용 직전 값을 기록 (기본값이었던 가게는 맵에 없음)
+            // 재시작 전에 이미 적용했던 예약은 파일에 보관한 값을 그대로 씀 (지금 값은 예약이 적용된 값일 수 있음)
+            if (window.previous == null) {
+                Map<String, Long> previous = new HashMap<>();
+                for (String storeId : limits.keySet()) {
+                    Long current = snapshot.customLimits().get(storeId);
+                    if (current != null) {
+                        previous.put(storeId, current);
+                    }
+                }
+                window.previous = previous;
+            }
+            window.started = true;
+            next = merge(limits, Set.of(), issued);
+        }
+        propagate(next);
+        persistSchedules();
+    }
+
+    private void end(ScheduledWindow window) {
+        long issued = channel.nextVersion();
+        StoreRateLimitSnapshot next = null;
+        synchronized (this) {
+            if (!schedules.remove(window.schedule.id(), window)) {
+                return;
+            }
+            if (window.previous != null) {
+                Set<String> resets = new HashSet<>(window.schedule.limits().keySet());
+                resets.removeAll(window.previous.keySet());
+                next = merge(window.previous, resets, issued);
+            }
+        }
+        if (next != null) {
+            propagate(next);
+        }
+        persistSchedules();
+    }
+
+    /**
+     * 재시작 전에 등록된 예약 복원
+     * - 이미 끝난 예약은 버리고, 진행 중이던 예약은 즉시 다시 적용
+     */
+    private void restoreSchedules() {
+        if (scheduleFile == null) {
+            return;
+        }
+        List<RateLimitScheduleFile.Entry> saved = scheduleFile.load();
+        if (saved.isEmpty()) {
+            return;
+        }
+        Instant now = clock.instant();
+        for (RateLimitScheduleFile.Entry entry : saved) {
+            if (entry.schedule().endAt().isAfter(now)) {
+                register(entry.schedule(), entry.previous());
+            }
+        }
+        persistSchedules();
+    }
+
+    /**
+     * 지금의 예약 목록을 파일에 씀
+     * - 목록을 락 안에서 읽으므로 변경마다 호출하면 마지막에 쓴 파일이 마지막 변경까지 반영한 목록
+     */
+    private void persistSchedules() {
+        if (scheduleFile == null) {
+            return;
+        }
+        synchronized (persistLock) {
+            List<RateLimitScheduleFile.Entry> entries = new ArrayList<>();
+            synchronized (this) {
+                for (RateLimitSchedule schedule : getSchedules()) {
+                    ScheduledWindow window = schedules.get(schedule.id());
+                    if (window != null) {
+                        entries.add(new RateLimitScheduleFile.Entry(schedule, window.previous));
+                    }
+                }
+            }
+            scheduleFile.save(entries);
+        }
+    }
+
+    private long delayUntil(Instant at) {
+        return Math.max(0, Duration.between(clock.instant(), at).toMillis());
+    }
+
+    private synchronized Timer timer() {
+        if (timer == null) {
+            timer = new HashedWheelTimer(new DefaultThreadFactory("rate-limit-schedule", true),
+                TIMER_TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        return timer;
+    }
+
+    /**
+     * 현재 스냅샷에 변경을 더한 새 스냅샷을 반영하고 채널로 전파
+     * - 버전 발급(Redis INCR)은 락 밖에서, 현재 스냅샷 기준 병합과 교체만 락 안에서 수행
+     * - 구독자 전달과 발행은 락을 놓은 뒤 수행 (구독자는 버전으로 순서를 판단)
+     */
+    private void change(Map<String, Long> limits, Set<String> resets) {
+        long issued = channel.nextVersion();
+        StoreRateLimitSnapshot next;
+        synchronized (this) {
+            next = merge(limits, resets, issued);
+        }
+        propagate(next);
+    }
+
+    /**
+     * 현재 스냅샷에 변경을 더해 교체 (락을 잡은 채 호출)
+     * - 같은 락 안에서 병합/교체해야 동시에 만든 다른 로컬 변경이 이 변경을 덮어쓰지 않음
+     * @param issued 락 밖에서 채널이 발급한 버전
+     */
+    private StoreRateLimitSnapshot merge(Map<String, Long> limits, Set<String> resets, long issued) {
+        Map<String, Long> customLimits = new HashMap<>(snapshot.customLimits());
+        customLimits.putAll(limits);
+        customLimits.keySet().removeAll(resets);
+        // 채널 버전이 초기화된 경우(Redis 데이터 유실 등)나 발급 뒤 더 큰 스냅샷을 먼저 받은 경우에도
+        // 이 변경이 버려지지 않도록 현재 버전보다 크게
+        long version = Math.max(issued, snapshot.version() + 1);
+        StoreRateLimitSnapshot next = new StoreRateLimitSnapshot(version, DEFAULT_STORE_LIMIT, customLimits);
+        snapshot = next;
+        return next;
+    }
+
+    /**
+     * 락을 놓은 뒤 구독자에게 전달하고 다른 인스턴스로 발행
+     */
+    private void propagate(StoreRateLimitSnapshot next) {
+        notifySubscribers(next);
+        channel.publish(next);
+    }
+
+    /**
+     * 가진 스냅샷보다 버전이 크면 교체하고 구독자에게 전달 (자기 자신이 발행한 스냅샷이 돌아오면 같은 버전이라 무시)
+     * @return 교체했으면 true
+     */
+    private boolean apply(StoreRateLimitSnapshot next) {
+        synchronized (this) {
+            if (next.version() <= snapshot.version()) {
+                return false;
+            }
+            snapshot = next;
+        }
+        notifySubscribers(next);
+        return true;
+    }
+
+    /**
+     * 락 밖에서 호출 (구독자는 버전으로 순서를 판단하므로 늦게 도착한 오래된 스냅샷으로 되돌아가지 않음)
+     */
+    private void notifySubscribers(StoreRateLimitSnapshot next) {
+        for (Consumer<StoreRateLimitSnapshot> subscriber : subscribers) {
+            subscriber.accept(next);
+        }
+    }
+
+    /**
+     * 등록된 예약과 타이머 핸들, 적용 직전 값
+     */
+    private static final class ScheduledWindow {
+
+        private final RateLimitSchedule schedule;
+        private Timeout startTimeout;
+        private Timeout endTimeout;
+        // 시작 전이면 null (재시작 전에 적용했던 예약은 파일에서 읽은 값)
+        private Map<String, Long> previous;
+        // 이 인스턴스에서 적용했으면 true
+        private boolean started;
+
+        private ScheduledWindow(RateLimitSchedule schedule) {
+            this.schedule = schedule;
+        }
     }
 }
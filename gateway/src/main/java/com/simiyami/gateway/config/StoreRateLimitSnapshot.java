@@ -0,0 +1,33 @@
+package com.simiyami.gateway.config;
+
+import java.util.Map;
+
+/**
+ * 가게별 Rate Limit 설정의 불변 스냅샷
+ * - 설정이 바뀔 때마다 RateLimitConfigChannel이 발급한 새 version으로 스냅샷이 만들어짐
+ * - 필터는 version만 비교해서 버킷 재조정이 필요한지 판단
+ *
+ * @param version 스냅샷 버전 (채널이 모든 인스턴스에 걸쳐 단조 증가하도록 발급, 인스턴스가 가진 값도 단조 증가)
+ * @param defaultLimit 기본 Rate Limit
+ * @param customLimits 가게별 커스텀 Rate Limit (수정 불가)
+ */
+public record StoreRateLimitSnapshot(long version, long defaultLimit, Map<String, Long> customLimits) {
+
+    public StoreRateLimitSnapshot {
+        customLimits = Map.copyOf(customLimits);
+    }
+
+    /**
+     * 특정 가게에 적용되는 Rate Limit
+     */
+    public long limitOf(String storeId) {
+        return customLimits.getOrDefault(storeId, defaultLimit);
+    }
+
+    /**
+     * 커스텀 Rate Limit 설정 여부
+     */
+    public boolean isCustom(String storeId) {
+        return customLimits.containsKey(storeId);
+    }
+}
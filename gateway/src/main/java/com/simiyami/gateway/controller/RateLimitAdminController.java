@@ -1,21 +1,35 @@
 package com.simiyami.gateway.controller;
 
+import com.simiyami.gateway.config.RateLimitSchedule;
 import com.simiyami.gateway.config.StoreRateLimitConfig;
+import com.simiyami.gateway.config.StoreRateLimitSnapshot;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Rate Limit 동적 조절 Admin API
  * - 이벤트 시 특정 가게의 Rate Limit을 조절할 수 있음
  * - admin 역할 필요
+ * - 변경 사항은 StoreRateLimitConfig를 통해 필터와 다른 게이트웨이 인스턴스로 push됨
+ * - 변경은 예약 파일 쓰기와 Redis 버전 발급으로 블로킹될 수 있어 boundedElastic 스케줄러에서 실행 (이벤트 루프를 막지 않음)
  */
 @RestController
 @RequestMapping("/admin/rate-limit")
 public class RateLimitAdminController {
 
+    // 대량 변경 시 한 번에 반영할 가게 수 (스냅샷 교체/전파 횟수를 줄이기 위함)
+    private static final int BULK_BATCH_SIZE = 1000;
+
     private final StoreRateLimitConfig rateLimitConfig;
 
     public RateLimitAdminController(StoreRateLimitConfig rateLimitConfig) {
@@ -27,9 +41,11 @@ public class RateLimitAdminController {
      */
     @GetMapping("/stores")
     public Mono<ResponseEntity<Map<String, Object>>> getAllStoreLimits() {
+        StoreRateLimitSnapshot snapshot = rateLimitConfig.snapshot();
         return Mono.just(ResponseEntity.ok(Map.of(
-            "defaultLimit", rateLimitConfig.getDefaultLimit(),
-            "customLimits", rateLimitConfig.getAllCustomLimits()
+            "version", snapshot.version(),
+            "defaultLimit", snapshot.defaultLimit(),
+            "customLimits", snapshot.customLimits()
         )));
     }
 
@@ -38,10 +54,12 @@ public class RateLimitAdminController {
      */
     @GetMapping("/stores/{storeId}")
     public Mono<ResponseEntity<Map<String, Object>>> getStoreLimit(@PathVariable String storeId) {
+        // 같은 스냅샷에서 읽어 limit과 isCustom이 서로 다른 시점 값이 되지 않도록 함
+        StoreRateLimitSnapshot snapshot = rateLimitConfig.snapshot();
         return Mono.just(ResponseEntity.ok(Map.of(
             "storeId", storeId,
-            "limit", rateLimitConfig.getLimit(storeId),
-            "isCustom", rateLimitConfig.getAllCustomLimits().containsKey(storeId)
+            "limit", snapshot.limitOf(storeId),
+            "isCustom", snapshot.isCustom(storeId)
         )));
     }
 
@@ -61,12 +79,13 @@ public class RateLimitAdminController {
             )));
         }
 
-        rateLimitConfig.setLimit(storeId, limit);
-        return Mono.just(ResponseEntity.ok(Map.of(
-            "storeId", storeId,
-            "limit", limit,
-            "message", "Rate limit updated successfully"
-        )));
+        return Mono.fromRunnable(() -> rateLimitConfig.setLimit(storeId, limit))
+            .subscribeOn(Schedulers.boundedElastic())
+            .thenReturn(ResponseEntity.ok(Map.of(
+                "storeId", storeId,
+                "limit", limit,
+                "message", "Rate limit updated successfully"
+            )));
     }
 
     /**
@@ -74,11 +93,111 @@ public class RateLimitAdminController {
      */
     @DeleteMapping("/stores/{storeId}")
     public Mono<ResponseEntity<Map<String, Object>>> resetStoreLimit(@PathVariable String storeId) {
-        rateLimitConfig.resetToDefault(storeId);
-        return Mono.just(ResponseEntity.ok(Map.of(
-            "storeId", storeId,
-            "limit", rateLimitConfig.getDefaultLimit(),
-            "message", "Rate limit reset to default"
-        )));
+        return Mono.fromRunnable(() -> rateLimitConfig.resetToDefault(storeId))
+            .subscribeOn(Schedulers.boundedElastic())
+            .thenReturn(ResponseEntity.ok(Map.of(
+                "storeId", storeId,
+                "limit", rateLimitConfig.getDefaultLimit(),
+                "message", "Rate limit reset to default"
+            )));
+    }
+
+    /**
+     * 여러 가게의 Rate Limit 일괄 변경
+     * - NDJSON 또는 JSON 배열로 {"storeId", "limit"} 항목을 스트리밍으로 받아 일정 개수씩 반영
+     * - 잘못된 항목은 건너뛰고 개수만 응답에 포함
+     */
+    @PutMapping(value = "/stores", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<Map<String, Object>>> setStoreLimits(@RequestBody Flux<StoreLimitEntry> entries) {
+        AtomicLong rejected = new AtomicLong();
+
+        return entries
+            .filter(entry -> {
+                boolean valid = entry.isValid();
+                if (!valid) {
+                    rejected.incrementAndGet();
+                }
+                return valid;
+            })
+            .buffer(BULK_BATCH_SIZE)
+            .concatMap(batch -> Mono.fromCallable(() -> {
+                Map<String, Long> limits = new HashMap<>(batch.size() * 2);
+                for (StoreLimitEntry entry : batch) {
+                    limits.put(entry.storeId(), entry.limit());
+                }
+                rateLimitConfig.setLimits(limits);
+                return limits.size();
+            }).subscribeOn(Schedulers.boundedElastic()))
+            .reduce(0L, Long::sum)
+            .map(applied -> ResponseEntity.ok(Map.of(
+                "applied", applied,
+                "rejected", rejected.get(),
+                "message", "Rate limits updated successfully"
+            )));
+    }
+
+    /**
+     * 예약된 Rate Limit 변경 목록 조회
+     */
+    @GetMapping("/schedules")
+    public Mono<ResponseEntity<List<RateLimitSchedule>>> getSchedules() {
+        return Mono.just(ResponseEntity.ok(rateLimitConfig.getSchedules()));
+    }
+
+    /**
+     * Rate Limit 변경 예약 (startAt에 적용, endAt에 복원)
+     */
+    @PostMapping("/schedules")
+    public Mono<ResponseEntity<Map<String, Object>>> scheduleStoreLimits(@RequestBody ScheduleRequest request) {
+        if (request.limits() == null || request.startAt() == null || request.endAt() == null) {
+            return Mono.just(ResponseEntity.badRequest().body(Map.of(
+                "error", "Bad Request",
+                "message", "limits, startAt and endAt are required"
+            )));
+        }
+
+        return Mono.fromCallable(() -> rateLimitConfig.schedule(request.limits(), request.startAt(), request.endAt()))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(schedule -> ResponseEntity.ok(Map.<String, Object>of(
+                "scheduleId", schedule.id(),
+                "stores", schedule.limits().size(),
+                "startAt", schedule.startAt(),
+                "endAt", schedule.endAt(),
+                "message", "Rate limit change scheduled successfully"
+            )))
+            .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().body(Map.<String, Object>of(
+                "error", "Bad Request",
+                "message", e.getMessage()
+            ))));
+    }
+
+    /**
+     * 예약 취소 (이미 적용 중이면 즉시 복원)
+     */
+    @DeleteMapping("/schedules/{scheduleId}")
+    public Mono<ResponseEntity<Map<String, Object>>> cancelSchedule(@PathVariable String scheduleId) {
+        return Mono.fromCallable(() -> rateLimitConfig.cancelSchedule(scheduleId))
+            .subscribeOn(Schedulers.boundedElastic())
+            .map(cancelled -> cancelled
+                ? ResponseEntity.ok(Map.<String, Object>of(
+                    "scheduleId", scheduleId,
+                    "message", "Rate limit schedule cancelled"))
+                : ResponseEntity.notFound().<Map<String, Object>>build());
+    }
+
+    /**
+     * 일괄 변경 항목
+     */
+    public record StoreLimitEntry(String storeId, Long limit) {
+
+        boolean isValid() {
+            return storeId != null && !storeId.isBlank() && limit != null && limit > 0;
+        }
+    }
+
+    /**
+     * 예약 요청
+     */
+    public record ScheduleRequest(Map<String, Long> limits, Instant startAt, Instant endAt) {
     }
 }
@@ -0,0 +1,100 @@
+package com.simiyami.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * 크기 제한이 있는 Token Bucket 핸들 저장소
+ * - 마지막 사용 후 refill 주기가 지난 버킷은 이미 가득 찬 상태이므로 제거 (다시 만들어도 결과 동일)
+ * - maxEntries를 넘으면 사용 빈도가 낮은 버킷부터 제거
+ * - 버킷 수/제거 건수를 Micrometer 메트릭으로 노출
+ *
+ * [Note]
+ * 용량 초과로 제거된 버킷은 아직 토큰이 덜 찼을 수 있어 다음 요청 시 새 버킷(가득 찬 상태)으로 시작합니다.
+ * 제한이 느슨해지는 방향이므로 maxEntries는 평상시 활성 키 수보다 충분히 크게 잡아야 합니다.
+ */
+public class BucketStore {
+
+    private static final String SIZE_METRIC = "gateway.ratelimit.buckets";
+    private static final String EVICTION_METRIC = "gateway.ratelimit.bucket.evictions";
+
+    private final Cache<String, RateLimitBucket> buckets;
+    private final Function<String, RateLimitBucket> bucketFactory;
+
+    private final Counter idleEvictions;
+    private final Counter capacityEvictions;
+
+    /**
+     * @param type 메트릭 태그로 사용할 버킷 종류 (user, ip 등)
+     * @param maxEntries 최대 버킷 수
+     * @param refillPeriod 버킷이 비어 있는 상태에서 가득 차기까지 걸리는 시간
+     * @param bucketFactory 키별 버킷 생성 함수
+     */
+    public BucketStore(String type, long maxEntries, Duration refillPeriod,
+                       Function<String, RateLimitBucket> bucketFactory, MeterRegistry meterRegistry) {
+        this(type, maxEntries, refillPeriod, bucketFactory, meterRegistry, Ticker.systemTicker(), ForkJoinPool.commonPool());
+    }
+
+    BucketStore(String type, long maxEntries, Duration refillPeriod, Function<String, RateLimitBucket> bucketFactory,
+                MeterRegistry meterRegistry, Ticker ticker, Executor executor) {
+        this.bucketFactory = bucketFactory;
+        this.idleEvictions = Counter.builder(EVICTION_METRIC)
+            .tag("type", type)
+            .tag("cause", "idle")
+            .register(meterRegistry);
+        this.capacityEvictions = Counter.builder(EVICTION_METRIC)
+            .tag("type", type)
+            .tag("cause", "capacity")
+            .register(meterRegistry);
+
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(refillPeriod)
+            .ticker(ticker)
+            .executor(executor)
+            .evictionListener((String key, RateLimitBucket bucket, RemovalCause cause) -> {
+                if (cause == RemovalCause.EXPIRED) {
+                    idleEvictions.increment();
+                } else if (cause == RemovalCause.SIZE) {
+                    capacityEvictions.increment();
+                }
+            })
+            .build();
+
+        Gauge.builder(SIZE_METRIC, buckets, Cache::estimatedSize)
+            .tag("type", type)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 버킷 조회 또는 생성
+     * @param key 사용자 ID, IP 등
+     */
+    public RateLimitBucket resolve(String key) {
+        return buckets.get(key, bucketFactory);
+    }
+
+    /**
+     * 현재 저장된 버킷 수 (근사치)
+     */
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * 만료/용량 초과 버킷 정리를 즉시 수행
+     */
+    public void cleanUp() {
+        buckets.cleanUp();
+    }
+}
@@ -0,0 +1,33 @@
+package com.simiyami.gateway.filter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 멱등키로 재사용할 upstream 응답 (상태 코드, 헤더, 본문)
+ *
+ * @param statusCode HTTP 상태 코드
+ * @param headers 응답 헤더 (재전송 시 그대로 사용할 수 없는 hop-by-hop 헤더 제외)
+ * @param body 응답 본문
+ * @param requestHash 이 응답을 만든 요청 본문의 SHA-256 (Base64, 같은 키로 다른 본문을 보내면 재전송하지 않음)
+ */
+public record CachedResponse(int statusCode, Map<String, List<String>> headers, byte[] body, String requestHash) {
+
+    public CachedResponse {
+        headers = Map.copyOf(headers);
+    }
+
+    /**
+     * 저장소 용량 계산용 대략적인 크기 (bytes)
+     */
+    public int weight() {
+        int weight = body.length + requestHash.length();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            weight += header.getKey().length();
+            for (String value : header.getValue()) {
+                weight += value.length();
+            }
+        }
+        return weight;
+    }
+}
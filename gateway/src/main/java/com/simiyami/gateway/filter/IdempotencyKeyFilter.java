@@ -1,22 +1,127 @@
 package com.simiyami.gateway.filter;
 
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * 멱등키 검증 및 중복 요청 제거 필터
+ * - POST/PUT/PATCH 요청은 UUID 형식의 X-Idempotency-Key 필수
+ * - 처음 들어온 요청만 upstream으로 보내고, 처리 중에 들어온 같은 키의 요청은 그 결과를 기다림
+ * - 처리된 응답(상태 코드, 헤더, 본문)은 TTL 동안 저장해 재시도 요청에 그대로 재전송
+ * - 5xx, 408, 429 응답은 재시도로 결과가 달라질 수 있으므로 저장하지 않음
+ * - 저장한 응답에는 요청 본문의 SHA-256을 함께 두고, 같은 키로 본문이 다른 요청이 오면 422
+ * - Set-Cookie는 다른 요청에 세션을 넘겨줄 수 있으므로 저장하지 않음
+ * - 클라이언트가 끊어 취소되면 선점을 풀어 재시도가 선점 시간만큼 기다리지 않게 함
+ * - 요청 본문이 max-request-size를 넘으면 413
+ * - 스트리밍 응답(SSE, NDJSON, writeAndFlushWith)이나 max-response-size를 넘는 응답은 저장하지 않고 그대로 전달한 뒤 선점 해제
+ *
+ * [Note]
+ * 캐시 키는 사용자(JWT sub) + HTTP 메서드 + 경로 + 멱등키입니다.
+ * 다른 사용자가 같은 멱등키를 보내도 서로의 응답을 받지 않고, 같은 멱등키를 다른 API에 쓰면 별개 요청으로 처리됩니다.
+ * 본문 해시를 위해 변경 요청의 본문을 메모리에 모은 뒤 upstream으로 보냅니다.
+ * 응답은 모으지 않고 받는 대로 클라이언트에 전달하면서 max-response-size까지만 복사해 둡니다.
+ */
 @Component
 public class IdempotencyKeyFilter implements GlobalFilter, Ordered {
 
     private static final String IDEMPOTENCY_KEY_HEADER = "X-Idempotency-Key";
+    private static final String REPLAYED_HEADER = "X-Idempotency-Replayed";
+
+    // 다른 인스턴스가 처리 중인 키의 완료 여부 확인 주기
+    private static final Duration REMOTE_POLL_INTERVAL = Duration.ofMillis(50);
+
+    // 재전송 시 다시 계산되거나 요청마다 달라지는 헤더는 저장하지 않음
+    private static final Set<String> NON_REPLAYABLE_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        NON_REPLAYABLE_HEADERS.addAll(List.of(
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.CONNECTION,
+            HttpHeaders.DATE, "Keep-Alive", "X-Trace-Id", HttpHeaders.SET_COOKIE));
+    }
+
+    // 오류 응답은 종류가 정해져 있으므로 본문을 미리 인코딩해 두고 재사용
+    private static final ErrorResponse MISSING_KEY_POST = ErrorResponse.of(HttpStatus.BAD_REQUEST,
+        "X-Idempotency-Key header is required for POST requests");
+    private static final ErrorResponse MISSING_KEY_PUT = ErrorResponse.of(HttpStatus.BAD_REQUEST,
+        "X-Idempotency-Key header is required for PUT requests");
+    private static final ErrorResponse MISSING_KEY_PATCH = ErrorResponse.of(HttpStatus.BAD_REQUEST,
+        "X-Idempotency-Key header is required for PATCH requests");
+    private static final ErrorResponse INVALID_KEY = ErrorResponse.of(HttpStatus.BAD_REQUEST,
+        "X-Idempotency-Key must be a valid UUID");
+    private static final ErrorResponse KEY_REUSED = ErrorResponse.of(HttpStatus.UNPROCESSABLE_ENTITY,
+        "X-Idempotency-Key was already used with a different request body");
+    private static final ErrorResponse STILL_PROCESSING = ErrorResponse.of(HttpStatus.CONFLICT,
+        "A request with the same X-Idempotency-Key is still being processed");
+    private static final ErrorResponse REQUEST_TOO_LARGE = ErrorResponse.of(HttpStatus.PAYLOAD_TOO_LARGE,
+        "Request body is too large for an idempotent request");
+
+    private static final DataSize DEFAULT_MAX_BODY_SIZE = DataSize.ofMegabytes(1);
+
+    private final IdempotencyStore store;
+    private final Duration responseTtl;
+    private final Duration inFlightTimeout;
+    private final int maxRequestBytes;
+    private final int maxResponseBytes;
+
+    // 이 인스턴스에서 처리 중인 키별 결과 (empty로 끝나면 저장되지 않은 결과이므로 대기하던 요청이 다시 시도)
+    private final ConcurrentHashMap<String, Mono<CachedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public IdempotencyKeyFilter(IdempotencyStore store, Duration responseTtl, Duration inFlightTimeout) {
+        this(store, responseTtl, inFlightTimeout, DEFAULT_MAX_BODY_SIZE, DEFAULT_MAX_BODY_SIZE);
+    }
+
+    @Autowired
+    public IdempotencyKeyFilter(IdempotencyStore store,
+                                @Value("${idempotency.response-ttl:10m}") Duration responseTtl,
+                                @Value("${idempotency.in-flight-timeout:30s}") Duration inFlightTimeout,
+                                @Value("${idempotency.max-request-size:1MB}") DataSize maxRequestSize,
+                                @Value("${idempotency.max-response-size:1MB}") DataSize maxResponseSize) {
+        this.store = store;
+        this.responseTtl = responseTtl;
+        this.inFlightTimeout = inFlightTimeout;
+        this.maxRequestBytes = Math.toIntExact(maxRequestSize.toBytes());
+        this.maxResponseBytes = Math.toIntExact(maxResponseSize.toBytes());
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
@@ -27,39 +132,315 @@ public class IdempotencyKeyFilter implements GlobalFilter, Ordered {
             String idempotencyKey = exchange.getRequest().getHeaders().getFirst(IDEMPOTENCY_KEY_HEADER);
 
             if (idempotencyKey == null || idempotencyKey.isBlank()) {
-                return writeErrorResponse(exchange, "X-Idempotency-Key header is required for " + method + " requests");
+                return writeErrorResponse(exchange, missingKeyError(method));
             }
 
-            // UUID 형식 검증
-            if (!isValidUUID(idempotencyKey)) {
-                return writeErrorResponse(exchange, "X-Idempotency-Key must be a valid UUID");
+            // UUID 형식 검증 (예외/할당 없이 36자 형식만 허용)
+            if (!UuidFormat.isValid(idempotencyKey)) {
+                return writeErrorResponse(exchange, INVALID_KEY);
             }
+
+            // 본문 크기를 알 수 있으면 읽기 전에 거절
+            if (exchange.getRequest().getHeaders().getContentLength() > maxRequestBytes) {
+                return writeErrorResponse(exchange, REQUEST_TOO_LARGE);
+            }
+
+            String scope = method.name() + " " + exchange.getRequest().getPath().value() + " " + idempotencyKey;
+            return exchange.getPrincipal()
+                .map(IdempotencyKeyFilter::subjectOf)
+                .defaultIfEmpty("")
+                .zipWith(buffer(exchange, maxRequestBytes))
+                .flatMap(request -> request.getT2().tooLarge()
+                    ? writeErrorResponse(exchange, REQUEST_TOO_LARGE)
+                    : deduplicate(request.getT2().exchange(), chain, request.getT1() + " " + scope,
+                        request.getT2().hash()));
         }
 
         return chain.filter(exchange);
     }
 
-    private Mono<Void> writeErrorResponse(ServerWebExchange exchange, String message) {
-        exchange.getResponse().setStatusCode(HttpStatus.BAD_REQUEST);
-        exchange.getResponse().getHeaders().setContentType(MediaType.APPLICATION_JSON);
-        exchange.getResponse().getHeaders().add("X-Error-Message", message);
+    /**
+     * 같은 키의 요청이 upstream으로 한 번만 전달되도록 처리
+     */
+    private Mono<Void> deduplicate(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                                   String requestHash) {
+        Sinks.One<CachedResponse> result = Sinks.one();
+        Mono<CachedResponse> shared = result.asMono();
+
+        Mono<CachedResponse> existing = inFlight.putIfAbsent(key, shared);
+        if (existing != null) {
+            return awaitLocal(exchange, chain, key, requestHash, existing);
+        }
+
+        return claim(key)
+            .flatMap(claim -> {
+                if (claim.status() == IdempotencyStore.Status.COMPLETED) {
+                    result.tryEmitValue(claim.response());
+                    return replay(exchange, requestHash, claim.response());
+                }
+                return forward(exchange, chain, key, claim.token(), requestHash, result);
+            })
+            .onErrorResume(TimeoutException.class, e -> writeErrorResponse(exchange, STILL_PROCESSING))
+            .doFinally(signal -> {
+                inFlight.remove(key, shared);
+                // 응답이 저장되지 않았으면 대기 중인 요청이 직접 다시 시도하도록 알림 (이미 값을 보냈으면 무시됨)
+                result.tryEmitEmpty();
+            });
+    }
+
+    /**
+     * 키 선점 시도 (다른 인스턴스가 처리 중이면 완료되거나 선점이 풀릴 때까지 주기적으로 재확인)
+     */
+    private Mono<IdempotencyStore.Claim> claim(String key) {
+        return Mono.defer(() -> store.claim(key, inFlightTimeout))
+            .filter(claim -> claim.status() != IdempotencyStore.Status.IN_FLIGHT)
+            .repeatWhenEmpty(attempts -> attempts.delayElements(REMOTE_POLL_INTERVAL))
+            .timeout(inFlightTimeout);
+    }
+
+    /**
+     * 같은 인스턴스에서 처리 중인 요청의 결과를 기다림
+     */
+    private Mono<Void> awaitLocal(ServerWebExchange exchange, GatewayFilterChain chain, String key,
+                                  String requestHash, Mono<CachedResponse> pending) {
+        return pending
+            .map(Optional::of)
+            .defaultIfEmpty(Optional.empty())
+            .timeout(inFlightTimeout)
+            .flatMap(response -> response.isPresent()
+                ? replay(exchange, requestHash, response.get())
+                : deduplicate(exchange, chain, key, requestHash))
+            .onErrorResume(TimeoutException.class, e -> writeErrorResponse(exchange, STILL_PROCESSING));
+    }
+
+    /**
+     * upstream으로 전달하고 응답을 저장 (저장할 수 없는 응답이거나 오류/취소로 끝나면 선점 해제)
+     */
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, String key, String token,
+                               String requestHash, Sinks.One<CachedResponse> result) {
+        CapturingResponse response = new CapturingResponse(exchange.getResponse(), requestHash, maxResponseBytes);
+        AtomicBoolean settled = new AtomicBoolean();
+
+        return chain.filter(exchange.mutate().response(response).build())
+            .then(Mono.defer(() -> {
+                settled.set(true);
+                CachedResponse captured = response.captured();
+                if (captured == null || !isReplayable(captured.statusCode())) {
+                    return store.release(key, token);
+                }
+                return store.complete(key, token, captured, responseTtl)
+                    .doOnSuccess(ignored -> result.tryEmitValue(captured));
+            }))
+            .onErrorResume(e -> {
+                settled.set(true);
+                return store.release(key, token).then(Mono.error(e));
+            })
+            .doOnCancel(() -> {
+                // 취소된 구독 안에서는 해제를 기다릴 수 없으므로 따로 실행
+                if (settled.compareAndSet(false, true)) {
+                    store.release(key, token).subscribe();
+                }
+            });
+    }
+
+    /**
+     * 저장된 응답 재전송 (본문이 다른 요청이면 422)
+     */
+    private Mono<Void> replay(ServerWebExchange exchange, String requestHash, CachedResponse cached) {
+        if (!cached.requestHash().equals(requestHash)) {
+            return writeErrorResponse(exchange, KEY_REUSED);
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(HttpStatusCode.valueOf(cached.statusCode()));
+        response.getHeaders().putAll(cached.headers());
+        response.getHeaders().set(REPLAYED_HEADER, "true");
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.body())));
+    }
 
-        String body = "{\"error\":\"Bad Request\",\"message\":\"" + message + "\"}";
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8));
-        return exchange.getResponse().writeWith(Mono.just(buffer));
+    private static boolean isReplayable(int statusCode) {
+        return statusCode < 500
+            && statusCode != HttpStatus.REQUEST_TIMEOUT.value()
+            && statusCode != HttpStatus.TOO_MANY_REQUESTS.value();
+    }
+
+    private static String subjectOf(Principal principal) {
+        if (principal instanceof JwtAuthenticationToken jwtAuth && jwtAuth.getToken().getSubject() != null) {
+            return jwtAuth.getToken().getSubject();
+        }
+        return principal.getName() == null ? "" : principal.getName();
+    }
+
+    /**
+     * 요청 본문을 모아 해시하고, upstream에는 모은 본문을 다시 보냄
+     * - Content-Length 없이 들어온 본문도 maxBytes를 넘는 순간 읽기를 멈추고 TOO_LARGE 반환
+     */
+    private static Mono<BufferedRequest> buffer(ServerWebExchange exchange, int maxBytes) {
+        return DataBufferUtils.join(exchange.getRequest().getBody(), maxBytes)
+            .map(joined -> {
+                byte[] bytes = new byte[joined.readableByteCount()];
+                joined.read(bytes);
+                DataBufferUtils.release(joined);
+                return bytes;
+            })
+            .defaultIfEmpty(new byte[0])
+            .map(bytes -> new BufferedRequest(withBody(exchange, bytes), sha256(bytes)))
+            .onErrorReturn(DataBufferLimitException.class, BufferedRequest.TOO_LARGE);
+    }
+
+    private static ServerWebExchange withBody(ServerWebExchange exchange, byte[] body) {
+        if (body.length == 0) {
+            return exchange;
+        }
+        ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                return Flux.defer(() -> Flux.just(exchange.getResponse().bufferFactory().wrap(body)));
+            }
+        };
+        return exchange.mutate().request(request).build();
     }
 
-    private boolean isValidUUID(String str) {
+    private static String sha256(byte[] body) {
         try {
-            java.util.UUID.fromString(str);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 
+    private static ErrorResponse missingKeyError(HttpMethod method) {
+        if (method == HttpMethod.POST) {
+            return MISSING_KEY_POST;
+        }
+        return method == HttpMethod.PUT ? MISSING_KEY_PUT : MISSING_KEY_PATCH;
+    }
+
+    private Mono<Void> writeErrorResponse(ServerWebExchange exchange, ErrorResponse error) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(error.status());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().add("X-Error-Message", error.message());
+
+        // 미리 인코딩한 본문을 복사 없이 감싸서 전송
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(error.body())));
+    }
+
     @Override
     public int getOrder() {
         return Ordered.HIGHEST_PRECEDENCE + 1;
     }
+
+    /**
+     * 본문을 다시 읽을 수 있게 바꾼 요청과 본문 해시
+     */
+    private record BufferedRequest(ServerWebExchange exchange, String hash) {
+
+        static final BufferedRequest TOO_LARGE = new BufferedRequest(null, null);
+
+        boolean tooLarge() {
+            return exchange == null;
+        }
+    }
+
+    /**
+     * 미리 인코딩된 오류 응답
+     */
+    private record ErrorResponse(HttpStatus status, String message, byte[] body) {
+
+        static ErrorResponse of(HttpStatus status, String message) {
+            String body = "{\"error\":\"" + status.getReasonPhrase() + "\",\"message\":\"" + message + "\"}";
+            return new ErrorResponse(status, message, body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 클라이언트로 보내는 응답을 그대로 전달하면서 상태 코드/헤더/본문을 복사해 두는 응답 래퍼
+     * - 본문은 받는 대로 전달하고, maxBytes를 넘거나 스트리밍 응답이면 복사를 멈추고 저장하지 않음
+     */
+    private static class CapturingResponse extends ServerHttpResponseDecorator {
+
+        private final String requestHash;
+        private final int maxBytes;
+        private volatile CachedResponse captured;
+        private volatile boolean uncacheable;
+
+        CapturingResponse(ServerHttpResponse delegate, String requestHash, int maxBytes) {
+            super(delegate);
+            this.requestHash = requestHash;
+            this.maxBytes = maxBytes;
+        }
+
+        CachedResponse captured() {
+            return captured;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            if (isStreaming() || getHeaders().getContentLength() > maxBytes) {
+                uncacheable = true;
+                return super.writeWith(body);
+            }
+            ByteArrayOutputStream copy = new ByteArrayOutputStream();
+            return super.writeWith(Flux.from(body).doOnNext(buffer -> copy(buffer, copy)))
+                .doOnSuccess(ignored -> {
+                    if (!uncacheable) {
+                        captured = capture(copy.toByteArray());
+                    }
+                });
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // 조각마다 flush하는 응답은 스트리밍이므로 저장하지 않음
+            uncacheable = true;
+            return super.writeAndFlushWith(body);
+        }
+
+        @Override
+        public Mono<Void> setComplete() {
+            // 본문 없이 끝난 응답 (상태 코드가 정해지지 않았으면 저장하지 않음)
+            if (captured == null && !uncacheable && getStatusCode() != null) {
+                captured = capture(new byte[0]);
+            }
+            return super.setComplete();
+        }
+
+        private boolean isStreaming() {
+            MediaType contentType = getHeaders().getContentType();
+            return contentType != null && (MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)
+                || MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType));
+        }
+
+        /**
+         * 전달할 버퍼의 읽기 위치를 바꾸지 않고 본문 복사 (maxBytes를 넘으면 복사를 버림)
+         */
+        private void copy(DataBuffer buffer, ByteArrayOutputStream copy) {
+            if (uncacheable) {
+                return;
+            }
+            int readable = buffer.readableByteCount();
+            if (copy.size() + readable > maxBytes) {
+                uncacheable = true;
+                copy.reset();
+                return;
+            }
+            int position = buffer.readPosition();
+            byte[] bytes = new byte[readable];
+            buffer.read(bytes);
+            buffer.readPosition(position);
+            copy.write(bytes, 0, readable);
+        }
+
+        private CachedResponse capture(byte[] body) {
+            HttpStatusCode status = getStatusCode();
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            getHeaders().forEach((name, values) -> {
+                if (!NON_REPLAYABLE_HEADERS.contains(name)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            return new CachedResponse(status == null ? HttpStatus.OK.value() : status.value(), headers, body,
+                requestHash);
+        }
+    }
 }
@@ -0,0 +1,68 @@
+package com.simiyami.gateway.filter;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 멱등키 처리 상태/응답 저장소 SPI
+ * - memory: 게이트웨이 인스턴스 메모리 (기본값, 크기 제한)
+ * - redis: Redis 프로토콜 저장소를 모든 게이트웨이 인스턴스가 공유
+ * - 선점마다 소유 토큰을 발급하고, 완료/해제는 그 토큰의 선점일 때만 반영
+ *   (선점이 만료된 뒤 다른 요청이 다시 선점했으면 늦게 끝난 요청이 그 선점을 덮어쓰거나 지우지 않음)
+ *
+ * 같은 인스턴스로 들어온 중복 요청은 필터가 메모리에서 같은 결과를 기다리게 하므로,
+ * 저장소는 인스턴스 간 중복과 처리 완료 후 재전송만 담당합니다.
+ */
+public interface IdempotencyStore {
+
+    /**
+     * 키를 처리 중(in-flight)으로 선점
+     * @param inFlightTimeout 선점 유지 시간 (처리 중 인스턴스가 죽어도 이 시간이 지나면 풀림)
+     * @return 선점 성공 시 ACQUIRED와 소유 토큰, 다른 요청이 처리 중이면 IN_FLIGHT, 이미 처리된 키면 COMPLETED와 응답
+     */
+    Mono<Claim> claim(String key, Duration inFlightTimeout);
+
+    /**
+     * 처리 완료된 응답 저장 (선점 상태를 대체)
+     * - 키가 token의 선점이거나 (선점이 만료되어) 비어 있을 때만 저장하고, 다른 요청의 선점/응답은 그대로 둠
+     * @param token claim이 발급한 소유 토큰
+     * @param ttl 응답 재전송 기간
+     */
+    Mono<Void> complete(String key, String token, CachedResponse response, Duration ttl);
+
+    /**
+     * 응답을 저장하지 않고 선점 해제 (upstream 오류, 클라이언트 취소 등으로 재시도가 필요한 경우)
+     * - token의 선점일 때만 지우고, 다른 요청의 선점이나 이미 완료된 응답은 그대로 둠
+     * @param token claim이 발급한 소유 토큰
+     */
+    Mono<Void> release(String key, String token);
+
+    /**
+     * 선점 결과
+     * @param token ACQUIRED일 때의 소유 토큰 (그 외에는 null)
+     */
+    record Claim(Status status, CachedResponse response, String token) {
+
+        public static final Claim IN_FLIGHT = new Claim(Status.IN_FLIGHT, null, null);
+
+        /**
+         * 새 소유 토큰으로 선점 결과 생성
+         * - UUID.randomUUID()의 SecureRandom 경합을 피하려고 스레드별 난수(ThreadLocalRandom) 128비트 사용
+         */
+        public static Claim acquired() {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String token = Long.toHexString(random.nextLong()) + Long.toHexString(random.nextLong());
+            return new Claim(Status.ACQUIRED, null, token);
+        }
+
+        public static Claim completed(CachedResponse response) {
+            return new Claim(Status.COMPLETED, response, null);
+        }
+    }
+
+    enum Status {
+        ACQUIRED, IN_FLIGHT, COMPLETED
+    }
+}
@@ -0,0 +1,72 @@
+package com.simiyami.gateway.filter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+
+/**
+ * 서명된 사용자 정보 헤더 전달 (security.identity-header.enabled=true일 때만 등록)
+ * - 게이트웨이가 이미 검증한 JWT의 sub/username/email/authority를 X-Authenticated-Identity 헤더로 전달
+ * - 하위 서비스는 헤더의 HMAC만 확인하고 RSA 서명 검증을 생략
+ * - 클라이언트가 직접 보낸 같은 이름의 헤더는 항상 제거
+ */
+@Component
+@ConditionalOnProperty(name = "security.identity-header.enabled", havingValue = "true")
+public class IdentityHeaderFilter implements GlobalFilter, Ordered {
+
+    private final IdentityHeaderSigner signer;
+
+    public IdentityHeaderFilter(@Value("${security.identity-header.secret}") String secret) {
+        this(new IdentityHeaderSigner(secret.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    IdentityHeaderFilter(IdentityHeaderSigner signer) {
+        this.signer = signer;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        return exchange.getPrincipal()
+            .map(this::identityOf)
+            .defaultIfEmpty("")
+            .flatMap(identity -> chain.filter(withIdentity(exchange, identity)));
+    }
+
+    private String identityOf(Principal principal) {
+        String identity = principal instanceof JwtAuthenticationToken jwtAuth ? signer.sign(jwtAuth) : null;
+        return identity != null ? identity : "";
+    }
+
+    /**
+     * 서명한 헤더로 교체하고, 서명할 수 없으면 클라이언트가 보낸 헤더만 제거
+     */
+    private static ServerWebExchange withIdentity(ServerWebExchange exchange, String identity) {
+        boolean present = exchange.getRequest().getHeaders().containsKey(IdentityHeaderSigner.HEADER);
+        if (identity.isEmpty() && !present) {
+            return exchange;
+        }
+        return exchange.mutate()
+            .request(request -> request.headers(headers -> {
+                if (identity.isEmpty()) {
+                    headers.remove(IdentityHeaderSigner.HEADER);
+                } else {
+                    headers.set(IdentityHeaderSigner.HEADER, identity);
+                }
+            }))
+            .build();
+    }
+
+    @Override
+    public int getOrder() {
+        return 2;
+    }
+}
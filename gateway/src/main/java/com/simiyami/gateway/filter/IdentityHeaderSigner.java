@@ -0,0 +1,104 @@
+package com.simiyami.gateway.filter;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 게이트웨이가 검증한 사용자 정보를 HMAC-SHA256으로 서명한 헤더 값으로 변환
+ * - 형식: base64url(payload) + "." + base64url(HMAC(base64url(payload)))
+ * - payload: exp(epoch 초), sub, preferred_username, email, authority 목록(쉼표 구분)을 줄바꿈으로 구분
+ * - 하위 서비스는 RSA 서명 검증 대신 같은 비밀키로 HMAC만 확인
+ *
+ * [Note]
+ * 필드 값에 구분자(줄바꿈, authority의 쉼표)가 들어 있으면 서명하지 않고 null을 반환합니다.
+ * 이 경우 하위 서비스는 헤더 없이 JWT를 직접 검증합니다.
+ */
+public class IdentityHeaderSigner {
+
+    public static final String HEADER = "X-Authenticated-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * @param secret 게이트웨이와 하위 서비스가 공유하는 비밀키 (32바이트 이상)
+     */
+    public IdentityHeaderSigner(byte[] secret) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("identity header secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 인증 결과를 서명된 헤더 값으로 변환 (구분자가 포함된 값이면 null)
+     */
+    public String sign(JwtAuthenticationToken authentication) {
+        Jwt jwt = authentication.getToken();
+        Instant expiresAt = jwt.getExpiresAt();
+        if (expiresAt == null) {
+            return null;
+        }
+
+        StringBuilder payload = new StringBuilder(128)
+            .append(expiresAt.getEpochSecond()).append('\n');
+        if (!appendField(payload, jwt.getSubject())
+                || !appendField(payload, jwt.getClaimAsString("preferred_username"))
+                || !appendField(payload, jwt.getClaimAsString("email"))) {
+            return null;
+        }
+        boolean first = true;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            if (name.indexOf(',') >= 0 || name.indexOf('\n') >= 0) {
+                return null;
+            }
+            if (!first) {
+                payload.append(',');
+            }
+            payload.append(name);
+            first = false;
+        }
+
+        byte[] encodedPayload = ENCODER.encode(payload.toString().getBytes(StandardCharsets.UTF_8));
+        byte[] signature = ENCODER.encode(macs.get().doFinal(encodedPayload));
+
+        byte[] header = new byte[encodedPayload.length + 1 + signature.length];
+        System.arraycopy(encodedPayload, 0, header, 0, encodedPayload.length);
+        header[encodedPayload.length] = '.';
+        System.arraycopy(signature, 0, header, encodedPayload.length + 1, signature.length);
+        return new String(header, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean appendField(StringBuilder payload, String value) {
+        if (value != null) {
+            if (value.indexOf('\n') >= 0) {
+                return false;
+            }
+            payload.append(value);
+        }
+        payload.append('\n');
+        return true;
+    }
+}
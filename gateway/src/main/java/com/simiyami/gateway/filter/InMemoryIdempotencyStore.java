@@ -0,0 +1,85 @@
+package com.simiyami.gateway.filter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 메모리 멱등키 저장소
+ * - 선점 항목은 inFlightTimeout, 완료 항목은 응답 TTL이 지나면 만료
+ * - 전체 응답 크기가 maxBytes를 넘으면 사용 빈도가 낮은 항목부터 제거
+ */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    // 선점 항목의 용량 가중치 (응답 본문이 없으므로 키 크기 정도로 계산)
+    private static final int IN_FLIGHT_WEIGHT = 64;
+
+    private final Cache<String, Entry> entries;
+
+    public InMemoryIdempotencyStore(long maxBytes) {
+        this(maxBytes, Ticker.systemTicker());
+    }
+
+    InMemoryIdempotencyStore(long maxBytes, Ticker ticker) {
+        this.entries = Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, Entry entry) ->
+                entry.response() == null ? IN_FLIGHT_WEIGHT : IN_FLIGHT_WEIGHT + entry.response().weight())
+            .expireAfter(new Expiry<String, Entry>() {
+                @Override
+                public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                    return entry.ttlNanos();
+                }
+
+                @Override
+                public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(ticker)
+            .executor(Runnable::run)
+            .build();
+    }
+
+    @Override
+    public Mono<Claim> claim(String key, Duration inFlightTimeout) {
+        Claim acquired = Claim.acquired();
+        Entry existing = entries.asMap().putIfAbsent(key, new Entry(null, acquired.token(), inFlightTimeout.toNanos()));
+        if (existing == null) {
+            return Mono.just(acquired);
+        }
+        return Mono.just(existing.response() == null ? Claim.IN_FLIGHT : Claim.completed(existing.response()));
+    }
+
+    @Override
+    public Mono<Void> complete(String key, String token, CachedResponse response, Duration ttl) {
+        entries.asMap().compute(key, (k, entry) ->
+            entry == null || entry.ownedBy(token) ? new Entry(response, null, ttl.toNanos()) : entry);
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<Void> release(String key, String token) {
+        entries.asMap().computeIfPresent(key, (k, entry) -> entry.ownedBy(token) ? null : entry);
+        return Mono.empty();
+    }
+
+    /**
+     * 저장 항목 (response가 null이면 token이 선점해 처리 중)
+     */
+    private record Entry(CachedResponse response, String token, long ttlNanos) {
+
+        boolean ownedBy(String owner) {
+            return response == null && token.equals(owner);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.Bucket;
+import io.github.bucket4j.TimeMeter;
+import reactor.core.publisher.Mono;
+
+/**
+ * 인스턴스 메모리 기반 버킷 백엔드
+ * - 네트워크 왕복이 없어 가장 빠르지만 인스턴스 간 상태를 공유하지 않음
+ * - 버킷을 이 인스턴스만 쓰므로 설정 버전은 보지 않음 (호출 순서가 곧 적용 순서)
+ */
+public class LocalRateLimitBackend implements RateLimitBackend {
+
+    // 요청마다 Mono를 새로 만들지 않도록 결과를 재사용
+    private static final Mono<Boolean> ALLOWED = Mono.just(true);
+    private static final Mono<Boolean> REJECTED = Mono.just(false);
+
+    private final TimeMeter timeMeter;
+
+    public LocalRateLimitBackend() {
+        this(TimeMeter.SYSTEM_MILLISECONDS);
+    }
+
+    public LocalRateLimitBackend(TimeMeter timeMeter) {
+        this.timeMeter = timeMeter;
+    }
+
+    @Override
+    public RateLimitBucket createBucket(String key, long limitPerMinute, long configurationVersion) {
+        Bucket bucket = Bucket.builder()
+            .addLimit(RateLimitBackend.configurationOf(limitPerMinute).getBandwidths()[0])
+            .withCustomTimePrecision(timeMeter)
+            .build();
+        return new RateLimitBucket() {
+            @Override
+            public Mono<Boolean> tryConsume() {
+                return bucket.tryConsume(1) ? ALLOWED : REJECTED;
+            }
+
+            @Override
+            public void replaceLimit(long newLimitPerMinute, long newConfigurationVersion) {
+                bucket.replaceConfiguration(RateLimitBackend.configurationOf(newLimitPerMinute),
+                    LIMIT_CHANGE_STRATEGY);
+            }
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.distributed.AsyncBucketProxy;
+import io.github.bucket4j.distributed.proxy.AsyncProxyManager;
+import io.github.bucket4j.distributed.proxy.ProxyManager;
+import io.github.bucket4j.distributed.proxy.optimization.Optimizations;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Bucket4j ProxyManager 기반 공유 버킷 백엔드
+ * - 버킷 상태는 Redis 등 외부 저장소에 있고 모든 게이트웨이 인스턴스가 같은 버킷을 사용
+ * - 비동기 API를 사용하므로 저장소 응답을 기다리는 동안 이벤트 루프를 막지 않음
+ *
+ * [Note]
+ * 같은 키에 대한 요청이 몰리면 요청마다 CAS를 왕복하며 재시도하지 않도록 batching 최적화를 적용합니다.
+ * 저장소 요청이 진행 중인 동안 들어온 소비 요청은 모아 두었다가 다음 한 번의 왕복으로 함께 처리하므로
+ * 핫 키(이벤트 가게)에서도 요청당 추가 지연은 저장소 왕복 1회로 제한되고 결과는 정확하게 유지됩니다.
+ *
+ * limit 변경은 원격 버킷 설정을 제자리에서 교체합니다. Bucket4j 설정 버전으로 전역 스냅샷 버전
+ * (StoreRateLimitSnapshot.version)을 그대로 쓰므로, 아직 새 스냅샷을 받지 못한 인스턴스가 나중에 핸들을 만들어도
+ * 저장된 버전이 더 커서 오래된 limit으로 되돌리지 않습니다 (인스턴스 간 시계 차이와도 무관).
+ */
+public class ProxyManagerRateLimitBackend implements RateLimitBackend {
+
+    private final AsyncProxyManager<String> proxyManager;
+
+    public ProxyManagerRateLimitBackend(ProxyManager<String> proxyManager) {
+        this.proxyManager = proxyManager.asAsync();
+    }
+
+    @Override
+    public RateLimitBucket createBucket(String key, long limitPerMinute, long configurationVersion) {
+        return new RemoteBucket(key, limitPerMinute, configurationVersion);
+    }
+
+    private AsyncBucketProxy buildProxy(String key, long limitPerMinute, long configurationVersion) {
+        CompletableFuture<BucketConfiguration> configuration =
+            CompletableFuture.completedFuture(RateLimitBackend.configurationOf(limitPerMinute));
+
+        // 저장된 설정 버전이 더 낮으면 다음 요청 시 이 설정으로 교체됨
+        return proxyManager.builder()
+            .withOptimization(Optimizations.batching())
+            .withImplicitConfigurationReplacement(configurationVersion, LIMIT_CHANGE_STRATEGY)
+            .build(key, () -> configuration);
+    }
+
+    private class RemoteBucket implements RateLimitBucket {
+
+        private final String key;
+        private volatile AsyncBucketProxy proxy;
+
+        RemoteBucket(String key, long limitPerMinute, long configurationVersion) {
+            this.key = key;
+            this.proxy = buildProxy(key, limitPerMinute, configurationVersion);
+        }
+
+        @Override
+        public Mono<Boolean> tryConsume() {
+            AsyncBucketProxy current = proxy;
+            return Mono.fromFuture(() -> current.tryConsume(1));
+        }
+
+        @Override
+        public void replaceLimit(long limitPerMinute, long configurationVersion) {
+            proxy = buildProxy(key, limitPerMinute, configurationVersion);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.Bandwidth;
+import io.github.bucket4j.BucketConfiguration;
+import io.github.bucket4j.Refill;
+import io.github.bucket4j.TokensInheritanceStrategy;
+
+import java.time.Duration;
+
+/**
+ * Rate Limit 버킷 백엔드 SPI
+ * - local: 게이트웨이 인스턴스 메모리에 버킷 보관 (기본값)
+ * - redis: Redis 프로토콜 저장소에 버킷 상태를 두고 모든 게이트웨이 인스턴스가 공유
+ *
+ * 인스턴스가 N개일 때 local 백엔드는 실제 허용량이 N배가 되므로, 다중 인스턴스 환경에서는 redis 백엔드를 사용합니다.
+ */
+public interface RateLimitBackend {
+
+    Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+    /**
+     * limit 변경 시 남은 토큰 승계 방식
+     * - 용량 비율대로 남은 토큰을 조정하므로 limit을 여러 번 바꿔도 새 limit 이상의 토큰이 발급되지 않음
+     */
+    TokensInheritanceStrategy LIMIT_CHANGE_STRATEGY = TokensInheritanceStrategy.PROPORTIONALLY;
+
+    /**
+     * limit이 바뀌지 않는 버킷(user, ip)의 설정 버전
+     */
+    long FIXED_CONFIGURATION_VERSION = 0;
+
+    /**
+     * 키에 해당하는 버킷 핸들 생성
+     * @param key 버킷 키 (user:{id}, ip:{addr}, store:{id})
+     * @param limitPerMinute 분당 요청 제한
+     * @param configurationVersion limit을 가져온 설정 버전 (공유 버킷은 저장된 버전보다 클 때만 설정 교체)
+     */
+    RateLimitBucket createBucket(String key, long limitPerMinute, long configurationVersion);
+
+    /**
+     * limit이 바뀌지 않는 버킷 핸들 생성
+     */
+    default RateLimitBucket createBucket(String key, long limitPerMinute) {
+        return createBucket(key, limitPerMinute, FIXED_CONFIGURATION_VERSION);
+    }
+
+    /**
+     * 분당 limit 만큼 채워지는 Token Bucket 설정
+     */
+    static BucketConfiguration configurationOf(long limitPerMinute) {
+        return BucketConfiguration.builder()
+            .addLimit(Bandwidth.classic(limitPerMinute, Refill.greedy(limitPerMinute, REFILL_PERIOD)))
+            .build();
+    }
+}
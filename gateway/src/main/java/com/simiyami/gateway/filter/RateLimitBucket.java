@@ -0,0 +1,23 @@
+package com.simiyami.gateway.filter;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 백엔드에 관계없이 필터가 사용하는 버킷 핸들
+ */
+public interface RateLimitBucket {
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 소비 성공 시 true, 한도 초과 시 false
+     */
+    Mono<Boolean> tryConsume();
+
+    /**
+     * 버킷을 새로 만들지 않고 limit만 교체
+     * - 남은 토큰은 용량 비율에 맞춰 유지되므로 limit 변경만으로 토큰이 새로 발급되지 않음
+     * @param limitPerMinute 새로운 분당 요청 제한
+     * @param configurationVersion limit을 가져온 설정 버전 (공유 버킷에 더 큰 버전이 저장돼 있으면 교체하지 않음)
+     */
+    void replaceLimit(long limitPerMinute, long configurationVersion);
+}
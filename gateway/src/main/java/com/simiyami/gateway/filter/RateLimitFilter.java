@@ -1,8 +1,7 @@
 package com.simiyami.gateway.filter;
 
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -13,19 +12,30 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.security.Principal;
-import java.time.Duration;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 public class RateLimitFilter implements GlobalFilter, Ordered {
 
-    // 사용자별 버킷 저장소
-    private final Map<String, Bucket> userBuckets = new ConcurrentHashMap<>();
+    // 사용자별: 100 req/min (Token Bucket)
+    private static final long USER_LIMIT = 100;
+
+    // IP별: 1000 req/min (Token Bucket)
+    private static final long IP_LIMIT = 1000;
+
+    // 사용자별 버킷 저장소 (일회성 사용자가 몰려도 메모리가 계속 늘지 않도록 크기 제한)
+    private final BucketStore userBuckets;
 
     // IP별 버킷 저장소
-    private final Map<String, Bucket> ipBuckets = new ConcurrentHashMap<>();
+    private final BucketStore ipBuckets;
+
+    public RateLimitFilter(RateLimitBackend backend, MeterRegistry meterRegistry,
+                           @Value("${rate-limit.bucket-store.max-entries:500000}") long maxEntries) {
+        this.userBuckets = new BucketStore("user", maxEntries, RateLimitBackend.REFILL_PERIOD,
+            userId -> backend.createBucket("user:" + userId, USER_LIMIT), meterRegistry);
+        this.ipBuckets = new BucketStore("ip", maxEntries, RateLimitBackend.REFILL_PERIOD,
+            clientIp -> backend.createBucket("ip:" + clientIp, IP_LIMIT), meterRegistry);
+    }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
@@ -33,29 +43,30 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
             .map(this::extractUserId)
             .defaultIfEmpty(Optional.empty())
             .flatMap(optionalUserId -> {
-                Bucket bucket;
+                RateLimitBucket bucket;
                 String bucketType;
 
                 if (optionalUserId.isPresent() && !optionalUserId.get().isEmpty()) {
                     // 인증된 사용자: 사용자별 Rate Limit (100 req/min)
                     String userId = optionalUserId.get();
-                    bucket = userBuckets.computeIfAbsent(userId, k -> createUserBucket());
+                    bucket = userBuckets.resolve(userId);
                     bucketType = "user";
                 } else {
                     // 미인증 사용자: IP별 Rate Limit (1000 req/min)
                     String clientIp = extractClientIp(exchange);
-                    bucket = ipBuckets.computeIfAbsent(clientIp, k -> createIpBucket());
+                    bucket = ipBuckets.resolve(clientIp);
                     bucketType = "ip";
                 }
 
-                if (bucket.tryConsume(1)) {
-                    return chain.filter(exchange);
-                } else {
+                return bucket.tryConsume().flatMap(allowed -> {
+                    if (allowed) {
+                        return chain.filter(exchange);
+                    }
                     exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
                     exchange.getResponse().getHeaders().add("X-RateLimit-Type", bucketType);
                     exchange.getResponse().getHeaders().add("X-RateLimit-Retry-After", "60");
                     return exchange.getResponse().setComplete();
-                }
+                });
             });
     }
 
@@ -98,18 +109,6 @@ public class RateLimitFilter implements GlobalFilter, Ordered {
         return "unknown";
     }
 
-    // 사용자별: 100 req/min (Token Bucket)
-    private Bucket createUserBucket() {
-        Bandwidth limit = Bandwidth.classic(100, Refill.greedy(100, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
-    }
-
-    // IP별: 1000 req/min (Token Bucket)
-    private Bucket createIpBucket() {
-        Bandwidth limit = Bandwidth.classic(1000, Refill.greedy(1000, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(limit).build();
-    }
-
     @Override
     public int getOrder() {
         // Spring Security 필터의 기본 순서는 -100
@@ -0,0 +1,136 @@
+package com.simiyami.gateway.filter;
+
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 프로토콜 멱등키 저장소
+ * - SET NX PX로 선점하므로 여러 게이트웨이 인스턴스 중 하나만 upstream으로 요청을 보냄
+ * - 값의 첫 바이트로 처리 중/완료를 구분하고, 완료 항목에는 응답을 바이너리로 직렬화해 저장
+ * - 처리 중 값에는 선점마다 발급한 소유 토큰을 담고, 완료/해제는 값을 비교한 뒤 바꾸는 스크립트로 처리
+ *   (선점이 만료되어 다른 인스턴스가 다시 선점했거나 완료했으면 늦게 끝난 요청이 덮어쓰거나 지우지 않음)
+ */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+    private static final String KEY_PREFIX = "idempotency:";
+
+    private static final byte IN_FLIGHT = 0;
+    private static final byte COMPLETED = 1;
+
+    // 선점이 그대로이거나 만료되어 비어 있으면 응답 저장
+    static final String COMPLETE_SCRIPT =
+        "local v = redis.call('GET', KEYS[1]) "
+            + "if v == false or v == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 end "
+            + "return 0";
+
+    static final String RELEASE_SCRIPT =
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0";
+
+    private final RedisReactiveCommands<String, byte[]> commands;
+
+    public RedisIdempotencyStore(StatefulRedisConnection<String, byte[]> connection) {
+        this.commands = connection.reactive();
+    }
+
+    @Override
+    public Mono<Claim> claim(String key, Duration inFlightTimeout) {
+        String redisKey = KEY_PREFIX + key;
+        Claim acquired = Claim.acquired();
+        return commands.set(redisKey, inFlightValue(acquired.token()), SetArgs.Builder.nx().px(inFlightTimeout.toMillis()))
+            .map(ok -> acquired)
+            // 선점 실패 후 조회 사이에 만료된 경우에도 처리 중으로 보고, 호출자가 완료 여부를 다시 확인하도록 함
+            .switchIfEmpty(Mono.defer(() -> commands.get(redisKey)
+                .map(RedisIdempotencyStore::toClaim)
+                .defaultIfEmpty(Claim.IN_FLIGHT)));
+    }
+
+    @Override
+    public Mono<Void> complete(String key, String token, CachedResponse response, Duration ttl) {
+        return commands.<Long>eval(COMPLETE_SCRIPT, ScriptOutputType.INTEGER, new String[]{KEY_PREFIX + key},
+            inFlightValue(token), encode(response), Long.toString(ttl.toMillis()).getBytes(StandardCharsets.US_ASCII))
+            .then();
+    }
+
+    @Override
+    public Mono<Void> release(String key, String token) {
+        return commands.<Long>eval(RELEASE_SCRIPT, ScriptOutputType.INTEGER, new String[]{KEY_PREFIX + key},
+            inFlightValue(token)).then();
+    }
+
+    static byte[] inFlightValue(String token) {
+        byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        byte[] value = new byte[tokenBytes.length + 1];
+        value[0] = IN_FLIGHT;
+        System.arraycopy(tokenBytes, 0, value, 1, tokenBytes.length);
+        return value;
+    }
+
+    private static Claim toClaim(byte[] value) {
+        if (value.length > 0 && value[0] == COMPLETED) {
+            return Claim.completed(decode(value));
+        }
+        return Claim.IN_FLIGHT;
+    }
+
+    static byte[] encode(CachedResponse response) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(response.weight() + 64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(COMPLETED);
+            out.writeShort(response.statusCode());
+            out.writeUTF(response.requestHash());
+            out.writeShort(response.headers().size());
+            for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeShort(header.getValue().size());
+                for (String value : header.getValue()) {
+                    out.writeUTF(value);
+                }
+            }
+            out.writeInt(response.body().length);
+            out.write(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    static CachedResponse decode(byte[] value) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(value))) {
+            in.readByte();
+            int statusCode = in.readUnsignedShort();
+            String requestHash = in.readUTF();
+            int headerCount = in.readUnsignedShort();
+            Map<String, List<String>> headers = new LinkedHashMap<>(headerCount * 2);
+            for (int i = 0; i < headerCount; i++) {
+                String name = in.readUTF();
+                int valueCount = in.readUnsignedShort();
+                List<String> values = new ArrayList<>(valueCount);
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(in.readUTF());
+                }
+                headers.put(name, List.copyOf(values));
+            }
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+            return new CachedResponse(statusCode, headers, body, requestHash);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -1,9 +1,10 @@
 package com.simiyami.gateway.filter;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.simiyami.gateway.config.StoreRateLimitConfig;
-import io.github.bucket4j.Bandwidth;
-import io.github.bucket4j.Bucket;
-import io.github.bucket4j.Refill;
+import com.simiyami.gateway.config.StoreRateLimitSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
@@ -12,31 +13,49 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 가게별 Rate Limit 필터
  * - 기본값: 5000 req/min per store
  * - X-Store-Id 헤더로 가게 식별
  * - 동적으로 Rate Limit 조절 가능 (이벤트 시)
+ * - 설정은 StoreRateLimitConfig가 push하는 스냅샷으로만 받고, 요청마다 설정 저장소를 조회하지 않음
+ * - 버킷은 스냅샷 버전을 설정 버전으로 만들어서 공유 버킷(redis)에서 오래된 limit이 새 limit을 덮어쓰지 않음
+ * - 가게 버킷 수는 maxEntries로 제한하고 refill 주기 동안 쓰지 않은 버킷은 제거 (BucketStore와 같은 기준)
  */
 @Component
 public class StoreRateLimitFilter implements GlobalFilter, Ordered {
 
     private static final String STORE_ID_HEADER = "X-Store-Id";
+    private static final long DEFAULT_MAX_ENTRIES = 100_000;
 
-    private final StoreRateLimitConfig rateLimitConfig;
+    private final RateLimitBackend backend;
 
-    // 가게별 버킷 저장소
-    private final Map<String, Bucket> storeBuckets = new ConcurrentHashMap<>();
+    // 가게별 버킷 저장소 (버킷과 적용된 limit/스냅샷 버전을 하나의 엔트리로 보관해 서로 어긋나지 않도록 함)
+    // 스냅샷 수신 시 전체를 훑으므로 크기 제한
+    private final ConcurrentMap<String, StoreBucket> storeBuckets;
 
-    // 버킷 생성 시 사용된 limit 저장 (동적 limit 변경 감지용)
-    private final Map<String, Long> bucketLimits = new ConcurrentHashMap<>();
+    // 마지막으로 push 받은 설정 스냅샷
+    private volatile StoreRateLimitSnapshot snapshot;
 
-    public StoreRateLimitFilter(StoreRateLimitConfig rateLimitConfig) {
-        this.rateLimitConfig = rateLimitConfig;
+    public StoreRateLimitFilter(StoreRateLimitConfig rateLimitConfig, RateLimitBackend backend) {
+        this(rateLimitConfig, backend, DEFAULT_MAX_ENTRIES);
+    }
+
+    /**
+     * @param maxEntries 최대 가게 버킷 수 (초과 시 사용 빈도가 낮은 버킷부터 제거)
+     */
+    @Autowired
+    public StoreRateLimitFilter(StoreRateLimitConfig rateLimitConfig, RateLimitBackend backend,
+                                @Value("${rate-limit.store-buckets.max-entries:100000}") long maxEntries) {
+        this.backend = backend;
+        this.storeBuckets = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterAccess(RateLimitBackend.REFILL_PERIOD)
+            .<String, StoreBucket>build()
+            .asMap();
+        rateLimitConfig.subscribe(this::onSnapshot);
     }
 
     @Override
@@ -48,44 +67,70 @@ public class StoreRateLimitFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        long currentLimit = rateLimitConfig.getLimit(storeId);
-        Bucket bucket = getOrCreateBucket(storeId, currentLimit);
+        RateLimitBucket bucket = getOrCreateBucket(storeId);
 
-        if (bucket.tryConsume(1)) {
-            return chain.filter(exchange);
-        } else {
+        return bucket.tryConsume().flatMap(allowed -> {
+            if (allowed) {
+                return chain.filter(exchange);
+            }
             exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
             exchange.getResponse().getHeaders().add("X-RateLimit-Type", "store");
             exchange.getResponse().getHeaders().add("X-RateLimit-Store-Id", storeId);
             exchange.getResponse().getHeaders().add("X-RateLimit-Retry-After", "60");
             return exchange.getResponse().setComplete();
-        }
+        });
     }
 
     /**
      * 버킷 조회 또는 생성
-     * - limit이 변경되면 새 버킷 생성 (동적 조절 지원)
+     * - 엔트리의 스냅샷 버전이 최신이면 락 없이 기존 버킷 반환 (버전 비교 한 번)
+     * - 버전이 다르면 그때만 limit을 확인해 기존 버킷의 설정을 교체 (남은 토큰 유지, 버킷 재생성 없음)
      */
-    private Bucket getOrCreateBucket(String storeId, long limit) {
-        Long existingLimit = bucketLimits.get(storeId);
-
-        // limit이 변경되었으면 버킷 재생성
-        if (existingLimit != null && existingLimit != limit) {
-            storeBuckets.remove(storeId);
-            bucketLimits.remove(storeId);
+    private RateLimitBucket getOrCreateBucket(String storeId) {
+        StoreRateLimitSnapshot latest = snapshot;
+        StoreBucket current = storeBuckets.get(storeId);
+        if (current != null && current.version() == latest.version()) {
+            return current.bucket();
         }
+        return reconcile(storeId, latest).bucket();
+    }
 
-        bucketLimits.putIfAbsent(storeId, limit);
-        return storeBuckets.computeIfAbsent(storeId, k -> createStoreBucket(limit));
+    /**
+     * 새 스냅샷 수신 시 이미 만들어진 버킷들을 미리 맞춰 둠
+     * - 요청 경로에서는 대부분 버전 비교만으로 끝나도록 함
+     */
+    private void onSnapshot(StoreRateLimitSnapshot next) {
+        synchronized (this) {
+            if (snapshot != null && snapshot.version() >= next.version()) {
+                return;
+            }
+            snapshot = next;
+        }
+        for (String storeId : storeBuckets.keySet()) {
+            reconcile(storeId, next);
+        }
     }
 
     /**
-     * Token Bucket 생성
-     * @param limit 분당 요청 제한
+     * 버킷을 주어진 스냅샷 기준으로 맞춤
+     * - 생성/설정 교체는 가게 단위로 한 번에 하나만 수행되므로 동시에 여러 버킷이 만들어지지 않음
+     * - 이미 더 새로운 스냅샷이 반영된 엔트리는 오래된 스냅샷으로 되돌리지 않음
      */
-    private Bucket createStoreBucket(long limit) {
-        Bandwidth bandwidth = Bandwidth.classic(limit, Refill.greedy(limit, Duration.ofMinutes(1)));
-        return Bucket.builder().addLimit(bandwidth).build();
+    private StoreBucket reconcile(String storeId, StoreRateLimitSnapshot target) {
+        return storeBuckets.compute(storeId, (id, existing) -> {
+            long limit = target.limitOf(id);
+            if (existing == null) {
+                return new StoreBucket(backend.createBucket("store:" + id, limit, target.version()), limit,
+                    target.version());
+            }
+            if (existing.version() >= target.version()) {
+                return existing;
+            }
+            if (existing.limit() != limit) {
+                existing.bucket().replaceLimit(limit, target.version());
+            }
+            return new StoreBucket(existing.bucket(), limit, target.version());
+        });
     }
 
     @Override
@@ -93,4 +138,10 @@ public class StoreRateLimitFilter implements GlobalFilter, Ordered {
         // RateLimitFilter(0) 이후에 실행
         return 1;
     }
+
+    /**
+     * 가게 버킷과 현재 적용된 limit, 그 limit을 가져온 스냅샷 버전
+     */
+    private record StoreBucket(RateLimitBucket bucket, long limit, long version) {
+    }
 }
@@ -1,68 +1,61 @@
 package com.simiyami.gateway.filter;
 
-import org.reactivestreams.Publisher;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
-import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.server.reactive.ServerHttpRequest;
-import org.springframework.http.server.reactive.ServerHttpResponse;
-import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.UUID;
-
 @Component
 public class TraceIdFilter implements GlobalFilter, Ordered {
 
     private static final String TRACE_ID_HEADER = "X-Trace-Id";
+    private static final String TRACEPARENT_HEADER = "traceparent";
+
+    private final TraceIdGenerator generator = TraceIdGenerator.forLocalNode();
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
         String traceId = exchange.getRequest().getHeaders().getFirst(TRACE_ID_HEADER);
 
-        if (traceId == null || traceId.isBlank()) {
-            traceId = UUID.randomUUID().toString();
+        /*
+         * 응답 본문(Body)이 쓰이기 직전에 Trace ID 헤더를 주입합니다.
+         * [Note]
+         * HTTP 프로토콜상 Body가 전송되기 시작(Committed)하면 헤더를 수정할 수 없습니다.
+         * beforeCommit은 writeWith, writeAndFlushWith, setComplete 어느 경로로 커밋되든 커밋 직전에 실행되므로
+         * 응답 래퍼(Decorator) 없이 헤더 누락을 방지할 수 있습니다.
+         */
+        if (traceId != null && !traceId.isBlank()) {
+            // 클라이언트가 보낸 Trace ID는 요청을 그대로 전달 (exchange 재구성 없음)
+            addResponseHeader(exchange, traceId);
+            return chain.filter(exchange);
         }
 
-        final String finalTraceId = traceId;
+        String generatedTraceId = generator.nextTraceId();
+        addResponseHeader(exchange, generatedTraceId);
 
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
         ServerHttpRequest request = exchange.getRequest().mutate()
-            .header(TRACE_ID_HEADER, traceId)
+            .headers(headers -> {
+                headers.set(TRACE_ID_HEADER, generatedTraceId);
+                // 이미 분산 추적 컨텍스트가 있으면 유지하고, 없을 때만 같은 trace-id로 시작
+                if (!requestHeaders.containsKey(TRACEPARENT_HEADER)) {
+                    headers.set(TRACEPARENT_HEADER, generator.traceparentOf(generatedTraceId));
+                }
+            })
             .build();
 
-        ServerHttpResponse originalResponse = exchange.getResponse();
-        ServerHttpResponseDecorator decoratedResponse = new ServerHttpResponseDecorator(originalResponse) {
-            /**
-             * 응답 본문(Body)이 쓰이기 직전에 Trace ID 헤더를 주입합니다.
-             * * [Note]
-             * HTTP 프로토콜상 Body가 전송되기 시작(Committed)하면 헤더를 수정할 수 없습니다.
-             * 따라서 데이터를 쓰는 시점인 writeWith, writeAndFlushWith를 가로채서
-             * 실제 쓰기 작업(super)이 발생하기 전에 헤더를 추가해야 합니다.
-             */
-
-            @Override
-            public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
-                getHeaders().add(TRACE_ID_HEADER, finalTraceId);
-                return super.writeWith(body);
-            }
-
-            // 스트리밍 등 Flush가 동반되는 전송 방식에서도 헤더 누락을 방지하기 위해 함께 재정의
-            @Override
-            public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
-                getHeaders().add(TRACE_ID_HEADER, finalTraceId);
-                return super.writeAndFlushWith(body);
-            }
-        };
-
-        ServerWebExchange mutatedExchange = exchange.mutate()
-            .request(request)
-            .response(decoratedResponse)
-            .build();
+        return chain.filter(exchange.mutate().request(request).build());
+    }
 
-        return chain.filter(mutatedExchange);
+    private static void addResponseHeader(ServerWebExchange exchange, String traceId) {
+        exchange.getResponse().beforeCommit(() -> {
+            exchange.getResponse().getHeaders().add(TRACE_ID_HEADER, traceId);
+            return Mono.empty();
+        });
     }
 
     @Override
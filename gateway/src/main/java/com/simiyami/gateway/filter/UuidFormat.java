@@ -0,0 +1,56 @@
+package com.simiyami.gateway.filter;
+
+import java.util.Arrays;
+
+/**
+ * 36자 UUID 문자열 형식 검증 (8-4-4-4-12, 16진수)
+ * - UUID.fromString과 달리 예외를 만들지 않고 객체도 할당하지 않음
+ * - 자릿수가 모자라거나 넘치는 형식("1-1-1-1-1" 등)은 허용하지 않음
+ */
+final class UuidFormat {
+
+    private static final int LENGTH = 36;
+
+    // Latin-1 문자별 16진수 값 (16진수가 아니면 -1)
+    private static final byte[] NIBBLES = new byte[256];
+
+    static {
+        Arrays.fill(NIBBLES, (byte) -1);
+        for (char c = '0'; c <= '9'; c++) {
+            NIBBLES[c] = (byte) (c - '0');
+        }
+        for (char c = 'a'; c <= 'f'; c++) {
+            NIBBLES[c] = (byte) (c - 'a' + 10);
+            NIBBLES[Character.toUpperCase(c)] = (byte) (c - 'a' + 10);
+        }
+    }
+
+    private UuidFormat() {
+    }
+
+    static boolean isValid(String value) {
+        if (value == null || value.length() != LENGTH
+            || value.charAt(8) != '-' || value.charAt(13) != '-'
+            || value.charAt(18) != '-' || value.charAt(23) != '-') {
+            return false;
+        }
+        // 4자리씩 값을 OR로 모아 마지막에 한 번만 판단 (16진수가 아닌 문자가 있으면 음수)
+        int bits = nibbles4(value, 0) | nibbles4(value, 4)
+            | nibbles4(value, 9)
+            | nibbles4(value, 14)
+            | nibbles4(value, 19)
+            | nibbles4(value, 24) | nibbles4(value, 28) | nibbles4(value, 32);
+        return bits >= 0;
+    }
+
+    private static int nibbles4(String value, int from) {
+        char c1 = value.charAt(from);
+        char c2 = value.charAt(from + 1);
+        char c3 = value.charAt(from + 2);
+        char c4 = value.charAt(from + 3);
+        if ((c1 | c2 | c3 | c4) > 0xFF) {
+            return -1;
+        }
+        return NIBBLES[c1] | NIBBLES[c2] | NIBBLES[c3] | NIBBLES[c4];
+    }
+}
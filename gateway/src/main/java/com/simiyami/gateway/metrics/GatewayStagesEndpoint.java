@@ -0,0 +1,60 @@
+package com.simiyami.gateway.metrics;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 단계별 지연 시간 조회 Actuator 엔드포인트 (/actuator/gatewaystages)
+ * - 기존 /actuator/gateway(라우트 조회) 옆에서 단계 > 라우트 > 결과별 건수와 지연 시간 분포를 보여줌
+ * - 지연 시간 단위: 마이크로초 (count는 누적, 백분위/max는 최근 1~2분)
+ */
+@Endpoint(id = "gatewaystages")
+public class GatewayStagesEndpoint {
+
+    private final StageMetrics stageMetrics;
+
+    public GatewayStagesEndpoint(StageMetrics stageMetrics) {
+        this.stageMetrics = stageMetrics;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, Map<String, Map<String, Object>>>> stages() {
+        Map<String, Map<String, Map<String, Map<String, Object>>>> result = new TreeMap<>();
+        for (StageMetrics.Stage stage : stageMetrics.stages()) {
+            Map<String, Map<String, Map<String, Object>>> routes = new TreeMap<>();
+            for (StageMetrics.Stage.RouteHistograms route : stage.routes()) {
+                Map<String, Map<String, Object>> outcomes = new TreeMap<>();
+                for (StageHistogram histogram : route.histograms()) {
+                    StageHistogram.Snapshot snapshot = histogram.snapshot();
+                    if (snapshot.count() > 0) {
+                        outcomes.put(histogram.outcome(), summarize(snapshot));
+                    }
+                }
+                if (!outcomes.isEmpty()) {
+                    routes.put(route.routeId(), outcomes);
+                }
+            }
+            result.put(stage.name(), routes);
+        }
+        return result;
+    }
+
+    private static Map<String, Object> summarize(StageHistogram.Snapshot snapshot) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", snapshot.count());
+        summary.put("meanMicros", micros(snapshot.totalNanos() / (double) snapshot.count()));
+        summary.put("maxMicros", micros(snapshot.maxNanos()));
+        summary.put("p50Micros", micros(snapshot.p50Nanos()));
+        summary.put("p99Micros", micros(snapshot.p99Nanos()));
+        summary.put("p99.9Micros", micros(snapshot.p999Nanos()));
+        return summary;
+    }
+
+    private static double micros(double nanos) {
+        return nanos / 1_000;
+    }
+}
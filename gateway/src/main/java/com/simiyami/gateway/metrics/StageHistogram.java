@@ -0,0 +1,101 @@
+package com.simiyami.gateway.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 단계/라우트/결과 하나의 지연 시간 히스토그램 (HdrHistogram)
+ * - 기록은 wait-free Recorder로 처리 (요청 경로에서 락/할당 없음)
+ * - 조회 시 그동안 기록된 구간 히스토그램을 누적본과 최근 구간에 합침
+ * - 백분위는 최근 WINDOW 동안의 값, 건수/합계는 시작 이후 누적값
+ * - Micrometer 미터 5개(건수/합계/백분위 3개)는 scrapeSnapshot()으로 조회해 한 번의 scrape에서 스냅샷을 한 번만 계산
+ */
+public class StageHistogram {
+
+    private static final long WINDOW_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    // 한 scrape 안에서 미터들이 연달아 조회하는 간격보다 충분히 길고, scrape 주기(보통 10초 이상)보다 짧게
+    private static final long SCRAPE_REUSE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    // 유효 숫자 2자리 (1% 오차), 범위는 1ns ~ 60s 고정 (자동 확장 히스토그램보다 기록 시 원자 연산이 적음)
+    private static final int SIGNIFICANT_DIGITS = 2;
+    private static final long HIGHEST_TRACKABLE_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final String outcome;
+    private final Recorder recorder = new Recorder(1, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private final LongSupplier nanoClock;
+
+    private final Histogram total = new Histogram(1, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private Histogram recent = new Histogram(1, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private Histogram previous = new Histogram(1, HIGHEST_TRACKABLE_NANOS, SIGNIFICANT_DIGITS);
+    private Histogram interval;
+    private long windowStartNanos;
+    private volatile Taken last;
+
+    StageHistogram(String outcome, LongSupplier nanoClock) {
+        this.outcome = outcome;
+        this.nanoClock = nanoClock;
+        this.windowStartNanos = nanoClock.getAsLong();
+    }
+
+    public String outcome() {
+        return outcome;
+    }
+
+    public void record(long nanos) {
+        recorder.recordValue(Math.min(Math.max(nanos, 1), HIGHEST_TRACKABLE_NANOS));
+    }
+
+    /**
+     * 조회 시점 통계
+     */
+    public synchronized Snapshot snapshot() {
+        interval = recorder.getIntervalHistogram(interval);
+        total.add(interval);
+
+        long now = nanoClock.getAsLong();
+        if (now - windowStartNanos >= WINDOW_NANOS) {
+            // 구간이 바뀌어도 직전 구간 값을 함께 보여줘서 조회 직후 백분위가 비어 보이지 않도록 함
+            Histogram expired = previous;
+            previous = recent;
+            recent = expired;
+            recent.reset();
+            windowStartNanos = now;
+        }
+        recent.add(interval);
+
+        Histogram window = recent.copy();
+        window.add(previous);
+        Snapshot snapshot = new Snapshot(total.getTotalCount(), (long) (total.getMean() * total.getTotalCount()),
+            window.getMaxValue(), window.getValueAtPercentile(50), window.getValueAtPercentile(99),
+            window.getValueAtPercentile(99.9));
+        last = new Taken(snapshot, now);
+        return snapshot;
+    }
+
+    /**
+     * 미터 조회용 통계
+     * - 직전 스냅샷이 SCRAPE_REUSE_NANOS 안에 계산된 것이면 락 없이 그대로 반환
+     */
+    public Snapshot scrapeSnapshot() {
+        Taken taken = last;
+        if (taken != null && nanoClock.getAsLong() - taken.nanos() < SCRAPE_REUSE_NANOS) {
+            return taken.snapshot();
+        }
+        return snapshot();
+    }
+
+    /**
+     * @param count 누적 건수
+     * @param totalNanos 누적 합계 (근사치)
+     * @param maxNanos 최근 구간 최대값
+     */
+    public record Snapshot(long count, long totalNanos, long maxNanos, long p50Nanos, long p99Nanos, long p999Nanos) {
+    }
+
+    private record Taken(Snapshot snapshot, long nanos) {
+    }
+}
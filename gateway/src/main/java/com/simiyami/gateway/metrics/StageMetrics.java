@@ -0,0 +1,191 @@
+package com.simiyami.gateway.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 게이트웨이 처리 단계별 지연 시간 기록
+ * - outcome: allow(다음 단계로 통과), 응답 상태 코드(400, 429 등 해당 단계에서 응답 종료), error
+ * - 요청 경로에서는 HdrHistogram Recorder에만 기록하고, Micrometer 값은 조회(scrape) 시점에 계산
+ *   - gateway.stage.latency{stage, route, outcome}: 건수/합계 (FunctionTimer)
+ *   - gateway.stage.latency.percentile{stage, route, outcome, quantile}: 최근 1~2분 백분위 (초)
+ *   - 한 히스토그램의 미터들은 scrape마다 스냅샷 하나를 나눠 씀 (StageHistogram.scrapeSnapshot)
+ * - 히스토그램은 단계/라우트/결과별로 한 번만 만들고 배열/맵에 보관해 요청 경로에서 태그 생성/레지스트리 조회를 하지 않음
+ */
+public class StageMetrics {
+
+    public static final String METRIC_NAME = "gateway.stage.latency";
+    public static final String PERCENTILE_METRIC_NAME = "gateway.stage.latency.percentile";
+    public static final String OUTCOME_ALLOW = "allow";
+    public static final String OUTCOME_ERROR = "error";
+    public static final String NO_ROUTE = "none";
+
+    private static final int MAX_STATUS = 600;
+
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Stage> stages = new ConcurrentHashMap<>();
+
+    public StageMetrics(MeterRegistry meterRegistry) {
+        this(meterRegistry, System::nanoTime);
+    }
+
+    StageMetrics(MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.meterRegistry = meterRegistry;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 단계별 기록기 (필터 래퍼가 생성 시 한 번 조회해 보관)
+     */
+    public Stage stage(String name) {
+        return stages.computeIfAbsent(name, Stage::new);
+    }
+
+    Collection<Stage> stages() {
+        return stages.values();
+    }
+
+    /**
+     * 한 단계의 라우트별 히스토그램 모음
+     */
+    public final class Stage {
+
+        private final String name;
+        private final ConcurrentHashMap<String, RouteHistograms> routes = new ConcurrentHashMap<>();
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public void recordAllow(String routeId, long nanos) {
+            route(routeId).allow.record(nanos);
+        }
+
+        public void recordStatus(String routeId, int status, long nanos) {
+            route(routeId).status(status).record(nanos);
+        }
+
+        public void recordError(String routeId, long nanos) {
+            route(routeId).error().record(nanos);
+        }
+
+        Collection<RouteHistograms> routes() {
+            return routes.values();
+        }
+
+        private RouteHistograms route(String routeId) {
+            RouteHistograms histograms = routes.get(routeId);
+            if (histograms == null) {
+                histograms = routes.computeIfAbsent(routeId, RouteHistograms::new);
+            }
+            return histograms;
+        }
+
+        /**
+         * 한 라우트의 결과별 히스토그램
+         */
+        final class RouteHistograms {
+
+            private final String routeId;
+            private final StageHistogram allow;
+            private final AtomicReferenceArray<StageHistogram> byStatus = new AtomicReferenceArray<>(MAX_STATUS);
+            private volatile StageHistogram error;
+
+            private RouteHistograms(String routeId) {
+                this.routeId = routeId;
+                this.allow = register(OUTCOME_ALLOW);
+            }
+
+            String routeId() {
+                return routeId;
+            }
+
+            synchronized List<StageHistogram> histograms() {
+                List<StageHistogram> histograms = new ArrayList<>();
+                histograms.add(allow);
+                for (int status = 0; status < MAX_STATUS; status++) {
+                    StageHistogram histogram = byStatus.get(status);
+                    if (histogram != null) {
+                        histograms.add(histogram);
+                    }
+                }
+                if (error != null) {
+                    histograms.add(error);
+                }
+                return histograms;
+            }
+
+            private StageHistogram status(int status) {
+                if (status < 0 || status >= MAX_STATUS) {
+                    return error();
+                }
+                // 처음 한 번만 락을 잡고, 이후에는 배열 조회만 수행
+                StageHistogram histogram = byStatus.get(status);
+                if (histogram == null) {
+                    synchronized (this) {
+                        histogram = byStatus.get(status);
+                        if (histogram == null) {
+                            histogram = register(Integer.toString(status));
+                            byStatus.set(status, histogram);
+                        }
+                    }
+                }
+                return histogram;
+            }
+
+            private StageHistogram error() {
+                StageHistogram histogram = error;
+                if (histogram == null) {
+                    synchronized (this) {
+                        histogram = error;
+                        if (histogram == null) {
+                            histogram = register(OUTCOME_ERROR);
+                            error = histogram;
+                        }
+                    }
+                }
+                return histogram;
+            }
+
+            private StageHistogram register(String outcome) {
+                StageHistogram histogram = new StageHistogram(outcome, nanoClock);
+                Tags tags = Tags.of("stage", name, "route", routeId, "outcome", outcome);
+
+                FunctionTimer.builder(METRIC_NAME, histogram,
+                        h -> h.scrapeSnapshot().count(), h -> h.scrapeSnapshot().totalNanos(), TimeUnit.NANOSECONDS)
+                    .description("Latency of each gateway processing stage until it passes or ends the request")
+                    .tags(tags)
+                    .register(meterRegistry);
+                registerPercentile(histogram, tags, "0.5", snapshot -> snapshot.p50Nanos());
+                registerPercentile(histogram, tags, "0.99", snapshot -> snapshot.p99Nanos());
+                registerPercentile(histogram, tags, "0.999", snapshot -> snapshot.p999Nanos());
+                return histogram;
+            }
+
+            private void registerPercentile(StageHistogram histogram, Tags tags, String quantile,
+                                            ToDoubleFunction<StageHistogram.Snapshot> value) {
+                Gauge.builder(PERCENTILE_METRIC_NAME, histogram, h -> value.applyAsDouble(h.scrapeSnapshot()) / 1e9)
+                    .tags(tags)
+                    .tag("quantile", quantile)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            }
+        }
+    }
+}
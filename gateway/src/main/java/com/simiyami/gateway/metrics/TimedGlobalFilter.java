@@ -0,0 +1,96 @@
+package com.simiyami.gateway.metrics;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * GlobalFilter 지연 시간 측정 래퍼
+ * - 필터가 호출된 시점부터 다음 단계(chain.filter)로 넘기는 시점까지를 해당 필터의 지연 시간으로 기록 (allow)
+ * - 다음 단계로 넘기지 않고 끝나면 완료 시점까지를 응답 상태 코드로 기록 (400, 429 등)
+ * - 하위 단계(upstream 호출 포함) 시간은 포함하지 않음
+ */
+public class TimedGlobalFilter implements GlobalFilter, Ordered {
+
+    private final GlobalFilter delegate;
+    private final int order;
+    private final StageMetrics.Stage stage;
+
+    public TimedGlobalFilter(GlobalFilter delegate, int order, StageMetrics.Stage stage) {
+        this.delegate = delegate;
+        this.order = order;
+        this.stage = stage;
+    }
+
+    public GlobalFilter getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        TimedChain timedChain = new TimedChain(chain, routeId(exchange), System.nanoTime());
+        return delegate.filter(exchange, timedChain)
+            .doOnSuccess(ignored -> timedChain.recordEnded(exchange))
+            .doOnError(error -> timedChain.recordError());
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+
+    private static String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        return route == null ? StageMetrics.NO_ROUTE : route.getId();
+    }
+
+    /**
+     * 다음 단계로 넘어가는 시점을 잡아내는 chain 래퍼 (요청당 하나)
+     */
+    private final class TimedChain implements GatewayFilterChain {
+
+        private final GatewayFilterChain chain;
+        private final String routeId;
+        private final long startNanos;
+        private boolean passed;
+
+        private TimedChain(GatewayFilterChain chain, String routeId, long startNanos) {
+            this.chain = chain;
+            this.routeId = routeId;
+            this.startNanos = startNanos;
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            if (!passed) {
+                passed = true;
+                stage.recordAllow(routeId, System.nanoTime() - startNanos);
+            }
+            return chain.filter(exchange);
+        }
+
+        void recordEnded(ServerWebExchange exchange) {
+            if (passed) {
+                return;
+            }
+            HttpStatusCode status = exchange.getResponse().getStatusCode();
+            long elapsed = System.nanoTime() - startNanos;
+            if (status == null) {
+                stage.recordStatus(routeId, 200, elapsed);
+            } else {
+                stage.recordStatus(routeId, status.value(), elapsed);
+            }
+        }
+
+        void recordError() {
+            if (!passed) {
+                stage.recordError(routeId, System.nanoTime() - startNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.simiyami.gateway.metrics;
+
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWT 검증(서명/클레임) 지연 시간 측정 래퍼
+ * - 보안 필터는 라우팅 전에 실행되므로 route 태그는 none
+ * - 검증 성공은 allow, 실패는 401로 기록
+ */
+public class TimedReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    private final ReactiveJwtDecoder delegate;
+    private final StageMetrics.Stage stage;
+
+    public TimedReactiveJwtDecoder(ReactiveJwtDecoder delegate, StageMetrics.Stage stage) {
+        this.delegate = delegate;
+        this.stage = stage;
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) {
+        long startNanos = System.nanoTime();
+        return delegate.decode(token)
+            .doOnSuccess(jwt -> stage.recordAllow(StageMetrics.NO_ROUTE, System.nanoTime() - startNanos))
+            .doOnError(error -> stage.recordStatus(StageMetrics.NO_ROUTE, 401, System.nanoTime() - startNanos));
+    }
+}
@@ -0,0 +1,127 @@
+package com.simiyami.gateway.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.InvalidBearerTokenException;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingJwtAuthenticationManagerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger verifications;
+    private AtomicLong nanos;
+    private CachingJwtAuthenticationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifications = new AtomicInteger();
+        nanos = new AtomicLong();
+        manager = createManager(authentication -> {
+            verifications.incrementAndGet();
+            String token = ((BearerTokenAuthenticationToken) authentication).getToken();
+            if (token.startsWith("invalid")) {
+                return Mono.error(new InvalidBearerTokenException("invalid token"));
+            }
+            return Mono.just(jwtAuthentication(token, NOW.plus(Duration.ofMinutes(5))));
+        });
+    }
+
+    private CachingJwtAuthenticationManager createManager(ReactiveAuthenticationManager delegate) {
+        return new CachingJwtAuthenticationManager(delegate, 1000, meterRegistry,
+            Clock.fixed(NOW, ZoneOffset.UTC), nanos::get);
+    }
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고 이후에는 캐시된 인증 결과를 반환한다")
+    void shouldVerifySameTokenOnce() {
+        Authentication first = manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+        Authentication second = manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+
+        assertThat(second).isSameAs(first);
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_user");
+        assertThat(verifications).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("토큰이 다르면 각각 검증한다")
+    void shouldVerifyDifferentTokensSeparately() {
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+        manager.authenticate(new BearerTokenAuthenticationToken("token-b")).block();
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("토큰 만료 시각이 지나면 다시 검증한다")
+    void shouldExpireAtTokenExpiry() {
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+
+        nanos.addAndGet(Duration.ofMinutes(5).toNanos());
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("검증 실패는 캐시하지 않는다")
+    void shouldNotCacheFailures() {
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(manager.authenticate(new BearerTokenAuthenticationToken("invalid-token")))
+                .expectError(InvalidBearerTokenException.class)
+                .verify();
+        }
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("캐시 적중률을 메트릭으로 노출한다")
+    void shouldExposeHitRatio() {
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+        manager.authenticate(new BearerTokenAuthenticationToken("token-a")).block();
+        manager.authenticate(new BearerTokenAuthenticationToken("token-b")).block();
+
+        assertThat(meterRegistry.get("gateway.jwt.cache.hit.ratio").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("같은 키 해시는 토큰이 같을 때만 같다")
+    void shouldHashTokens() {
+        assertThat(CachingJwtAuthenticationManager.TokenHash.of("token-a"))
+            .isEqualTo(CachingJwtAuthenticationManager.TokenHash.of("token-a"))
+            .isNotEqualTo(CachingJwtAuthenticationManager.TokenHash.of("token-b"));
+    }
+
+    private static JwtAuthenticationToken jwtAuthentication(String token, Instant expiresAt) {
+        Jwt jwt = Jwt.withTokenValue(token)
+            .header("alg", "RS256")
+            .subject("user-1")
+            .issuedAt(NOW)
+            .expiresAt(expiresAt)
+            .build();
+        return new JwtAuthenticationToken(jwt, List.of(new SimpleGrantedAuthority("ROLE_user")));
+    }
+}
@@ -0,0 +1,125 @@
+package com.simiyami.gateway.config;
+
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
+import io.netty.util.TimerTask;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 테스트용 수동 타이머 (advance 호출 시 만료된 작업을 호출한 스레드에서 실행)
+ */
+class ManualTimer extends Clock implements Timer {
+
+    private final List<ManualTimeout> pending = new ArrayList<>();
+    private Instant now;
+
+    ManualTimer(Instant now) {
+        this.now = now;
+    }
+
+    void advance(Duration duration) {
+        now = now.plus(duration);
+        while (true) {
+            ManualTimeout next = pending.stream()
+                .filter(timeout -> !timeout.deadline.isAfter(now))
+                .min(Comparator.comparing((ManualTimeout timeout) -> timeout.deadline))
+                .orElse(null);
+            if (next == null) {
+                return;
+            }
+            pending.remove(next);
+            next.expired = true;
+            try {
+                next.task.run(next);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public Timeout newTimeout(TimerTask task, long delay, TimeUnit unit) {
+        ManualTimeout timeout = new ManualTimeout(task, now.plusNanos(unit.toNanos(delay)));
+        pending.add(timeout);
+        return timeout;
+    }
+
+    @Override
+    public Set<Timeout> stop() {
+        Set<Timeout> remaining = Set.copyOf(pending);
+        pending.clear();
+        return remaining;
+    }
+
+    @Override
+    public Instant instant() {
+        return now;
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return this;
+    }
+
+    private final class ManualTimeout implements Timeout {
+
+        private final TimerTask task;
+        private final Instant deadline;
+        private boolean expired;
+        private boolean cancelled;
+
+        private ManualTimeout(TimerTask task, Instant deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public Timer timer() {
+            return ManualTimer.this;
+        }
+
+        @Override
+        public TimerTask task() {
+            return task;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return expired;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (expired || cancelled) {
+                return false;
+            }
+            cancelled = true;
+            pending.remove(this);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.simiyami.gateway.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StageMetricsConfigTest {
+
+    @ParameterizedTest
+    @CsvSource({
+        "TraceIdFilter, trace-id",
+        "IdempotencyKeyFilter, idempotency-key",
+        "RateLimitFilter, rate-limit",
+        "StoreRateLimitFilter, store-rate-limit"
+    })
+    @DisplayName("필터 클래스 이름을 단계 이름으로 변환한다")
+    void shouldConvertFilterClassNameToStageName(String className, String stageName) {
+        assertThat(StageMetricsConfig.stageName(className)).isEqualTo(stageName);
+    }
+}
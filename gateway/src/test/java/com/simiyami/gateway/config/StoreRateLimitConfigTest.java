@@ -4,7 +4,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -96,4 +100,133 @@ class StoreRateLimitConfigTest {
         assertThat(config.getAllCustomLimits()).hasSize(1);
         assertThat(config.getAllCustomLimits()).doesNotContainKey("store-B");
     }
+
+    @Test
+    @DisplayName("설정 변경마다 스냅샷 버전이 증가한다")
+    void shouldIncreaseSnapshotVersionOnChange() {
+        long initial = config.snapshot().version();
+
+        config.setLimit("store-A", 10000);
+        config.resetToDefault("store-A");
+
+        assertThat(config.snapshot().version()).isEqualTo(initial + 2);
+        assertThat(config.snapshot().customLimits()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("구독자는 등록 시 현재 스냅샷을, 이후 변경마다 새 스냅샷을 받는다")
+    void shouldPushSnapshotsToSubscribers() {
+        List<StoreRateLimitSnapshot> received = new ArrayList<>();
+        config.setLimit("store-A", 10000);
+
+        config.subscribe(received::add);
+        config.setLimits(Map.of("store-B", 20000L, "store-C", 30000L));
+
+        assertThat(received).hasSize(2);
+        assertThat(received.get(0).limitOf("store-A")).isEqualTo(10000);
+        assertThat(received.get(1).version()).isGreaterThan(received.get(0).version());
+        assertThat(received.get(1).customLimits())
+            .containsEntry("store-B", 20000L)
+            .containsEntry("store-C", 30000L);
+    }
+
+    @Test
+    @DisplayName("채널을 공유하는 다른 인스턴스에 설정 변경이 전파된다")
+    void shouldPropagateChangesThroughChannel() {
+        LocalRateLimitConfigChannel channel = new LocalRateLimitConfigChannel();
+        StoreRateLimitConfig instanceA = new StoreRateLimitConfig(channel);
+        StoreRateLimitConfig instanceB = new StoreRateLimitConfig(channel);
+        List<StoreRateLimitSnapshot> receivedByA = new ArrayList<>();
+        instanceA.subscribe(receivedByA::add);
+
+        instanceA.setLimit("store-event", 10000);
+        instanceB.resetToDefault("store-other");
+
+        assertThat(instanceB.getLimit("store-event")).isEqualTo(10000);
+        // 자기 자신이 발행한 변경은 한 번만 반영됨 (초기 스냅샷 + setLimit + 원격 reset)
+        assertThat(receivedByA).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("나중에 시작한 인스턴스는 채널에 보관된 마지막 스냅샷으로 시작한다")
+    void shouldSyncFromLatestSnapshotOnStartup() {
+        LocalRateLimitConfigChannel channel = new LocalRateLimitConfigChannel();
+        StoreRateLimitConfig running = new StoreRateLimitConfig(channel);
+        running.setLimits(Map.of("store-A", 10000L, "store-B", 20000L));
+
+        StoreRateLimitConfig started = new StoreRateLimitConfig(channel);
+
+        assertThat(started.snapshot()).isEqualTo(running.snapshot());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 버전 스냅샷은 버리고, 새 변경은 가진 버전보다 큰 버전을 받는다")
+    void shouldDiscardOlderSnapshots() {
+        ManualChannel channel = new ManualChannel();
+        StoreRateLimitConfig instance = new StoreRateLimitConfig(channel);
+
+        channel.deliver(new StoreRateLimitSnapshot(5, 5000, Map.of("store-A", 100L)));
+        channel.deliver(new StoreRateLimitSnapshot(3, 5000, Map.of("store-A", 300L)));
+        instance.setLimit("store-B", 200);
+
+        assertThat(instance.getLimit("store-A")).isEqualTo(100);
+        assertThat(instance.snapshot().version()).isEqualTo(6);
+        assertThat(channel.published).extracting(StoreRateLimitSnapshot::version).containsExactly(6L);
+    }
+
+    @Test
+    @DisplayName("버전 발급, 구독자 전달, 채널 발행은 설정 락 밖에서 수행한다")
+    void shouldNotifyOutsideLock() {
+        ManualChannel channel = new ManualChannel();
+        StoreRateLimitConfig instance = new StoreRateLimitConfig(channel);
+        channel.owner = instance;
+        List<Boolean> heldLock = new ArrayList<>();
+        instance.subscribe(snapshot -> heldLock.add(Thread.holdsLock(instance)));
+
+        instance.setLimit("store-A", 100);
+        channel.deliver(new StoreRateLimitSnapshot(10, 5000, Map.of("store-A", 200L)));
+
+        assertThat(heldLock).containsExactly(false, false, false);
+        assertThat(channel.heldLockOnIssue).containsExactly(false);
+        assertThat(channel.heldLockOnPublish).containsExactly(false);
+    }
+
+    /**
+     * 수신 순서를 테스트에서 정하는 채널 (버전은 1부터 발급)
+     */
+    private static final class ManualChannel implements RateLimitConfigChannel {
+
+        private final List<StoreRateLimitSnapshot> published = new ArrayList<>();
+        private final List<Boolean> heldLockOnIssue = new ArrayList<>();
+        private final List<Boolean> heldLockOnPublish = new ArrayList<>();
+        private StoreRateLimitConfig owner;
+        private Consumer<StoreRateLimitSnapshot> subscriber;
+        private long version;
+
+        @Override
+        public long nextVersion() {
+            heldLockOnIssue.add(owner != null && Thread.holdsLock(owner));
+            return ++version;
+        }
+
+        @Override
+        public void publish(StoreRateLimitSnapshot snapshot) {
+            published.add(snapshot);
+            heldLockOnPublish.add(owner != null && Thread.holdsLock(owner));
+        }
+
+        @Override
+        public void subscribe(Consumer<StoreRateLimitSnapshot> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public Optional<StoreRateLimitSnapshot> latest() {
+            return Optional.empty();
+        }
+
+        void deliver(StoreRateLimitSnapshot snapshot) {
+            subscriber.accept(snapshot);
+        }
+    }
 }
@@ -0,0 +1,164 @@
+package com.simiyami.gateway.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreRateLimitScheduleTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @TempDir
+    Path tempDir;
+
+    private ManualTimer timer;
+    private RateLimitScheduleFile scheduleFile;
+    private StoreRateLimitConfig config;
+
+    @BeforeEach
+    void setUp() {
+        timer = new ManualTimer(NOW);
+        scheduleFile = new RateLimitScheduleFile(tempDir.resolve("schedules.json"));
+        config = createConfig();
+    }
+
+    private StoreRateLimitConfig createConfig() {
+        return new StoreRateLimitConfig(new LocalRateLimitConfigChannel(), scheduleFile, timer, timer);
+    }
+
+    @Test
+    @DisplayName("시작 시각에 적용되고 종료 시각에 기본값으로 복원된다")
+    void shouldApplyAtStartAndRevertAtEnd() {
+        config.schedule(Map.of("store-A", 20000L, "store-B", 30000L),
+            NOW.plus(Duration.ofMinutes(10)), NOW.plus(Duration.ofMinutes(70)));
+
+        timer.advance(Duration.ofMinutes(9));
+        assertThat(config.getLimit("store-A")).isEqualTo(5000);
+
+        timer.advance(Duration.ofMinutes(1));
+        assertThat(config.getLimit("store-A")).isEqualTo(20000);
+        assertThat(config.getLimit("store-B")).isEqualTo(30000);
+
+        timer.advance(Duration.ofMinutes(60));
+        assertThat(config.getLimit("store-A")).isEqualTo(5000);
+        assertThat(config.getAllCustomLimits()).isEmpty();
+        assertThat(config.getSchedules()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료 시 적용 직전의 커스텀 값으로 복원된다")
+    void shouldRevertToPreviousCustomLimit() {
+        config.setLimit("store-A", 8000);
+        config.schedule(Map.of("store-A", 20000L), NOW, NOW.plus(Duration.ofMinutes(30)));
+
+        timer.advance(Duration.ZERO);
+        assertThat(config.getLimit("store-A")).isEqualTo(20000);
+
+        timer.advance(Duration.ofMinutes(30));
+        assertThat(config.getLimit("store-A")).isEqualTo(8000);
+    }
+
+    @Test
+    @DisplayName("적용 중인 예약을 취소하면 즉시 복원된다")
+    void shouldRevertImmediatelyWhenActiveScheduleCancelled() {
+        RateLimitSchedule schedule = config.schedule(Map.of("store-A", 20000L), NOW, NOW.plus(Duration.ofHours(1)));
+        timer.advance(Duration.ZERO);
+
+        assertThat(config.cancelSchedule(schedule.id())).isTrue();
+
+        assertThat(config.getLimit("store-A")).isEqualTo(5000);
+        assertThat(timer.pendingCount()).isZero();
+        assertThat(config.cancelSchedule(schedule.id())).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기 중인 예약은 재시작 후에도 유지된다")
+    void shouldRestorePendingSchedulesAfterRestart() {
+        config.schedule(Map.of("store-A", 20000L), NOW.plus(Duration.ofMinutes(10)), NOW.plus(Duration.ofMinutes(20)));
+        config.schedule(Map.of("store-B", 30000L), NOW, NOW.plus(Duration.ofMinutes(5)));
+
+        // 재시작: 기존 타이머 작업은 사라지고 파일에서 다시 읽음
+        timer.stop();
+        timer.advance(Duration.ofMinutes(6));
+        StoreRateLimitConfig restarted = createConfig();
+
+        // 이미 끝난 예약은 버려짐
+        assertThat(restarted.getSchedules()).hasSize(1);
+        assertThat(scheduleFile.load()).hasSize(1);
+
+        timer.advance(Duration.ofMinutes(4));
+        assertThat(restarted.getLimit("store-A")).isEqualTo(20000);
+        assertThat(restarted.getLimit("store-B")).isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("진행 중이던 예약은 재시작 직후 다시 적용된다")
+    void shouldReapplyActiveScheduleAfterRestart() {
+        config.schedule(Map.of("store-A", 20000L), NOW, NOW.plus(Duration.ofMinutes(30)));
+        timer.advance(Duration.ZERO);
+
+        timer.stop();
+        StoreRateLimitConfig restarted = createConfig();
+        timer.advance(Duration.ofSeconds(1));
+
+        assertThat(restarted.getLimit("store-A")).isEqualTo(20000);
+    }
+
+    @Test
+    @DisplayName("진행 중에 재시작해도 종료 시각에 적용 직전의 값으로 복원된다")
+    void shouldRevertToPreviousLimitAfterRestart() {
+        config.setLimit("store-A", 8000);
+        config.schedule(Map.of("store-A", 20000L), NOW, NOW.plus(Duration.ofMinutes(30)));
+        timer.advance(Duration.ZERO);
+        assertThat(scheduleFile.load()).singleElement()
+            .extracting(RateLimitScheduleFile.Entry::previous).isEqualTo(Map.of("store-A", 8000L));
+
+        // 재시작: 로컬 채널이라 커스텀 값은 사라지고 예약만 파일에서 다시 읽음
+        timer.stop();
+        StoreRateLimitConfig restarted = createConfig();
+        timer.advance(Duration.ofSeconds(1));
+        assertThat(restarted.getLimit("store-A")).isEqualTo(20000);
+
+        timer.advance(Duration.ofMinutes(30));
+        assertThat(restarted.getLimit("store-A")).isEqualTo(8000);
+        assertThat(scheduleFile.load()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("잘못된 예약 구간은 거부된다")
+    void shouldRejectInvalidWindow() {
+        assertThatThrownBy(() -> config.schedule(Map.of("store-A", 20000L), NOW, NOW))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.schedule(Map.of("store-A", 0L), NOW, NOW.plusSeconds(60)))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.schedule(Map.of(), NOW, NOW.plusSeconds(60)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("예약 파일 교체가 실패해도 임시 파일을 남기지 않는다")
+    void shouldDeleteTempFileWhenSaveFails() throws Exception {
+        Path blocked = tempDir.resolve("blocked.json");
+        Files.createDirectories(blocked.resolve("occupied"));
+        RateLimitScheduleFile file = new RateLimitScheduleFile(blocked);
+
+        assertThatThrownBy(() -> file.save(List.of())).isInstanceOf(UncheckedIOException.class);
+
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertThat(files.map(path -> path.getFileName().toString())).noneMatch(name -> name.endsWith(".tmp"));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.simiyami.gateway.controller;
+
+import com.simiyami.gateway.config.StoreRateLimitConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitAdminControllerTest {
+
+    private StoreRateLimitConfig config;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        config = new StoreRateLimitConfig();
+        client = WebTestClient.bindToController(new RateLimitAdminController(config)).build();
+    }
+
+    @Test
+    @DisplayName("NDJSON 일괄 변경은 1000개씩 반영하고 잘못된 항목은 건너뛴 개수만 응답한다")
+    void shouldApplyBulkNdjsonInBatches() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 2500; i++) {
+            body.append("{\"storeId\":\"store-").append(i).append("\",\"limit\":").append(100 + i).append("}\n");
+        }
+        body.append("{\"storeId\":\"store-x\",\"limit\":0}\n");
+        body.append("{\"limit\":100}\n");
+
+        client.put().uri("/admin/rate-limit/stores")
+            .contentType(MediaType.APPLICATION_NDJSON)
+            .bodyValue(body.toString())
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.applied").isEqualTo(2500)
+            .jsonPath("$.rejected").isEqualTo(2);
+
+        assertThat(config.getLimit("store-0")).isEqualTo(100);
+        assertThat(config.getLimit("store-2499")).isEqualTo(2599);
+        assertThat(config.getLimit("store-x")).isEqualTo(config.getDefaultLimit());
+        // 1000 + 1000 + 500개 묶음마다 스냅샷 버전이 한 번씩 증가
+        assertThat(config.snapshot().version()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("JSON 배열 일괄 변경도 같은 방식으로 반영한다")
+    void shouldApplyBulkJsonArray() {
+        client.put().uri("/admin/rate-limit/stores")
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue("[{\"storeId\":\"store-A\",\"limit\":20000},{\"storeId\":\"store-B\",\"limit\":30000}]")
+            .exchange()
+            .expectStatus().isOk()
+            .expectBody()
+            .jsonPath("$.applied").isEqualTo(2)
+            .jsonPath("$.rejected").isEqualTo(0);
+
+        assertThat(config.getAllCustomLimits()).containsEntry("store-A", 20000L).containsEntry("store-B", 30000L);
+        assertThat(config.snapshot().version()).isEqualTo(1);
+    }
+}
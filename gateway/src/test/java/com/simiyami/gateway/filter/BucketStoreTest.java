@@ -0,0 +1,103 @@
+package com.simiyami.gateway.filter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BucketStoreTest {
+
+    private static final Duration REFILL_PERIOD = Duration.ofMinutes(1);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicLong nanos;
+    private LocalRateLimitBackend backend;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        nanos = new AtomicLong();
+        backend = new LocalRateLimitBackend(new ManualTimeMeter());
+    }
+
+    private BucketStore createStore(long maxEntries) {
+        return new BucketStore("test", maxEntries, REFILL_PERIOD, key -> backend.createBucket(key, 10),
+            meterRegistry, nanos::get, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("같은 키는 같은 버킷을 반환한다")
+    void shouldReturnSameBucketForSameKey() {
+        BucketStore store = createStore(100);
+
+        RateLimitBucket first = store.resolve("user-1");
+        RateLimitBucket second = store.resolve("user-1");
+
+        assertThat(first).isSameAs(second);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refill 주기 동안 사용되지 않은 버킷은 제거된다")
+    void shouldEvictIdleBucketAfterRefillPeriod() {
+        BucketStore store = createStore(100);
+        RateLimitBucket bucket = store.resolve("user-1");
+
+        nanos.addAndGet(REFILL_PERIOD.toNanos());
+        store.cleanUp();
+
+        assertThat(store.size()).isZero();
+        assertThat(store.resolve("user-1")).isNotSameAs(bucket);
+        assertThat(meterRegistry.get("gateway.ratelimit.bucket.evictions")
+            .tag("type", "test").tag("cause", "idle").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("refill 주기 안에 다시 사용된 버킷은 유지된다")
+    void shouldKeepBucketAccessedWithinRefillPeriod() {
+        BucketStore store = createStore(100);
+        RateLimitBucket bucket = store.resolve("user-1");
+        for (int i = 0; i < 10; i++) {
+            bucket.tryConsume().block();
+        }
+
+        nanos.addAndGet(REFILL_PERIOD.toNanos() / 2);
+        store.resolve("user-1");
+        nanos.addAndGet(REFILL_PERIOD.toNanos() / 2);
+        store.cleanUp();
+
+        // 토큰이 아직 다 차지 않은 버킷이 제거되면 제한이 풀리므로 유지되어야 함
+        assertThat(store.resolve("user-1")).isSameAs(bucket);
+    }
+
+    @Test
+    @DisplayName("최대 엔트리 수를 넘지 않는다")
+    void shouldNotExceedMaxEntries() {
+        BucketStore store = createStore(100);
+
+        for (int i = 0; i < 1000; i++) {
+            store.resolve("ip-" + i);
+        }
+        store.cleanUp();
+
+        assertThat(store.size()).isLessThanOrEqualTo(100);
+        assertThat(meterRegistry.get("gateway.ratelimit.bucket.evictions")
+            .tag("type", "test").tag("cause", "capacity").counter().count()).isGreaterThanOrEqualTo(900);
+    }
+
+    @Test
+    @DisplayName("버킷 수를 gauge로 노출한다")
+    void shouldExposeSizeGauge() {
+        BucketStore store = createStore(100);
+        store.resolve("user-1");
+        store.resolve("user-2");
+
+        assertThat(meterRegistry.get("gateway.ratelimit.buckets").tag("type", "test").gauge().value())
+            .isEqualTo(2);
+    }
+}
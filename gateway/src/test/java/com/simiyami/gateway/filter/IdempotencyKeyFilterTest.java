@@ -5,19 +5,37 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import org.springframework.mock.web.server.MockServerWebExchange;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
 import reactor.test.StepVerifier;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class IdempotencyKeyFilterTest {
@@ -27,7 +45,8 @@ class IdempotencyKeyFilterTest {
 
     @BeforeEach
     void setUp() {
-        idempotencyKeyFilter = new IdempotencyKeyFilter();
+        idempotencyKeyFilter = new IdempotencyKeyFilter(new InMemoryIdempotencyStore(1024 * 1024),
+            Duration.ofMinutes(10), Duration.ofSeconds(5));
         filterChain = mock(GatewayFilterChain.class);
         when(filterChain.filter(any())).thenReturn(Mono.empty());
     }
@@ -101,4 +120,239 @@ class IdempotencyKeyFilterTest {
 
         assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
+
+    @Test
+    @DisplayName("처리된 요청과 같은 멱등키로 재시도하면 upstream 호출 없이 저장된 응답을 재전송한다")
+    void shouldReplayStoredResponseForRetriedKey() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            return writeUpstreamResponse(invocation.getArgument(0), HttpStatus.CREATED, "{\"orderId\":\"1\"}");
+        });
+        String key = UUID.randomUUID().toString();
+
+        MockServerWebExchange first = postOrder(key);
+        StepVerifier.create(idempotencyKeyFilter.filter(first, filterChain)).verifyComplete();
+        MockServerWebExchange retry = postOrder(key);
+        StepVerifier.create(idempotencyKeyFilter.filter(retry, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().getFirst("X-Upstream")).isEqualTo("order-api");
+        assertThat(retry.getResponse().getHeaders().getFirst("X-Idempotency-Replayed")).isEqualTo("true");
+        assertThat(retry.getResponse().getBodyAsString().block()).isEqualTo("{\"orderId\":\"1\"}");
+    }
+
+    @Test
+    @DisplayName("처리 중에 들어온 같은 키의 요청은 upstream으로 보내지 않고 같은 결과를 기다린다")
+    void shouldWaitForInFlightRequestWithSameKey() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        Sinks.Empty<Void> upstreamLatency = Sinks.empty();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            ServerWebExchange exchange = invocation.getArgument(0);
+            return upstreamLatency.asMono()
+                .then(writeUpstreamResponse(exchange, HttpStatus.CREATED, "{\"orderId\":\"2\"}"));
+        });
+        String key = UUID.randomUUID().toString();
+        MockServerWebExchange first = postOrder(key);
+        MockServerWebExchange duplicate = postOrder(key);
+
+        Mono<Void> firstResult = idempotencyKeyFilter.filter(first, filterChain).cache();
+        Mono<Void> duplicateResult = idempotencyKeyFilter.filter(duplicate, filterChain).cache();
+        firstResult.subscribe();
+        duplicateResult.subscribe();
+        upstreamLatency.tryEmitEmpty();
+
+        StepVerifier.create(firstResult).verifyComplete();
+        StepVerifier.create(duplicateResult).verifyComplete();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(duplicate.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(duplicate.getResponse().getBodyAsString().block()).isEqualTo("{\"orderId\":\"2\"}");
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 저장하지 않아 재시도가 upstream으로 전달된다")
+    void shouldNotStoreServerErrorResponse() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            int call = upstreamCalls.incrementAndGet();
+            HttpStatus status = call == 1 ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.CREATED;
+            return writeUpstreamResponse(invocation.getArgument(0), status, "{}");
+        });
+        String key = UUID.randomUUID().toString();
+
+        StepVerifier.create(idempotencyKeyFilter.filter(postOrder(key), filterChain)).verifyComplete();
+        MockServerWebExchange retry = postOrder(key);
+        StepVerifier.create(idempotencyKeyFilter.filter(retry, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(retry.getResponse().getHeaders().getFirst("X-Idempotency-Replayed")).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 멱등키라도 경로가 다르면 별개 요청으로 처리한다")
+    void shouldScopeKeyByPath() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            return writeUpstreamResponse(invocation.getArgument(0), HttpStatus.OK, "{}");
+        });
+        String key = UUID.randomUUID().toString();
+        MockServerWebExchange other = MockServerWebExchange.from(MockServerHttpRequest.post("/api/payments")
+            .header("X-Idempotency-Key", key)
+            .build());
+
+        StepVerifier.create(idempotencyKeyFilter.filter(postOrder(key), filterChain)).verifyComplete();
+        StepVerifier.create(idempotencyKeyFilter.filter(other, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 멱등키라도 사용자가 다르면 다른 사용자의 응답을 재전송하지 않는다")
+    void shouldScopeKeyByUser() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            int call = upstreamCalls.incrementAndGet();
+            return writeUpstreamResponse(invocation.getArgument(0), HttpStatus.CREATED, "{\"orderId\":\"" + call + "\"}");
+        });
+        String key = UUID.randomUUID().toString();
+        ServerWebExchange other = postOrder(key, "user-b", "{}");
+
+        StepVerifier.create(idempotencyKeyFilter.filter(postOrder(key, "user-a", "{}"), filterChain)).verifyComplete();
+        StepVerifier.create(idempotencyKeyFilter.filter(other, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(bodyOf(other)).isEqualTo("{\"orderId\":\"2\"}");
+    }
+
+    @Test
+    @DisplayName("같은 멱등키로 본문이 다른 요청을 보내면 422로 거부한다")
+    void shouldRejectReusedKeyWithDifferentBody() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            return writeUpstreamResponse(invocation.getArgument(0), HttpStatus.CREATED, "{}");
+        });
+        String key = UUID.randomUUID().toString();
+        ServerWebExchange changed = postOrder(key, "user-a", "{\"storeId\":2}");
+
+        StepVerifier.create(idempotencyKeyFilter.filter(postOrder(key, "user-a", "{\"storeId\":1}"), filterChain))
+            .verifyComplete();
+        StepVerifier.create(idempotencyKeyFilter.filter(changed, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(changed.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    }
+
+    @Test
+    @DisplayName("upstream이 받은 본문은 해시를 위해 읽은 본문과 같고, Set-Cookie는 재전송하지 않는다")
+    void shouldForwardBodyAndStripSetCookie() {
+        AtomicReference<String> forwardedBody = new AtomicReference<>();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            ServerWebExchange exchange = invocation.getArgument(0);
+            exchange.getResponse().getHeaders().add(HttpHeaders.SET_COOKIE, "SESSION=user-a");
+            return DataBufferUtils.join(exchange.getRequest().getBody())
+                .doOnNext(buffer -> forwardedBody.set(buffer.toString(StandardCharsets.UTF_8)))
+                .then(writeUpstreamResponse(exchange, HttpStatus.CREATED, "{}"));
+        });
+        String key = UUID.randomUUID().toString();
+
+        StepVerifier.create(idempotencyKeyFilter.filter(postOrder(key, "user-a", "{\"storeId\":1}"), filterChain))
+            .verifyComplete();
+        ServerWebExchange retry = postOrder(key, "user-a", "{\"storeId\":1}");
+        StepVerifier.create(idempotencyKeyFilter.filter(retry, filterChain)).verifyComplete();
+
+        assertThat(forwardedBody).hasValue("{\"storeId\":1}");
+        assertThat(retry.getResponse().getHeaders().getFirst("X-Idempotency-Replayed")).isEqualTo("true");
+        assertThat(retry.getResponse().getHeaders().get(HttpHeaders.SET_COOKIE)).isNull();
+    }
+
+    @Test
+    @DisplayName("클라이언트가 끊어 처리가 취소되면 선점을 풀어 재시도가 바로 upstream으로 전달된다")
+    void shouldReleaseClaimWhenCancelled() {
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            int call = upstreamCalls.incrementAndGet();
+            return call == 1
+                ? Mono.<Void>never()
+                : writeUpstreamResponse(invocation.getArgument(0), HttpStatus.CREATED, "{}");
+        });
+        String key = UUID.randomUUID().toString();
+
+        Disposable disconnected = idempotencyKeyFilter.filter(postOrder(key), filterChain).subscribe();
+        disconnected.dispose();
+        MockServerWebExchange retry = postOrder(key);
+        StepVerifier.create(idempotencyKeyFilter.filter(retry, filterChain)).verifyComplete();
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(retry.getResponse().getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+
+    @Test
+    @DisplayName("Content-Length 없이 들어온 본문도 최대 크기를 넘으면 upstream으로 보내지 않고 413")
+    void shouldRejectOversizedChunkedRequest() {
+        IdempotencyKeyFilter limited = new IdempotencyKeyFilter(new InMemoryIdempotencyStore(1024 * 1024),
+            Duration.ofMinutes(10), Duration.ofSeconds(5), DataSize.ofBytes(16), DataSize.ofBytes(16));
+        DefaultDataBufferFactory buffers = DefaultDataBufferFactory.sharedInstance;
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/orders")
+            .header("X-Idempotency-Key", UUID.randomUUID().toString())
+            .body(Flux.just(
+                buffers.wrap("{\"storeId\":1,".getBytes(StandardCharsets.UTF_8)),
+                buffers.wrap("\"quantity\":100}".getBytes(StandardCharsets.UTF_8)))));
+
+        StepVerifier.create(limited.filter(exchange, filterChain)).verifyComplete();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE);
+        verify(filterChain, never()).filter(any());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘는 응답은 그대로 전달하되 저장하지 않아 재시도가 upstream으로 전달된다")
+    void shouldPassThroughOversizedResponseWithoutStoring() {
+        IdempotencyKeyFilter limited = new IdempotencyKeyFilter(new InMemoryIdempotencyStore(1024 * 1024),
+            Duration.ofMinutes(10), Duration.ofSeconds(5), DataSize.ofBytes(16), DataSize.ofBytes(16));
+        AtomicInteger upstreamCalls = new AtomicInteger();
+        when(filterChain.filter(any())).thenAnswer(invocation -> {
+            upstreamCalls.incrementAndGet();
+            return writeUpstreamResponse(invocation.getArgument(0), HttpStatus.CREATED, "{\"items\":[1,2,3,4,5,6]}");
+        });
+        String key = UUID.randomUUID().toString();
+
+        MockServerWebExchange first = postOrder(key);
+        StepVerifier.create(limited.filter(first, filterChain)).verifyComplete();
+        MockServerWebExchange retry = postOrder(key);
+        StepVerifier.create(limited.filter(retry, filterChain)).verifyComplete();
+
+        assertThat(first.getResponse().getBodyAsString().block()).isEqualTo("{\"items\":[1,2,3,4,5,6]}");
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(retry.getResponse().getHeaders().getFirst("X-Idempotency-Replayed")).isNull();
+    }
+
+    private MockServerWebExchange postOrder(String idempotencyKey) {
+        return MockServerWebExchange.from(MockServerHttpRequest.post("/api/orders")
+            .header("X-Idempotency-Key", idempotencyKey)
+            .build());
+    }
+
+    private ServerWebExchange postOrder(String idempotencyKey, String subject, String body) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/orders")
+            .header("X-Idempotency-Key", idempotencyKey)
+            .body(body));
+        Jwt jwt = Jwt.withTokenValue("token").header("alg", "none").subject(subject).build();
+        return exchange.mutate().principal(Mono.<Principal>just(new JwtAuthenticationToken(jwt))).build();
+    }
+
+    private static String bodyOf(ServerWebExchange exchange) {
+        return ((MockServerHttpResponse) exchange.getResponse()).getBodyAsString().block();
+    }
+
+    private Mono<Void> writeUpstreamResponse(ServerWebExchange exchange, HttpStatus status, String body) {
+        exchange.getResponse().setStatusCode(status);
+        exchange.getResponse().getHeaders().add("X-Upstream", "order-api");
+        return exchange.getResponse().writeWith(Mono.just(
+            exchange.getResponse().bufferFactory().wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
 }
@@ -0,0 +1,118 @@
+package com.simiyami.gateway.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class IdentityHeaderFilterTest {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final Instant EXPIRES_AT = Instant.parse("2026-01-01T00:05:00Z");
+
+    private IdentityHeaderFilter filter;
+    private GatewayFilterChain filterChain;
+    private ArgumentCaptor<ServerWebExchange> exchangeCaptor;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdentityHeaderFilter(new IdentityHeaderSigner(SECRET));
+        filterChain = mock(GatewayFilterChain.class);
+        exchangeCaptor = ArgumentCaptor.forClass(ServerWebExchange.class);
+        when(filterChain.filter(any())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("인증된 요청에 HMAC 서명된 사용자 정보 헤더를 추가한다")
+    void shouldAddSignedIdentityHeader() throws Exception {
+        String header = forwardedHeader(exchange(MockServerHttpRequest.get("/api/orders/me"), authentication("user-1")));
+
+        String[] parts = header.split("\\.");
+        assertThat(parts).hasSize(2);
+        assertThat(new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8))
+            .isEqualTo(EXPIRES_AT.getEpochSecond() + "\nuser-1\ntestuser\ntestuser@example.com\nROLE_user,ROLE_admin");
+
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        assertThat(Base64.getUrlDecoder().decode(parts[1]))
+            .isEqualTo(mac.doFinal(parts[0].getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 헤더는 게이트웨이가 서명한 값으로 교체한다")
+    void shouldReplaceForgedHeader() {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/orders/me")
+            .header(IdentityHeaderSigner.HEADER, "forged.signature");
+
+        String header = forwardedHeader(exchange(request, authentication("user-1")));
+
+        assertThat(header).isNotEqualTo("forged.signature");
+        assertThat(header).isEqualTo(new IdentityHeaderSigner(SECRET).sign(authentication("user-1")));
+    }
+
+    @Test
+    @DisplayName("인증되지 않은 요청에서는 클라이언트가 보낸 헤더를 제거한다")
+    void shouldStripHeaderForAnonymousRequest() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders/health")
+            .header(IdentityHeaderSigner.HEADER, "forged.signature"));
+
+        assertThat(forwardedHeader(exchange)).isNull();
+    }
+
+    @Test
+    @DisplayName("구분자가 들어 있는 값은 서명하지 않는다")
+    void shouldNotSignValuesContainingDelimiters() {
+        assertThat(new IdentityHeaderSigner(SECRET).sign(authentication("user\n1"))).isNull();
+    }
+
+    @Test
+    @DisplayName("32바이트보다 짧은 비밀키는 거부한다")
+    void shouldRejectShortSecret() {
+        assertThatThrownBy(() -> new IdentityHeaderSigner(new byte[16]))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private String forwardedHeader(ServerWebExchange exchange) {
+        StepVerifier.create(filter.filter(exchange, filterChain)).verifyComplete();
+        verify(filterChain).filter(exchangeCaptor.capture());
+        return exchangeCaptor.getValue().getRequest().getHeaders().getFirst(IdentityHeaderSigner.HEADER);
+    }
+
+    private static ServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request,
+                                              JwtAuthenticationToken authentication) {
+        return MockServerWebExchange.from(request).mutate().principal(Mono.just(authentication)).build();
+    }
+
+    private static JwtAuthenticationToken authentication(String subject) {
+        Jwt jwt = Jwt.withTokenValue("token")
+            .header("alg", "RS256")
+            .subject(subject)
+            .claim("preferred_username", "testuser")
+            .claim("email", "testuser@example.com")
+            .expiresAt(EXPIRES_AT)
+            .build();
+        return new JwtAuthenticationToken(jwt,
+            List.of(new SimpleGrantedAuthority("ROLE_user"), new SimpleGrantedAuthority("ROLE_admin")));
+    }
+}
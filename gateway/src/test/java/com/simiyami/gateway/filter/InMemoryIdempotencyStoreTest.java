@@ -0,0 +1,86 @@
+package com.simiyami.gateway.filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryIdempotencyStoreTest {
+
+    private AtomicLong nanos;
+    private InMemoryIdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        nanos = new AtomicLong();
+        store = new InMemoryIdempotencyStore(1024 * 1024, nanos::get);
+    }
+
+    @Test
+    @DisplayName("먼저 선점한 요청만 ACQUIRED, 이후는 IN_FLIGHT")
+    void shouldAllowOnlyFirstClaim() {
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.ACQUIRED);
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block()).isEqualTo(IdempotencyStore.Claim.IN_FLIGHT);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 해제해도 지워지지 않고 TTL 동안 응답을 돌려준다")
+    void shouldReturnCompletedResponseUntilTtl() {
+        String token = store.claim("key", Duration.ofSeconds(30)).block().token();
+        store.complete("key", token, response("created"), Duration.ofMinutes(10)).block();
+
+        IdempotencyStore.Claim claim = store.claim("key", Duration.ofSeconds(30)).block();
+        assertThat(claim.status()).isEqualTo(IdempotencyStore.Status.COMPLETED);
+        assertThat(new String(claim.response().body(), StandardCharsets.UTF_8)).isEqualTo("created");
+
+        store.release("key", token).block();
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.COMPLETED);
+
+        nanos.addAndGet(Duration.ofMinutes(10).toNanos());
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("선점 시간이 지나거나 해제되면 다시 선점할 수 있다")
+    void shouldReclaimAfterTimeoutOrRelease() {
+        store.claim("key", Duration.ofSeconds(30)).block();
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        IdempotencyStore.Claim reclaimed = store.claim("key", Duration.ofSeconds(30)).block();
+        assertThat(reclaimed.status()).isEqualTo(IdempotencyStore.Status.ACQUIRED);
+
+        store.release("key", reclaimed.token()).block();
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.ACQUIRED);
+    }
+
+    @Test
+    @DisplayName("선점이 만료된 뒤 늦게 끝난 요청은 다른 요청의 선점을 해제하거나 덮어쓰지 않는다")
+    void shouldIgnoreStaleOwner() {
+        String stale = store.claim("key", Duration.ofSeconds(30)).block().token();
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        String current = store.claim("key", Duration.ofSeconds(30)).block().token();
+
+        store.release("key", stale).block();
+        store.complete("key", stale, response("stale"), Duration.ofMinutes(10)).block();
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block()).isEqualTo(IdempotencyStore.Claim.IN_FLIGHT);
+
+        store.complete("key", current, response("created"), Duration.ofMinutes(10)).block();
+        IdempotencyStore.Claim claim = store.claim("key", Duration.ofSeconds(30)).block();
+        assertThat(new String(claim.response().body(), StandardCharsets.UTF_8)).isEqualTo("created");
+    }
+
+    private CachedResponse response(String body) {
+        return new CachedResponse(201, Map.of("Content-Type", List.of("application/json")),
+            body.getBytes(StandardCharsets.UTF_8), "hash");
+    }
+}
@@ -0,0 +1,85 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AbstractCompareAndSwapBasedProxyManager;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.AsyncCompareAndSwapOperation;
+import io.github.bucket4j.distributed.proxy.generic.compare_and_swap.CompareAndSwapOperation;
+import io.github.bucket4j.distributed.remote.RemoteBucketState;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 대신 사용하는 테스트용 공유 저장소
+ * - Lettuce 기반 ProxyManager와 같은 CAS 프로토콜로 동작
+ * - 같은 인스턴스를 여러 백엔드가 공유하면 여러 게이트웨이 인스턴스가 하나의 저장소를 쓰는 상황과 같음
+ */
+class InMemoryProxyManager extends AbstractCompareAndSwapBasedProxyManager<String> {
+
+    private final ConcurrentHashMap<String, byte[]> states = new ConcurrentHashMap<>();
+
+    InMemoryProxyManager(ClientSideConfig clientSideConfig) {
+        super(clientSideConfig);
+    }
+
+    int size() {
+        return states.size();
+    }
+
+    @Override
+    protected CompareAndSwapOperation beginCompareAndSwapOperation(String key) {
+        return new CompareAndSwapOperation() {
+            @Override
+            public Optional<byte[]> getStateData(Optional<Long> timeoutNanos) {
+                return Optional.ofNullable(states.get(key));
+            }
+
+            @Override
+            public boolean compareAndSwap(byte[] originalData, byte[] newData, RemoteBucketState newState,
+                                          Optional<Long> timeoutNanos) {
+                return swap(key, originalData, newData);
+            }
+        };
+    }
+
+    @Override
+    protected AsyncCompareAndSwapOperation beginAsyncCompareAndSwapOperation(String key) {
+        return new AsyncCompareAndSwapOperation() {
+            @Override
+            public CompletableFuture<Optional<byte[]>> getStateData(Optional<Long> timeoutNanos) {
+                return CompletableFuture.completedFuture(Optional.ofNullable(states.get(key)));
+            }
+
+            @Override
+            public CompletableFuture<Boolean> compareAndSwap(byte[] originalData, byte[] newData,
+                                                             RemoteBucketState newState, Optional<Long> timeoutNanos) {
+                return CompletableFuture.completedFuture(swap(key, originalData, newData));
+            }
+        };
+    }
+
+    private boolean swap(String key, byte[] originalData, byte[] newData) {
+        if (originalData == null) {
+            return states.putIfAbsent(key, newData) == null;
+        }
+        // byte[]는 참조 비교이므로 읽어간 값이 그대로 남아 있을 때만 교체됨
+        return states.replace(key, originalData, newData);
+    }
+
+    @Override
+    public void removeProxy(String key) {
+        states.remove(key);
+    }
+
+    @Override
+    protected CompletableFuture<Void> removeAsync(String key) {
+        states.remove(key);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public boolean isAsyncModeSupported() {
+        return true;
+    }
+}
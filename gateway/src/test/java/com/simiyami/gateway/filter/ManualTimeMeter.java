@@ -0,0 +1,29 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.TimeMeter;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테스트용 수동 시계
+ * - 테스트 실행 시간 동안 토큰이 refill되어 결과가 흔들리지 않도록 시간을 고정
+ */
+class ManualTimeMeter implements TimeMeter {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    @Override
+    public long currentTimeNanos() {
+        return nanos.get();
+    }
+
+    @Override
+    public boolean isWallClockBased() {
+        return false;
+    }
+}
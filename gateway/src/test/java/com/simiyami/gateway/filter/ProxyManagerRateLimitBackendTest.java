@@ -0,0 +1,107 @@
+package com.simiyami.gateway.filter;
+
+import io.github.bucket4j.distributed.proxy.ClientSideConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProxyManagerRateLimitBackendTest {
+
+    private InMemoryProxyManager sharedStore;
+
+    @BeforeEach
+    void setUp() {
+        sharedStore = new InMemoryProxyManager(ClientSideConfig.getDefault().withClientClock(new ManualTimeMeter()));
+    }
+
+    private int consume(RateLimitBucket bucket, int attempts) {
+        int allowed = 0;
+        for (int i = 0; i < attempts; i++) {
+            if (Boolean.TRUE.equals(bucket.tryConsume().block())) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    @Test
+    @DisplayName("limit까지 허용하고 이후 요청은 거부한다")
+    void shouldRejectAfterLimit() {
+        RateLimitBucket bucket = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10);
+
+        assertThat(consume(bucket, 20)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("여러 게이트웨이 인스턴스가 같은 저장소의 버킷을 공유한다")
+    void shouldShareBucketAcrossInstances() {
+        RateLimitBucket instance1 = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10);
+        RateLimitBucket instance2 = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10);
+
+        int allowed = consume(instance1, 6) + consume(instance2, 10);
+
+        // 인스턴스가 2개여도 전체 허용량은 limit과 같아야 함
+        assertThat(allowed).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("동시 요청이 몰려도 limit 이상 허용하지 않는다")
+    void shouldNotOverIssueUnderConcurrency() {
+        RateLimitBucket bucket = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:hot", 100);
+
+        Long allowed = Flux.range(0, 1000)
+            .parallel(16)
+            .runOn(Schedulers.parallel())
+            .flatMap(i -> bucket.tryConsume())
+            .sequential()
+            .filter(Boolean::booleanValue)
+            .count()
+            .block();
+
+        assertThat(allowed).isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("서로 다른 키는 별도 버킷을 사용한다")
+    void shouldUseSeparateBucketsPerKey() {
+        ProxyManagerRateLimitBackend backend = new ProxyManagerRateLimitBackend(sharedStore);
+        RateLimitBucket storeA = backend.createBucket("store:A", 5);
+        RateLimitBucket storeB = backend.createBucket("store:B", 5);
+
+        consume(storeA, 10);
+
+        assertThat(storeB.tryConsume().block()).isTrue();
+        assertThat(sharedStore.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("limit 변경 시 원격 버킷 설정을 교체하고 다른 인스턴스도 새 설정을 사용한다")
+    void shouldReplaceRemoteConfigurationInPlace() {
+        RateLimitBucket instance1 = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10, 1);
+        RateLimitBucket instance2 = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10, 1);
+
+        assertThat(consume(instance1, 5)).isEqualTo(5);
+
+        // 10 -> 20: 남은 5개가 비율대로 10개가 됨 (새 버킷 20개가 아님)
+        instance1.replaceLimit(20, 2);
+        assertThat(consume(instance1, 4)).isEqualTo(4);
+        assertThat(consume(instance2, 20)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("새 스냅샷을 받지 못한 인스턴스가 나중에 만든 핸들은 저장된 최신 설정을 되돌리지 않는다")
+    void shouldNotRevertToStaleLimit() {
+        RateLimitBucket updated = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10, 1);
+        updated.replaceLimit(20, 2);
+        assertThat(updated.tryConsume().block()).isTrue();
+
+        // 다른 인스턴스가 스냅샷 버전 1의 limit(10)으로 뒤늦게 핸들을 만듦
+        RateLimitBucket stale = new ProxyManagerRateLimitBackend(sharedStore).createBucket("store:A", 10, 1);
+
+        assertThat(consume(stale, 30)).isEqualTo(19);
+    }
+}
@@ -1,5 +1,6 @@
 package com.simiyami.gateway.filter;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -23,7 +24,7 @@ class RateLimitFilterTest {
 
     @BeforeEach
     void setUp() {
-        rateLimitFilter = new RateLimitFilter();
+        rateLimitFilter = new RateLimitFilter(new LocalRateLimitBackend(new ManualTimeMeter()), new SimpleMeterRegistry(), 10_000);
         filterChain = mock(GatewayFilterChain.class);
         when(filterChain.filter(any())).thenReturn(Mono.empty());
     }
@@ -0,0 +1,166 @@
+package com.simiyami.gateway.filter;
+
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandArgs;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisIdempotencyStoreTest {
+
+    private static final Pattern PX = Pattern.compile("PX (\\d+)");
+
+    // SET NX/GET/완료·해제 스크립트만 흉내 내는 Redis 대역 (키 → 값, 키 → 마지막 PX)
+    private final Map<String, byte[]> values = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private RedisIdempotencyStore store;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisReactiveCommands<String, byte[]> commands = mock(RedisReactiveCommands.class, this::redis);
+        StatefulRedisConnection<String, byte[]> connection = mock(StatefulRedisConnection.class);
+        when(connection.reactive()).thenReturn(commands);
+        store = new RedisIdempotencyStore(connection);
+    }
+
+    @Test
+    @DisplayName("먼저 선점한 요청만 ACQUIRED, 이후는 IN_FLIGHT이고 선점 만료 시간은 inFlightTimeout")
+    void shouldAllowOnlyFirstClaim() {
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.ACQUIRED);
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block()).isEqualTo(IdempotencyStore.Claim.IN_FLIGHT);
+        assertThat(ttls).containsEntry("idempotency:key", 30_000L);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 응답 TTL로 저장되고 다음 선점 시도에 응답을 돌려준다")
+    void shouldReturnCompletedResponse() {
+        String token = store.claim("key", Duration.ofSeconds(30)).block().token();
+        store.complete("key", token, response("created"), Duration.ofMinutes(10)).block();
+
+        IdempotencyStore.Claim claim = store.claim("key", Duration.ofSeconds(30)).block();
+
+        assertThat(claim.status()).isEqualTo(IdempotencyStore.Status.COMPLETED);
+        assertThat(new String(claim.response().body(), StandardCharsets.UTF_8)).isEqualTo("created");
+        assertThat(claim.response().requestHash()).isEqualTo("hash");
+        assertThat(ttls).containsEntry("idempotency:key", Duration.ofMinutes(10).toMillis());
+    }
+
+    @Test
+    @DisplayName("해제하면 다시 선점할 수 있지만 이미 완료된 응답은 지우지 않는다")
+    void shouldReleaseOnlyInFlightClaim() {
+        String first = store.claim("key", Duration.ofSeconds(30)).block().token();
+        store.release("key", first).block();
+        String second = store.claim("key", Duration.ofSeconds(30)).block().token();
+        assertThat(second).isNotEqualTo(first);
+
+        store.complete("key", second, response("created"), Duration.ofMinutes(10)).block();
+        store.release("key", second).block();
+
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block().status())
+            .isEqualTo(IdempotencyStore.Status.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("선점이 만료되어 다른 요청이 다시 선점하면 이전 소유자의 완료/해제는 반영되지 않는다")
+    void shouldIgnoreStaleOwner() {
+        String stale = store.claim("key", Duration.ofSeconds(30)).block().token();
+        values.remove("idempotency:key");
+        String current = store.claim("key", Duration.ofSeconds(30)).block().token();
+
+        store.release("key", stale).block();
+        store.complete("key", stale, response("stale"), Duration.ofMinutes(10)).block();
+        assertThat(store.claim("key", Duration.ofSeconds(30)).block()).isEqualTo(IdempotencyStore.Claim.IN_FLIGHT);
+
+        store.complete("key", current, response("created"), Duration.ofMinutes(10)).block();
+        IdempotencyStore.Claim claim = store.claim("key", Duration.ofSeconds(30)).block();
+        assertThat(new String(claim.response().body(), StandardCharsets.UTF_8)).isEqualTo("created");
+    }
+
+    @Test
+    @DisplayName("Redis 저장 형식으로 직렬화한 응답을 그대로 복원한다")
+    void shouldRoundTripEncoding() {
+        CachedResponse original = new CachedResponse(201,
+            Map.of("Content-Type", List.of("application/json"), "Location", List.of("/api/orders/1")),
+            "{\"orderId\":\"1\"}".getBytes(StandardCharsets.UTF_8), "hash");
+
+        CachedResponse decoded = RedisIdempotencyStore.decode(RedisIdempotencyStore.encode(original));
+
+        assertThat(decoded.statusCode()).isEqualTo(201);
+        assertThat(decoded.headers()).isEqualTo(original.headers());
+        assertThat(decoded.body()).isEqualTo(original.body());
+        assertThat(decoded.requestHash()).isEqualTo("hash");
+    }
+
+    private Object redis(InvocationOnMock invocation) {
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "set" -> {
+                String key = (String) args[0];
+                String setArgs = render((SetArgs) args[2]);
+                Matcher px = PX.matcher(setArgs);
+                if (setArgs.contains("NX") && values.containsKey(key)) {
+                    return Mono.empty();
+                }
+                values.put(key, (byte[]) args[1]);
+                ttls.put(key, px.find() ? Long.parseLong(px.group(1)) : null);
+                return Mono.just("OK");
+            }
+            case "get" -> {
+                return Mono.justOrEmpty(values.get((String) args[0]));
+            }
+            case "eval" -> {
+                String key = ((String[]) args[2])[0];
+                byte[] current = values.get(key);
+                if (RedisIdempotencyStore.COMPLETE_SCRIPT.equals(args[0])) {
+                    if (current != null && !Arrays.equals(current, (byte[]) args[3])) {
+                        return Flux.just(0L);
+                    }
+                    values.put(key, (byte[]) args[4]);
+                    ttls.put(key, Long.parseLong(new String((byte[]) args[5], StandardCharsets.US_ASCII)));
+                    return Flux.just(1L);
+                }
+                assertThat(args[0]).isEqualTo(RedisIdempotencyStore.RELEASE_SCRIPT);
+                if (current != null && Arrays.equals(current, (byte[]) args[3])) {
+                    values.remove(key);
+                    return Flux.just(1L);
+                }
+                return Flux.just(0L);
+            }
+            default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+        }
+    }
+
+    private static String render(SetArgs setArgs) {
+        CommandArgs<String, byte[]> args = new CommandArgs<>(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        setArgs.build(args);
+        return args.toCommandString();
+    }
+
+    private static CachedResponse response(String body) {
+        return new CachedResponse(201, Map.of("Content-Type", List.of("application/json")),
+            body.getBytes(StandardCharsets.UTF_8), "hash");
+    }
+}
@@ -1,5 +1,6 @@
 package com.simiyami.gateway.filter;
 
+import com.simiyami.gateway.config.LocalRateLimitConfigChannel;
 import com.simiyami.gateway.config.StoreRateLimitConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,16 @@ import org.springframework.mock.web.server.MockServerWebExchange;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -25,7 +36,7 @@ class StoreRateLimitFilterTest {
     @BeforeEach
     void setUp() {
         config = new StoreRateLimitConfig();
-        filter = new StoreRateLimitFilter(config);
+        filter = new StoreRateLimitFilter(config, new LocalRateLimitBackend(new ManualTimeMeter()));
         filterChain = mock(GatewayFilterChain.class);
         when(filterChain.filter(any())).thenReturn(Mono.empty());
     }
@@ -172,8 +183,8 @@ class StoreRateLimitFilterTest {
     }
 
     @Test
-    @DisplayName("동적으로 Rate Limit 변경 시 새 버킷 생성")
-    void shouldRecreateBucketWhenLimitChanges() {
+    @DisplayName("동적으로 Rate Limit 변경 시 기존 버킷의 설정 교체")
+    void shouldReconfigureBucketWhenLimitChanges() {
         config.setLimit("store-dynamic", 3);
 
         // 2개 토큰 사용
@@ -188,7 +199,7 @@ class StoreRateLimitFilterTest {
         // limit을 높게 변경 (새 버킷 생성됨)
         config.setLimit("store-dynamic", 100);
 
-        // 변경된 limit으로 새 버킷이 생성되어야 함
+        // 남은 토큰이 새 limit 비율로 늘어나 요청이 통과해야 함
         MockServerHttpRequest request = MockServerHttpRequest.get("/api/orders")
             .header("X-Store-Id", "store-dynamic")
             .build();
@@ -199,4 +210,100 @@ class StoreRateLimitFilterTest {
 
         assertThat(exchange.getResponse().getStatusCode()).isNull();
     }
+
+    @Test
+    @DisplayName("limit 변경으로 소진된 버킷의 토큰이 새로 발급되지 않는다")
+    void shouldNotRefillExhaustedBucketOnLimitChange() {
+        config.setLimit("store-exhausted", 5);
+        for (int i = 0; i < 5; i++) {
+            assertThat(sendRequest("store-exhausted")).isNull();
+        }
+        assertThat(sendRequest("store-exhausted")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        // 토큰을 모두 쓴 상태에서는 limit을 바꿔도 즉시 통과되지 않음 (refill 속도만 변경)
+        config.setLimit("store-exhausted", 10);
+        assertThat(sendRequest("store-exhausted")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+
+        config.setLimit("store-exhausted", 5);
+        assertThat(sendRequest("store-exhausted")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경된 limit이 채널을 통해 기존 버킷에 반영된다")
+    void shouldApplyLimitChangedOnOtherInstance() {
+        LocalRateLimitConfigChannel channel = new LocalRateLimitConfigChannel();
+        StoreRateLimitConfig localConfig = new StoreRateLimitConfig(channel);
+        StoreRateLimitConfig remoteConfig = new StoreRateLimitConfig(channel);
+        filter = new StoreRateLimitFilter(localConfig, new LocalRateLimitBackend(new ManualTimeMeter()));
+
+        localConfig.setLimit("store-remote", 2);
+        assertThat(sendRequest("store-remote")).isNull();
+
+        // 다른 인스턴스의 Admin API 호출로 limit 변경 → 남은 토큰 절반이 비례 상속되어 2개
+        remoteConfig.setLimit("store-remote", 4);
+
+        assertThat(sendRequest("store-remote")).isNull();
+        assertThat(sendRequest("store-remote")).isNull();
+        assertThat(sendRequest("store-remote")).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("동시 요청 중 limit이 반복 변경되어도 토큰이 초과 발급되지 않는다")
+    void shouldNotOverIssueTokensWhileLimitChangesConcurrently() throws Exception {
+        String storeId = "store-race";
+        long lowLimit = 1000;
+        long highLimit = 2000;
+        config.setLimit(storeId, lowLimit);
+
+        int workers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(workers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger allowed = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int w = 0; w < workers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < 1000; i++) {
+                    if (sendRequest(storeId) == null) {
+                        allowed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        // 요청이 처리되는 동안 limit을 계속 바꿈
+        futures.add(executor.submit(() -> {
+            start.await();
+            long limit = highLimit;
+            while (running.get()) {
+                config.setLimit(storeId, limit);
+                limit = (limit == highLimit) ? lowLimit : highLimit;
+                Thread.onSpinWait();
+            }
+            return null;
+        }));
+
+        start.countDown();
+        for (int w = 0; w < workers; w++) {
+            futures.get(w).get(30, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        futures.get(workers).get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // 시간이 흐르지 않으므로(refill 없음) 어떤 순서로 바뀌어도 가장 큰 limit을 넘을 수 없음
+        assertThat(allowed.get()).isLessThanOrEqualTo((int) highLimit);
+        assertThat(allowed.get()).isGreaterThanOrEqualTo((int) lowLimit / 2);
+    }
+
+    private HttpStatus sendRequest(String storeId) {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/api/orders")
+            .header("X-Store-Id", storeId)
+            .build();
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        filter.filter(exchange, filterChain).block();
+        return (HttpStatus) exchange.getResponse().getStatusCode();
+    }
 }
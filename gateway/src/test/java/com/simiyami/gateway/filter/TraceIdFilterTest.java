@@ -95,4 +95,50 @@ class TraceIdFilterTest {
         assertThat(traceId).isNotNull();
         assertThat(traceId).matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
     }
+
+    @Test
+    @DisplayName("Trace ID를 생성하면 같은 trace-id의 W3C traceparent 헤더도 추가한다")
+    void shouldAddTraceparentWithSameTraceId() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders").build());
+
+        StepVerifier.create(traceIdFilter.filter(exchange, filterChain))
+            .verifyComplete();
+
+        verify(filterChain).filter(exchangeCaptor.capture());
+        String traceId = exchangeCaptor.getValue().getRequest().getHeaders().getFirst("X-Trace-Id");
+        String traceparent = exchangeCaptor.getValue().getRequest().getHeaders().getFirst("traceparent");
+        assertThat(traceparent).matches("00-[0-9a-f]{32}-[0-9a-f]{16}-01");
+        assertThat(traceparent.substring(3, 35)).isEqualTo(traceId.replace("-", ""));
+    }
+
+    @Test
+    @DisplayName("클라이언트가 보낸 traceparent는 유지한다")
+    void shouldPreserveExistingTraceparent() {
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders")
+            .header("traceparent", traceparent)
+            .build());
+
+        StepVerifier.create(traceIdFilter.filter(exchange, filterChain))
+            .verifyComplete();
+
+        verify(filterChain).filter(exchangeCaptor.capture());
+        assertThat(exchangeCaptor.getValue().getRequest().getHeaders().getFirst("traceparent")).isEqualTo(traceparent);
+    }
+
+    @Test
+    @DisplayName("클라이언트가 Trace ID를 보내면 exchange를 재구성하지 않고 응답 헤더만 추가한다")
+    void shouldPassOriginalExchangeWhenTraceIdPresent() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders")
+            .header("X-Trace-Id", "client-trace-id")
+            .build());
+
+        StepVerifier.create(traceIdFilter.filter(exchange, filterChain))
+            .verifyComplete();
+        StepVerifier.create(exchange.getResponse().setComplete())
+            .verifyComplete();
+
+        verify(filterChain).filter(exchange);
+        assertThat(exchange.getResponse().getHeaders().getFirst("X-Trace-Id")).isEqualTo("client-trace-id");
+    }
 }
@@ -0,0 +1,56 @@
+package com.simiyami.gateway.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceIdGeneratorTest {
+
+    private final TraceIdGenerator generator = new TraceIdGenerator(0x1234);
+
+    @Test
+    @DisplayName("8-4-4-4-12 형식의 소문자 16진수 Trace ID를 생성한다")
+    void shouldGenerateUuidShapedHexTraceId() {
+        String traceId = generator.nextTraceId();
+
+        assertThat(traceId).matches("[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}");
+        // 노드 비트는 세 번째 그룹
+        assertThat(traceId.substring(14, 18)).isEqualTo("1234");
+    }
+
+    @Test
+    @DisplayName("앞 12자리는 생성 시각(ms)이다")
+    void shouldEncodeTimestampInLeadingDigits() {
+        long before = System.currentTimeMillis();
+        String traceId = generator.nextTraceId();
+        long after = System.currentTimeMillis();
+
+        long timestamp = Long.parseLong(traceId.substring(0, 8) + traceId.substring(9, 13), 16);
+        assertThat(timestamp).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 중복되지 않는다")
+    void shouldGenerateUniqueIdsConcurrently() throws Exception {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 50_000; i++) {
+                    ids.add(generator.nextTraceId());
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(ids).hasSize(8 * 50_000);
+    }
+}
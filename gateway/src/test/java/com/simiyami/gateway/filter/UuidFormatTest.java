@@ -0,0 +1,50 @@
+package com.simiyami.gateway.filter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidFormatTest {
+
+    @Test
+    @DisplayName("UUID.randomUUID 문자열은 유효하다")
+    void shouldAcceptRandomUuids() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(UuidFormat.isValid(UUID.randomUUID().toString())).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("대문자 16진수도 허용한다")
+    void shouldAcceptUpperCaseHex() {
+        assertThat(UuidFormat.isValid("123E4567-E89B-12D3-A456-426614174000")).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "",
+        "not-a-valid-uuid",
+        "1-1-1-1-1",
+        "123e4567-e89b-12d3-a456-42661417400",
+        "123e4567-e89b-12d3-a456-4266141740000",
+        "123e4567e89b-12d3-a456-4266141740000",
+        "123e4567-e89b-12d3-a456-42661417400g",
+        "123e4567-e89b-12d3-a456_426614174000",
+        "123e4567-e89b-12d3-a456-42661417400٠"
+    })
+    @DisplayName("36자 8-4-4-4-12 16진수 형식이 아니면 거부한다")
+    void shouldRejectMalformedValues(String value) {
+        assertThat(UuidFormat.isValid(value)).isFalse();
+    }
+
+    @Test
+    @DisplayName("null은 거부한다")
+    void shouldRejectNull() {
+        assertThat(UuidFormat.isValid(null)).isFalse();
+    }
+}
@@ -0,0 +1,151 @@
+package com.simiyami.gateway.metrics;
+
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimedGlobalFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StageMetrics stageMetrics;
+    private GatewayFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        stageMetrics = new StageMetrics(meterRegistry);
+        chain = exchange -> Mono.empty();
+    }
+
+    @Test
+    @DisplayName("다음 단계로 넘어가면 allow로 기록하고 라우트를 태그로 남긴다")
+    void shouldRecordAllowWithRouteTag() {
+        GlobalFilter passing = (exchange, next) -> next.filter(exchange);
+        TimedGlobalFilter filter = new TimedGlobalFilter(passing, 0, stageMetrics.stage("rate-limit"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders").build());
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, route("order-api"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(timer("rate-limit", "order-api", "allow").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("필터가 응답을 끝내면 상태 코드로 기록한다")
+    void shouldRecordStatusWhenFilterEndsRequest() {
+        GlobalFilter rejecting = (exchange, next) -> {
+            exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return exchange.getResponse().setComplete();
+        };
+        TimedGlobalFilter filter = new TimedGlobalFilter(rejecting, 0, stageMetrics.stage("rate-limit"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/orders").build());
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertThat(timer("rate-limit", "none", "429").count()).isEqualTo(1);
+        assertThat(meterRegistry.find(StageMetrics.METRIC_NAME).tag("outcome", "allow").functionTimer().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("하위 단계 시간은 포함하지 않는다")
+    void shouldNotIncludeDownstreamTime() {
+        GlobalFilter passing = (exchange, next) -> next.filter(exchange);
+        TimedGlobalFilter filter = new TimedGlobalFilter(passing, 0, stageMetrics.stage("trace-id"));
+        GatewayFilterChain slowChain = exchange -> Mono.delay(Duration.ofMillis(200)).then();
+
+        StepVerifier.create(filter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/").build()), slowChain))
+            .verifyComplete();
+
+        assertThat(timer("trace-id", "none", "allow").totalTime(TimeUnit.MILLISECONDS))
+            .isLessThan(100);
+    }
+
+    @Test
+    @DisplayName("백분위를 Micrometer gauge로 노출한다")
+    void shouldExposePercentilesAsGauges() {
+        StageMetrics.Stage stage = stageMetrics.stage("rate-limit");
+        for (int i = 1; i <= 100; i++) {
+            stage.recordAllow("order-api", i * 1_000L);
+        }
+
+        double p99 = meterRegistry.get(StageMetrics.PERCENTILE_METRIC_NAME)
+            .tag("stage", "rate-limit").tag("outcome", "allow").tag("quantile", "0.99")
+            .gauge().value();
+
+        // 99µs ± 1% (유효 숫자 2자리)
+        assertThat(p99).isBetween(98e-6, 100e-6);
+    }
+
+    @Test
+    @DisplayName("한 scrape 안의 미터들은 같은 스냅샷을 읽고, 다음 scrape에서 새로 계산한다")
+    void shouldShareSnapshotWithinScrape() {
+        AtomicLong clock = new AtomicLong();
+        StageMetrics.Stage stage = new StageMetrics(meterRegistry, clock::get).stage("rate-limit");
+        stage.recordAllow("order-api", 1_000);
+
+        assertThat(timer("rate-limit", "order-api", "allow").count()).isEqualTo(1);
+        stage.recordAllow("order-api", 1_000);
+        assertThat(timer("rate-limit", "order-api", "allow").count()).isEqualTo(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(timer("rate-limit", "order-api", "allow").count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("필터 순서는 감싼 필터의 순서를 그대로 사용한다")
+    void shouldKeepDelegateOrder() {
+        TimedGlobalFilter filter = new TimedGlobalFilter((exchange, next) -> next.filter(exchange), 7,
+            stageMetrics.stage("test"));
+
+        assertThat(filter.getOrder()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("엔드포인트는 단계 > 라우트 > 결과별 지연 시간을 보여준다")
+    void shouldExposeStagesThroughEndpoint() {
+        stageMetrics.stage("rate-limit").recordAllow("order-api", 2_000);
+        stageMetrics.stage("rate-limit").recordStatus("order-api", 429, 1_000);
+
+        Map<String, Map<String, Map<String, Map<String, Object>>>> stages = new GatewayStagesEndpoint(stageMetrics).stages();
+
+        assertThat(stages.get("rate-limit").get("order-api")).containsOnlyKeys("allow", "429");
+        assertThat(stages.get("rate-limit").get("order-api").get("allow"))
+            .containsEntry("count", 1L)
+            .containsKeys("p50Micros", "p99Micros", "p99.9Micros");
+    }
+
+    private FunctionTimer timer(String stage, String route, String outcome) {
+        return meterRegistry.get(StageMetrics.METRIC_NAME)
+            .tag("stage", stage)
+            .tag("route", route)
+            .tag("outcome", outcome)
+            .functionTimer();
+    }
+
+    private static Route route(String id) {
+        return Route.async()
+            .id(id)
+            .uri(URI.create("http://localhost"))
+            .predicate(exchange -> true)
+            .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.simiyami.orderapi;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * POST /api/orders 부하 하네스 (README 응답 시간 목표 200ms 확인용)
+ * - order-api를 임의 포트로 띄우고 목표 RPS로 일정 간격 요청을 보냄 (open-loop)
+ * - 지연 시간은 "보냈어야 할 시각"부터 측정하므로 서버가 밀리면 대기 시간까지 포함됨 (coordinated omission 방지)
+ * - 인증은 게이트웨이 서명 헤더 모드 사용 (Keycloak 없이 실행)
+ * - --url을 주면 앱을 띄우지 않고 이미 떠 있는 order-api로 보냄 (부하 발생기를 다른 장비에서 실행할 때)
+ *   이 경우 대상 order-api도 security.identity-header.enabled=true, 같은 --secret이어야 함
+ * - p99가 예산을 넘거나 오류가 있으면 종료 코드 1
+ *
+ * 실행: gradle :order-api:loadHarness -PloadArgs='--rps=3000 --seconds=20 --stores=1'
+ *      gradle :order-api:loadHarness -PloadArgs='--url=http://order-api:8082/api/orders --secret=... --rps=3000'
+ */
+public class OrderLoadHarness {
+
+    private static final String DEFAULT_SECRET = "load-harness-secret-0123456789abcdef";
+    private static final String BODY =
+        "{\"items\":[{\"menuId\":101,\"quantity\":2,\"unitPrice\":12000},{\"menuId\":205,\"quantity\":1,\"unitPrice\":3000}]}";
+
+    public static void main(String[] args) throws Exception {
+        int rps = intArg(args, "rps", 2000);
+        int seconds = intArg(args, "seconds", 20);
+        int warmupSeconds = intArg(args, "warmup", 5);
+        int stores = intArg(args, "stores", 1);
+        long budgetMillis = intArg(args, "budget-ms", 200);
+        String url = stringArg(args, "url", null);
+        String secret = stringArg(args, "secret", DEFAULT_SECRET);
+
+        ConfigurableApplicationContext context = url != null ? null : SpringApplication.run(OrderApiApplication.class,
+            "--server.port=0",
+            "--eureka.client.enabled=false",
+            "--spring.cloud.discovery.enabled=false",
+            "--spring.security.oauth2.resourceserver.jwt.jwk-set-uri=http://127.0.0.1:9/certs",
+            "--security.jwks.request-timeout=500ms",
+            "--security.identity-header.enabled=true",
+            "--security.identity-header.secret=" + secret,
+            "--logging.level.root=ERROR");
+        int exitCode;
+        try {
+            URI uri = URI.create(url != null ? url
+                : "http://127.0.0.1:" + context.getEnvironment().getProperty("local.server.port") + "/api/orders");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            String identity = identityHeader(secret);
+
+            System.out.printf("warmup: %d rps x %ds%n", rps, warmupSeconds);
+            run(client, uri, identity, rps, warmupSeconds, stores);
+
+            System.out.printf("measure: %d rps x %ds, stores=%d%n", rps, seconds, stores);
+            Result result = run(client, uri, identity, rps, seconds, stores);
+            result.print(budgetMillis);
+            exitCode = result.errors() == 0 && result.percentileMillis(99) <= budgetMillis ? 0 : 1;
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static Result run(HttpClient client, URI uri, String identity, int rps, int seconds, int stores) {
+        int total = rps * seconds;
+        long intervalNanos = 1_000_000_000L / rps;
+        long[] latencies = new long[total];
+        AtomicInteger errors = new AtomicInteger();
+        CompletableFuture<?>[] responses = new CompletableFuture<?>[total];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json")
+                .header("X-Authenticated-Identity", identity)
+                .header("X-Store-Id", Integer.toString(i % stores + 1))
+                .header("X-Idempotency-Key", UUID.randomUUID().toString())
+                .POST(HttpRequest.BodyPublishers.ofString(BODY))
+                .build();
+            responses[i] = client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    latencies[index] = System.nanoTime() - intended;
+                    if (error != null || response.statusCode() != 201) {
+                        errors.incrementAndGet();
+                    }
+                });
+        }
+        CompletableFuture.allOf(responses).exceptionally(e -> null).join();
+        long elapsed = System.nanoTime() - start;
+        return new Result(latencies, errors.get(), elapsed);
+    }
+
+    private static String identityHeader(String secret) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String payload = encoder.encodeToString((Instant.now().plusSeconds(3600).getEpochSecond()
+            + "\nload-user\nload-user\n\nROLE_user").getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        return payload + "." + encoder.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    private static int intArg(String[] args, String name, int defaultValue) {
+        String value = stringArg(args, name, null);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    private static String stringArg(String[] args, String name, String defaultValue) {
+        String prefix = "--" + name + "=";
+        for (String arg : args) {
+            if (arg.startsWith(prefix)) {
+                return arg.substring(prefix.length());
+            }
+        }
+        return defaultValue;
+    }
+
+    private record Result(long[] latencies, int errors, long elapsedNanos) {
+
+        Result {
+            Arrays.sort(latencies);
+        }
+
+        double percentileMillis(double percentile) {
+            int index = (int) Math.min(latencies.length - 1, Math.ceil(latencies.length * percentile / 100) - 1);
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        void print(long budgetMillis) {
+            System.out.printf("requests=%d errors=%d achieved=%.0f rps%n",
+                latencies.length, errors, latencies.length / (elapsedNanos / 1_000_000_000.0));
+            System.out.printf("latency ms: p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f (budget p99 <= %d)%n",
+                percentileMillis(50), percentileMillis(90), percentileMillis(99), percentileMillis(99.9),
+                latencies[latencies.length - 1] / 1_000_000.0, budgetMillis);
+        }
+    }
+}
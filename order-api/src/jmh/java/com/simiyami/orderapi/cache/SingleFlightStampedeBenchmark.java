@@ -0,0 +1,151 @@
+package com.simiyami.orderapi.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 식지 않은(cold) 주문 하나에 10k 조회가 동시에 몰릴 때 (캐시 스탬피드)
+ * - 호출마다 새 키를 쓰고, 가상 스레드 10k개를 래치로 한꺼번에 풀어 모두 끝날 때까지의 시간을 잼
+ * - 저장소 조회는 5ms (sleep), 공유 캐시는 ConcurrentHashMap (L2 대역)
+ * - mode=singleflight: SingleFlight (CompletableFuture 공유 + 임대 release 알림)
+ * - mode=polling: README 예제 방식 (임대를 못 잡으면 100ms 쉬고 다시 확인, 재귀 대신 반복)
+ * - mode=none: 합치지 않음 (모든 조회가 저장소로)
+ * - repositoryLoads 보조 지표가 저장소 조회 수
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='SingleFlightStampedeBenchmark'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SingleFlightStampedeBenchmark {
+
+    private static final int READERS = 10_000;
+    private static final long LOAD_MILLIS = 5;
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    @Param({"singleflight", "polling", "none"})
+    public String mode;
+
+    private final AtomicLong keys = new AtomicLong();
+    private final Map<Long, String> shared = new ConcurrentHashMap<>();
+    private LocalLoadLease lease;
+    private SingleFlight<String> flight;
+    private ExecutorService executor;
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Loads {
+
+        public long repositoryLoads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            repositoryLoads = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        lease = new LocalLoadLease();
+        flight = new SingleFlight<>("bench", lease, Duration.ofSeconds(5), Duration.ofSeconds(1),
+            new SimpleMeterRegistry());
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public void stampede(Loads loads) throws InterruptedException, ExecutionException {
+        long key = keys.incrementAndGet();
+        AtomicLong repositoryLoads = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Optional<String>>> readers = new ArrayList<>(READERS);
+        for (int i = 0; i < READERS; i++) {
+            readers.add(executor.submit(() -> {
+                start.await();
+                return read(key, repositoryLoads);
+            }));
+        }
+        start.countDown();
+        for (Future<Optional<String>> reader : readers) {
+            reader.get();
+        }
+        shared.remove(key);
+        loads.repositoryLoads += repositoryLoads.get();
+    }
+
+    private Optional<String> read(long key, AtomicLong repositoryLoads) throws InterruptedException {
+        return switch (mode) {
+            case "singleflight" -> flight.load(key, this::readShared, k -> load(k, repositoryLoads));
+            case "polling" -> poll(key, repositoryLoads);
+            default -> load(key, repositoryLoads);
+        };
+    }
+
+    private Optional<String> poll(long key, AtomicLong repositoryLoads) throws InterruptedException {
+        long owner = Thread.currentThread().threadId();
+        while (true) {
+            Optional<String> cached = readShared(key);
+            if (cached.isPresent()) {
+                return cached;
+            }
+            if (lease.tryAcquire(key, owner, Duration.ofSeconds(5))) {
+                try {
+                    return load(key, repositoryLoads);
+                } finally {
+                    lease.release(key, owner);
+                }
+            }
+            Thread.sleep(POLL_INTERVAL);
+        }
+    }
+
+    private Optional<String> readShared(long key) {
+        return Optional.ofNullable(shared.get(key));
+    }
+
+    private Optional<String> load(long key, AtomicLong repositoryLoads) {
+        repositoryLoads.incrementAndGet();
+        try {
+            Thread.sleep(LOAD_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        String order = "order-" + key;
+        shared.put(key, order);
+        return Optional.of(order);
+    }
+}
@@ -0,0 +1,116 @@
+package com.simiyami.orderapi.filter;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.BearerTokenAuthenticationToken;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationProvider;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * order-api 요청당 인증 CPU 비용 비교
+ * - jwt: 기존 경로 (RS256 서명 검증 + 클레임 검증 + authority 변환, JWK 조회 제외)
+ * - identityHeader: 게이트웨이 서명 헤더 경로 (HMAC 검증 + 인증 설정, 필터 전체)
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='IdentityVerificationBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class IdentityVerificationBenchmark {
+
+    private static final byte[] SECRET = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationProvider jwtProvider;
+    private String token;
+
+    private IdentityHeaderAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() throws Exception {
+        RSAKey key = new RSAKeyGenerator(2048).keyID("kid-1").generate();
+        Instant expiresAt = Instant.now().plusSeconds(3600);
+
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+            .subject("f3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d")
+            .issuer("http://localhost:8080/realms/spike-order")
+            .issueTime(new Date())
+            .expirationTime(Date.from(expiresAt))
+            .claim("preferred_username", "testuser")
+            .claim("email", "testuser@example.com")
+            .claim("scope", "openid profile email")
+            .claim("realm_access", Map.of("roles", List.of("default-roles-spike-order", "offline_access", "user")))
+            .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID("kid-1").build(), claims);
+        jwt.sign(new RSASSASigner(key));
+        token = jwt.serialize();
+        jwtProvider = new JwtAuthenticationProvider(NimbusJwtDecoder.withPublicKey(key.toRSAPublicKey()).build());
+
+        filter = new IdentityHeaderAuthenticationFilter(new IdentityHeaderVerifier(SECRET), new SimpleMeterRegistry());
+        request = new MockHttpServletRequest("GET", "/api/orders/me");
+        request.addHeader(IdentityHeaderVerifier.HEADER, signedHeader(expiresAt));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication jwt() {
+        return jwtProvider.authenticate(new BearerTokenAuthenticationToken(token));
+    }
+
+    @Benchmark
+    public Authentication identityHeader() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    /**
+     * 게이트웨이 IdentityHeaderSigner와 같은 형식
+     */
+    private static String signedHeader(Instant expiresAt) throws Exception {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        String payload = encoder.encodeToString((expiresAt.getEpochSecond()
+            + "\nf3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d\ntestuser\ntestuser@example.com"
+            + "\nROLE_default-roles-spike-order,ROLE_offline_access,ROLE_user").getBytes(StandardCharsets.UTF_8));
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET, "HmacSHA256"));
+        return payload + "." + encoder.encodeToString(mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.simiyami.orderapi.inventory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인기 메뉴 하나에 64개 스레드가 몰릴 때 재고 예약 처리량
+ * - stripes=1: 카운터 하나에 CAS (줄무늬 없는 기준선)
+ * - stripes=16/64: StripedStock
+ * - locked: synchronized 카운터 (잠금 기준선)
+ * - reserve: 재고가 넉넉한 세일 초반 (예약만)
+ * - reserveRelease: 예약 후 바로 반납 (취소/만료가 섞인 경우)
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='InventoryReservationBenchmark'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(64)
+@State(Scope.Benchmark)
+public class InventoryReservationBenchmark {
+
+    private static final long STOCK = Long.MAX_VALUE / 4;
+
+    @Param({"1", "16", "64"})
+    public int stripes;
+
+    private StripedStock stock;
+    private LockedStock lockedStock;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        stock = new StripedStock(stripes);
+        stock.restock(STOCK);
+        lockedStock = new LockedStock(STOCK);
+    }
+
+    @Benchmark
+    public boolean reserve() {
+        return stock.tryReserve(1);
+    }
+
+    @Benchmark
+    public boolean reserveRelease() {
+        boolean reserved = stock.tryReserve(1);
+        if (reserved) {
+            stock.release(1);
+        }
+        return reserved;
+    }
+
+    @Benchmark
+    public boolean locked() {
+        return lockedStock.tryReserve(1);
+    }
+
+    /**
+     * 잠금으로 보호하는 단일 카운터
+     */
+    static final class LockedStock {
+
+        private long available;
+
+        LockedStock(long available) {
+            this.available = available;
+        }
+
+        synchronized boolean tryReserve(long quantity) {
+            if (available < quantity) {
+                return false;
+            }
+            available -= quantity;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 핫패스 (검증 + ID 발급 + 저장) 처리량
+ * - stores=1: 이벤트로 한 가게에 주문이 몰리는 경우 (파티션 하나에 경합)
+ * - stores=1000: 주문이 여러 가게로 퍼진 평상시
+ * - 주문이 계속 쌓이면 GC가 결과를 좌우하므로 iteration마다 저장소를 새로 만듦 (resize 비용은 포함)
+ * - 재고 홀드 등록까지 포함 (휠 스레드는 시작하지 않으므로 만료 처리는 제외)
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='OrderCreationBenchmark -prof gc'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Threads(4)
+@State(Scope.Benchmark)
+public class OrderCreationBenchmark {
+
+    private static final List<OrderItem> ITEMS = List.of(
+        new OrderItem(101, 2, 12_000),
+        new OrderItem(205, 1, 3_000));
+
+    @Param({"1", "1000"})
+    public int stores;
+
+    private OrderService orderService;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        InventoryService inventoryService = new InventoryService(8);
+        orderService = new OrderService(new InMemoryOrderRepository(), inventoryService,
+            new ReservationHolds(inventoryService, Duration.ofMinutes(10), Duration.ofMillis(100), 8192,
+                new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public Order create() {
+        long storeId = stores == 1 ? 1 : ThreadLocalRandom.current().nextInt(stores) + 1;
+        return orderService.create("f3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d", storeId, ITEMS);
+    }
+}
@@ -0,0 +1,67 @@
+package com.simiyami.orderapi.order;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 내역 한 페이지(20건)를 읽는 비용 - 페이지 깊이별 키셋 vs 오프셋
+ * - 한 사용자가 주문 20k건을 가진 상태에서 depth번째 주문 다음 페이지를 읽음
+ * - keyset: 이전 페이지 마지막 주문의 커서에서 바로 시작 (O(log n + 20))
+ * - offset: LIMIT depth + 20 OFFSET depth처럼 앞의 depth건을 읽고 버림 (O(depth + 20))
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='OrderHistoryBenchmark'
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderHistoryBenchmark {
+
+    private static final String USER = "f3b2c6d0-3a1e-4a8f-9c2d-6e5b4a3f2e1d";
+    private static final int ORDERS = 20_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"0", "1000", "10000"})
+    public int depth;
+
+    private InMemoryOrderRepository repository;
+    private OrderCursor cursor;
+
+    @Setup
+    public void setUp() {
+        repository = new InMemoryOrderRepository();
+        Instant start = Instant.parse("2026-01-01T00:00:00Z");
+        for (int i = 0; i < ORDERS; i++) {
+            long storeId = i % 100 + 1;
+            repository.save(new Order(repository.nextId(storeId), storeId, USER,
+                List.of(new OrderItem(101, 1, 12_000)), 12_000, OrderStatus.CONFIRMED, start.plusSeconds(i)));
+        }
+        cursor = depth == 0 ? null : OrderCursor.of(repository.findByUser(USER, null, depth).get(depth - 1));
+    }
+
+    @Benchmark
+    public List<Order> keyset() {
+        return repository.findByUser(USER, cursor, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<Order> offset() {
+        List<Order> scanned = repository.findByUser(USER, null, depth + PAGE_SIZE);
+        return scanned.subList(depth, scanned.size());
+    }
+}
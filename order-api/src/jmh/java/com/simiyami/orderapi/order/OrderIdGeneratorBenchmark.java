@@ -0,0 +1,65 @@
+package com.simiyami.orderapi.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 ID 발급 처리량 - 16 스레드가 동시에 발급 (ops/us, 1 ops/us = 초당 100만 건)
+ * - generator: 가게 stores곳에 무작위로 발급 (샤드별 CAS)
+ *   가게 1곳이면 모든 스레드가 한 샤드에서 경합하고 ms당 64건에서 막힘 (시계를 기다림, 상한 약 0.064 ops/us)
+ * - sequence: 전역 AtomicLong 하나 (DB 시퀀스처럼 모든 발급이 한 곳을 거침)
+ * - uuid: UUID.randomUUID (SecureRandom, 시간순 아님)
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='OrderIdGeneratorBenchmark'
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class OrderIdGeneratorBenchmark {
+
+    @Param({"1", "1000"})
+    public int stores;
+
+    private OrderIdGenerator generator;
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        generator = new OrderIdGenerator(1, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public long generator() {
+        return generator.nextId(ThreadLocalRandom.current().nextInt(stores) + 1);
+    }
+
+    @Benchmark
+    public long sequence() {
+        return sequence.incrementAndGet();
+    }
+
+    @Benchmark
+    public UUID uuid() {
+        return UUID.randomUUID();
+    }
+}
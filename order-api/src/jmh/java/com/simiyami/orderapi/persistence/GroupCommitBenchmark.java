@@ -0,0 +1,73 @@
+package com.simiyami.orderapi.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 커밋 window에 따른 처리량/지연 (32개 스레드가 동시에 주문 크기 레코드를 저장)
+ * - window=none: 묶지 않음 (maxBatch=1, 주문마다 fsync 한 번인 기준선)
+ * - window=0: 기다리지 않고 직전 fsync 동안 쌓인 만큼 묶음
+ * - window=1/2/5: 첫 요청 뒤 해당 ms까지 더 모음
+ * - Throughput 결과가 처리량 곡선, SampleTime 결과(p50/p99)가 지연 곡선
+ *
+ * 실행: gradle :order-api:jmh -PjmhArgs='GroupCommitBenchmark'
+ *      (fsync 비용은 디스크에 따라 크게 다르므로 실제 저널을 둘 디스크에서 실행, -Djava.io.tmpdir로 위치 지정)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class GroupCommitBenchmark {
+
+    private static final byte[] RECORD = new byte[120];
+
+    @Param({"none", "0", "1", "2", "5"})
+    public String window;
+
+    private Path file;
+    private AppendOnlyFileLog log;
+    private GroupCommitter<byte[]> committer;
+
+    @Setup
+    public void setUp() throws IOException {
+        file = Files.createTempFile("group-commit", ".log");
+        log = new AppendOnlyFileLog(file);
+        committer = "none".equals(window)
+            ? new GroupCommitter<>("bench", log, 1, Duration.ZERO, new SimpleMeterRegistry())
+            : new GroupCommitter<>("bench", log, 256, Duration.ofMillis(Long.parseLong(window)),
+                new SimpleMeterRegistry());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        committer.close();
+        log.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public void save() {
+        committer.submit(RECORD).join();
+    }
+}
@@ -0,0 +1,42 @@
+package com.simiyami.orderapi.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simiyami.orderapi.order.Order;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 인스턴스 메모리 L2 캐시 (원격 캐시 대역)
+ * - Redis의 SETEX처럼 쓴 뒤 ttl이 지나면 만료, maxEntries를 넘으면 오래된 것부터 제거
+ *
+ * [Note]
+ * 인스턴스끼리 공유되지 않으므로 L1 바로 뒤에 캐시가 하나 더 있는 것과 같습니다. 개발/테스트용입니다.
+ */
+public class InMemoryRemoteOrderCache implements RemoteOrderCache {
+
+    private final Cache<Long, Order> orders;
+
+    public InMemoryRemoteOrderCache(long maxEntries, Duration ttl) {
+        this.orders = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    @Override
+    public Optional<Order> get(long orderId) {
+        return Optional.ofNullable(orders.getIfPresent(orderId));
+    }
+
+    @Override
+    public void put(Order order) {
+        orders.put(order.id(), order);
+    }
+
+    @Override
+    public void evict(long orderId) {
+        orders.invalidate(orderId);
+    }
+}
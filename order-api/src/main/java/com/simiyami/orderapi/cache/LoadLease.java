@@ -0,0 +1,31 @@
+package com.simiyami.orderapi.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 인스턴스 간 캐시 채우기 임대 (README Singleflight의 분산 락)
+ * - 한 키를 저장소에서 읽어 L2에 채우는 인스턴스를 하나로 제한 (Redis SET NX PX 자리)
+ * - 임대를 놓으면 기다리던 인스턴스에 알림 (Redis Pub/Sub 자리, 폴링하지 않음)
+ * - order.cache.singleflight.lease-type=local (기본값): LocalLoadLease (프로세스 내 전달)
+ * - order.cache.singleflight.lease-type=redis: RedisLoadLease (SET NX PX + Pub/Sub)
+ */
+public interface LoadLease {
+
+    /**
+     * 비어 있거나 만료된 임대를 owner로 잡음
+     * @param ttl 잡은 인스턴스가 놓지 못하고 죽었을 때 임대가 풀리는 시간
+     * @return 잡았으면 true
+     */
+    boolean tryAcquire(long key, long owner, Duration ttl);
+
+    /**
+     * owner가 잡고 있는 임대를 놓고 기다리는 쪽에 알림 (다른 owner의 임대는 건드리지 않음)
+     */
+    void release(long key, long owner);
+
+    /**
+     * 다음 release 알림 (tryAcquire 전에 구독해야 그 사이의 알림을 놓치지 않음)
+     */
+    CompletableFuture<Void> awaitRelease(long key);
+}
@@ -0,0 +1,45 @@
+package com.simiyami.orderapi.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 캐시 채우기 임대
+ * - 키마다 (owner, 만료 시각)을 두고 compute로 잡음, 놓을 때 그 키를 기다리던 future를 완료
+ * - 기다리는 쪽은 키마다 future 하나를 함께 씀 (알림 한 번에 모두 깨어남)
+ *
+ * [Note]
+ * 만료로 풀린 임대는 알림을 보내지 않습니다. 기다리던 쪽은 SingleFlight의 timeout 뒤 직접 읽습니다.
+ */
+public class LocalLoadLease implements LoadLease {
+
+    private record Lease(long owner, long expiresAt) {
+    }
+
+    private final ConcurrentHashMap<Long, Lease> leases = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> releases = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean tryAcquire(long key, long owner, Duration ttl) {
+        long now = System.nanoTime();
+        Lease acquired = new Lease(owner, now + ttl.toNanos());
+        return leases.compute(key, (k, current) ->
+            current == null || current.expiresAt() - now <= 0 ? acquired : current) == acquired;
+    }
+
+    @Override
+    public void release(long key, long owner) {
+        if (leases.computeIfPresent(key, (k, current) -> current.owner() == owner ? null : current) == null) {
+            CompletableFuture<Void> waiting = releases.remove(key);
+            if (waiting != null) {
+                waiting.complete(null);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitRelease(long key) {
+        return releases.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+}
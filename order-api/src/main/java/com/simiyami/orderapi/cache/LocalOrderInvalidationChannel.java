@@ -0,0 +1,27 @@
+package com.simiyami.orderapi.cache;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongConsumer;
+
+/**
+ * 프로세스 내 무효화 채널
+ * - 구독자 모두에게 동기적으로 전달 (order-api가 한 대일 때는 자기 L1만 비움)
+ * - 메시지를 놓치는 일이 없으므로 resync는 호출하지 않음
+ */
+public class LocalOrderInvalidationChannel implements OrderInvalidationChannel {
+
+    private final List<LongConsumer> subscribers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(long orderId) {
+        for (LongConsumer subscriber : subscribers) {
+            subscriber.accept(orderId);
+        }
+    }
+
+    @Override
+    public void subscribe(LongConsumer subscriber, Runnable resync) {
+        subscribers.add(subscriber);
+    }
+}
@@ -0,0 +1,176 @@
+package com.simiyami.orderapi.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.simiyami.orderapi.order.Order;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+/**
+ * 주문 조회 2단계 캐시 (README ㉘~㉚, ㊱)
+ * - L1: 인스턴스 메모리 Caffeine (W-TinyLFU, 크기 제한 + ttl), L2: RemoteOrderCache, 둘 다 없으면 loader(저장소)
+ * - L2나 저장소에서 읽은 주문은 위 단계에 채워 넣음 (없는 주문은 캐시하지 않음)
+ * - L1 미스는 SingleFlight로 합쳐 같은 주문의 L2/저장소 조회를 인스턴스 안에서 한 번, 인스턴스 간 임대 하나로 제한
+ * - 상태가 바뀌면 invalidate: L2에서 지우고 무효화 채널로 알려 모든 인스턴스가 자기 L1에서 지움
+ *   (채널이 재연결로 메시지를 놓쳤을 수 있으면 L1 전체를 비움)
+ * - 읽는 도중에 무효화가 끼어들면 채워 넣은 값을 다시 지움 (무효화 세대 번호로 확인),
+ *   진행 중인 조회도 잊어 무효화 뒤에 온 조회가 그 결과를 함께 받지 않게 함
+ * - 단계별 적중/미스 수와 적중률/미스율을 Micrometer 메트릭으로 노출
+ *
+ * [Note]
+ * 다른 인스턴스의 무효화 메시지가 늦게 도착하면 그 사이 L2에 옛 주문이 채워질 수 있으며, L2 ttl 안에서만 남습니다.
+ */
+public class OrderCache {
+
+    private static final String REQUESTS_METRIC = "order.cache.requests";
+
+    private final Cache<Long, Order> local;
+    private final RemoteOrderCache remote;
+    private final OrderInvalidationChannel channel;
+    private final LongFunction<Optional<Order>> loader;
+    private final SingleFlight<Order> flights;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    /**
+     * @param loader 캐시에 없을 때 주문 조회 (저장소)
+     * @param maxEntries L1 최대 주문 수
+     * @param ttl L1에 채운 뒤 유지하는 시간 (무효화 메시지를 놓쳤을 때의 상한)
+     */
+    public OrderCache(LongFunction<Optional<Order>> loader, RemoteOrderCache remote, OrderInvalidationChannel channel,
+                      SingleFlight<Order> flights, long maxEntries, Duration ttl, MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.flights = flights;
+        this.remote = remote;
+        this.channel = channel;
+        this.local = Caffeine.newBuilder()
+            .maximumSize(maxEntries)
+            .expireAfterWrite(ttl)
+            .build();
+
+        this.l1Hits = requests(meterRegistry, "l1", "hit");
+        this.l1Misses = requests(meterRegistry, "l1", "miss");
+        this.l2Hits = requests(meterRegistry, "l2", "hit");
+        this.l2Misses = requests(meterRegistry, "l2", "miss");
+        ratio(meterRegistry, "order.cache.hit.ratio", "l1", l1Hits, l1Misses);
+        ratio(meterRegistry, "order.cache.miss.ratio", "l1", l1Misses, l1Hits);
+        ratio(meterRegistry, "order.cache.hit.ratio", "l2", l2Hits, l2Misses);
+        ratio(meterRegistry, "order.cache.miss.ratio", "l2", l2Misses, l2Hits);
+        Gauge.builder("order.cache.l1.size", local, Cache::estimatedSize)
+            .description("Number of orders in the local cache")
+            .register(meterRegistry);
+
+        channel.subscribe(this::evictLocal, this::evictAllLocal);
+    }
+
+    public Optional<Order> find(long orderId) {
+        Order cached = local.getIfPresent(orderId);
+        if (cached != null) {
+            l1Hits.increment();
+            return Optional.of(cached);
+        }
+        l1Misses.increment();
+
+        long generation = invalidations.get();
+        Optional<Order> found = flights.load(orderId, this::findRemote, id -> loadThrough(id, generation));
+        found.ifPresent(order -> fillLocal(generation, order));
+        return found;
+    }
+
+    /**
+     * 주문 상태가 바뀐 뒤 호출 - L2에서 지우고 모든 인스턴스에 L1 무효화를 알림
+     */
+    public void invalidate(long orderId) {
+        remote.evict(orderId);
+        channel.publish(orderId);
+    }
+
+    /**
+     * L1에 있는 주문 수 (근사치)
+     */
+    public long localSize() {
+        return local.estimatedSize();
+    }
+
+    /**
+     * L2에 있으면 적중으로 셈 (없을 때의 미스는 저장소를 읽는 쪽에서 셈)
+     */
+    private Optional<Order> findRemote(long orderId) {
+        Optional<Order> found = remote.get(orderId);
+        if (found.isPresent()) {
+            l2Hits.increment();
+        }
+        return found;
+    }
+
+    /**
+     * 저장소에서 읽어 L2에 채움 (읽는 사이 무효화가 있었으면 채운 값을 다시 지움)
+     */
+    private Optional<Order> loadThrough(long orderId, long generation) {
+        l2Misses.increment();
+        Optional<Order> loaded = loader.apply(orderId);
+        loaded.ifPresent(order -> {
+            remote.put(order);
+            if (invalidations.get() != generation) {
+                remote.evict(orderId);
+            }
+        });
+        return loaded;
+    }
+
+    /**
+     * 채운 뒤 그 사이에 무효화가 있었으면 방금 채운 값만 지움 (더 새 값을 지우지 않도록 값까지 비교)
+     */
+    private void fillLocal(long generation, Order order) {
+        local.put(order.id(), order);
+        if (invalidations.get() != generation) {
+            local.asMap().remove(order.id(), order);
+        }
+    }
+
+    private void evictLocal(long orderId) {
+        invalidations.incrementAndGet();
+        flights.forget(orderId);
+        local.invalidate(orderId);
+    }
+
+    /**
+     * 무효화 메시지를 놓쳤을 수 있으면 L1과 진행 중인 조회를 모두 비움
+     */
+    private void evictAllLocal() {
+        invalidations.incrementAndGet();
+        flights.forgetAll();
+        local.invalidateAll();
+    }
+
+    private static Counter requests(MeterRegistry meterRegistry, String level, String result) {
+        return Counter.builder(REQUESTS_METRIC)
+            .description("Order cache lookups by level and result")
+            .tag("level", level)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 그 단계 조회 중 counted의 비율 (적중률/미스율)
+     */
+    private static void ratio(MeterRegistry meterRegistry, String name, String level, Counter counted, Counter other) {
+        Gauge.builder(name, () -> {
+                double total = counted.count() + other.count();
+                return total == 0 ? 0 : counted.count() / total;
+            })
+            .description("Share of lookups at this cache level")
+            .tag("level", level)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package com.simiyami.orderapi.cache;
+
+import java.util.function.LongConsumer;
+
+/**
+ * order-api 인스턴스 간 주문 캐시 무효화 채널 (README ㊱)
+ * - order.cache.invalidation.type=local (기본값): 단일 프로세스 내 전달
+ * - order.cache.invalidation.type=redis: RedisOrderInvalidationChannel (Redis Pub/Sub, 모든 인스턴스에 전달)
+ */
+public interface OrderInvalidationChannel {
+
+    /**
+     * 상태가 바뀐 주문을 모든 인스턴스(자기 자신 포함)에 알림
+     */
+    void publish(long orderId);
+
+    /**
+     * 무효화 메시지 수신 (각 인스턴스가 자기 L1에서 제거)
+     * @param resync 메시지를 놓쳤을 수 있을 때 호출 (재연결 후 재구독 등, L1 전체를 비움)
+     */
+    void subscribe(LongConsumer subscriber, Runnable resync);
+}
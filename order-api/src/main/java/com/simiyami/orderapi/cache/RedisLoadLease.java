@@ -0,0 +1,108 @@
+package com.simiyami.orderapi.cache;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Redis 캐시 채우기 임대 (order.cache.singleflight.lease-type=redis)
+ * - SET NX PX로 임대를 잡고, 값에는 인스턴스 ID + owner를 둠 (다른 인스턴스와 owner가 겹쳐도 남의 임대를 놓지 않음)
+ * - 놓을 때는 값이 자기 owner일 때만 지우고 같은 스크립트 안에서 키를 Pub/Sub으로 발행 (비교 후 삭제와 알림이 원자적)
+ * - 모든 인스턴스(자기 자신 포함)가 구독해 그 키를 기다리던 future를 완료
+ * - 구독이 (재연결 후 자동 재구독 포함) 확인되면 기다리던 future를 모두 완료 (끊긴 동안 놓친 알림 대신 공유 캐시를 다시 읽게 함)
+ *
+ * [Note]
+ * Redis에 닿지 못하면 임대를 잡은 것으로 보고 직접 읽습니다 (캐시 채우기 합치기보다 조회 가용성을 우선, 경고 로그로 확인).
+ * 만료로 풀린 임대는 알림을 보내지 않으므로 기다리던 쪽은 SingleFlight의 timeout 뒤 직접 읽습니다.
+ */
+public class RedisLoadLease implements LoadLease {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisLoadLease.class);
+
+    static final String RELEASE_SCRIPT =
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "redis.call('DEL', KEYS[1]) redis.call('PUBLISH', ARGV[2], ARGV[3]) return 1 end "
+            + "return 0";
+
+    private final String keyPrefix;
+    private final String channel;
+    private final String instanceId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+    private final StatefulRedisConnection<String, String> connection;
+    private final ConcurrentHashMap<Long, CompletableFuture<Void>> releases = new ConcurrentHashMap<>();
+
+    public RedisLoadLease(String keyPrefix, String channel,
+                          StatefulRedisConnection<String, String> connection,
+                          StatefulRedisPubSubConnection<String, String> pubSubConnection) {
+        this.keyPrefix = keyPrefix;
+        this.channel = channel;
+        this.connection = connection;
+        pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String receivedChannel, String message) {
+                if (!channel.equals(receivedChannel)) {
+                    return;
+                }
+                try {
+                    wake(Long.parseLong(message));
+                } catch (NumberFormatException e) {
+                    log.warn("형식이 맞지 않는 임대 해제 메시지 무시: {}", message);
+                }
+            }
+
+            @Override
+            public void subscribed(String subscribedChannel, long count) {
+                if (channel.equals(subscribedChannel)) {
+                    releases.keySet().forEach(RedisLoadLease.this::wake);
+                }
+            }
+        });
+        pubSubConnection.sync().subscribe(channel);
+    }
+
+    @Override
+    public boolean tryAcquire(long key, long owner, Duration ttl) {
+        try {
+            return "OK".equals(connection.sync().set(keyPrefix + key, value(owner),
+                SetArgs.Builder.nx().px(ttl.toMillis())));
+        } catch (RedisException e) {
+            log.warn("캐시 채우기 임대 {} 획득 실패, 직접 조회", key, e);
+            return true;
+        }
+    }
+
+    @Override
+    public void release(long key, long owner) {
+        connection.async().<Long>eval(RELEASE_SCRIPT, ScriptOutputType.INTEGER, new String[]{keyPrefix + key},
+            value(owner), channel, Long.toString(key)).whenComplete((released, error) -> {
+                if (error != null) {
+                    log.warn("캐시 채우기 임대 {} 해제 실패 (lease-ttl 뒤 만료)", key, error);
+                }
+            });
+    }
+
+    @Override
+    public CompletableFuture<Void> awaitRelease(long key) {
+        return releases.computeIfAbsent(key, k -> new CompletableFuture<>());
+    }
+
+    private void wake(long key) {
+        CompletableFuture<Void> waiting = releases.remove(key);
+        if (waiting != null) {
+            waiting.complete(null);
+        }
+    }
+
+    private String value(long owner) {
+        return instanceId + ":" + owner;
+    }
+}
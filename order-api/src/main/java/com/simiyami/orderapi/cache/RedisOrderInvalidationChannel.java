@@ -0,0 +1,69 @@
+package com.simiyami.orderapi.cache;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.pubsub.RedisPubSubAdapter;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Redis Pub/Sub 무효화 채널 (order.cache.invalidation.type=redis)
+ * - 주문 ID를 문자열로 발행하고, 모든 order-api 인스턴스(자기 자신 포함)가 구독해 자기 L1에서 지움
+ * - 발행은 비동기 (상태 변경 요청을 Redis 왕복만큼 늦추지 않음)
+ * - 구독이 (재연결 후 자동 재구독 포함) 확인될 때마다 resync를 호출해 끊긴 동안 놓친 무효화를 L1 전체 비우기로 메움
+ *
+ * [Note]
+ * 발행이 실패하면 다른 인스턴스의 L1에는 옛 주문이 order.cache.l1.ttl 동안 남을 수 있습니다 (경고 로그로 확인).
+ */
+public class RedisOrderInvalidationChannel implements OrderInvalidationChannel {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisOrderInvalidationChannel.class);
+
+    private final String channel;
+    private final StatefulRedisConnection<String, String> connection;
+    private final StatefulRedisPubSubConnection<String, String> pubSubConnection;
+
+    public RedisOrderInvalidationChannel(String channel,
+                                         StatefulRedisConnection<String, String> connection,
+                                         StatefulRedisPubSubConnection<String, String> pubSubConnection) {
+        this.channel = channel;
+        this.connection = connection;
+        this.pubSubConnection = pubSubConnection;
+    }
+
+    @Override
+    public void publish(long orderId) {
+        connection.async().publish(channel, Long.toString(orderId)).whenComplete((receivers, error) -> {
+            if (error != null) {
+                log.warn("주문 {} 무효화 발행 실패", orderId, error);
+            }
+        });
+    }
+
+    @Override
+    public void subscribe(LongConsumer subscriber, Runnable resync) {
+        pubSubConnection.addListener(new RedisPubSubAdapter<>() {
+            @Override
+            public void message(String receivedChannel, String message) {
+                if (!channel.equals(receivedChannel)) {
+                    return;
+                }
+                try {
+                    subscriber.accept(Long.parseLong(message));
+                } catch (NumberFormatException e) {
+                    log.warn("형식이 맞지 않는 무효화 메시지 무시: {}", message);
+                }
+            }
+
+            @Override
+            public void subscribed(String subscribedChannel, long count) {
+                if (channel.equals(subscribedChannel)) {
+                    resync.run();
+                }
+            }
+        });
+        pubSubConnection.sync().subscribe(channel);
+    }
+}
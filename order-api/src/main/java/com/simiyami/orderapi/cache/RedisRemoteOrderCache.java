@@ -0,0 +1,72 @@
+package com.simiyami.orderapi.cache;
+
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderRecordCodec;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Redis L2 캐시 (order.cache.l2.type=redis, 모든 order-api 인스턴스가 공유)
+ * - 키: {keyPrefix}{주문 ID}, 값: 저널과 같은 주문 바이너리 형식 (OrderRecordCodec)
+ * - put은 PSETEX를 기다리지 않고 보냄 (조회 응답을 늦추지 않음, 한 연결의 명령 순서는 유지되므로 뒤이은 evict가 앞섬)
+ * - evict는 DEL이 끝날 때까지 기다림 (무효화 발행보다 먼저 지워져야 다른 인스턴스가 옛 값을 다시 읽지 않음)
+ * - 조회가 실패하면 미스로 보고 저장소에서 읽음 (Redis 장애가 주문 조회 실패로 번지지 않음)
+ */
+public class RedisRemoteOrderCache implements RemoteOrderCache {
+
+    private static final Logger log = LoggerFactory.getLogger(RedisRemoteOrderCache.class);
+
+    private final String keyPrefix;
+    private final long ttlMillis;
+    private final StatefulRedisConnection<String, byte[]> connection;
+
+    public RedisRemoteOrderCache(String keyPrefix, Duration ttl, StatefulRedisConnection<String, byte[]> connection) {
+        this.keyPrefix = keyPrefix;
+        this.ttlMillis = ttl.toMillis();
+        this.connection = connection;
+    }
+
+    @Override
+    public Optional<Order> get(long orderId) {
+        byte[] value;
+        try {
+            value = connection.sync().get(keyPrefix + orderId);
+        } catch (RedisException e) {
+            log.warn("L2에서 주문 {} 조회 실패, 저장소에서 읽음", orderId, e);
+            return Optional.empty();
+        }
+        if (value == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(OrderRecordCodec.decode(value).order());
+        } catch (IllegalArgumentException e) {
+            log.warn("형식이 맞지 않는 L2 주문 {} 무시", orderId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void put(Order order) {
+        connection.async().psetex(keyPrefix + order.id(), ttlMillis, OrderRecordCodec.encode(order, null))
+            .whenComplete((ok, error) -> {
+                if (error != null) {
+                    log.warn("L2에 주문 {} 저장 실패", order.id(), error);
+                }
+            });
+    }
+
+    @Override
+    public void evict(long orderId) {
+        try {
+            connection.sync().del(keyPrefix + orderId);
+        } catch (RedisException e) {
+            log.warn("L2에서 주문 {} 삭제 실패 (ttl 안에서 옛 주문이 남을 수 있음)", orderId, e);
+        }
+    }
+}
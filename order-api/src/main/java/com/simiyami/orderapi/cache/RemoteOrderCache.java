@@ -0,0 +1,19 @@
+package com.simiyami.orderapi.cache;
+
+import com.simiyami.orderapi.order.Order;
+
+import java.util.Optional;
+
+/**
+ * 주문 L2 캐시 (README ㉙, 모든 order-api 인스턴스가 공유하는 원격 캐시)
+ * - order.cache.l2.type=memory (기본값): InMemoryRemoteOrderCache (Redis 대역, 인스턴스 안에서만 공유)
+ * - order.cache.l2.type=redis: RedisRemoteOrderCache (모든 인스턴스가 공유)
+ */
+public interface RemoteOrderCache {
+
+    Optional<Order> get(long orderId);
+
+    void put(Order order);
+
+    void evict(long orderId);
+}
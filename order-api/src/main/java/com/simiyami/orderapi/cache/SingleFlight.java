@@ -0,0 +1,158 @@
+package com.simiyami.orderapi.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongFunction;
+
+/**
+ * 캐시 미스 합치기 (README Singleflight, 폴링/재귀 없음)
+ * - 인스턴스 안: 같은 키의 동시 미스는 먼저 온 호출(리더)의 CompletableFuture 하나를 함께 기다림
+ * - 인스턴스 간: 리더는 LoadLease를 잡은 경우에만 저장소를 읽고, 못 잡으면 잡은 쪽의 release 알림을 기다린 뒤 공유 캐시를 다시 읽음
+ * - 알림 구독은 임대를 잡기 전에 하므로 그 사이에 끝난 채우기의 알림도 받음
+ * - 임대를 잡은 뒤에도 공유 캐시를 한 번 더 확인 (직전에 다른 인스턴스가 채우고 놓은 경우)
+ * - 기다림은 timeout이 상한이고, 넘으면 기다리지 않고 직접 읽음 (임대를 잡은 인스턴스가 죽은 경우 포함)
+ * - 리더의 읽기가 실패하면 같은 예외를 함께 기다린 호출에도 던짐 (실패한 저장소로 재시도가 몰리지 않도록)
+ *
+ * [Note]
+ * 없는 키는 공유 캐시에 남지 않으므로 알림을 받은 다른 인스턴스도 각자 한 번씩 저장소를 읽습니다 (인스턴스 안에서는 합쳐짐).
+ */
+public class SingleFlight<V> {
+
+    private final ConcurrentHashMap<Long, CompletableFuture<Optional<V>>> flights = new ConcurrentHashMap<>();
+    private final LoadLease lease;
+    private final Duration leaseTtl;
+    private final long timeoutNanos;
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter remoteFollowers;
+    private final Counter timeouts;
+
+    /**
+     * @param name 메트릭 태그 이름
+     * @param leaseTtl 인스턴스 간 임대 유지 시간 (저장소 읽기 한 번보다 충분히 길게)
+     * @param timeout 리더나 다른 인스턴스를 기다리는 최대 시간
+     */
+    public SingleFlight(String name, LoadLease lease, Duration leaseTtl, Duration timeout, MeterRegistry meterRegistry) {
+        this.lease = lease;
+        this.leaseTtl = leaseTtl;
+        this.timeoutNanos = timeout.toNanos();
+        this.leaders = loads(meterRegistry, name, "leader");
+        this.followers = loads(meterRegistry, name, "follower");
+        this.remoteFollowers = loads(meterRegistry, name, "remote-follower");
+        this.timeouts = Counter.builder("singleflight.timeouts")
+            .description("Waits that gave up and loaded directly")
+            .tag("name", name)
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param shared 인스턴스 간 공유 캐시 조회 (L2)
+     * @param loader 저장소 조회 (찾은 값은 loader 안에서 공유 캐시에 채움)
+     */
+    public Optional<V> load(long key, LongFunction<Optional<V>> shared, LongFunction<Optional<V>> loader) {
+        CompletableFuture<Optional<V>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<V>> leading = flights.putIfAbsent(key, flight);
+        if (leading != null) {
+            followers.increment();
+            return await(leading, key, loader);
+        }
+
+        leaders.increment();
+        try {
+            Optional<V> loaded = lead(key, shared, loader);
+            flight.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    /**
+     * 진행 중인 조회를 잊음 (이후 호출은 새 리더로 시작, 이미 기다리던 호출은 기존 결과를 받음)
+     */
+    public void forget(long key) {
+        flights.remove(key);
+    }
+
+    /**
+     * 진행 중인 조회를 모두 잊음
+     */
+    public void forgetAll() {
+        flights.clear();
+    }
+
+    /**
+     * 진행 중인 키 수
+     */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private Optional<V> lead(long key, LongFunction<Optional<V>> shared, LongFunction<Optional<V>> loader) {
+        Optional<V> cached = shared.apply(key);
+        if (cached.isPresent()) {
+            return cached;
+        }
+
+        CompletableFuture<Void> released = lease.awaitRelease(key);
+        long owner = ThreadLocalRandom.current().nextLong();
+        if (lease.tryAcquire(key, owner, leaseTtl)) {
+            try {
+                cached = shared.apply(key);
+                return cached.isPresent() ? cached : loader.apply(key);
+            } finally {
+                lease.release(key, owner);
+            }
+        }
+
+        remoteFollowers.increment();
+        try {
+            released.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for cache fill of " + key, e);
+        } catch (ExecutionException | TimeoutException e) {
+            timeouts.increment();
+            return loader.apply(key);
+        }
+        cached = shared.apply(key);
+        return cached.isPresent() ? cached : loader.apply(key);
+    }
+
+    private Optional<V> await(CompletableFuture<Optional<V>> leading, long key, LongFunction<Optional<V>> loader) {
+        try {
+            return leading.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("interrupted while waiting for cache fill of " + key, e);
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause
+                ? cause
+                : new IllegalStateException("cache fill of " + key + " failed", e.getCause());
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            return loader.apply(key);
+        }
+    }
+
+    private static Counter loads(MeterRegistry meterRegistry, String name, String role) {
+        return Counter.builder("singleflight.loads")
+            .description("Cache misses by singleflight role")
+            .tag("name", name)
+            .tag("role", role)
+            .register(meterRegistry);
+    }
+}
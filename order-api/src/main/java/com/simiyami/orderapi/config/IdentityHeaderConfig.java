@@ -0,0 +1,24 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.filter.IdentityHeaderVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 게이트웨이 서명 헤더 인증 설정
+ * - security.identity-header.enabled=true: 게이트웨이와 같은 secret으로 X-Authenticated-Identity 헤더를 검증
+ * - 헤더가 없는 요청(게이트웨이를 거치지 않은 호출 등)은 기존처럼 JWT로 인증
+ */
+@Configuration
+@ConditionalOnProperty(name = "security.identity-header.enabled", havingValue = "true")
+public class IdentityHeaderConfig {
+
+    @Bean
+    public IdentityHeaderVerifier identityHeaderVerifier(@Value("${security.identity-header.secret}") String secret) {
+        return new IdentityHeaderVerifier(secret.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,45 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 재고 설정
+ * - inventory.stripes: 메뉴별 재고 칸 수 (0이면 CPU 수 x 2)
+ * - inventory.initial-stock: 기동 시 채울 한정 수량 메뉴 (메뉴 ID: 수량)
+ * - inventory.hold.*: 결제 대기 주문의 재고 홀드 만료 (타이머 휠)
+ */
+@Configuration
+public class InventoryConfig {
+
+    @Bean
+    public InventoryService inventoryService(@Value("${inventory.stripes:0}") int stripes, Environment environment) {
+        InventoryService inventoryService = new InventoryService(
+            stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors() * 2);
+        Binder.get(environment)
+            .bind("inventory.initial-stock", Bindable.mapOf(Long.class, Long.class))
+            .orElse(Map.of())
+            .forEach(inventoryService::restock);
+        return inventoryService;
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReservationHolds reservationHolds(
+            InventoryService inventoryService,
+            @Value("${inventory.hold.ttl:10m}") Duration ttl,
+            @Value("${inventory.hold.tick:100ms}") Duration tick,
+            @Value("${inventory.hold.wheel-size:8192}") int wheelSize,
+            MeterRegistry meterRegistry) {
+        return new ReservationHolds(inventoryService, ttl, tick, wheelSize, meterRegistry);
+    }
+}
@@ -0,0 +1,40 @@
+package com.simiyami.orderapi.config;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import com.simiyami.common.security.JwkSetManager;
+import com.simiyami.common.security.JwkSetManagerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * JWT 서명 키 설정
+ * - 기본 NimbusJwtDecoder의 지연 조회 대신 JwkSetManager(common)가 미리 받아 둔 키로 검증
+ */
+@Configuration
+@Import(JwkSetManagerConfig.class)
+public class JwkSetConfig {
+
+    @Bean
+    public JwtDecoder jwtDecoder(
+            JwkSetManager jwkSetManager,
+            @Value("${spring.security.oauth2.resourceserver.jwt.issuer-uri:}") String issuerUri) {
+        DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+        processor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSetManager));
+        // 클레임 검증은 Spring Security validator가 담당
+        processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+        decoder.setJwtValidator(issuerUri.isEmpty()
+            ? JwtValidators.createDefault()
+            : JwtValidators.createDefaultWithIssuer(issuerUri));
+        return decoder;
+    }
+}
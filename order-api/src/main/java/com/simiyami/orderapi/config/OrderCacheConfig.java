@@ -0,0 +1,175 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.cache.InMemoryRemoteOrderCache;
+import com.simiyami.orderapi.cache.LoadLease;
+import com.simiyami.orderapi.cache.LocalLoadLease;
+import com.simiyami.orderapi.cache.LocalOrderInvalidationChannel;
+import com.simiyami.orderapi.cache.OrderCache;
+import com.simiyami.orderapi.cache.OrderInvalidationChannel;
+import com.simiyami.orderapi.cache.RedisLoadLease;
+import com.simiyami.orderapi.cache.RedisOrderInvalidationChannel;
+import com.simiyami.orderapi.cache.RedisRemoteOrderCache;
+import com.simiyami.orderapi.cache.RemoteOrderCache;
+import com.simiyami.orderapi.cache.SingleFlight;
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderRepository;
+import com.simiyami.orderapi.order.OrderService;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 주문 조회 캐시 설정
+ * - order.cache.l1.*: 인스턴스 메모리 캐시 크기와 ttl
+ * - order.cache.l2.type=memory (기본값): 인스턴스 메모리 L2 (원격 캐시 대역)
+ * - order.cache.l2.type=redis: Redis L2 (order.cache.l2.redis.uri, 모든 인스턴스가 공유)
+ * - order.cache.invalidation.type=local (기본값): 인스턴스 내부에서만 무효화
+ * - order.cache.invalidation.type=redis: Redis Pub/Sub으로 모든 order-api 인스턴스의 L1 무효화
+ * - order.cache.singleflight.lease-type=local (기본값): 프로세스 내 캐시 채우기 임대
+ * - order.cache.singleflight.lease-type=redis: Redis SET NX PX 임대와 Pub/Sub 해제 알림 (모든 인스턴스가 공유)
+ */
+@Configuration
+public class OrderCacheConfig {
+
+    @Bean
+    public OrderCache orderCache(
+            OrderRepository orderRepository,
+            RemoteOrderCache remoteOrderCache,
+            OrderInvalidationChannel orderInvalidationChannel,
+            LoadLease loadLease,
+            OrderService orderService,
+            @Value("${order.cache.l1.max-entries:100000}") long maxEntries,
+            @Value("${order.cache.l1.ttl:1m}") Duration ttl,
+            @Value("${order.cache.singleflight.lease-ttl:5s}") Duration leaseTtl,
+            @Value("${order.cache.singleflight.timeout:500ms}") Duration timeout,
+            MeterRegistry meterRegistry) {
+        SingleFlight<Order> flights = new SingleFlight<>("order", loadLease, leaseTtl, timeout, meterRegistry);
+        OrderCache orderCache = new OrderCache(orderRepository::findById, remoteOrderCache, orderInvalidationChannel,
+            flights, maxEntries, ttl, meterRegistry);
+        orderService.onStatusChanged(order -> orderCache.invalidate(order.id()));
+        return orderCache;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.l2.type", havingValue = "memory", matchIfMissing = true)
+    static class InMemory {
+
+        @Bean
+        public InMemoryRemoteOrderCache inMemoryRemoteOrderCache(
+                @Value("${order.cache.l2.max-entries:1000000}") long maxEntries,
+                @Value("${order.cache.l2.ttl:10m}") Duration ttl) {
+            return new InMemoryRemoteOrderCache(maxEntries, ttl);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.l2.type", havingValue = "redis")
+    static class RedisL2 {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient orderCacheRedisClient(@Value("${order.cache.l2.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, byte[]> orderCacheConnection(RedisClient orderCacheRedisClient) {
+            return orderCacheRedisClient.connect(RedisCodec.of(StringCodec.UTF8, ByteArrayCodec.INSTANCE));
+        }
+
+        @Bean
+        public RedisRemoteOrderCache redisRemoteOrderCache(
+                @Value("${order.cache.l2.redis.key-prefix:order:}") String keyPrefix,
+                @Value("${order.cache.l2.ttl:10m}") Duration ttl,
+                StatefulRedisConnection<String, byte[]> orderCacheConnection) {
+            return new RedisRemoteOrderCache(keyPrefix, ttl, orderCacheConnection);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.invalidation.type", havingValue = "local", matchIfMissing = true)
+    static class Local {
+
+        @Bean
+        public LocalOrderInvalidationChannel localOrderInvalidationChannel() {
+            return new LocalOrderInvalidationChannel();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.invalidation.type", havingValue = "redis")
+    static class RedisInvalidation {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient invalidationRedisClient(@Value("${order.cache.invalidation.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, String> invalidationConnection(RedisClient invalidationRedisClient) {
+            return invalidationRedisClient.connect();
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisPubSubConnection<String, String> invalidationPubSubConnection(
+                RedisClient invalidationRedisClient) {
+            return invalidationRedisClient.connectPubSub();
+        }
+
+        @Bean
+        public RedisOrderInvalidationChannel redisOrderInvalidationChannel(
+                @Value("${order.cache.invalidation.redis.topic:order-cache-invalidation}") String topic,
+                StatefulRedisConnection<String, String> invalidationConnection,
+                StatefulRedisPubSubConnection<String, String> invalidationPubSubConnection) {
+            return new RedisOrderInvalidationChannel(topic, invalidationConnection, invalidationPubSubConnection);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.singleflight.lease-type", havingValue = "local", matchIfMissing = true)
+    static class LocalLease {
+
+        @Bean
+        public LocalLoadLease localLoadLease() {
+            return new LocalLoadLease();
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.cache.singleflight.lease-type", havingValue = "redis")
+    static class RedisLease {
+
+        @Bean(destroyMethod = "shutdown")
+        public RedisClient leaseRedisClient(@Value("${order.cache.singleflight.redis.uri}") String uri) {
+            return RedisClient.create(uri);
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisConnection<String, String> leaseConnection(RedisClient leaseRedisClient) {
+            return leaseRedisClient.connect();
+        }
+
+        @Bean(destroyMethod = "close")
+        public StatefulRedisPubSubConnection<String, String> leasePubSubConnection(RedisClient leaseRedisClient) {
+            return leaseRedisClient.connectPubSub();
+        }
+
+        @Bean
+        public RedisLoadLease redisLoadLease(
+                @Value("${order.cache.singleflight.redis.key-prefix:order-fill:}") String keyPrefix,
+                @Value("${order.cache.singleflight.redis.topic:order-fill-release}") String topic,
+                StatefulRedisConnection<String, String> leaseConnection,
+                StatefulRedisPubSubConnection<String, String> leasePubSubConnection) {
+            return new RedisLoadLease(keyPrefix, topic, leaseConnection, leasePubSubConnection);
+        }
+    }
+}
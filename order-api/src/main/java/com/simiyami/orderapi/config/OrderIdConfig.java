@@ -0,0 +1,47 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.order.OrderIdGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 주문 ID 발급 설정
+ * - order.id.node-id: 노드 번호 (0~31, 인스턴스마다 다르게 지정)
+ * - order.id.node-id-from-ordinal: true면 호스트 이름의 StatefulSet 순번(order-api-3 → 3)을 노드 번호로 씀
+ * - order.id.replicas: 배포 인스턴스 수
+ * - 둘 다 없으면 단일 인스턴스로 보고 0번 노드로 시작하되 경고를 남기고,
+ *   replicas가 2 이상이면 시작하지 않음 (노드 번호가 겹치면 두 인스턴스가 같은 ID를 발급해 주문을 덮어씀)
+ */
+@Configuration
+public class OrderIdConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderIdConfig.class);
+
+    @Bean
+    public OrderIdGenerator orderIdGenerator(
+            @Value("${order.id.node-id:#{null}}") Integer nodeId,
+            @Value("${order.id.node-id-from-ordinal:false}") boolean fromOrdinal,
+            @Value("${order.id.replicas:1}") int replicas,
+            @Value("${HOSTNAME:}") String hostname,
+            MeterRegistry meterRegistry) {
+        int node;
+        if (nodeId != null) {
+            node = nodeId;
+        } else if (fromOrdinal) {
+            node = OrderIdGenerator.nodeIdOfOrdinal(hostname);
+        } else if (replicas > 1) {
+            throw new IllegalStateException("order.id.node-id must be set to a value unique per instance when "
+                + "order.id.replicas is " + replicas + " (or enable order.id.node-id-from-ordinal on a StatefulSet)");
+        } else {
+            node = 0;
+            log.warn("order.id.node-id가 없어 0번 노드로 시작합니다. 인스턴스를 둘 이상 띄우면 "
+                + "order.id.node-id를 인스턴스마다 다르게 지정하거나 node-id-from-ordinal을 켜세요");
+        }
+        log.info("주문 ID 노드 번호: {} (hostname={})", node, hostname);
+        return new OrderIdGenerator(node, meterRegistry);
+    }
+}
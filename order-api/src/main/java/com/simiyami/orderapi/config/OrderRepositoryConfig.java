@@ -0,0 +1,101 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import com.simiyami.orderapi.order.InMemoryOrderRepository;
+import com.simiyami.orderapi.order.OrderIdGenerator;
+import com.simiyami.orderapi.order.JournaledOrderRepository;
+import com.simiyami.orderapi.order.OrderRecordCodec;
+import com.simiyami.orderapi.order.ShardedOrderRepository;
+import com.simiyami.orderapi.persistence.AppendOnlyFileLog;
+import com.simiyami.orderapi.persistence.GroupCommitter;
+import com.simiyami.orderapi.persistence.MappedJournal;
+import com.simiyami.orderapi.persistence.RecordLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 주문 저장소 설정 (주문 ID는 OrderIdConfig의 OrderIdGenerator로 발급)
+ * - order.repository.type=memory (기본값): 인스턴스 메모리 (가게 기준 파티션, Outbox 저장소 겸용)
+ * - order.repository.type=journal: 그룹 커밋으로 저널에 먼저 쓰고 메모리에 반영, 시작할 때 저널을 재생해 복구
+ *   - 복구한 주문의 재고 예약과 결제 대기 홀드도 다시 잡음
+ *   - order.journal.checkpoint-size만큼 쓸 때마다 체크포인트를 남기고 이전 기록을 지움
+ *   - order.journal.type=mapped (기본값): 메모리 매핑 세그먼트 저널 (order.journal.dir)
+ *     - 주문 ID 인덱스로 끝난 주문을 메모리에서 내리고 조회할 때 저널에서 읽음
+ *   - order.journal.type=file: 파일 하나에 이어 쓰기 (order.journal.path)
+ * - order.repository.type=sharded: 가게 ID 기준 일관 해시 샤딩 (order.sharding.shards개 메모리 샤드, 실행 중 추가 가능)
+ */
+@Configuration
+public class OrderRepositoryConfig {
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.repository.type", havingValue = "memory", matchIfMissing = true)
+    static class Memory {
+
+        @Bean
+        public InMemoryOrderRepository inMemoryOrderRepository(OrderIdGenerator orderIdGenerator) {
+            return new InMemoryOrderRepository(orderIdGenerator);
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.repository.type", havingValue = "journal")
+    static class Journal {
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(name = "order.journal.type", havingValue = "mapped", matchIfMissing = true)
+        public MappedJournal orderJournal(
+                @Value("${order.journal.dir:data/journal}") Path directory,
+                @Value("${order.journal.segment-size:64MB}") DataSize segmentSize) throws IOException {
+            return new MappedJournal(directory, Math.toIntExact(segmentSize.toBytes()), OrderRecordCodec::orderIdOf);
+        }
+
+        @Bean(destroyMethod = "close")
+        @ConditionalOnProperty(name = "order.journal.type", havingValue = "file")
+        public AppendOnlyFileLog orderFileJournal(@Value("${order.journal.path:data/orders.log}") Path path)
+                throws IOException {
+            return new AppendOnlyFileLog(path);
+        }
+
+        @Bean(destroyMethod = "close")
+        public JournaledOrderRepository journaledOrderRepository(
+                RecordLog orderJournal,
+                OrderIdGenerator orderIdGenerator,
+                @Value("${order.group-commit.max-batch:256}") int maxBatch,
+                @Value("${order.group-commit.window:2ms}") Duration window,
+                @Value("${order.journal.checkpoint-size:256MB}") DataSize checkpointSize,
+                InventoryService inventoryService,
+                ReservationHolds reservationHolds,
+                MeterRegistry meterRegistry) throws IOException {
+            JournaledOrderRepository repository = new JournaledOrderRepository(
+                new InMemoryOrderRepository(orderIdGenerator),
+                new GroupCommitter<>("orders", orderJournal, maxBatch, window, meterRegistry),
+                orderJournal, checkpointSize.toBytes());
+            repository.recover(orderJournal);
+            repository.restoreStock(inventoryService, reservationHolds);
+            return repository;
+        }
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "order.repository.type", havingValue = "sharded")
+    static class Sharded {
+
+        @Bean(destroyMethod = "close")
+        public ShardedOrderRepository shardedOrderRepository(
+                OrderIdGenerator orderIdGenerator,
+                @Value("${order.sharding.shards:4}") int shards,
+                @Value("${order.sharding.virtual-nodes:256}") int virtualNodes,
+                MeterRegistry meterRegistry) {
+            return new ShardedOrderRepository(orderIdGenerator, shards, virtualNodes, meterRegistry);
+        }
+    }
+}
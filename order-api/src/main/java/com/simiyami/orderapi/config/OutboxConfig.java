@@ -0,0 +1,45 @@
+package com.simiyami.orderapi.config;
+
+import com.simiyami.orderapi.outbox.EventPublisher;
+import com.simiyami.orderapi.outbox.InProcessEventPublisher;
+import com.simiyami.orderapi.outbox.OutboxRelay;
+import com.simiyami.orderapi.outbox.OutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Outbox 릴레이 설정
+ * - outbox.publisher.type=in-process (기본값): 인스턴스 안 구독자에게 바로 전달 (Kafka 대역)
+ * - outbox.relay.*: 워커 수, 묶음 크기, 폴링/재시도 간격
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public OutboxRelay outboxRelay(
+            OutboxRepository outboxRepository,
+            EventPublisher eventPublisher,
+            @Value("${outbox.relay.workers:4}") int workers,
+            @Value("${outbox.relay.batch-size:256}") int batchSize,
+            @Value("${outbox.relay.poll-interval:10ms}") Duration pollInterval,
+            @Value("${outbox.relay.retry-interval:1s}") Duration retryInterval,
+            MeterRegistry meterRegistry) {
+        return new OutboxRelay(outboxRepository, eventPublisher, workers, batchSize, pollInterval, retryInterval,
+            meterRegistry);
+    }
+
+    @Configuration
+    @ConditionalOnProperty(name = "outbox.publisher.type", havingValue = "in-process", matchIfMissing = true)
+    static class InProcess {
+
+        @Bean
+        public InProcessEventPublisher inProcessEventPublisher() {
+            return new InProcessEventPublisher();
+        }
+    }
+}
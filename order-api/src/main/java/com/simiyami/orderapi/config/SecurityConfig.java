@@ -1,10 +1,18 @@
 package com.simiyami.orderapi.config;
 
+import com.simiyami.common.security.KeycloakRoleConverter;
+import com.simiyami.orderapi.filter.IdentityHeaderAuthenticationFilter;
+import com.simiyami.orderapi.filter.IdentityHeaderVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.web.DefaultBearerTokenResolver;
+import org.springframework.security.oauth2.server.resource.web.authentication.BearerTokenAuthenticationFilter;
 import org.springframework.security.web.SecurityFilterChain;
 
 @Configuration
@@ -12,17 +20,43 @@ import org.springframework.security.web.SecurityFilterChain;
 public class SecurityConfig {
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   ObjectProvider<IdentityHeaderVerifier> identityHeaderVerifier,
+                                                   MeterRegistry meterRegistry) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers("/admin/**").hasRole("admin")
                 .anyRequest().authenticated())
             .oauth2ResourceServer(oauth2 -> oauth2
-                .jwt(jwt -> {}));
+                .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())));
+
+        // 게이트웨이 서명 헤더로 인증된 요청은 Bearer 토큰 검증(RSA)을 건너뜀
+        IdentityHeaderVerifier verifier = identityHeaderVerifier.getIfAvailable();
+        if (verifier != null) {
+            DefaultBearerTokenResolver bearerTokenResolver = new DefaultBearerTokenResolver();
+            http
+                .addFilterBefore(new IdentityHeaderAuthenticationFilter(verifier, meterRegistry),
+                    BearerTokenAuthenticationFilter.class)
+                .oauth2ResourceServer(oauth2 -> oauth2
+                    .bearerTokenResolver(request -> IdentityHeaderAuthenticationFilter.isAuthenticated(request)
+                        ? null
+                        : bearerTokenResolver.resolve(request)));
+        }
 
         return http.build();
     }
+
+    /**
+     * KeyCloak realm/client 역할을 게이트웨이와 같은 변환기로 authority로 바꿈
+     * - 게이트웨이 서명 헤더 경로의 authority도 같은 변환 결과라 /admin/** 판단이 두 경로에서 같음
+     */
+    private static JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(new KeycloakRoleConverter("spike-order-client"));
+        return converter;
+    }
 }
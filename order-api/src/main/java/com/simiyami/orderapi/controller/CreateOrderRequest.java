@@ -0,0 +1,11 @@
+package com.simiyami.orderapi.controller;
+
+import com.simiyami.orderapi.order.OrderItem;
+
+import java.util.List;
+
+/**
+ * 주문 생성 요청 (가게는 X-Store-Id 헤더로 지정 - 게이트웨이 가게별 Rate Limit과 같은 값)
+ */
+public record CreateOrderRequest(List<OrderItem> items) {
+}
@@ -1,22 +1,75 @@
 package com.simiyami.orderapi.controller;
 
+import com.simiyami.orderapi.cache.OrderCache;
+import com.simiyami.orderapi.inventory.InsufficientStockException;
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderCursor;
+import com.simiyami.orderapi.order.OrderService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 
 @RestController
 @RequestMapping("/api/orders")
 public class OrderController {
 
+    private final OrderService orderService;
+    private final OrderCache orderCache;
+
+    public OrderController(OrderService orderService, OrderCache orderCache) {
+        this.orderService = orderService;
+        this.orderCache = orderCache;
+    }
+
+    /**
+     * 주문 생성 (README ⑦~⑫ 핫패스) - 저장 후 즉시 PENDING 응답
+     */
+    @PostMapping
+    public ResponseEntity<OrderResponse> createOrder(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestHeader("X-Store-Id") long storeId,
+            @RequestBody CreateOrderRequest request) {
+        Order order = orderService.create(jwt.getSubject(), storeId, request.items());
+        return ResponseEntity.status(HttpStatus.CREATED).body(OrderResponse.from(order));
+    }
+
+    /**
+     * 주문 조회 (README ㉘~㉚) - L1 → L2 → 저장소 순서로 조회, 본인 주문이 아니면 없는 주문과 같이 404
+     */
+    @GetMapping("/{orderId:\\d+}")
+    public ResponseEntity<OrderResponse> getOrder(@AuthenticationPrincipal Jwt jwt, @PathVariable long orderId) {
+        return orderCache.find(orderId)
+            .filter(order -> Objects.equals(order.userId(), jwt.getSubject()))
+            .map(order -> ResponseEntity.ok(OrderResponse.from(order)))
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    /**
+     * 내 주문 내역 (README ㉚ 키셋 페이징) - 최신 주문부터, 응답의 nextCursor를 다음 요청의 cursor로 넘김
+     */
+    @GetMapping
+    public ResponseEntity<OrderPageResponse> listOrders(
+            @AuthenticationPrincipal Jwt jwt,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        OrderCursor after = cursor == null || cursor.isEmpty() ? null : OrderCursor.decode(cursor);
+        return ResponseEntity.ok(OrderPageResponse.from(orderService.history(jwt.getSubject(), after, size)));
+    }
+
     @GetMapping("/health")
     public ResponseEntity<Map<String, String>> health() {
         return ResponseEntity.ok(Map.of("status", "UP", "service", "order-api"));
@@ -54,4 +107,17 @@ public class OrderController {
 
         return ResponseEntity.ok(response);
     }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, String>> handleInvalidOrder(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+            .body(Map.of("error", HttpStatus.BAD_REQUEST.getReasonPhrase(), "message", e.getMessage()));
+    }
+
+    @ExceptionHandler(InsufficientStockException.class)
+    public ResponseEntity<Map<String, Object>> handleInsufficientStock(InsufficientStockException e) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(Map.of("error", HttpStatus.CONFLICT.getReasonPhrase(), "message", e.getMessage(),
+                "menuId", e.getMenuId()));
+    }
 }
@@ -0,0 +1,19 @@
+package com.simiyami.orderapi.controller;
+
+import com.simiyami.orderapi.order.OrderCursor;
+import com.simiyami.orderapi.order.OrderPage;
+
+import java.util.List;
+
+/**
+ * 주문 내역 응답
+ * @param nextCursor 다음 페이지 요청에 그대로 넘길 커서 (마지막 페이지면 null)
+ */
+public record OrderPageResponse(List<OrderResponse> orders, String nextCursor) {
+
+    public static OrderPageResponse from(OrderPage page) {
+        OrderCursor next = page.next();
+        return new OrderPageResponse(page.orders().stream().map(OrderResponse::from).toList(),
+            next == null ? null : next.encode());
+    }
+}
@@ -0,0 +1,16 @@
+package com.simiyami.orderapi.controller;
+
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderStatus;
+
+import java.time.Instant;
+
+/**
+ * 주문 응답
+ */
+public record OrderResponse(long orderId, long storeId, OrderStatus status, long totalAmount, Instant createdAt) {
+
+    public static OrderResponse from(Order order) {
+        return new OrderResponse(order.id(), order.storeId(), order.status(), order.totalAmount(), order.createdAt());
+    }
+}
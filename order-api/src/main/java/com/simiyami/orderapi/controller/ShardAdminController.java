@@ -0,0 +1,69 @@
+package com.simiyami.orderapi.controller;
+
+import com.simiyami.orderapi.order.ShardedOrderRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 샤드 Admin API (order.repository.type=sharded일 때만)
+ * - 샤드 수, 샤드별 슬롯 수, 아직 옮기는 중인 슬롯 수 조회
+ * - 샤드 추가는 이동을 백그라운드로 시작하고 바로 202 응답 (진행 상황은 GET 또는 order.shard.migrating.slots 메트릭)
+ * - admin 역할 필요
+ */
+@RestController
+@RequestMapping("/admin/shards")
+@ConditionalOnProperty(name = "order.repository.type", havingValue = "sharded")
+public class ShardAdminController {
+
+    private final ShardedOrderRepository repository;
+
+    public ShardAdminController(ShardedOrderRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * 샤드 배치 조회
+     */
+    @GetMapping
+    public ResponseEntity<Map<String, Object>> getShards() {
+        return ResponseEntity.ok(status());
+    }
+
+    /**
+     * 샤드 하나 추가 (앞선 이동이 끝나지 않았으면 409)
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> addShard() {
+        if (repository.migratingSlots() > 0) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "error", "Conflict",
+                "message", "previous shard migration is still running",
+                "migratingSlots", repository.migratingSlots()
+            ));
+        }
+        repository.addShard();
+        return ResponseEntity.accepted().body(status());
+    }
+
+    private Map<String, Object> status() {
+        int shards = repository.shards();
+        List<Integer> slots = new ArrayList<>(shards);
+        for (int shard = 0; shard < shards; shard++) {
+            slots.add(repository.slotsOwnedBy(shard));
+        }
+        return Map.of(
+            "shards", shards,
+            "slots", slots,
+            "migratingSlots", repository.migratingSlots()
+        );
+    }
+}
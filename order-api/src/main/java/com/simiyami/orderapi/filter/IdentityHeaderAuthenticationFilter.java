@@ -0,0 +1,98 @@
+package com.simiyami.orderapi.filter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게이트웨이 서명 헤더 인증 필터 (BearerTokenAuthenticationFilter 앞에 등록)
+ * - 헤더 서명이 맞으면 RSA 검증 없이 인증을 설정하고, 이 요청의 Bearer 토큰 처리를 건너뛰도록 표시
+ * - 헤더가 없거나 서명/만료 검증에 실패하면 아무것도 하지 않음 (기존 JWT 검증으로 처리)
+ * - 컨트롤러의 @AuthenticationPrincipal Jwt가 그대로 동작하도록 헤더 값으로 Jwt를 구성
+ */
+public class IdentityHeaderAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String AUTHENTICATED_ATTRIBUTE = IdentityHeaderAuthenticationFilter.class.getName() + ".AUTHENTICATED";
+
+    private final IdentityHeaderVerifier verifier;
+    private final Clock clock;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+        SecurityContextHolder.getContextHolderStrategy();
+
+    private final Counter verified;
+    private final Counter rejected;
+
+    public IdentityHeaderAuthenticationFilter(IdentityHeaderVerifier verifier, MeterRegistry meterRegistry) {
+        this(verifier, meterRegistry, Clock.systemUTC());
+    }
+
+    IdentityHeaderAuthenticationFilter(IdentityHeaderVerifier verifier, MeterRegistry meterRegistry, Clock clock) {
+        this.verifier = verifier;
+        this.clock = clock;
+        this.verified = meterRegistry.counter("identity.header", "result", "verified");
+        this.rejected = meterRegistry.counter("identity.header", "result", "rejected");
+    }
+
+    /**
+     * 이 요청이 서명 헤더로 인증되었는지 여부 (BearerTokenResolver에서 사용)
+     */
+    public static boolean isAuthenticated(HttpServletRequest request) {
+        return request.getAttribute(AUTHENTICATED_ATTRIBUTE) != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String header = request.getHeader(IdentityHeaderVerifier.HEADER);
+        if (header != null) {
+            IdentityHeaderVerifier.Identity identity = verifier.verify(header, clock.instant());
+            if (identity != null) {
+                SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+                context.setAuthentication(toAuthentication(header, identity));
+                securityContextHolderStrategy.setContext(context);
+                request.setAttribute(AUTHENTICATED_ATTRIBUTE, Boolean.TRUE);
+                verified.increment();
+            } else {
+                rejected.increment();
+            }
+        }
+        chain.doFilter(request, response);
+    }
+
+    private static JwtAuthenticationToken toAuthentication(String header, IdentityHeaderVerifier.Identity identity) {
+        Jwt.Builder jwt = Jwt.withTokenValue(header)
+            .header("alg", "HS256")
+            .expiresAt(identity.expiresAt());
+        if (identity.subject() != null) {
+            jwt.subject(identity.subject());
+        }
+        if (identity.username() != null) {
+            jwt.claim("preferred_username", identity.username());
+        }
+        if (identity.email() != null) {
+            jwt.claim("email", identity.email());
+        }
+
+        List<GrantedAuthority> authorities = new ArrayList<>(identity.authorities().size());
+        for (String authority : identity.authorities()) {
+            authorities.add(new SimpleGrantedAuthority(authority));
+        }
+        return new JwtAuthenticationToken(jwt.build(), authorities);
+    }
+}
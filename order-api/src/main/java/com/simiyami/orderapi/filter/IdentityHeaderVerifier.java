@@ -0,0 +1,109 @@
+package com.simiyami.orderapi.filter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 게이트웨이가 서명한 X-Authenticated-Identity 헤더 검증
+ * - 형식: base64url(payload) + "." + base64url(HMAC-SHA256(base64url(payload)))
+ * - payload: exp(epoch 초), sub, preferred_username, email, authority 목록(쉼표 구분)을 줄바꿈으로 구분
+ * - 서명 비교는 MessageDigest.isEqual (상수 시간)로 하고, 서명이 맞을 때만 payload를 해석
+ */
+public class IdentityHeaderVerifier {
+
+    public static final String HEADER = "X-Authenticated-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final int FIELD_COUNT = 5;
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final ThreadLocal<Mac> macs;
+
+    /**
+     * @param secret 게이트웨이와 공유하는 비밀키 (32바이트 이상)
+     */
+    public IdentityHeaderVerifier(byte[] secret) {
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException("identity header secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    /**
+     * 헤더 검증
+     * @return 서명이 맞고 만료되지 않았으면 사용자 정보, 아니면 null
+     */
+    public Identity verify(String header, Instant now) {
+        int dot = header.indexOf('.');
+        if (dot <= 0 || dot == header.length() - 1) {
+            return null;
+        }
+
+        byte[] bytes = header.getBytes(StandardCharsets.US_ASCII);
+        Mac mac = macs.get();
+        mac.update(bytes, 0, dot);
+        byte[] expected = mac.doFinal();
+
+        byte[] payload;
+        try {
+            byte[] signature = DECODER.decode(Arrays.copyOfRange(bytes, dot + 1, bytes.length));
+            if (!MessageDigest.isEqual(expected, signature)) {
+                return null;
+            }
+            payload = DECODER.decode(Arrays.copyOf(bytes, dot));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+
+        Identity identity = parse(new String(payload, StandardCharsets.UTF_8));
+        if (identity == null || !identity.expiresAt().isAfter(now)) {
+            return null;
+        }
+        return identity;
+    }
+
+    private static Identity parse(String payload) {
+        String[] fields = payload.split("\n", -1);
+        if (fields.length != FIELD_COUNT) {
+            return null;
+        }
+        long exp;
+        try {
+            exp = Long.parseLong(fields[0]);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        List<String> authorities = fields[4].isEmpty() ? List.of() : List.of(fields[4].split(","));
+        return new Identity(emptyToNull(fields[1]), emptyToNull(fields[2]), emptyToNull(fields[3]), authorities,
+            Instant.ofEpochSecond(exp));
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 게이트웨이가 검증한 사용자 정보
+     */
+    public record Identity(String subject, String username, String email, List<String> authorities,
+                           Instant expiresAt) {
+    }
+}
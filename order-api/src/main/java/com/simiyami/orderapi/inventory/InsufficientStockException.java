@@ -0,0 +1,18 @@
+package com.simiyami.orderapi.inventory;
+
+/**
+ * 재고가 모자라 예약하지 못한 경우 (409 Conflict)
+ */
+public class InsufficientStockException extends RuntimeException {
+
+    private final long menuId;
+
+    public InsufficientStockException(long menuId) {
+        super("insufficient stock for menu " + menuId);
+        this.menuId = menuId;
+    }
+
+    public long getMenuId() {
+        return menuId;
+    }
+}
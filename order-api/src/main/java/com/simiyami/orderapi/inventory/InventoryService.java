@@ -0,0 +1,89 @@
+package com.simiyami.orderapi.inventory;
+
+import com.simiyami.orderapi.order.OrderItem;
+
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 재고 예약 (README ⑨)
+ * - 메뉴별 재고는 StripedStock (잠금 없는 줄무늬 카운터)
+ * - 여러 메뉴 주문은 전부 아니면 전무: 중간에 모자라면 앞서 예약한 항목을 되돌리고 실패
+ * - 재고를 등록하지 않은 메뉴는 수량 제한이 없는 메뉴로 보고 예약을 건너뜀 (한정 수량 메뉴만 등록)
+ *
+ * [Note]
+ * 한 주문 안에서 되돌리는 동안 잠깐 빠져 있던 재고 때문에 다른 주문이 품절로 실패할 수 있습니다 (초과 판매는 없음).
+ */
+public class InventoryService {
+
+    private final int stripes;
+    private final ConcurrentHashMap<Long, StripedStock> stocks = new ConcurrentHashMap<>();
+
+    /**
+     * @param stripes 메뉴별 재고 칸 수 (보통 CPU 수 정도)
+     */
+    public InventoryService(int stripes) {
+        this.stripes = stripes;
+    }
+
+    /**
+     * 재고 입고 (등록되지 않은 메뉴면 등록)
+     */
+    public void restock(long menuId, long quantity) {
+        stocks.computeIfAbsent(menuId, id -> new StripedStock(stripes)).restock(quantity);
+    }
+
+    /**
+     * 남은 재고 (등록되지 않은 메뉴면 empty)
+     */
+    public OptionalLong available(long menuId) {
+        StripedStock stock = stocks.get(menuId);
+        return stock == null ? OptionalLong.empty() : OptionalLong.of(stock.available());
+    }
+
+    /**
+     * 주문 항목 전체 예약
+     * @throws InsufficientStockException 한 항목이라도 모자란 경우 (예약된 재고 없음)
+     */
+    public void reserve(List<OrderItem> items) {
+        for (int i = 0, size = items.size(); i < size; i++) {
+            OrderItem item = items.get(i);
+            StripedStock stock = stocks.get(item.menuId());
+            if (stock != null && !stock.tryReserve(item.quantity())) {
+                release(items, i);
+                throw new InsufficientStockException(item.menuId());
+            }
+        }
+    }
+
+    /**
+     * 예약한 주문 항목 반납 (주문 저장 실패, 취소 보상)
+     */
+    public void release(List<OrderItem> items) {
+        release(items, items.size());
+    }
+
+    /**
+     * 메뉴 하나의 수량 반납 (만료된 홀드를 메뉴별로 합쳐 반납할 때)
+     */
+    public void release(long menuId, long quantity) {
+        StripedStock stock = stocks.get(menuId);
+        if (stock != null && quantity > 0) {
+            stock.release(quantity);
+        }
+    }
+
+    /**
+     * 앞에서부터 count개 항목 반납
+     */
+    private void release(List<OrderItem> items, int count) {
+        for (int i = 0; i < count; i++) {
+            OrderItem item = items.get(i);
+            StripedStock stock = stocks.get(item.menuId());
+            if (stock != null) {
+                stock.release(item.quantity());
+            }
+        }
+    }
+}
@@ -0,0 +1,385 @@
+package com.simiyami.orderapi.inventory;
+
+import com.simiyami.orderapi.order.OrderItem;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 결제 대기 주문의 재고 홀드 (만료되면 재고 반납)
+ * - 해시 타이머 휠: 만료 시각을 tick 단위 칸(bucket)에 넣고, 휠 스레드가 tick마다 현재 칸만 확인
+ *   (전체 홀드를 훑지 않으므로 홀드가 수백만 개여도 tick 비용은 그 칸의 홀드 수만큼)
+ * - 등록/해제는 O(1): 등록은 대기 큐에 넣기만 하고, 해제는 상태 CAS 후 휠 스레드가 칸에서 떼어냄
+ * - 한 tick에 만료된 홀드는 메뉴별 수량을 합쳐 메뉴당 한 번씩 반납
+ * - 결제 완료(settle)와 만료가 동시에 일어나도 상태 CAS로 한쪽만 성공
+ * - 만료 리스너가 등록되기 전에는 만료하지 않고, 등록 뒤 밀린 tick을 한꺼번에 처리
+ *   (기동 중 복구한 홀드가 주문 서비스가 리스너를 등록하기 전에 만료되어 주문 상태가 남는 일이 없음)
+ *
+ * [Note]
+ * 만료는 tick 단위로 늦어질 수 있습니다 (최대 tick 하나 + 휠 스레드 지연, inventory.holds.expiry.lag로 확인).
+ * 인스턴스 메모리 기반이라 재시작하면 홀드가 사라지며, 재고도 재시작 시 initial-stock으로 다시 채워집니다.
+ * journal 저장소는 복구한 주문으로 재고 예약과 결제 대기 홀드를 다시 잡습니다 (JournaledOrderRepository.restoreStock).
+ */
+public class ReservationHolds implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReservationHolds.class);
+
+    private static final String HOLDS_METRIC = "inventory.holds";
+
+    private final InventoryService inventoryService;
+    private final long ttlNanos;
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final LongSupplier nanoTime;
+    private final long startNanos;
+
+    private final ConcurrentHashMap<Long, Hold> holds = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Hold> added = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Hold> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong outstanding = new AtomicLong();
+    private final List<Consumer<List<Hold>>> expiryListeners = new CopyOnWriteArrayList<>();
+
+    private final Timer expiryLag;
+    private final DistributionSummary batchSize;
+    private final Counter expired;
+    private final Counter settled;
+    private final Counter released;
+
+    private long tick;
+    private volatile Thread worker;
+    private volatile boolean closed;
+
+    /**
+     * @param ttl 결제를 기다리는 시간 (지나면 재고 반납)
+     * @param tick 만료 확인 단위 (만료 정밀도)
+     * @param wheelSize 휠 칸 수 (2의 거듭제곱으로 올림, ttl / tick 이상이면 홀드가 휠을 두 바퀴 이상 돌지 않음)
+     */
+    public ReservationHolds(InventoryService inventoryService, Duration ttl, Duration tick, int wheelSize,
+                            MeterRegistry meterRegistry) {
+        this(inventoryService, ttl, tick, wheelSize, meterRegistry, System::nanoTime);
+    }
+
+    ReservationHolds(InventoryService inventoryService, Duration ttl, Duration tick, int wheelSize,
+                     MeterRegistry meterRegistry, LongSupplier nanoTime) {
+        if (tick.isZero() || tick.isNegative()) {
+            throw new IllegalArgumentException("tick must be positive");
+        }
+        int size = wheelSize <= 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.inventoryService = inventoryService;
+        this.ttlNanos = ttl.toNanos();
+        this.tickNanos = tick.toNanos();
+        this.mask = size - 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.nanoTime = nanoTime;
+        this.startNanos = nanoTime.getAsLong();
+
+        Gauge.builder(HOLDS_METRIC + ".outstanding", outstanding, AtomicLong::get)
+            .description("Number of reservation holds waiting for payment")
+            .register(meterRegistry);
+        this.expiryLag = Timer.builder(HOLDS_METRIC + ".expiry.lag")
+            .description("Delay between a hold's deadline and the release of its stock")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(HOLDS_METRIC + ".expiry.batch")
+            .description("Number of holds released together in one tick")
+            .register(meterRegistry);
+        this.expired = meterRegistry.counter(HOLDS_METRIC, "result", "expired");
+        this.settled = meterRegistry.counter(HOLDS_METRIC, "result", "settled");
+        this.released = meterRegistry.counter(HOLDS_METRIC, "result", "released");
+    }
+
+    /**
+     * 만료된 홀드를 tick 단위 묶음으로 받을 리스너 (재고 반납 뒤, 휠 스레드에서 호출)
+     * - 시작 뒤에도 등록할 수 있음 (휠 스레드는 등록 시점의 목록 사본을 순회)
+     */
+    public void onExpired(Consumer<List<Hold>> listener) {
+        expiryListeners.add(listener);
+    }
+
+    /**
+     * 휠 스레드 시작
+     */
+    public void start() {
+        Thread thread = new Thread(this::run, "reservation-hold-wheel");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * 예약한 재고를 ttl 동안 홀드
+     */
+    public Hold hold(long orderId, List<OrderItem> items) {
+        return hold(orderId, items, Duration.ZERO);
+    }
+
+    /**
+     * ttl 중 elapsed가 이미 지난 홀드 (복구한 주문의 홀드를 주문 시각 기준 마감으로 다시 잡을 때)
+     * - elapsed가 ttl 이상이면 다음 tick에 만료
+     */
+    public Hold hold(long orderId, List<OrderItem> items, Duration elapsed) {
+        long elapsedNanos = elapsed.isNegative() ? 0
+            : elapsed.compareTo(Duration.ofNanos(ttlNanos)) >= 0 ? ttlNanos : elapsed.toNanos();
+        Hold hold = new Hold(orderId, items, nanoTime.getAsLong() + ttlNanos - elapsedNanos);
+        if (holds.putIfAbsent(orderId, hold) != null) {
+            throw new IllegalStateException("hold already exists for order " + orderId);
+        }
+        outstanding.incrementAndGet();
+        added.offer(hold);
+        return hold;
+    }
+
+    /**
+     * 결제 완료 - 홀드를 풀고 재고는 차감된 채로 둠
+     * @return 만료되기 전에 정산했으면 true (이미 만료/해제됐거나 홀드가 없으면 false)
+     */
+    public boolean settle(long orderId) {
+        if (cancel(orderId) == null) {
+            return false;
+        }
+        settled.increment();
+        return true;
+    }
+
+    /**
+     * 결제 실패/주문 취소 - 홀드를 풀고 재고를 바로 반납
+     * @return 반납했으면 true (이미 만료/정산됐거나 홀드가 없으면 false)
+     */
+    public boolean release(long orderId) {
+        Hold hold = cancel(orderId);
+        if (hold == null) {
+            return false;
+        }
+        inventoryService.release(hold.items());
+        released.increment();
+        return true;
+    }
+
+    /**
+     * 결제를 기다리는 홀드 수
+     */
+    public long outstanding() {
+        return outstanding.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        Thread thread = worker;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * 만료 전인 홀드를 해제 (휠 칸에서 떼어내는 일은 휠 스레드가 다음 tick에 처리)
+     * @return 해제한 홀드 (이미 만료/해제됐거나 없으면 null)
+     */
+    private Hold cancel(long orderId) {
+        Hold hold = holds.get(orderId);
+        if (hold == null || !hold.state.compareAndSet(Hold.WAITING, Hold.CANCELLED)) {
+            return null;
+        }
+        holds.remove(orderId, hold);
+        outstanding.decrementAndGet();
+        cancelled.offer(hold);
+        return hold;
+    }
+
+    private void run() {
+        while (!closed) {
+            if (expiryListeners.isEmpty()) {
+                LockSupport.parkNanos(this, tickNanos);
+                continue;
+            }
+            long deadline = startNanos + (tick + 1) * tickNanos;
+            long sleep = deadline - nanoTime.getAsLong();
+            if (sleep > 0) {
+                LockSupport.parkNanos(this, sleep);
+                continue;
+            }
+            try {
+                advance(nanoTime.getAsLong());
+            } catch (RuntimeException e) {
+                log.error("재고 홀드 만료 처리 실패", e);
+            }
+        }
+    }
+
+    /**
+     * now까지 지난 tick을 모두 처리 (휠 스레드 전용, 테스트는 직접 호출)
+     * @return 이번에 만료된 홀드 수
+     */
+    int advance(long now) {
+        List<Hold> expiredHolds = new ArrayList<>();
+        while (startNanos + (tick + 1) * tickNanos <= now) {
+            transferAdded();
+            unlinkCancelled();
+            wheel[(int) (tick & mask)].expire(expiredHolds);
+            tick++;
+        }
+        if (!expiredHolds.isEmpty()) {
+            releaseBatch(expiredHolds, now);
+        }
+        return expiredHolds.size();
+    }
+
+    private void transferAdded() {
+        for (Hold hold; (hold = added.poll()) != null; ) {
+            if (hold.state.get() != Hold.WAITING) {
+                continue;
+            }
+            long expiryTick = Math.max((hold.deadlineNanos - startNanos + tickNanos - 1) / tickNanos - 1, tick);
+            hold.rounds = (expiryTick - tick) / wheel.length;
+            wheel[(int) (expiryTick & mask)].add(hold);
+        }
+    }
+
+    private void unlinkCancelled() {
+        for (Hold hold; (hold = cancelled.poll()) != null; ) {
+            if (hold.bucket != null) {
+                hold.bucket.remove(hold);
+            }
+        }
+    }
+
+    /**
+     * 만료된 홀드의 재고를 메뉴별로 합쳐 한 번씩 반납
+     */
+    private void releaseBatch(List<Hold> expiredHolds, long now) {
+        Map<Long, long[]> quantities = new HashMap<>();
+        for (Hold hold : expiredHolds) {
+            holds.remove(hold.orderId(), hold);
+            expiryLag.record(Math.max(0, now - hold.deadlineNanos), TimeUnit.NANOSECONDS);
+            for (OrderItem item : hold.items()) {
+                quantities.computeIfAbsent(item.menuId(), menuId -> new long[1])[0] += item.quantity();
+            }
+        }
+        quantities.forEach((menuId, quantity) -> inventoryService.release(menuId, quantity[0]));
+
+        outstanding.addAndGet(-expiredHolds.size());
+        expired.increment(expiredHolds.size());
+        batchSize.record(expiredHolds.size());
+
+        List<Hold> view = List.copyOf(expiredHolds);
+        for (Consumer<List<Hold>> listener : expiryListeners) {
+            try {
+                listener.accept(view);
+            } catch (RuntimeException e) {
+                log.error("재고 홀드 만료 리스너 실패", e);
+            }
+        }
+    }
+
+    /**
+     * 주문 하나의 재고 홀드 (휠 칸의 이중 연결 리스트 노드)
+     */
+    public static final class Hold {
+
+        static final int WAITING = 0;
+        static final int CANCELLED = 1;
+        static final int EXPIRED = 2;
+
+        private final long orderId;
+        private final List<OrderItem> items;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+
+        // 휠 스레드만 접근
+        private long rounds;
+        private Bucket bucket;
+        private Hold prev;
+        private Hold next;
+
+        Hold(long orderId, List<OrderItem> items, long deadlineNanos) {
+            this.orderId = orderId;
+            this.items = items;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public long orderId() {
+            return orderId;
+        }
+
+        public List<OrderItem> items() {
+            return items;
+        }
+    }
+
+    /**
+     * 휠 한 칸 (휠 스레드만 접근)
+     */
+    private static final class Bucket {
+
+        private Hold head;
+        private Hold tail;
+
+        void add(Hold hold) {
+            hold.bucket = this;
+            if (tail == null) {
+                head = tail = hold;
+            } else {
+                tail.next = hold;
+                hold.prev = tail;
+                tail = hold;
+            }
+        }
+
+        void remove(Hold hold) {
+            if (hold.prev != null) {
+                hold.prev.next = hold.next;
+            } else {
+                head = hold.next;
+            }
+            if (hold.next != null) {
+                hold.next.prev = hold.prev;
+            } else {
+                tail = hold.prev;
+            }
+            hold.prev = hold.next = null;
+            hold.bucket = null;
+        }
+
+        /**
+         * 이번 바퀴에 만료될 홀드를 떼어 expired에 담고, 나머지는 남은 바퀴 수만 줄임
+         */
+        void expire(List<Hold> expired) {
+            Hold hold = head;
+            while (hold != null) {
+                Hold next = hold.next;
+                if (hold.rounds <= 0) {
+                    remove(hold);
+                    if (hold.state.compareAndSet(Hold.WAITING, Hold.EXPIRED)) {
+                        expired.add(hold);
+                    }
+                } else {
+                    hold.rounds--;
+                }
+                hold = next;
+            }
+        }
+    }
+}
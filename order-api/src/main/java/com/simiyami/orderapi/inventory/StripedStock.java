@@ -0,0 +1,130 @@
+package com.simiyami.orderapi.inventory;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 메뉴 하나의 재고 (잠금 없는 줄무늬 카운터)
+ * - 재고를 여러 칸(stripe)에 나눠 담고, 스레드마다 자기 칸부터 CAS로 차감 (한 카운터에 모든 스레드가 몰리지 않음)
+ * - 자기 칸이 모자라면 다른 칸에서 모자란 만큼 가져옴 (칸마다 0 아래로 내려가지 않으므로 초과 판매 없음)
+ * - 전체 수량을 모으지 못하면 가져온 만큼 되돌리고 실패 (부분 예약 없음)
+ * - 반납은 자기 칸에 더하기만 함
+ * - 칸끼리 캐시 라인을 공유하지 않도록 간격(PADDING)을 둠
+ *
+ * [Note]
+ * available()은 LongAdder.sum()처럼 칸을 차례로 더한 값이라 동시 변경 중에는 근사치입니다.
+ * 재고가 거의 다 팔린 상태에서 다른 스레드가 되돌리는 중이면 드물게 남은 재고가 있어도 실패할 수 있습니다 (초과 판매 대신 품절 쪽으로 틀림).
+ */
+public class StripedStock {
+
+    /**
+     * 칸 사이 간격 (long 16개 = 128바이트, 인접 라인 프리페치까지 고려)
+     */
+    private static final int PADDING = 16;
+
+    private final int mask;
+    private final AtomicLongArray cells;
+
+    /**
+     * @param stripes 칸 수 (2의 거듭제곱으로 올림)
+     */
+    public StripedStock(int stripes) {
+        int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+        this.mask = size - 1;
+        this.cells = new AtomicLongArray(size * PADDING);
+    }
+
+    /**
+     * 칸 수
+     */
+    public int stripes() {
+        return mask + 1;
+    }
+
+    /**
+     * quantity만큼 예약 (전부 아니면 전무)
+     * @return 예약했으면 true, 재고가 모자라면 false (재고 변화 없음)
+     */
+    public boolean tryReserve(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        int home = home();
+        long remaining = quantity;
+        for (int i = 0; i <= mask && remaining > 0; i++) {
+            remaining -= take((home + i) & mask, remaining);
+        }
+        if (remaining == 0) {
+            return true;
+        }
+        long taken = quantity - remaining;
+        if (taken > 0) {
+            cells.getAndAdd(home * PADDING, taken);
+        }
+        return false;
+    }
+
+    /**
+     * 예약 반납 또는 입고
+     */
+    public void release(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        cells.getAndAdd(home() * PADDING, quantity);
+    }
+
+    /**
+     * 입고 수량을 모든 칸에 고르게 나눠 추가 (처음 재고를 채울 때 어느 스레드든 자기 칸에서 바로 차감하도록)
+     */
+    public void restock(long quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("quantity must be positive");
+        }
+        int stripes = stripes();
+        long share = quantity / stripes;
+        long rest = quantity % stripes;
+        for (int i = 0; i < stripes; i++) {
+            long amount = share + (i < rest ? 1 : 0);
+            if (amount > 0) {
+                cells.getAndAdd(i * PADDING, amount);
+            }
+        }
+    }
+
+    /**
+     * 남은 재고 (모든 칸의 합)
+     */
+    public long available() {
+        long sum = 0;
+        for (int i = 0; i <= mask; i++) {
+            sum += cells.get(i * PADDING);
+        }
+        return sum;
+    }
+
+    /**
+     * index 칸에서 최대 wanted만큼 가져옴
+     * @return 가져온 수량 (칸이 비었으면 0)
+     */
+    private long take(int index, long wanted) {
+        int offset = index * PADDING;
+        long current = cells.get(offset);
+        while (current > 0) {
+            long taken = Math.min(current, wanted);
+            long witness = cells.compareAndExchange(offset, current, current - taken);
+            if (witness == current) {
+                return taken;
+            }
+            current = witness;
+        }
+        return 0;
+    }
+
+    /**
+     * 현재 스레드의 기본 칸
+     */
+    private int home() {
+        long h = Thread.currentThread().threadId() * 0x9e3779b97f4a7c15L;
+        return (int) (h >>> 32) & mask;
+    }
+}
@@ -0,0 +1,308 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import com.simiyami.orderapi.outbox.OutboxRepository;
+import com.simiyami.orderapi.support.LongObjectHashMap;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+
+/**
+ * 인스턴스 메모리 주문 저장소
+ * - 가게 ID로 파티션을 고르고, 파티션마다 long 키 해시맵과 잠금을 따로 둠 (다른 가게 주문끼리 경합 없음)
+ * - 주문 ID 하위 비트에 파티션 번호를 넣어 ID만으로 파티션을 찾음
+ *   (OrderIdGenerator를 주면 그 ID를 쓰고, ID의 샤드 필드 하위 비트가 곧 파티션 번호)
+ * - 키를 박싱하지 않으므로 주문 한 건당 추가 객체는 주문 자체뿐
+ * - Outbox도 파티션마다 큐로 두고 주문과 같은 잠금 안에서 기록 (주문 저장과 이벤트 기록이 한 원자 단위)
+ *   - 파티션마다 누적 발행 수를 세어 저널이 발행 완료를 건수 대신 누적 값으로 기록하게 함
+ * - 사용자마다 (생성 시각, 주문 ID) 순 스킵 리스트를 두어 주문 내역 한 페이지를 O(log n + limit)로 읽음 (키셋 페이징)
+ *
+ * [Note]
+ * 재시작하면 주문이 사라지고 제거 정책도 없으므로 개발/부하 테스트용입니다.
+ * 한 가게에 주문이 몰리면 그 가게의 파티션 잠금 하나에 모이지만, 잠금 구간은 해시맵 put 한 번입니다.
+ * 내역 인덱스는 주문마다 커서 하나와 스킵 리스트 노드를 더 씁니다 (주문자가 없는 주문은 인덱스하지 않음).
+ */
+public class InMemoryOrderRepository implements OrderRepository, OutboxRepository {
+
+    static final int PARTITION_BITS = 6;
+    private static final int PARTITION_COUNT = 1 << PARTITION_BITS;
+    private static final long PARTITION_MASK = PARTITION_COUNT - 1;
+
+    private final Partition[] partitions = new Partition[PARTITION_COUNT];
+    private final LongAdder pendingEvents = new LongAdder();
+    private final ConcurrentHashMap<String, NavigableSet<OrderCursor>> histories = new ConcurrentHashMap<>();
+
+    private final OrderIdGenerator idGenerator;
+
+    public InMemoryOrderRepository() {
+        this(null);
+    }
+
+    /**
+     * @param idGenerator 주문 ID 발급기 (null이면 파티션별 순번으로 발급)
+     */
+    public InMemoryOrderRepository(OrderIdGenerator idGenerator) {
+        this.idGenerator = idGenerator;
+        for (int i = 0; i < PARTITION_COUNT; i++) {
+            partitions[i] = new Partition();
+        }
+    }
+
+    @Override
+    public long nextId(long storeId) {
+        if (idGenerator != null) {
+            return idGenerator.nextId(storeId);
+        }
+        int partition = partitionOf(storeId);
+        return (partitions[partition].sequence.incrementAndGet() << PARTITION_BITS) | partition;
+    }
+
+    @Override
+    public void save(Order order) {
+        Partition partition = partitions[(int) (order.id() & PARTITION_MASK)];
+        synchronized (partition) {
+            partition.orders.put(order.id(), order);
+        }
+        index(order);
+    }
+
+    @Override
+    public void save(Order order, OutboxEvent event) {
+        if (event.orderId() != order.id()) {
+            throw new IllegalArgumentException("event must belong to order " + order.id());
+        }
+        Partition partition = partitions[(int) (order.id() & PARTITION_MASK)];
+        synchronized (partition) {
+            partition.orders.put(order.id(), order);
+            partition.outbox.addLast(event);
+        }
+        pendingEvents.increment();
+        index(order);
+    }
+
+    @Override
+    public Optional<Order> findById(long orderId) {
+        Partition partition = partitions[(int) (orderId & PARTITION_MASK)];
+        synchronized (partition) {
+            return Optional.ofNullable(partition.orders.get(orderId));
+        }
+    }
+
+    @Override
+    public List<Order> findByUser(String userId, OrderCursor after, int limit) {
+        return findByUser(userId, after, limit, this::findById);
+    }
+
+    /**
+     * 내역 인덱스의 주문 ID를 lookup으로 조회 (저널 저장소가 메모리에서 내린 주문을 저널에서 읽도록)
+     */
+    List<Order> findByUser(String userId, OrderCursor after, int limit, LongFunction<Optional<Order>> lookup) {
+        NavigableSet<OrderCursor> history = userId == null ? null : histories.get(userId);
+        if (history == null || limit <= 0) {
+            return List.of();
+        }
+        List<Order> orders = new ArrayList<>(Math.min(limit, 64));
+        for (OrderCursor cursor : after == null ? history : history.tailSet(after, false)) {
+            lookup.apply(cursor.orderId()).ifPresent(orders::add);
+            if (orders.size() == limit) {
+                break;
+            }
+        }
+        return orders;
+    }
+
+    /**
+     * 주문 ID가 조건에 맞는 주문 복사본 (샤드 이동용)
+     */
+    List<Order> orders(LongPredicate orderIdFilter) {
+        List<Order> matched = new ArrayList<>();
+        for (Partition partition : partitions) {
+            synchronized (partition) {
+                partition.orders.forEach((order, orderId) -> {
+                    if (orderIdFilter.test(orderId)) {
+                        matched.add(order);
+                    }
+                });
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 같은 ID의 주문이 없을 때만 저장 (샤드 이동용, 이동 중 새로 저장된 주문을 덮어쓰지 않음)
+     * @return 저장했으면 true
+     */
+    boolean saveIfAbsent(Order order) {
+        Partition partition = partitions[(int) (order.id() & PARTITION_MASK)];
+        synchronized (partition) {
+            if (partition.orders.get(order.id()) != null) {
+                return false;
+            }
+            partition.orders.put(order.id(), order);
+        }
+        index(order);
+        return true;
+    }
+
+    /**
+     * 주문과 내역 인덱스 항목 제거 (샤드 이동용, Outbox 이벤트는 그대로 둠)
+     */
+    void remove(long orderId) {
+        Order removed;
+        Partition partition = partitions[(int) (orderId & PARTITION_MASK)];
+        synchronized (partition) {
+            removed = partition.orders.remove(orderId);
+        }
+        if (removed != null && removed.userId() != null) {
+            NavigableSet<OrderCursor> history = histories.get(removed.userId());
+            if (history != null) {
+                history.remove(OrderCursor.of(removed));
+            }
+        }
+    }
+
+    /**
+     * 주문만 제거하고 내역 인덱스 항목은 그대로 둠 (저널 저장소가 끝난 주문을 메모리에서 내릴 때)
+     */
+    void evict(long orderId) {
+        Partition partition = partitions[(int) (orderId & PARTITION_MASK)];
+        synchronized (partition) {
+            partition.orders.remove(orderId);
+        }
+    }
+
+    /**
+     * 복구한 주문 ID 뒤로 새 ID를 발급하도록 발급기(없으면 파티션 순번)를 올림 (저널 재생용)
+     */
+    void advanceSequence(long orderId) {
+        if (idGenerator != null) {
+            idGenerator.advance(orderId);
+            return;
+        }
+        partitions[(int) (orderId & PARTITION_MASK)].sequence.accumulateAndGet(orderId >>> PARTITION_BITS, Math::max);
+    }
+
+    /**
+     * 저장된 전체 주문 수
+     */
+    public int size() {
+        int size = 0;
+        for (Partition partition : partitions) {
+            synchronized (partition) {
+                size += partition.orders.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public int partitions() {
+        return PARTITION_COUNT;
+    }
+
+    @Override
+    public List<OutboxEvent> fetch(int partition, int max) {
+        Partition target = partitions[partition];
+        synchronized (target) {
+            int count = Math.min(max, target.outbox.size());
+            if (count == 0) {
+                return List.of();
+            }
+            List<OutboxEvent> events = new ArrayList<>(count);
+            Iterator<OutboxEvent> iterator = target.outbox.iterator();
+            for (int i = 0; i < count; i++) {
+                events.add(iterator.next());
+            }
+            return events;
+        }
+    }
+
+    @Override
+    public void markPublished(int partition, int count) {
+        publish(partition, count);
+    }
+
+    /**
+     * 앞에서 count개를 발행 완료로 제거
+     * @return 제거한 뒤 파티션의 누적 발행 수
+     */
+    long publish(int partition, int count) {
+        Partition target = partitions[partition];
+        int removed = 0;
+        long published;
+        synchronized (target) {
+            for (; removed < count && !target.outbox.isEmpty(); removed++) {
+                target.outbox.pollFirst();
+            }
+            published = target.published += removed;
+        }
+        pendingEvents.add(-removed);
+        return published;
+    }
+
+    /**
+     * 누적 발행 수가 published가 될 때까지 앞에서 제거 (저널 재생용, 이미 그 이상이면 그대로)
+     * - Outbox가 비어 있어도 누적 발행 수는 published로 맞춤 (체크포인트는 미발행 이벤트보다 먼저 기록)
+     */
+    void publishThrough(int partition, long published) {
+        Partition target = partitions[partition];
+        int removed = 0;
+        synchronized (target) {
+            for (; target.published + removed < published && !target.outbox.isEmpty(); removed++) {
+                target.outbox.pollFirst();
+            }
+            target.published = Math.max(target.published + removed, published);
+        }
+        pendingEvents.add(-removed);
+    }
+
+    /**
+     * 파티션의 미발행 이벤트를 into에 복사 (체크포인트용, 누적 발행 수와 한 잠금 안에서 읽음)
+     * @return 파티션의 누적 발행 수
+     */
+    long outbox(int partition, List<OutboxEvent> into) {
+        Partition target = partitions[partition];
+        synchronized (target) {
+            into.addAll(target.outbox);
+            return target.published;
+        }
+    }
+
+    @Override
+    public long pending() {
+        return pendingEvents.sum();
+    }
+
+    /**
+     * 주문 내역 인덱스에 추가 (상태만 바뀐 저장은 같은 키라 그대로)
+     * - 주문을 맵에 넣은 뒤에 추가하므로 인덱스로 찾은 주문은 항상 조회됨
+     */
+    private void index(Order order) {
+        if (order.userId() != null) {
+            histories.computeIfAbsent(order.userId(), userId -> new ConcurrentSkipListSet<>()).add(OrderCursor.of(order));
+        }
+    }
+
+    static int partitionOf(long storeId) {
+        long h = storeId * 0x9e3779b97f4a7c15L;
+        return (int) (h >>> (Long.SIZE - PARTITION_BITS));
+    }
+
+    private static final class Partition {
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final LongObjectHashMap<Order> orders = new LongObjectHashMap<>(1024);
+        private final ArrayDeque<OutboxEvent> outbox = new ArrayDeque<>();
+        private long published;
+    }
+}
@@ -0,0 +1,285 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.inventory.InsufficientStockException;
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import com.simiyami.orderapi.outbox.OutboxRepository;
+import com.simiyami.orderapi.persistence.GroupCommitter;
+import com.simiyami.orderapi.persistence.IndexedRecordLog;
+import com.simiyami.orderapi.persistence.RecordLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 저널 기반 주문 저장소 (order.repository.type=journal)
+ * - 저장 기록을 GroupCommitter로 저널에 먼저 쓰고, 디스크에 반영된 뒤에 메모리(InMemoryOrderRepository)에 반영
+ * - 동시에 들어온 저장은 한 묶음으로 fsync 한 번에 반영되므로 처리량이 fsync 횟수에 묶이지 않음
+ * - 메모리 반영은 커밋 스레드에서 저널에 쓴 순서대로 하므로 재시작 후 재생해도 같은 상태(Outbox 순서 포함)가 됨
+ * - 발행 완료도 저널에 기록해 재시작 후 이미 발행한 이벤트를 다시 보내지 않음 (기다리지 않고 파티션 누적 발행 수로 기록)
+ * - 조회(주문 내역 포함)와 Outbox 읽기는 메모리에서 처리
+ * - 저널이 IndexedRecordLog(order.journal.type=mapped)면 끝난 주문(확정/취소)은 반영 뒤 메모리에서 내리고,
+ *   메모리에 없는 주문은 저널의 주문 ID 인덱스로 읽음 (내역 인덱스는 메모리에 그대로 둠)
+ * - 체크포인트: 마지막 체크포인트 뒤로 checkpointBytes 이상 쓰면 커밋 스레드에서 쓰기 사이에 지금 상태
+ *   (파티션별 누적 발행 수와 미발행 이벤트, 전체 주문의 마지막 상태)를 저널 체크포인트로 기록하고 이전 기록을 지움
+ * - restoreStock: 복구한 주문이 잡고 있던 재고를 다시 예약 (결제 대기 주문은 주문 시각 기준 마감으로 홀드도 다시 잡음)
+ *
+ * [Note]
+ * 발행 완료 기록을 쓰기 전에 종료되면 그 이벤트는 재시작 후 다시 발행됩니다 (at-least-once).
+ * 체크포인트는 전체 주문을 레코드로 만들어 쓰는 동안 저장을 멈추므로, 주문 수에 비해 checkpointBytes를 크게 둡니다.
+ */
+public class JournaledOrderRepository implements OrderRepository, OutboxRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(JournaledOrderRepository.class);
+
+    private final InMemoryOrderRepository memory;
+    private final GroupCommitter<byte[]> committer;
+    private final RecordLog journal;
+    /** 끝난 주문을 읽어 올 저널 (IndexedRecordLog가 아니면 null이고 모든 주문을 메모리에 둠) */
+    private final IndexedRecordLog indexed;
+    private final long checkpointBytes;
+    private final AtomicBoolean checkpointing = new AtomicBoolean();
+
+    /**
+     * 체크포인트 없이 사용 (저널이 계속 커짐)
+     */
+    public JournaledOrderRepository(InMemoryOrderRepository memory, GroupCommitter<byte[]> committer) {
+        this(memory, committer, null, 0);
+    }
+
+    /**
+     * @param journal committer가 쓰는 저널 (체크포인트 대상)
+     * @param checkpointBytes 마지막 체크포인트 뒤로 이만큼 쓰면 체크포인트 (0 이하면 checkpoint를 직접 호출할 때만)
+     */
+    public JournaledOrderRepository(InMemoryOrderRepository memory, GroupCommitter<byte[]> committer,
+                                    RecordLog journal, long checkpointBytes) {
+        this.memory = memory;
+        this.committer = committer;
+        this.journal = journal;
+        this.indexed = journal instanceof IndexedRecordLog indexedLog ? indexedLog : null;
+        this.checkpointBytes = checkpointBytes;
+    }
+
+    /**
+     * 저널을 마지막 체크포인트부터 재생해 메모리를 복구 (시작할 때 저장을 받기 전에 한 번)
+     * @return 재생한 레코드 수
+     */
+    public int recover(RecordLog journal) throws IOException {
+        int[] replayed = new int[1];
+        journal.replay(record -> {
+            if (OrderRecordCodec.isPublished(record)) {
+                OrderRecordCodec.Published published = OrderRecordCodec.decodePublished(record);
+                memory.publishThrough(published.partition(), published.published());
+            } else {
+                OrderRecordCodec.Entry entry = OrderRecordCodec.decode(record);
+                memory.advanceSequence(entry.order().id());
+                if (entry.event() == null) {
+                    memory.save(entry.order());
+                } else {
+                    memory.save(entry.order(), entry.event());
+                }
+                evictIfDone(entry.order());
+            }
+            replayed[0]++;
+        });
+        log.info("주문 저널 복구: 레코드 {}건, 주문 {}건, 미발행 이벤트 {}건", replayed[0], memory.size(), memory.pending());
+        return replayed[0];
+    }
+
+    /**
+     * 복구한 주문이 잡고 있던 재고를 다시 예약 (recover 뒤, 주문을 받기 전에 한 번)
+     * - 결제 전/결제 중/결제 실패 주문: 예약하고 홀드를 주문 시각 + ttl 마감으로 다시 잡음
+     *   (재시작하는 동안 마감이 지났으면 곧 만료되어 재고 반납, 주문은 만료 처리)
+     * - 결제 완료/확정 주문: 예약만 (이미 차감된 재고)
+     * - 취소/보상 중 주문: 그대로 (보상 중 주문은 취소로 끝나므로 재고와 홀드를 다시 잡지 않음)
+     * - 재고가 모자라면 (initial-stock을 줄인 경우 등) 경고만 남기고 건너뜀
+     * @return 재고를 다시 예약한 주문 수
+     */
+    public int restoreStock(InventoryService inventoryService, ReservationHolds reservationHolds) {
+        return restoreStock(inventoryService, reservationHolds, Clock.systemUTC());
+    }
+
+    int restoreStock(InventoryService inventoryService, ReservationHolds reservationHolds, Clock clock) {
+        Instant now = clock.instant();
+        int restored = 0;
+        for (Order order : orders()) {
+            if (order.status() == OrderStatus.CANCELLED || order.status() == OrderStatus.COMPENSATING) {
+                continue;
+            }
+            boolean held = order.status() != OrderStatus.PAYMENT_COMPLETED && order.status() != OrderStatus.CONFIRMED;
+            try {
+                inventoryService.reserve(order.items());
+            } catch (InsufficientStockException e) {
+                log.warn("복구한 주문 {}의 재고를 다시 예약하지 못함: {}", order.id(), e.getMessage());
+                continue;
+            }
+            if (held) {
+                reservationHolds.hold(order.id(), order.items(), Duration.between(order.createdAt(), now));
+            }
+            restored++;
+        }
+        log.info("복구한 주문 {}건의 재고를 다시 예약함", restored);
+        return restored;
+    }
+
+    /**
+     * 지금 상태를 저널 체크포인트로 기록 (커밋 스레드에서 앞선 쓰기를 모두 반영한 뒤, 다음 쓰기 전에 실행)
+     * @return 체크포인트가 반영되면 완료되는 future (실패 시 예외로 완료, 이전 기록은 그대로)
+     */
+    public CompletableFuture<Void> checkpoint() {
+        if (journal == null) {
+            throw new IllegalStateException("journal is not configured for checkpoints");
+        }
+        return committer.execute(() -> journal.checkpoint(snapshot()));
+    }
+
+    /**
+     * 체크포인트 레코드 (커밋 스레드에서 호출하므로 주문과 Outbox 추가는 멈춰 있음)
+     * - 파티션마다 누적 발행 수를 미발행 이벤트보다 먼저 두어, 이후의 발행 완료 기록이 그 뒤 이벤트만 제거
+     * - 이벤트와 함께 옛 스냅샷이 저장되므로 주문의 마지막 상태를 맨 뒤에 둠
+     */
+    private List<byte[]> snapshot() {
+        List<byte[]> records = new ArrayList<>();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int partition = 0; partition < memory.partitions(); partition++) {
+            events.clear();
+            long published = memory.outbox(partition, events);
+            records.add(OrderRecordCodec.encodePublished(partition, published));
+            for (OutboxEvent event : events) {
+                records.add(OrderRecordCodec.encode(event.payload(), event));
+            }
+        }
+        for (Order order : orders()) {
+            records.add(OrderRecordCodec.encode(order, null));
+        }
+        return records;
+    }
+
+    /**
+     * 메모리의 주문과 메모리에서 내린 주문 전체 (시작할 때나 커밋 스레드에서만 호출, 저장과 겹치지 않음)
+     */
+    private List<Order> orders() {
+        List<Order> orders = memory.orders(orderId -> true);
+        if (indexed != null) {
+            for (long orderId : indexed.keys()) {
+                if (memory.findById(orderId).isEmpty()) {
+                    readJournal(orderId).ifPresent(orders::add);
+                }
+            }
+        }
+        return orders;
+    }
+
+    @Override
+    public long nextId(long storeId) {
+        return memory.nextId(storeId);
+    }
+
+    @Override
+    public void save(Order order) {
+        await(committer.submit(OrderRecordCodec.encode(order, null), () -> {
+            memory.save(order);
+            evictIfDone(order);
+        }));
+        checkpointIfDue();
+    }
+
+    @Override
+    public void save(Order order, OutboxEvent event) {
+        await(saveAsync(order, event));
+    }
+
+    @Override
+    public CompletableFuture<Void> saveAsync(Order order, OutboxEvent event) {
+        if (event.orderId() != order.id()) {
+            throw new IllegalArgumentException("event must belong to order " + order.id());
+        }
+        CompletableFuture<Void> commit = committer.submit(OrderRecordCodec.encode(order, event), () -> {
+            memory.save(order, event);
+            evictIfDone(order);
+        });
+        checkpointIfDue();
+        return commit;
+    }
+
+    @Override
+    public Optional<Order> findById(long orderId) {
+        Optional<Order> order = memory.findById(orderId);
+        return order.isPresent() || indexed == null ? order : readJournal(orderId);
+    }
+
+    @Override
+    public List<Order> findByUser(String userId, OrderCursor after, int limit) {
+        return memory.findByUser(userId, after, limit, this::findById);
+    }
+
+    @Override
+    public int partitions() {
+        return memory.partitions();
+    }
+
+    @Override
+    public List<OutboxEvent> fetch(int partition, int max) {
+        return memory.fetch(partition, max);
+    }
+
+    @Override
+    public void markPublished(int partition, int count) {
+        long published = memory.publish(partition, count);
+        committer.submit(OrderRecordCodec.encodePublished(partition, published));
+    }
+
+    @Override
+    public long pending() {
+        return memory.pending();
+    }
+
+    @Override
+    public void close() {
+        committer.close();
+    }
+
+    /**
+     * 체크포인트 뒤로 checkpointBytes 이상 썼으면 체크포인트 요청
+     * - 기다리지 않고, 진행 중이면 건너뜀 (실패는 GroupCommitter가 로그로 남기고 다음 저장 때 다시 시도)
+     */
+    private void checkpointIfDue() {
+        if (checkpointBytes <= 0 || journal.sizeSinceCheckpoint() < checkpointBytes
+                || !checkpointing.compareAndSet(false, true)) {
+            return;
+        }
+        checkpoint().whenComplete((ignored, e) -> checkpointing.set(false));
+    }
+
+    /**
+     * 끝난 주문은 메모리에서 내림 (저널에 반영되어 인덱스에 들어간 뒤에 호출)
+     */
+    private void evictIfDone(Order order) {
+        if (indexed != null && order.status().isTerminal()) {
+            memory.evict(order.id());
+        }
+    }
+
+    private Optional<Order> readJournal(long orderId) {
+        return indexed.find(orderId).map(record -> OrderRecordCodec.decode(record).order());
+    }
+
+    private static void await(CompletableFuture<Void> commit) {
+        try {
+            commit.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("order journal write failed", e.getCause());
+        }
+    }
+}
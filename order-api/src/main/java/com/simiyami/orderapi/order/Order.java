@@ -0,0 +1,23 @@
+package com.simiyami.orderapi.order;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 주문 (불변)
+ * @param id 주문 ID (OrderRepository.nextId로 발급)
+ * @param storeId 가게 ID
+ * @param userId 주문자 (JWT sub)
+ * @param items 주문 항목
+ * @param totalAmount 총 금액 (원)
+ */
+public record Order(long id, long storeId, String userId, List<OrderItem> items, long totalAmount,
+                    OrderStatus status, Instant createdAt) {
+
+    /**
+     * 상태만 바꾼 복사본
+     */
+    public Order withStatus(OrderStatus status) {
+        return new Order(id, storeId, userId, items, totalAmount, status, createdAt);
+    }
+}
@@ -0,0 +1,53 @@
+package com.simiyami.orderapi.order;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 주문 내역 키셋 커서 (README ㉚ 키셋 페이징)
+ * - (생성 시각 µs, 주문 ID) 순서로 최신 주문이 앞 (같은 시각이면 ID가 큰 쪽이 앞)
+ * - 사용자 주문 내역 인덱스의 키이자, 페이지 마지막 주문을 가리키는 커서
+ * - 밖으로는 16바이트를 URL-safe base64(패딩 없음, 22자)로 인코딩한 불투명 문자열로만 내보냄
+ */
+public record OrderCursor(long createdAtMicros, long orderId) implements Comparable<OrderCursor> {
+
+    private static final int BYTES = Long.BYTES * 2;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(ChronoUnit.MICROS.between(Instant.EPOCH, order.createdAt()), order.id());
+    }
+
+    /**
+     * @throws IllegalArgumentException 이 클래스가 만든 커서가 아닌 경우
+     */
+    public static OrderCursor decode(String cursor) {
+        byte[] bytes;
+        try {
+            bytes = DECODER.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        if (bytes.length != BYTES) {
+            throw new IllegalArgumentException("invalid cursor");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new OrderCursor(buffer.getLong(), buffer.getLong());
+    }
+
+    public String encode() {
+        return ENCODER.encodeToString(ByteBuffer.allocate(BYTES).putLong(createdAtMicros).putLong(orderId).array());
+    }
+
+    /**
+     * 최신 주문이 앞에 오도록 내림차순
+     */
+    @Override
+    public int compareTo(OrderCursor other) {
+        int byTime = Long.compare(other.createdAtMicros, createdAtMicros);
+        return byTime != 0 ? byTime : Long.compare(other.orderId, orderId);
+    }
+}
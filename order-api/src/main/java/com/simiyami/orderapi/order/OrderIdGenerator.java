@@ -0,0 +1,201 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.support.ConsistentHashRing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 64비트 주문 ID 발급 (Snowflake 방식, 잠금 없음)
+ * - [0][시각 40비트 ms (EPOCH부터, 약 34년)][노드 5비트][순번 6비트][샤드 12비트]
+ * - 샤드 = 가게 ID 해시 상위 12비트 (ShardedOrderRepository의 슬롯, InMemoryOrderRepository는 하위 6비트를 파티션으로 씀)
+ * - 순번은 샤드마다 따로 두고 (시각, 순번)을 long 하나에 묶어 CAS 한 번으로 올림 (다른 가게끼리 경합 없음)
+ * - 같은 ms에 순번 64개를 다 쓰거나 시계가 조금 뒤로 가면 기다리지 않고 마지막 시각에서 이어 발급
+ *   (순번이 넘치면 다음 ms를 미리 씀) - 샤드 안에서 ID는 항상 증가
+ * - 미리 쓴 시각이 시계보다 MAX_LEAD_MILLIS 넘게 앞서면 시계가 따라올 때까지 기다림 (ID 시각이 실제 시각에서 멀어지지 않게)
+ * - 저널 재생 때 advance로 복구한 ID 뒤에서 이어 발급 (재시작 후 같은 ID를 다시 내지 않음)
+ * - 노드 번호는 인스턴스마다 달라야 함 (OrderIdConfig에서 지정값이나 StatefulSet 순번으로 정함)
+ * - encode: 고정 11자 base62 (문자열 정렬 순서가 ID 순서와 같음)
+ *
+ * [Note]
+ * 한 샤드(가게 묶음)가 초당 64,000건을 넘게 발급하면 넘는 만큼 기다립니다.
+ * 시계가 크게 뒤로 가면 그 샤드의 발급은 시계가 마지막 발급 시각을 따라잡을 때까지 멈춥니다 (중복 대신 지연).
+ */
+public class OrderIdGenerator {
+
+    public static final int SHARD_BITS = 12;
+    static final int SEQUENCE_BITS = 6;
+    static final int NODE_BITS = 5;
+    static final int TIMESTAMP_BITS = 40;
+    static final int SHARD_COUNT = 1 << SHARD_BITS;
+    static final int NODE_COUNT = 1 << NODE_BITS;
+    static final Instant EPOCH = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final long SHARD_MASK = SHARD_COUNT - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int NODE_SHIFT = SEQUENCE_BITS + SHARD_BITS;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + NODE_SHIFT;
+    private static final long EPOCH_MILLIS = EPOCH.toEpochMilli();
+
+    /** 시계보다 앞서 발급할 수 있는 최대 시간 (넘으면 기다림) */
+    static final long MAX_LEAD_MILLIS = 4;
+    private static final long WAIT_NANOS = 100_000;
+
+    /** 샤드별 상태를 캐시 라인(64바이트)마다 하나씩 두어 다른 샤드끼리 같은 줄을 두고 다투지 않게 함 */
+    private static final int PADDING_SHIFT = 3;
+
+    private static final int ENCODED_LENGTH = 11;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    private final long node;
+    private final LongSupplier currentMillis;
+    private final AtomicLongArray states = new AtomicLongArray(SHARD_COUNT << PADDING_SHIFT);
+    private final Counter borrowed;
+    private final Counter waits;
+
+    public OrderIdGenerator(int nodeId, MeterRegistry meterRegistry) {
+        this(nodeId, System::currentTimeMillis, meterRegistry);
+    }
+
+    OrderIdGenerator(int nodeId, LongSupplier currentMillis, MeterRegistry meterRegistry) {
+        if (nodeId < 0 || nodeId >= NODE_COUNT) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + (NODE_COUNT - 1));
+        }
+        this.node = nodeId;
+        this.currentMillis = currentMillis;
+        this.borrowed = Counter.builder("order.id.borrowed")
+            .description("Order IDs issued ahead of the wall clock (sequence overflow or clock rollback)")
+            .register(meterRegistry);
+        this.waits = Counter.builder("order.id.waits")
+            .description("Order ID requests that waited for the wall clock to catch up")
+            .register(meterRegistry);
+    }
+
+    /**
+     * StatefulSet 파드 이름(예: order-api-3)의 순번을 노드 번호로 씀 (같은 StatefulSet 안에서 겹치지 않음)
+     * @throws IllegalArgumentException 이름이 -순번으로 끝나지 않거나 순번이 노드 번호 범위를 넘는 경우
+     */
+    public static int nodeIdOfOrdinal(String hostname) {
+        int dash = hostname.lastIndexOf('-');
+        String ordinal = hostname.substring(dash + 1);
+        if (dash < 0 || ordinal.isEmpty() || ordinal.length() > 2 || !ordinal.chars().allMatch(Character::isDigit)) {
+            throw new IllegalArgumentException("hostname has no StatefulSet ordinal: " + hostname);
+        }
+        int nodeId = Integer.parseInt(ordinal);
+        if (nodeId >= NODE_COUNT) {
+            throw new IllegalArgumentException("ordinal " + nodeId + " exceeds max node id " + (NODE_COUNT - 1));
+        }
+        return nodeId;
+    }
+
+    /**
+     * 가게 ID의 샤드 (ID 하위 SHARD_BITS)
+     */
+    public static int shardOf(long storeId) {
+        return (int) (ConsistentHashRing.hash(storeId) >>> (Long.SIZE - SHARD_BITS));
+    }
+
+    public long nextId(long storeId) {
+        int shard = shardOf(storeId);
+        int index = shard << PADDING_SHIFT;
+        long now = currentMillis.getAsLong() - EPOCH_MILLIS;
+        boolean waited = false;
+        while (true) {
+            long last = states.get(index);
+            // 시계가 앞서 있으면 그 ms의 순번 0, 아니면 마지막 상태 + 1 (순번이 넘치면 시각으로 올라감)
+            long next = now > last >>> SEQUENCE_BITS ? now << SEQUENCE_BITS : last + 1;
+            if (next >>> SEQUENCE_BITS > now + MAX_LEAD_MILLIS) {
+                if (!waited) {
+                    waits.increment();
+                    waited = true;
+                }
+                LockSupport.parkNanos(WAIT_NANOS);
+                now = currentMillis.getAsLong() - EPOCH_MILLIS;
+                continue;
+            }
+            if (states.compareAndSet(index, last, next)) {
+                if (next >>> SEQUENCE_BITS > now) {
+                    borrowed.increment();
+                }
+                return (next >>> SEQUENCE_BITS) << TIMESTAMP_SHIFT
+                    | node << NODE_SHIFT
+                    | (next & SEQUENCE_MASK) << SHARD_BITS
+                    | shard;
+            }
+        }
+    }
+
+    /**
+     * 이미 발급된 ID 뒤에서 이어 발급하도록 그 샤드의 상태를 올림 (저널 재생용)
+     */
+    public void advance(long orderId) {
+        int index = shardOfId(orderId) << PADDING_SHIFT;
+        long issued = (orderId >>> TIMESTAMP_SHIFT) << SEQUENCE_BITS | (orderId >>> SHARD_BITS) & SEQUENCE_MASK;
+        states.accumulateAndGet(index, issued, Math::max);
+    }
+
+    /**
+     * ID에 담긴 발급 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH_MILLIS);
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> NODE_SHIFT) & (NODE_COUNT - 1));
+    }
+
+    public static int shardOfId(long id) {
+        return (int) (id & SHARD_MASK);
+    }
+
+    /**
+     * 고정 11자 base62 (앞을 0으로 채움)
+     */
+    public static String encode(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id must not be negative");
+        }
+        char[] encoded = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            encoded[i] = ALPHABET[(int) (id % ALPHABET.length)];
+            id /= ALPHABET.length;
+        }
+        return new String(encoded);
+    }
+
+    /**
+     * @throws IllegalArgumentException encode가 만든 문자열이 아닌 경우
+     */
+    public static long decode(String encoded) {
+        if (encoded.length() != ENCODED_LENGTH) {
+            throw new IllegalArgumentException("invalid order id");
+        }
+        long id = 0;
+        for (int i = 0; i < ENCODED_LENGTH; i++) {
+            int digit = digitOf(encoded.charAt(i));
+            if (digit < 0 || id > (Long.MAX_VALUE - digit) / ALPHABET.length) {
+                throw new IllegalArgumentException("invalid order id");
+            }
+            id = id * ALPHABET.length + digit;
+        }
+        return id;
+    }
+
+    private static int digitOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 36;
+        }
+        return -1;
+    }
+}
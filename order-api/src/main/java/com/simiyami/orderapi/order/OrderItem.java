@@ -0,0 +1,14 @@
+package com.simiyami.orderapi.order;
+
+/**
+ * 주문 항목
+ * @param menuId 메뉴 ID
+ * @param quantity 수량
+ * @param unitPrice 단가 (원)
+ */
+public record OrderItem(long menuId, int quantity, long unitPrice) {
+
+    public long amount() {
+        return unitPrice * quantity;
+    }
+}
@@ -0,0 +1,11 @@
+package com.simiyami.orderapi.order;
+
+import java.util.List;
+
+/**
+ * 주문 내역 한 페이지
+ * @param orders 최신 주문부터
+ * @param next 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record OrderPage(List<Order> orders, OrderCursor next) {
+}
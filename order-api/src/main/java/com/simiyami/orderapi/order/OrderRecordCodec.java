@@ -0,0 +1,157 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주문 저장 기록의 바이너리 형식 (저널용)
+ * - [버전][종류][주문][이벤트(종류가 ORDER_WITH_EVENT일 때)]
+ * - 주문 저장과 Outbox 기록을 한 레코드에 담아 함께 반영되거나 함께 빠지게 함
+ * - 발행 완료 기록: [버전][PUBLISHED][파티션(int)][누적 발행 수(long)] (재시작 후 이미 발행한 이벤트를 건너뛰기 위함)
+ *   - 건수가 아니라 누적 값이라 같은 기록을 두 번 반영하거나 체크포인트 뒤에 다시 반영해도 결과가 같음
+ */
+public final class OrderRecordCodec {
+
+    private static final byte VERSION = 1;
+    private static final byte ORDER = 1;
+    private static final byte ORDER_WITH_EVENT = 2;
+    private static final byte PUBLISHED = 3;
+    private static final int PUBLISHED_SIZE = 2 + Integer.BYTES + Long.BYTES;
+
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private OrderRecordCodec() {
+    }
+
+    /**
+     * 디코딩한 저장 기록
+     * @param event 주문과 함께 기록한 이벤트 (없으면 null)
+     */
+    public record Entry(Order order, OutboxEvent event) {
+    }
+
+    /**
+     * 디코딩한 발행 완료 기록
+     * @param published 파티션에서 지금까지 발행을 마친 이벤트 수
+     */
+    public record Published(int partition, long published) {
+    }
+
+    public static byte[] encode(Order order, OutboxEvent event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(96 + order.items().size() * 20);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(VERSION);
+            out.writeByte(event == null ? ORDER : ORDER_WITH_EVENT);
+            out.writeLong(order.id());
+            out.writeLong(order.storeId());
+            out.writeUTF(order.userId() == null ? "" : order.userId());
+            out.writeShort(order.items().size());
+            for (OrderItem item : order.items()) {
+                out.writeLong(item.menuId());
+                out.writeInt(item.quantity());
+                out.writeLong(item.unitPrice());
+            }
+            out.writeLong(order.totalAmount());
+            out.writeByte(order.status().ordinal());
+            writeInstant(out, order.createdAt());
+            if (event != null) {
+                out.writeUTF(event.type());
+                writeInstant(out, event.createdAt());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static byte[] encodePublished(int partition, long published) {
+        return ByteBuffer.allocate(PUBLISHED_SIZE)
+            .put(VERSION).put(PUBLISHED).putInt(partition).putLong(published)
+            .array();
+    }
+
+    /**
+     * 주문 기록이면 주문 ID, 발행 완료 기록이면 0 (저널 인덱스 키)
+     */
+    public static long orderIdOf(ByteBuffer record) {
+        int kind = record.get(record.position() + 1);
+        return kind == ORDER || kind == ORDER_WITH_EVENT ? record.getLong(record.position() + 2) : 0;
+    }
+
+    public static boolean isPublished(ByteBuffer record) {
+        return record.get(record.position() + 1) == PUBLISHED;
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static Published decodePublished(ByteBuffer record) {
+        if (record.remaining() != PUBLISHED_SIZE || record.get(record.position()) != VERSION
+                || !isPublished(record)) {
+            throw new IllegalArgumentException("malformed published record");
+        }
+        return new Published(record.getInt(record.position() + 2), record.getLong(record.position() + 6));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static Entry decode(ByteBuffer record) {
+        byte[] bytes = new byte[record.remaining()];
+        record.duplicate().get(bytes);
+        return decode(bytes);
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 경우
+     */
+    public static Entry decode(byte[] record) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(record))) {
+            if (in.readByte() != VERSION) {
+                throw new IllegalArgumentException("unsupported order record version");
+            }
+            byte kind = in.readByte();
+            long id = in.readLong();
+            long storeId = in.readLong();
+            String userId = in.readUTF();
+            int itemCount = in.readUnsignedShort();
+            List<OrderItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new OrderItem(in.readLong(), in.readInt(), in.readLong()));
+            }
+            long totalAmount = in.readLong();
+            OrderStatus status = STATUSES[in.readUnsignedByte()];
+            Instant createdAt = readInstant(in);
+            Order order = new Order(id, storeId, userId, List.copyOf(items), totalAmount, status, createdAt);
+
+            OutboxEvent event = null;
+            if (kind == ORDER_WITH_EVENT) {
+                event = new OutboxEvent(id, in.readUTF(), order, readInstant(in));
+            } else if (kind != ORDER) {
+                throw new IllegalArgumentException("unknown order record kind " + kind);
+            }
+            return new Entry(order, event);
+        } catch (IOException | ArrayIndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("malformed order record", e);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+}
@@ -0,0 +1,50 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 주문 저장소
+ * - order.repository.type=memory (기본값): InMemoryOrderRepository
+ * - order.repository.type=journal: JournaledOrderRepository (그룹 커밋 파일 저널 + 메모리)
+ * - order.repository.type=sharded: ShardedOrderRepository (가게 ID 일관 해시 샤딩 + 메모리 샤드)
+ */
+public interface OrderRepository {
+
+    /**
+     * 새 주문 ID 발급
+     * @param storeId 주문할 가게 (저장소가 가게 기준으로 파티션을 나누는 경우 ID에 반영)
+     */
+    long nextId(long storeId);
+
+    void save(Order order);
+
+    /**
+     * 주문 저장과 Outbox 기록을 한 원자 단위로 수행 (둘 다 반영되거나 둘 다 반영되지 않음)
+     * @param event order와 같은 주문의 이벤트
+     */
+    void save(Order order, OutboxEvent event);
+
+    /**
+     * save(order, event)를 요청만 하고 반영을 기다리지 않음
+     * - 요청한 순서대로 반영되므로 주문별 잠금 안에서 요청하고 잠금 밖에서 한꺼번에 기다릴 수 있음
+     * - 기본 구현은 바로 저장하고 완료된 future를 돌려줌 (메모리 저장소)
+     * @return 반영되면 완료되는 future (실패 시 예외로 완료)
+     */
+    default CompletableFuture<Void> saveAsync(Order order, OutboxEvent event) {
+        save(order, event);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    Optional<Order> findById(long orderId);
+
+    /**
+     * 사용자 주문 내역 (최신 주문부터, 키셋 페이징)
+     * @param after 이전 페이지 마지막 주문의 커서 (null이면 첫 페이지)
+     * @param limit 최대 주문 수
+     */
+    List<Order> findByUser(String userId, OrderCursor after, int limit);
+}
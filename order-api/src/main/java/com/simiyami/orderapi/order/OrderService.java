@@ -0,0 +1,277 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 주문 생성 핫패스 (README ⑦~⑫)
+ * - 요청 검증 → 재고 예약 → 주문 저장 + Outbox(order-created) → 재고 홀드 → PENDING 응답 (저장에 실패하면 예약 반납)
+ * - 결제를 기다리다 홀드가 만료되면 재고는 ReservationHolds가 반납하고, 여기서는 PENDING 주문을 CANCELLED로,
+ *   결제 진행 중(PAYMENT_PENDING)인 주문을 COMPENSATING으로 바꿈
+ * - 상태 변경은 OrderStateMachine의 CAS로 결정하고, 이긴 쪽만 주문을 저장하고 이벤트를 기록함
+ * - 전이와 저장은 주문별 잠금(주문 ID 해시로 고른 LOCK_COUNT개 중 하나) 안에서 함께 하므로
+ *   저장 순서가 전이 순서와 같음 (앞선 전이의 저장이 뒤 전이의 저장을 덮어쓰지 않음)
+ * - 상태를 바꿔 저장한 뒤 onStatusChanged 리스너에 알림 (조회 캐시 무효화)
+ * - 멱등키 중복 요청은 게이트웨이(IdempotencyKeyFilter)에서 걸러지므로 여기서는 다시 확인하지 않음
+ *
+ * [Note]
+ * 결제 완료가 홀드 만료와 거의 같은 때 이기면 재고가 이미 반납됐을 수 있습니다 (settle 실패, 상태는 결제 완료로 유지).
+ * 저널 저장소는 그룹 커밋을 기다리는 동안 잠금을 쥐므로, 같은 잠금을 쓰는 다른 주문의 상태 변경이 그만큼 늦어질 수 있습니다.
+ * 홀드 만료 처리는 예외로, 묶음의 저장을 잠금 안에서 요청만 하고 잠금 밖에서 한 번에 기다립니다
+ * (휠 스레드 하나가 만료 주문마다 그룹 커밋을 따로 기다리지 않음).
+ */
+@Service
+public class OrderService {
+
+    static final int MAX_ITEMS = 50;
+    static final int MAX_QUANTITY = 99;
+    static final int MAX_PAGE_SIZE = 100;
+    private static final int LOCK_BITS = 8;
+    private static final int LOCK_COUNT = 1 << LOCK_BITS;
+
+    private final OrderRepository orderRepository;
+    private final InventoryService inventoryService;
+    private final ReservationHolds reservationHolds;
+    private final OrderStateMachine stateMachine = new OrderStateMachine();
+    private final List<Consumer<Order>> statusListeners = new CopyOnWriteArrayList<>();
+    private final Object[] transitionLocks = new Object[LOCK_COUNT];
+    private final Clock clock;
+
+    @Autowired
+    public OrderService(OrderRepository orderRepository, InventoryService inventoryService,
+                        ReservationHolds reservationHolds) {
+        this(orderRepository, inventoryService, reservationHolds, Clock.systemUTC());
+    }
+
+    OrderService(OrderRepository orderRepository, InventoryService inventoryService,
+                 ReservationHolds reservationHolds, Clock clock) {
+        this.orderRepository = orderRepository;
+        this.inventoryService = inventoryService;
+        this.reservationHolds = reservationHolds;
+        this.clock = clock;
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            transitionLocks[i] = new Object();
+        }
+        reservationHolds.onExpired(this::cancelExpired);
+    }
+
+    /**
+     * 주문 생성
+     * @throws IllegalArgumentException 주문 항목이 잘못되었거나 합계 금액이 long 범위를 넘는 경우
+     * @throws com.simiyami.orderapi.inventory.InsufficientStockException 재고가 모자란 경우
+     */
+    public Order create(String userId, long storeId, List<OrderItem> items) {
+        long totalAmount = validate(storeId, items);
+        List<OrderItem> orderItems = List.copyOf(items);
+
+        inventoryService.reserve(orderItems);
+        try {
+            Order order = new Order(orderRepository.nextId(storeId), storeId, userId, orderItems, totalAmount,
+                OrderStatus.PENDING, clock.instant());
+            orderRepository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, order.createdAt()));
+            stateMachine.register(order.id(), order.status());
+            reservationHolds.hold(order.id(), orderItems);
+            return order;
+        } catch (RuntimeException e) {
+            inventoryService.release(orderItems);
+            throw e;
+        }
+    }
+
+    /**
+     * 주문 상태 변경 (결제 결과, 확정, 보상 등)
+     * - 현재 상태에서 target으로 갈 수 있을 때만 CAS로 전이하고, 이긴 경우에만 저장 + 이벤트 기록
+     * - PAYMENT_COMPLETED/CONFIRMED가 되면 재고 홀드를 정산, CANCELLED가 되면 남은 홀드의 재고를 반납
+     * @return 없는 주문이면 empty, 전이하지 못했으면 applied=false와 그 순간의 상태
+     */
+    public Optional<OrderStateMachine.Transition> changeStatus(long orderId, OrderStatus target) {
+        if (!track(orderId)) {
+            return Optional.empty();
+        }
+        Optional<OrderStateMachine.Transition> transition;
+        Optional<Order> changed = Optional.empty();
+        synchronized (lockOf(orderId)) {
+            transition = stateMachine.transition(orderId, target);
+            if (transition.filter(OrderStateMachine.Transition::applied).isPresent()) {
+                changed = persist(orderId, target);
+            }
+        }
+        changed.ifPresent(this::notifyListeners);
+        transition.filter(OrderStateMachine.Transition::applied).ifPresent(applied -> {
+            if (target == OrderStatus.PAYMENT_COMPLETED || target == OrderStatus.CONFIRMED) {
+                reservationHolds.settle(orderId);
+            } else if (target == OrderStatus.CANCELLED) {
+                reservationHolds.release(orderId);
+            }
+        });
+        return transition;
+    }
+
+    /**
+     * 사용자 주문 내역 한 페이지 (최신 주문부터, 키셋 페이징이라 몇 번째 페이지든 비용이 같음)
+     * - size + 1개를 읽어 다음 페이지가 있는지 확인
+     * @param after 이전 페이지의 next (null이면 첫 페이지)
+     * @throws IllegalArgumentException size가 1~MAX_PAGE_SIZE를 벗어난 경우
+     */
+    public OrderPage history(String userId, OrderCursor after, int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        List<Order> orders = orderRepository.findByUser(userId, after, size + 1);
+        if (orders.size() <= size) {
+            return new OrderPage(orders, null);
+        }
+        List<Order> page = orders.subList(0, size);
+        return new OrderPage(page, OrderCursor.of(page.get(size - 1)));
+    }
+
+    /**
+     * 상태를 바꿔 저장한 주문을 받을 리스너 등록 (저장한 스레드에서 호출)
+     */
+    public void onStatusChanged(Consumer<Order> listener) {
+        statusListeners.add(listener);
+    }
+
+    public Optional<OrderStatus> status(long orderId) {
+        return track(orderId) ? stateMachine.status(orderId) : Optional.empty();
+    }
+
+    /**
+     * 결제 없이 홀드가 만료된 주문 처리 (휠 스레드에서 묶음으로 호출, 재고는 이미 반납됨)
+     * - PENDING이면 CANCELLED, PAYMENT_PENDING이면 결제 시간 초과로 COMPENSATING
+     * - 결제 결과가 먼저 반영됐으면 CAS에서 져서 아무것도 하지 않음
+     * - 전이와 저장 요청은 주문별 잠금 안에서 하고, 묶음 전체의 저장은 잠금 밖에서 한 번에 기다림
+     *   (저장소가 요청 순서대로 반영하므로 잠금 안에서 요청하면 전이 순서가 유지됨)
+     * - 반영된 주문만 리스너에 알리고, 실패한 저장이 있으면 나머지를 모두 기다린 뒤 던짐
+     */
+    private void cancelExpired(List<ReservationHolds.Hold> expired) {
+        List<Order> changed = new ArrayList<>(expired.size());
+        List<CompletableFuture<Void>> commits = new ArrayList<>(expired.size());
+        for (ReservationHolds.Hold hold : expired) {
+            long orderId = hold.orderId();
+            if (!track(orderId)) {
+                continue;
+            }
+            synchronized (lockOf(orderId)) {
+                Optional<OrderStateMachine.Transition> cancel =
+                    stateMachine.transition(orderId, OrderStatus.PENDING, OrderStatus.CANCELLED);
+                OrderStatus target = null;
+                if (cancel.isPresent() && cancel.get().applied()) {
+                    target = OrderStatus.CANCELLED;
+                } else if (cancel.isPresent() && cancel.get().current() == OrderStatus.PAYMENT_PENDING
+                    && stateMachine.transition(orderId, OrderStatus.PAYMENT_PENDING, OrderStatus.COMPENSATING)
+                        .filter(OrderStateMachine.Transition::applied).isPresent()) {
+                    target = OrderStatus.COMPENSATING;
+                }
+                if (target != null) {
+                    OrderStatus status = target;
+                    orderRepository.findById(orderId).map(order -> order.withStatus(status)).ifPresent(order -> {
+                        commits.add(orderRepository.saveAsync(order, eventOf(order, status)));
+                        changed.add(order);
+                    });
+                }
+            }
+        }
+
+        RuntimeException failure = null;
+        for (int i = 0; i < commits.size(); i++) {
+            try {
+                commits.get(i).join();
+                notifyListeners(changed.get(i));
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = new IllegalStateException("order journal write failed", e.getCause());
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 상태 머신에 없는 주문(재시작 후 복구한 주문 등)은 저장된 상태로 등록
+     * @return 주문이 있으면 true
+     */
+    private boolean track(long orderId) {
+        if (stateMachine.contains(orderId)) {
+            return true;
+        }
+        Optional<Order> order = orderRepository.findById(orderId);
+        order.ifPresent(found -> stateMachine.register(orderId, found.status()));
+        return order.isPresent();
+    }
+
+    /**
+     * 전이한 상태로 주문 저장 + 이벤트 기록 (전이와 같은 주문별 잠금 안에서 호출)
+     * @return 저장한 주문 (리스너 알림은 잠금 밖에서)
+     */
+    private Optional<Order> persist(long orderId, OrderStatus status) {
+        Optional<Order> changed = orderRepository.findById(orderId).map(order -> order.withStatus(status));
+        changed.ifPresent(order -> orderRepository.save(order, eventOf(order, status)));
+        return changed;
+    }
+
+    private OutboxEvent eventOf(Order order, OrderStatus status) {
+        return OutboxEvent.of(
+            status == OrderStatus.CANCELLED ? OutboxEvent.ORDER_CANCELLED : OutboxEvent.ORDER_STATUS_CHANGED,
+            order, clock.instant());
+    }
+
+    private void notifyListeners(Order changed) {
+        for (Consumer<Order> listener : statusListeners) {
+            listener.accept(changed);
+        }
+    }
+
+    /**
+     * 주문 ID를 섞어 잠금을 고름 (ID 하위 비트는 가게 슬롯이라 그대로 쓰면 한 가게의 주문이 한 잠금에 모임)
+     */
+    private Object lockOf(long orderId) {
+        return transitionLocks[(int) ((orderId * 0x9e3779b97f4a7c15L) >>> (Long.SIZE - LOCK_BITS))];
+    }
+
+    private static long validate(long storeId, List<OrderItem> items) {
+        if (storeId <= 0) {
+            throw new IllegalArgumentException("storeId must be positive");
+        }
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("items must not be empty");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new IllegalArgumentException("too many items (max " + MAX_ITEMS + ")");
+        }
+
+        long totalAmount = 0;
+        for (int i = 0, size = items.size(); i < size; i++) {
+            OrderItem item = items.get(i);
+            if (item == null || item.menuId() <= 0) {
+                throw new IllegalArgumentException("items[" + i + "].menuId must be positive");
+            }
+            if (item.quantity() <= 0 || item.quantity() > MAX_QUANTITY) {
+                throw new IllegalArgumentException("items[" + i + "].quantity must be between 1 and " + MAX_QUANTITY);
+            }
+            if (item.unitPrice() < 0) {
+                throw new IllegalArgumentException("items[" + i + "].unitPrice must not be negative");
+            }
+            try {
+                totalAmount = Math.addExact(totalAmount, Math.multiplyExact(item.unitPrice(), item.quantity()));
+            } catch (ArithmeticException e) {
+                throw new IllegalArgumentException("total amount overflows at items[" + i + "]");
+            }
+        }
+        return totalAmount;
+    }
+}
@@ -0,0 +1,106 @@
+package com.simiyami.orderapi.order;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 주문 상태 머신 (잠금 없는 CAS 전이)
+ * - 주문마다 상태를 int 칸(AtomicInteger, OrderStatus ordinal) 하나로 두고 전이는 CAS 한 번으로 반영
+ * - 전이 가능 여부는 OrderStatus의 미리 만든 전이표로 확인 (허용되지 않는 전이는 CAS하지 않음)
+ * - 결제 결과, 시간 초과, 보상이 같은 주문에서 동시에 일어나도 CAS에 성공한 한쪽만 반영되고,
+ *   진 쪽은 기다리지 않고 이긴 쪽이 남긴 상태를 결과로 받음 (compareAndExchange의 목격값)
+ * - 상태 그래프에 순환이 없으므로 CAS 재시도는 상태가 앞으로 나아갈 때만 일어나고 유한 번에 끝남
+ *
+ * [Note]
+ * 이긴 쪽이 주문 저장(OrderRepository.save)을 맡습니다. 만료 처리처럼 이벤트와 무관하게 시작하는 전이도 있으므로,
+ * OrderService는 전이와 저장을 주문별 잠금 안에서 함께 해 저장 순서를 전이 순서와 맞춥니다.
+ * 종료 상태가 된 주문도 지우지 않으므로 (InMemoryOrderRepository와 같이) 개발/부하 테스트 규모를 전제로 합니다.
+ */
+public class OrderStateMachine {
+
+    private final ConcurrentHashMap<Long, AtomicInteger> states = new ConcurrentHashMap<>();
+
+    /**
+     * 전이 결과
+     * @param applied 이번 호출로 전이했으면 true
+     * @param previous 전이 직전 상태 (실패했으면 current와 같음)
+     * @param current 호출이 끝난 시점에 관찰한 상태 (실패했으면 이긴 쪽이 남긴 상태)
+     */
+    public record Transition(boolean applied, OrderStatus previous, OrderStatus current) {
+
+        static Transition applied(OrderStatus previous, OrderStatus current) {
+            return new Transition(true, previous, current);
+        }
+
+        static Transition rejected(OrderStatus observed) {
+            return new Transition(false, observed, observed);
+        }
+    }
+
+    /**
+     * 주문 상태 등록 (이미 등록된 주문이면 기존 상태 유지)
+     */
+    public void register(long orderId, OrderStatus status) {
+        states.putIfAbsent(orderId, new AtomicInteger(status.ordinal()));
+    }
+
+    public boolean contains(long orderId) {
+        return states.containsKey(orderId);
+    }
+
+    public Optional<OrderStatus> status(long orderId) {
+        AtomicInteger state = states.get(orderId);
+        return state == null ? Optional.empty() : Optional.of(OrderStatus.of(state.get()));
+    }
+
+    /**
+     * 현재 상태에서 target으로 갈 수 있으면 전이
+     * - 다른 스레드가 먼저 바꿔도 바뀐 상태에서 target으로 갈 수 있으면 다시 시도
+     * @return 등록되지 않은 주문이면 empty
+     */
+    public Optional<Transition> transition(long orderId, OrderStatus target) {
+        AtomicInteger state = states.get(orderId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        int current = state.get();
+        while (true) {
+            OrderStatus observed = OrderStatus.of(current);
+            if (!observed.canTransitionTo(target)) {
+                return Optional.of(Transition.rejected(observed));
+            }
+            int witness = state.compareAndExchange(current, target.ordinal());
+            if (witness == current) {
+                return Optional.of(Transition.applied(observed, target));
+            }
+            current = witness;
+        }
+    }
+
+    /**
+     * 상태가 expected일 때만 target으로 전이 (CAS 한 번, 실패하면 그 순간의 상태를 돌려줌)
+     * @return 등록되지 않은 주문이면 empty
+     * @throws IllegalArgumentException 전이표에 없는 전이인 경우
+     */
+    public Optional<Transition> transition(long orderId, OrderStatus expected, OrderStatus target) {
+        if (!expected.canTransitionTo(target)) {
+            throw new IllegalArgumentException("transition " + expected + " -> " + target + " is not allowed");
+        }
+        AtomicInteger state = states.get(orderId);
+        if (state == null) {
+            return Optional.empty();
+        }
+        int witness = state.compareAndExchange(expected.ordinal(), target.ordinal());
+        return Optional.of(witness == expected.ordinal()
+            ? Transition.applied(expected, target)
+            : Transition.rejected(OrderStatus.of(witness)));
+    }
+
+    /**
+     * 등록된 주문 수
+     */
+    public int size() {
+        return states.size();
+    }
+}
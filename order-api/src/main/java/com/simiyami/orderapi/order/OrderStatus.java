@@ -0,0 +1,52 @@
+package com.simiyami.orderapi.order;
+
+/**
+ * 주문 상태 (README SAGA 상태 머신 기준)
+ * - PENDING → PAYMENT_PENDING → PAYMENT_COMPLETED → CONFIRMED
+ * - PAYMENT_PENDING → PAYMENT_FAILED → COMPENSATING → CANCELLED
+ * - PENDING → CANCELLED (결제 전 홀드 만료), PAYMENT_PENDING/PAYMENT_COMPLETED → COMPENSATING (결제 시간 초과/확정 실패)
+ * - PAYMENT_PENDING → CONFIRMED (결제 완료와 확정을 한 번에 받는 경우)
+ * - CONFIRMED, CANCELLED는 종료 상태
+ * - 전이표는 상태마다 갈 수 있는 상태의 비트마스크로 미리 만들어 둠 (전이 확인은 배열 조회 + 비트 연산 한 번)
+ */
+public enum OrderStatus {
+    PENDING,
+    PAYMENT_PENDING,
+    PAYMENT_COMPLETED,
+    CONFIRMED,
+    PAYMENT_FAILED,
+    COMPENSATING,
+    CANCELLED;
+
+    private static final OrderStatus[] VALUES = values();
+    private static final int[] TRANSITIONS = new int[VALUES.length];
+
+    static {
+        allow(PENDING, PAYMENT_PENDING, CANCELLED);
+        allow(PAYMENT_PENDING, PAYMENT_COMPLETED, CONFIRMED, PAYMENT_FAILED, COMPENSATING);
+        allow(PAYMENT_COMPLETED, CONFIRMED, COMPENSATING);
+        allow(PAYMENT_FAILED, COMPENSATING);
+        allow(COMPENSATING, CANCELLED);
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return (TRANSITIONS[ordinal()] & (1 << next.ordinal())) != 0;
+    }
+
+    public boolean isTerminal() {
+        return TRANSITIONS[ordinal()] == 0;
+    }
+
+    /**
+     * ordinal로 상태 조회 (OrderStateMachine의 int 상태 칸 해석용)
+     */
+    static OrderStatus of(int ordinal) {
+        return VALUES[ordinal];
+    }
+
+    private static void allow(OrderStatus from, OrderStatus... targets) {
+        for (OrderStatus target : targets) {
+            TRANSITIONS[from.ordinal()] |= 1 << target.ordinal();
+        }
+    }
+}
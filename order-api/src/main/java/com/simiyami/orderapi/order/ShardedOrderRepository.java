@@ -0,0 +1,420 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import com.simiyami.orderapi.outbox.OutboxRepository;
+import com.simiyami.orderapi.support.ConsistentHashRing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가게 ID 기준 샤딩 저장소 (order.repository.type=sharded, README 핫 파티션 → 가게ID 기준 해시 샤딩)
+ * - 가게 ID를 해시해 슬롯(SLOT_COUNT개) 하나에 두고, 슬롯은 가상 노드 일관 해시 링으로 샤드(InMemoryOrderRepository)에 배정
+ * - 주문 ID는 OrderIdGenerator로 발급하고, ID 하위 SLOT_BITS의 샤드 필드를 슬롯으로 써서 ID만으로 샤드를 찾음
+ * - addShard: 새 링에서 주인이 바뀐 슬롯만 새 샤드로 옮김 (평균 1/(샤드 수)), 옮기는 일은 백그라운드 스레드 하나가 슬롯 단위로 처리
+ * - 이동 중인 슬롯은 쓰기를 새 샤드로 보내고, 읽기는 새 샤드 → 이전 샤드 → 새 샤드 순으로 찾음
+ *   (이동은 새 샤드에 없는 주문만 복사한 뒤 이전 샤드에서 지우므로 이동 중 저장한 새 상태를 덮어쓰지 않고,
+ *   두 샤드를 읽는 사이에 옮겨진 주문은 새 샤드를 다시 보면 찾음)
+ * - 배치 교체는 쓰기 잠금, 저장은 읽기 잠금 안에서 하므로 교체 전에 고른 이전 샤드에 교체 뒤 저장이 남지 않음
+ * - 사용자 주문 내역은 샤드마다 키셋으로 읽어 합침 (O(샤드 수 × (log n + limit)))
+ * - Outbox 파티션 p는 샤드들의 p 파티션을 돌아가며 읽음 (한 샤드에 밀린 이벤트가 다른 샤드를 막지 않음)
+ * - 새 샤드의 p 파티션은 추가 시점에 기존 샤드 p 파티션에 쌓여 있던 이벤트가 모두 발행된 뒤에 읽음
+ *   (이동한 주문의 이전 이벤트가 새 샤드에 쌓인 이후 이벤트보다 먼저 나가도록 주문별 순서 유지)
+ * - 샤드별 저장/조회 수, 주문 수, 슬롯 수를 메트릭으로 노출 (핫 샤드 확인)
+ *
+ * [Note]
+ * 샤드는 같은 프로세스 안의 저장 단위입니다. 샤드를 빼는 기능은 없습니다.
+ * addShard는 앞선 이동이 끝날 때까지 기다립니다 (이동이 겹치지 않음). 운영 중에는 /admin/shards로 호출합니다.
+ */
+public class ShardedOrderRepository implements OrderRepository, OutboxRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardedOrderRepository.class);
+
+    static final int SLOT_BITS = OrderIdGenerator.SHARD_BITS;
+    static final int SLOT_COUNT = 1 << SLOT_BITS;
+    private static final long SLOT_MASK = SLOT_COUNT - 1;
+    private static final int NOT_MIGRATING = -1;
+
+    /**
+     * 샤드 배치 (불변, 바꿀 때 통째로 교체)
+     * @param owners 슬롯별 주인 샤드
+     * @param previous 슬롯별 이동 전 샤드 (이동 중이 아니면 NOT_MIGRATING)
+     */
+    private record Topology(ConsistentHashRing ring, List<Shard> shards, int[] owners, int[] previous) {
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final OrderIdGenerator idGenerator;
+    private final ReentrantReadWriteLock topologyLock = new ReentrantReadWriteLock();
+    private final ExecutorService migrator;
+    private final AtomicIntegerArray fetchedFrom;
+    private final AtomicIntegerArray nextShard;
+
+    private volatile Topology topology;
+    private CompletableFuture<Void> migration = CompletableFuture.completedFuture(null);
+
+    /**
+     * @param shards 처음 샤드 수
+     * @param virtualNodes 샤드당 링 위 점 수 (많을수록 슬롯이 고르게 나뉨)
+     */
+    public ShardedOrderRepository(OrderIdGenerator idGenerator, int shards, int virtualNodes,
+                                  MeterRegistry meterRegistry) {
+        this.idGenerator = idGenerator;
+        this.meterRegistry = meterRegistry;
+        ConsistentHashRing ring = new ConsistentHashRing(shards, virtualNodes);
+        List<Shard> created = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            created.add(new Shard(i, meterRegistry));
+        }
+        int[] previous = new int[SLOT_COUNT];
+        Arrays.fill(previous, NOT_MIGRATING);
+        this.topology = new Topology(ring, List.copyOf(created), owners(ring), previous);
+        this.fetchedFrom = new AtomicIntegerArray(created.get(0).orders.partitions());
+        this.nextShard = new AtomicIntegerArray(fetchedFrom.length());
+        this.migrator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "order-shard-migration");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        for (Shard shard : created) {
+            registerGauges(shard);
+        }
+        Gauge.builder("order.shard.migrating.slots", this, repository -> repository.migratingSlots())
+            .description("Slots still being moved to a new shard")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 가게 주문이 저장되는 샤드 번호
+     */
+    public int shardOf(long storeId) {
+        return topology.owners()[OrderIdGenerator.shardOf(storeId)];
+    }
+
+    public int shards() {
+        return topology.shards().size();
+    }
+
+    @Override
+    public long nextId(long storeId) {
+        return idGenerator.nextId(storeId);
+    }
+
+    @Override
+    public void save(Order order) {
+        topologyLock.readLock().lock();
+        try {
+            Shard shard = ownerOf(topology, order.id());
+            shard.orders.save(order);
+            shard.writes.increment();
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void save(Order order, OutboxEvent event) {
+        topologyLock.readLock().lock();
+        try {
+            Shard shard = ownerOf(topology, order.id());
+            shard.orders.save(order, event);
+            shard.appended.incrementAndGet(partitionOf(shard, order.id()));
+            shard.writes.increment();
+        } finally {
+            topologyLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 찾는 사이 배치가 바뀌었으면 (이전 샤드에서 이미 옮겨졌을 수 있으므로) 새 배치로 다시 찾음
+     */
+    @Override
+    public Optional<Order> findById(long orderId) {
+        while (true) {
+            Topology current = topology;
+            int slot = (int) (orderId & SLOT_MASK);
+            Shard owner = current.shards().get(current.owners()[slot]);
+            owner.reads.increment();
+            Optional<Order> found = owner.orders.findById(orderId);
+            if (found.isEmpty() && current.previous()[slot] != NOT_MIGRATING) {
+                found = current.shards().get(current.previous()[slot]).orders.findById(orderId);
+                if (found.isEmpty()) {
+                    // 새 샤드를 본 뒤 이전 샤드를 보기 전에 옮겨졌으면 (복사가 삭제보다 먼저) 새 샤드에 있음
+                    found = owner.orders.findById(orderId);
+                }
+            }
+            if (found.isPresent() || current == topology) {
+                return found;
+            }
+        }
+    }
+
+    /**
+     * 샤드마다 limit개씩 읽어 최신순으로 합침 (이동 중 두 샤드에 있는 주문은 번호가 큰 샤드, 곧 새 주인의 것을 씀)
+     */
+    @Override
+    public List<Order> findByUser(String userId, OrderCursor after, int limit) {
+        TreeMap<OrderCursor, Order> merged = new TreeMap<>();
+        for (Shard shard : topology.shards()) {
+            for (Order order : shard.orders.findByUser(userId, after, limit)) {
+                merged.put(OrderCursor.of(order), order);
+            }
+        }
+        List<Order> page = new ArrayList<>(Math.min(limit, merged.size()));
+        for (Map.Entry<OrderCursor, Order> entry : merged.entrySet()) {
+            if (page.size() == limit) {
+                break;
+            }
+            page.add(entry.getValue());
+        }
+        return page;
+    }
+
+    /**
+     * 샤드 하나를 더하고 주인이 바뀐 슬롯의 주문을 백그라운드에서 옮김
+     * @return 이동이 끝나면 완료
+     */
+    public synchronized CompletableFuture<Void> addShard() {
+        migration.join();
+
+        Topology before = topology;
+        ConsistentHashRing ring = before.ring().withShard();
+        Shard added = new Shard(before.shards().size(), before.shards(), meterRegistry);
+        List<Shard> shards = new ArrayList<>(before.shards());
+        shards.add(added);
+        int[] owners = owners(ring);
+        int[] previous = new int[SLOT_COUNT];
+        List<Integer> moved = new ArrayList<>();
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            boolean moving = owners[slot] != before.owners()[slot];
+            previous[slot] = moving ? before.owners()[slot] : NOT_MIGRATING;
+            if (moving) {
+                moved.add(slot);
+            }
+        }
+
+        topologyLock.writeLock().lock();
+        try {
+            // 저장이 멈춘 사이 기존 샤드에 쌓인 이벤트 수를 새 샤드가 기다릴 기준으로 잡음
+            added.awaitOlder();
+            topology = new Topology(ring, List.copyOf(shards), owners, previous);
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+        registerGauges(added);
+        log.info("주문 샤드 추가: {}번 (샤드 {}개), 슬롯 {}개 이동 시작", added.id, shards.size(), moved.size());
+
+        migration = CompletableFuture.runAsync(() -> migrate(moved), migrator);
+        return migration;
+    }
+
+    /**
+     * 파티션 p를 샤드마다 돌아가며 읽음 (앞선 샤드의 이벤트를 기다리는 새 샤드는 건너뜀, 읽은 샤드를 markPublished용으로 기억)
+     */
+    @Override
+    public List<OutboxEvent> fetch(int partition, int max) {
+        List<Shard> shards = topology.shards();
+        int start = nextShard.get(partition);
+        for (int i = 0; i < shards.size(); i++) {
+            Shard shard = shards.get((start + i) % shards.size());
+            if (!shard.readyToPublish(partition)) {
+                continue;
+            }
+            List<OutboxEvent> events = shard.orders.fetch(partition, max);
+            if (!events.isEmpty()) {
+                fetchedFrom.set(partition, shard.id);
+                nextShard.set(partition, shard.id + 1);
+                return events;
+            }
+        }
+        return List.of();
+    }
+
+    @Override
+    public void markPublished(int partition, int count) {
+        Shard shard = topology.shards().get(fetchedFrom.get(partition));
+        shard.orders.markPublished(partition, count);
+        shard.published.addAndGet(partition, count);
+    }
+
+    @Override
+    public int partitions() {
+        return fetchedFrom.length();
+    }
+
+    @Override
+    public long pending() {
+        long pending = 0;
+        for (Shard shard : topology.shards()) {
+            pending += shard.orders.pending();
+        }
+        return pending;
+    }
+
+    @Override
+    public void close() {
+        migrator.shutdownNow();
+    }
+
+    /**
+     * 슬롯마다 이전 샤드의 주문을 새 샤드에 없을 때만 복사하고 이전 샤드에서 지운 뒤 그 슬롯의 이동을 끝냄
+     */
+    private void migrate(List<Integer> slots) {
+        long movedOrders = 0;
+        for (int slot : slots) {
+            Topology current = topology;
+            Shard from = current.shards().get(current.previous()[slot]);
+            Shard to = current.shards().get(current.owners()[slot]);
+            long slotId = slot;
+            for (Order order : from.orders.orders(orderId -> (orderId & SLOT_MASK) == slotId)) {
+                to.orders.saveIfAbsent(order);
+                from.orders.remove(order.id());
+                movedOrders++;
+            }
+            finishSlot(slot);
+        }
+        log.info("주문 샤드 이동 완료: 슬롯 {}개, 주문 {}건", slots.size(), movedOrders);
+    }
+
+    private void finishSlot(int slot) {
+        topologyLock.writeLock().lock();
+        try {
+            Topology current = topology;
+            int[] previous = current.previous().clone();
+            previous[slot] = NOT_MIGRATING;
+            topology = new Topology(current.ring(), current.shards(), current.owners(), previous);
+        } finally {
+            topologyLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 아직 옮기는 중인 슬롯 수
+     */
+    public int migratingSlots() {
+        int migrating = 0;
+        for (int shard : topology.previous()) {
+            if (shard != NOT_MIGRATING) {
+                migrating++;
+            }
+        }
+        return migrating;
+    }
+
+    private void registerGauges(Shard shard) {
+        String id = Integer.toString(shard.id);
+        Gauge.builder("order.shard.orders", shard.orders, InMemoryOrderRepository::size)
+            .description("Orders stored in the shard")
+            .tag("shard", id)
+            .register(meterRegistry);
+        Gauge.builder("order.shard.slots", this, repository -> repository.slotsOwnedBy(shard.id))
+            .description("Store slots assigned to the shard")
+            .tag("shard", id)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 샤드에 배정된 슬롯 수
+     */
+    public int slotsOwnedBy(int shard) {
+        int owned = 0;
+        for (int owner : topology.owners()) {
+            if (owner == shard) {
+                owned++;
+            }
+        }
+        return owned;
+    }
+
+    private static int partitionOf(Shard shard, long orderId) {
+        return (int) (orderId & (shard.orders.partitions() - 1));
+    }
+
+    private static Shard ownerOf(Topology topology, long orderId) {
+        return topology.shards().get(topology.owners()[(int) (orderId & SLOT_MASK)]);
+    }
+
+    /**
+     * 슬롯을 링 위치(슬롯 번호 해시)로 놓고 주인 샤드를 미리 계산 (요청마다 링을 탐색하지 않음)
+     */
+    private static int[] owners(ConsistentHashRing ring) {
+        int[] owners = new int[SLOT_COUNT];
+        for (int slot = 0; slot < SLOT_COUNT; slot++) {
+            owners[slot] = ring.shardOf(ConsistentHashRing.hash(slot));
+        }
+        return owners;
+    }
+
+    private static final class Shard {
+
+        private final int id;
+        private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+        private final Counter writes;
+        private final Counter reads;
+        // 파티션별 Outbox에 쌓은/발행한 이벤트 수
+        private final AtomicLongArray appended;
+        private final AtomicLongArray published;
+        // 이 샤드를 더할 때 기존 샤드들 (older[i]의 파티션별 이벤트가 olderAppended[i]만큼 발행될 때까지 기다림)
+        private final List<Shard> older;
+        private final long[][] olderAppended;
+
+        private Shard(int id, MeterRegistry meterRegistry) {
+            this(id, List.of(), meterRegistry);
+        }
+
+        private Shard(int id, List<Shard> older, MeterRegistry meterRegistry) {
+            this.id = id;
+            this.appended = new AtomicLongArray(orders.partitions());
+            this.published = new AtomicLongArray(orders.partitions());
+            this.older = List.copyOf(older);
+            this.olderAppended = new long[older.size()][];
+            this.writes = Counter.builder("order.shard.writes")
+                .description("Order saves routed to the shard")
+                .tag("shard", Integer.toString(id))
+                .register(meterRegistry);
+            this.reads = Counter.builder("order.shard.reads")
+                .description("Order lookups routed to the shard")
+                .tag("shard", Integer.toString(id))
+                .register(meterRegistry);
+        }
+
+        /**
+         * 기존 샤드들의 파티션별 누적 이벤트 수를 기준으로 잡음 (배치 교체 쓰기 잠금 안에서 호출)
+         */
+        private void awaitOlder() {
+            for (int i = 0; i < older.size(); i++) {
+                AtomicLongArray counts = older.get(i).appended;
+                long[] snapshot = new long[counts.length()];
+                for (int p = 0; p < snapshot.length; p++) {
+                    snapshot[p] = counts.get(p);
+                }
+                olderAppended[i] = snapshot;
+            }
+        }
+
+        private boolean readyToPublish(int partition) {
+            for (int i = 0; i < older.size(); i++) {
+                if (older.get(i).published.get(partition) < olderAppended[i][partition]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.simiyami.orderapi.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox 이벤트 발행 (README ⑭)
+ * - 릴레이가 파티션 하나의 이벤트를 묶어 호출하며, 반환되면 발행 완료로 간주
+ * - 묶음 안의 순서를 지켜 발행해야 함 (Kafka라면 orderId를 키로 보내고 ack까지 기다림)
+ * - 실패하면 예외를 던지고, 릴레이는 같은 묶음을 다시 보냄 (최소 한 번 전달, 소비자는 멱등 처리)
+ */
+public interface EventPublisher {
+
+    void publish(List<OutboxEvent> events);
+}
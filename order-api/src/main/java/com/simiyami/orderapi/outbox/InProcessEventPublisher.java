@@ -0,0 +1,28 @@
+package com.simiyami.orderapi.outbox;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 안에서 구독자에게 바로 전달하는 발행기 (Kafka 대역, outbox.publisher.type=in-process)
+ * - 이벤트를 따로 보관하지 않고 등록된 구독자를 호출 스레드(릴레이 워커)에서 차례로 호출
+ * - 구독자가 예외를 던지면 묶음 전체가 실패로 처리되어 다시 발행됨
+ */
+public class InProcessEventPublisher implements EventPublisher {
+
+    private final List<Consumer<OutboxEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    public void subscribe(Consumer<OutboxEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    @Override
+    public void publish(List<OutboxEvent> events) {
+        for (OutboxEvent event : events) {
+            for (Consumer<OutboxEvent> subscriber : subscribers) {
+                subscriber.accept(event);
+            }
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.simiyami.orderapi.outbox;
+
+import com.simiyami.orderapi.order.Order;
+
+import java.time.Instant;
+
+/**
+ * Outbox 이벤트 (README ⑪, 주문 저장과 같은 원자 단위로 기록)
+ * @param orderId 이벤트 대상 주문 (같은 주문의 이벤트는 기록한 순서대로 발행, Kafka 키로 사용)
+ * @param type 이벤트 종류 (order-created, order-cancelled, order-status-changed)
+ * @param payload 기록 시점의 주문 스냅샷
+ * @param createdAt 기록 시각 (발행 지연 측정용)
+ */
+public record OutboxEvent(long orderId, String type, Order payload, Instant createdAt) {
+
+    public static final String ORDER_CREATED = "order-created";
+    public static final String ORDER_CANCELLED = "order-cancelled";
+    public static final String ORDER_STATUS_CHANGED = "order-status-changed";
+
+    public static OutboxEvent of(String type, Order order, Instant createdAt) {
+        return new OutboxEvent(order.id(), type, order, createdAt);
+    }
+}
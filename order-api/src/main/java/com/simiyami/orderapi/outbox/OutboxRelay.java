@@ -0,0 +1,165 @@
+package com.simiyami.orderapi.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Outbox 릴레이 워커 (README ⑬~⑭)
+ * - 워커마다 파티션을 나눠 맡고 (partition % workers), 파티션의 이벤트를 batchSize개씩 묶어 발행
+ * - 한 파티션은 한 워커만 순서대로 발행하므로 주문별 순서가 지켜지고, 다른 파티션(다른 주문)은 병렬로 발행
+ * - 발행이 끝난 묶음만 발행 완료로 표시하고, 실패하면 retryInterval 뒤 같은 묶음부터 다시 보냄
+ * - 맡은 파티션이 모두 비어 있으면 pollInterval만큼 쉼
+ *
+ * [Note]
+ * 발행 후 완료 표시 전에 인스턴스가 죽으면 재시작 후 같은 이벤트가 다시 나갈 수 있습니다 (최소 한 번 전달).
+ * 한 파티션의 발행이 계속 실패하면 같은 워커가 맡은 다른 파티션도 그동안 밀립니다.
+ */
+public class OutboxRelay implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final EventPublisher eventPublisher;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalNanos;
+    private final long retryIntervalNanos;
+    private final Clock clock;
+
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Counter published;
+    private final Counter failures;
+
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean closed;
+
+    /**
+     * @param workers 발행 워커 스레드 수 (파티션 수보다 많으면 파티션 수로 줄임)
+     * @param batchSize 한 번에 발행할 최대 이벤트 수
+     * @param pollInterval 맡은 파티션이 모두 비었을 때 쉬는 시간
+     * @param retryInterval 발행 실패 후 다시 보낼 때까지 기다리는 시간
+     */
+    public OutboxRelay(OutboxRepository outboxRepository, EventPublisher eventPublisher, int workers, int batchSize,
+                       Duration pollInterval, Duration retryInterval, MeterRegistry meterRegistry) {
+        this(outboxRepository, eventPublisher, workers, batchSize, pollInterval, retryInterval, meterRegistry,
+            Clock.systemUTC());
+    }
+
+    OutboxRelay(OutboxRepository outboxRepository, EventPublisher eventPublisher, int workers, int batchSize,
+                Duration pollInterval, Duration retryInterval, MeterRegistry meterRegistry, Clock clock) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive");
+        }
+        this.outboxRepository = outboxRepository;
+        this.eventPublisher = eventPublisher;
+        this.workers = Math.max(1, Math.min(workers, outboxRepository.partitions()));
+        this.batchSize = batchSize;
+        this.pollIntervalNanos = pollInterval.toNanos();
+        this.retryIntervalNanos = retryInterval.toNanos();
+        this.clock = clock;
+
+        Gauge.builder("outbox.pending", outboxRepository, OutboxRepository::pending)
+            .description("Number of outbox events waiting to be published")
+            .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("outbox.batch.size")
+            .description("Number of events published together")
+            .register(meterRegistry);
+        this.lag = Timer.builder("outbox.lag")
+            .description("Delay between writing an event to the outbox and publishing it")
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.published = Counter.builder("outbox.published")
+            .description("Number of published events (rate = relay throughput)")
+            .register(meterRegistry);
+        this.failures = Counter.builder("outbox.publish.failures")
+            .description("Number of failed publish attempts")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 워커 스레드 시작
+     */
+    public void start() {
+        for (int worker = 0; worker < workers; worker++) {
+            int index = worker;
+            Thread thread = new Thread(() -> run(index), "outbox-relay-" + worker);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+    }
+
+    /**
+     * 워커 스레드를 멈추고 진행 중인 묶음이 끝날 때까지 기다림
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Thread thread : threads) {
+            LockSupport.unpark(thread);
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join(TimeUnit.NANOSECONDS.toMillis(retryIntervalNanos) + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void run(int worker) {
+        while (!closed) {
+            int relayed = 0;
+            boolean failed = false;
+            for (int partition = worker; partition < outboxRepository.partitions(); partition += workers) {
+                try {
+                    relayed += relay(partition);
+                } catch (RuntimeException e) {
+                    failed = true;
+                    failures.increment();
+                    log.warn("Outbox 발행 실패 (파티션 {}), 재시도 예정: {}", partition, e.toString());
+                }
+            }
+            if (failed) {
+                LockSupport.parkNanos(this, retryIntervalNanos);
+            } else if (relayed == 0) {
+                LockSupport.parkNanos(this, pollIntervalNanos);
+            }
+        }
+    }
+
+    /**
+     * 파티션에서 한 묶음 발행 (워커 스레드 전용, 테스트는 직접 호출)
+     * @return 발행한 이벤트 수
+     */
+    int relay(int partition) {
+        List<OutboxEvent> batch = outboxRepository.fetch(partition, batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+        eventPublisher.publish(batch);
+        outboxRepository.markPublished(partition, batch.size());
+
+        long now = clock.millis();
+        for (OutboxEvent event : batch) {
+            lag.record(Math.max(0, now - event.createdAt().toEpochMilli()), TimeUnit.MILLISECONDS);
+        }
+        batchSizes.record(batch.size());
+        published.increment(batch.size());
+        return batch.size();
+    }
+}
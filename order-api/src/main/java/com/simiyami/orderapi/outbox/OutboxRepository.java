@@ -0,0 +1,31 @@
+package com.simiyami.orderapi.outbox;
+
+import java.util.List;
+
+/**
+ * Outbox 저장소 (README ⑬ 폴링 대상)
+ * - 이벤트는 주문 저장소가 주문과 함께 기록하고, 릴레이는 파티션별로 오래된 순서대로 읽어 발행
+ * - 같은 주문의 이벤트는 항상 같은 파티션에 들어가므로 파티션 안의 순서가 곧 주문별 순서
+ */
+public interface OutboxRepository {
+
+    /**
+     * 파티션 수 (릴레이 워커가 나눠 맡는 단위)
+     */
+    int partitions();
+
+    /**
+     * 파티션에서 아직 발행하지 않은 이벤트를 오래된 순서로 최대 max개 (꺼내지 않고 읽기만 함)
+     */
+    List<OutboxEvent> fetch(int partition, int max);
+
+    /**
+     * 파티션 앞쪽 count개 이벤트를 발행 완료로 표시 (fetch로 읽은 이벤트를 발행한 뒤 호출)
+     */
+    void markPublished(int partition, int count);
+
+    /**
+     * 발행을 기다리는 전체 이벤트 수
+     */
+    long pending();
+}
@@ -0,0 +1,156 @@
+package com.simiyami.orderapi.persistence;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 추가 전용 파일 로그 (GroupCommitter의 내구성 쓰기, order.journal.type=file)
+ * - 묶음의 레코드를 [길이(int)][내용] 형식으로 이어 붙여 한 번에 쓰고 force 한 번으로 디스크에 반영
+ * - 열 때 끝까지 읽어 길이만큼 내용이 없는 마지막 레코드(쓰다 만 레코드)를 잘라냄
+ * - checkpoint: 체크포인트 레코드만 담은 임시 파일을 force한 뒤 로그 파일 위로 이름을 바꿔 교체
+ * - 커밋 스레드 하나만 쓰므로 동기화하지 않음
+ *
+ * [Note]
+ * CRC가 없으므로 길이는 맞지만 내용이 깨진 레코드는 걸러내지 못합니다. 이 경우 MappedJournal을 사용합니다.
+ * 체크포인트 크기는 파일에 따로 남기지 않으므로 재시작 직후 sizeSinceCheckpoint는 파일 전체 크기입니다.
+ */
+public class AppendOnlyFileLog implements RecordLog {
+
+    private static final Logger log = LoggerFactory.getLogger(AppendOnlyFileLog.class);
+
+    private final Path path;
+    private final Path temp;
+    private FileChannel channel;
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private volatile long end;
+    private volatile long checkpointSize;
+
+    public AppendOnlyFileLog(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.path = path;
+        this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+        Files.deleteIfExists(temp);
+        this.channel = open(path);
+        long end = scan(record -> {
+        });
+        if (end < channel.size()) {
+            log.warn("{}: 마지막 레코드가 온전하지 않아 잘라냄 ({} -> {} bytes)", path, channel.size(), end);
+            channel.truncate(end);
+            channel.force(true);
+        }
+        channel.position(end);
+        this.end = end;
+    }
+
+    @Override
+    public void write(List<byte[]> batch) throws IOException {
+        end += append(channel, batch);
+        channel.force(false);
+    }
+
+    @Override
+    public void checkpoint(List<byte[]> records) throws IOException {
+        long size;
+        try (FileChannel target = open(temp)) {
+            target.truncate(0);
+            size = append(target, records);
+            target.force(true);
+        }
+        Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        channel.close();
+        channel = open(path);
+        channel.position(size);
+        end = size;
+        checkpointSize = size;
+        log.info("{}: 체크포인트로 교체 (레코드 {}건, {} bytes)", path, records.size(), size);
+    }
+
+    @Override
+    public long sizeSinceCheckpoint() {
+        return end - checkpointSize;
+    }
+
+    @Override
+    public void replay(Consumer<ByteBuffer> consumer) throws IOException {
+        scan(consumer);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * 레코드를 [길이][내용]으로 이어 붙여 채널의 현재 위치에 씀
+     * @return 쓴 바이트 수
+     */
+    private long append(FileChannel target, List<byte[]> records) throws IOException {
+        int size = 0;
+        for (byte[] record : records) {
+            size += Integer.BYTES + record.length;
+        }
+        if (buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(Integer.highestOneBit(size - 1) << 1);
+        }
+        buffer.clear();
+        for (byte[] record : records) {
+            buffer.putInt(record.length).put(record);
+        }
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        return size;
+    }
+
+    private static FileChannel open(Path path) throws IOException {
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * 처음부터 온전한 레코드를 읽어 전달
+     * @return 마지막 온전한 레코드의 끝 위치
+     */
+    private long scan(Consumer<ByteBuffer> consumer) throws IOException {
+        long size = channel.size();
+        long position = 0;
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        ByteBuffer record = ByteBuffer.allocate(256);
+        while (position + Integer.BYTES <= size) {
+            header.clear();
+            readFully(header, position);
+            int length = header.getInt(0);
+            if (length < 0 || position + Integer.BYTES + length > size) {
+                break;
+            }
+            if (record.capacity() < length) {
+                record = ByteBuffer.allocate(Integer.highestOneBit(length - 1) << 1);
+            }
+            record.clear().limit(length);
+            readFully(record, position + Integer.BYTES);
+            consumer.accept(record.flip());
+            position += Integer.BYTES + length;
+        }
+        return position;
+    }
+
+    private void readFully(ByteBuffer target, long position) throws IOException {
+        while (target.hasRemaining()) {
+            if (channel.read(target, position + target.position()) < 0) {
+                throw new IOException("unexpected end of log");
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.simiyami.orderapi.persistence;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 묶음 단위 내구성 쓰기 (GroupCommitter가 한 묶음마다 한 번 호출)
+ * - 반환되면 묶음 전체가 디스크에 반영된 것으로 간주 (fsync까지 끝낸 뒤 반환)
+ */
+@FunctionalInterface
+public interface BatchWriter<T> {
+
+    void write(List<T> batch) throws IOException;
+}
@@ -0,0 +1,261 @@
+package com.simiyami.orderapi.persistence;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 그룹 커밋 (동시에 들어온 쓰기를 묶어 내구성 쓰기 한 번으로 반영)
+ * - 커밋 스레드 하나가 큐에서 첫 요청을 꺼낸 뒤 maxBatch개가 모이거나 첫 요청부터 window가 지날 때까지 더 모음
+ * - 묶음을 BatchWriter로 한 번에 쓰고 (fsync 한 번), 그 뒤에 묶음의 모든 호출자 future를 완료
+ * - onCommit은 쓰기가 끝난 뒤 커밋 스레드에서 쓴 순서대로 실행 (메모리 반영 순서를 디스크 순서와 맞출 때 사용)
+ * - 쓰기가 실패하면 묶음 전체를 실패로 완료 (일부만 반영된 것으로 알리지 않음)
+ * - window=0이면 기다리지 않고 큐에 이미 쌓인 만큼만 묶음 (직전 fsync 동안 쌓인 요청이 자연스럽게 묶임)
+ * - 큐가 가득 차면 submit이 기다림 (디스크보다 빠르게 받지 않음)
+ * - execute로 넣은 작업은 앞 요청의 쓰기가 끝난 뒤, 뒤 요청을 쓰기 전에 커밋 스레드에서 단독 실행 (체크포인트용)
+ *
+ * [Note]
+ * 요청 한 건의 지연은 최대 window + 쓰기 한 번입니다. 부하가 낮을 때는 window만큼 손해이므로 수 ms 이내로 둡니다.
+ */
+public class GroupCommitter<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitter.class);
+
+    private final BatchWriter<T> writer;
+    private final int maxBatch;
+    private final long windowNanos;
+    private final BlockingQueue<Pending<T>> queue;
+    private final Thread committer;
+
+    private final DistributionSummary batchSizes;
+    private final Timer latency;
+    private final Timer writes;
+    private final Counter failures;
+
+    private volatile boolean closed;
+
+    /**
+     * @param name 커밋 스레드/메트릭 태그 이름
+     * @param maxBatch 한 번에 쓸 최대 요청 수
+     * @param window 첫 요청 뒤 더 모으는 최대 시간
+     */
+    public GroupCommitter(String name, BatchWriter<T> writer, int maxBatch, Duration window,
+                          MeterRegistry meterRegistry) {
+        if (maxBatch <= 0) {
+            throw new IllegalArgumentException("maxBatch must be positive");
+        }
+        this.writer = writer;
+        this.maxBatch = maxBatch;
+        this.windowNanos = window.toNanos();
+        this.queue = new ArrayBlockingQueue<>(Math.max(1024, maxBatch * 16));
+
+        this.batchSizes = DistributionSummary.builder("group.commit.batch.size")
+            .description("Number of writes committed together")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.latency = Timer.builder("group.commit.latency")
+            .description("Time from submit until the write is durable")
+            .tag("name", name)
+            .publishPercentiles(0.5, 0.99)
+            .register(meterRegistry);
+        this.writes = Timer.builder("group.commit.write")
+            .description("Time spent in one durable batch write")
+            .tag("name", name)
+            .register(meterRegistry);
+        this.failures = Counter.builder("group.commit.failures")
+            .description("Number of failed batch writes")
+            .tag("name", name)
+            .register(meterRegistry);
+
+        this.committer = new Thread(this::run, "group-commit-" + name);
+        this.committer.setDaemon(true);
+        this.committer.start();
+    }
+
+    /**
+     * 쓰기 요청
+     * @return 요청이 담긴 묶음이 내구성 있게 반영되면 완료되는 future (쓰기 실패 시 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(T record) {
+        return submit(record, null);
+    }
+
+    /**
+     * 쓰기 요청
+     * @param onCommit 쓰기가 반영된 뒤 future를 완료하기 전에 커밋 스레드에서 실행 (예외를 던지면 future도 예외로 완료)
+     */
+    public CompletableFuture<Void> submit(T record, Runnable onCommit) {
+        Pending<T> pending = new Pending<>(record, onCommit, null, System.nanoTime(), new CompletableFuture<>());
+        if (closed) {
+            pending.future.completeExceptionally(new IllegalStateException("group committer is closed"));
+            return pending.future;
+        }
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+        }
+        return pending.future;
+    }
+
+    /**
+     * 커밋 스레드에서 쓰기 사이에 단독으로 실행할 작업 요청
+     * - 먼저 들어온 요청은 모두 쓴 뒤, 나중에 들어온 요청은 쓰기 전에 실행 (작업 중에는 쓰기가 없음)
+     * @return 작업이 끝나면 완료되는 future (작업 예외 시 예외로 완료)
+     */
+    public CompletableFuture<Void> execute(Task task) {
+        Pending<T> pending = new Pending<>(null, null, task, System.nanoTime(), new CompletableFuture<>());
+        if (closed) {
+            pending.future.completeExceptionally(new IllegalStateException("group committer is closed"));
+            return pending.future;
+        }
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pending.future.completeExceptionally(e);
+        }
+        return pending.future;
+    }
+
+    /**
+     * 새 요청을 받지 않고 큐에 남은 요청을 모두 쓴 뒤 종료
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            committer.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run() {
+        List<Pending<T>> batch = new ArrayList<>(maxBatch);
+        while (!closed || !queue.isEmpty()) {
+            try {
+                Pending<T> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collect(batch, first.submittedAt + windowNanos);
+                commitInOrder(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+        for (Pending<T> pending; (pending = queue.poll()) != null; ) {
+            pending.future.completeExceptionally(new IllegalStateException("group committer is closed"));
+        }
+    }
+
+    /**
+     * maxBatch개가 되거나 deadline이 지날 때까지 더 모음
+     */
+    private void collect(List<Pending<T>> batch, long deadline) throws InterruptedException {
+        while (batch.size() < maxBatch) {
+            queue.drainTo(batch, maxBatch - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatch || remaining <= 0) {
+                return;
+            }
+            Pending<T> next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 작업을 경계로 묶음을 나눠 앞 쓰기 → 작업 → 뒤 쓰기 순으로 반영
+     */
+    private void commitInOrder(List<Pending<T>> batch) {
+        int from = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            Pending<T> pending = batch.get(i);
+            if (pending.task == null) {
+                continue;
+            }
+            if (from < i) {
+                commit(batch.subList(from, i));
+            }
+            try {
+                pending.task.run();
+                pending.future.complete(null);
+            } catch (Exception e) {
+                log.error("커밋 스레드 작업 실패", e);
+                pending.future.completeExceptionally(e);
+            }
+            from = i + 1;
+        }
+        if (from < batch.size()) {
+            commit(batch.subList(from, batch.size()));
+        }
+    }
+
+    private void commit(List<Pending<T>> batch) {
+        List<T> records = new ArrayList<>(batch.size());
+        for (Pending<T> pending : batch) {
+            records.add(pending.record);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            writer.write(records);
+        } catch (Exception e) {
+            failures.increment();
+            log.error("그룹 커밋 실패 ({}건)", batch.size(), e);
+            for (Pending<T> pending : batch) {
+                pending.future.completeExceptionally(e);
+            }
+            return;
+        }
+        long committedAt = System.nanoTime();
+        writes.record(committedAt - startedAt, TimeUnit.NANOSECONDS);
+        batchSizes.record(batch.size());
+
+        for (Pending<T> pending : batch) {
+            latency.record(committedAt - pending.submittedAt, TimeUnit.NANOSECONDS);
+            if (pending.onCommit != null) {
+                try {
+                    pending.onCommit.run();
+                } catch (RuntimeException e) {
+                    pending.future.completeExceptionally(e);
+                    continue;
+                }
+            }
+            pending.future.complete(null);
+        }
+    }
+
+    /**
+     * 커밋 스레드에서 단독 실행할 작업
+     */
+    @FunctionalInterface
+    public interface Task {
+
+        void run() throws Exception;
+    }
+
+    private record Pending<T>(T record, Runnable onCommit, Task task, long submittedAt,
+                              CompletableFuture<Void> future) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.simiyami.orderapi.persistence;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+
+/**
+ * 키(주문 ID)마다 마지막 레코드를 바로 읽을 수 있는 레코드 로그
+ * - order.journal.type=mapped: MappedJournal (키별 마지막 레코드 위치를 메모리 인덱스에 둠)
+ * - 저널 저장소는 이 로그를 받으면 끝난 주문을 메모리에서 내리고 조회할 때 로그에서 읽음
+ */
+public interface IndexedRecordLog extends RecordLog {
+
+    /**
+     * 키의 마지막 레코드 (디스크에 반영된 것만, 아무 스레드에서나 호출 가능)
+     * - 돌려준 버퍼는 읽기 전용이고 다음 checkpoint 전까지만 유효 (보관하려면 복사)
+     */
+    Optional<ByteBuffer> find(long key);
+
+    /**
+     * 인덱스한 키의 복사본 (순서 없음)
+     */
+    long[] keys();
+}
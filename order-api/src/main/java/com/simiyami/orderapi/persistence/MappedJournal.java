@@ -0,0 +1,478 @@
+package com.simiyami.orderapi.persistence;
+
+import com.simiyami.orderapi.support.LongLongHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 메모리 매핑 추가 전용 저널 (order.journal.type=mapped)
+ * - 레코드 형식: [길이(int)][CRC32C(int)][내용], 길이 0은 기록 끝 (세그먼트는 0으로 채워 미리 만듦)
+ * - 세그먼트 파일(segmentSize)을 매핑해 두고 레코드를 매핑 버퍼에 바로 복사 (쓰기마다 시스템 콜 없음)
+ * - 묶음마다 이번에 쓴 구간만 force 한 번, 세그먼트가 차면 force 후 다음 세그먼트로 넘어감
+ * - 위치는 저널 전체에서 이어지는 논리 오프셋이고 세그먼트 파일 이름이 그 세그먼트의 시작 위치
+ * - 열 때 세그먼트를 차례로 읽으며 CRC를 확인하고, 처음 깨진 레코드부터 뒤는 지움 (쓰다 만 묶음)
+ * - checkpoint: 지금 상태를 다시 만드는 레코드를 체크포인트 파일({위치}.ckp)에 쓰고, 그 위치 앞의 세그먼트와
+ *   이전 체크포인트를 지움 (세그먼트가 끝없이 쌓이지 않음)
+ *   - 임시 파일에 쓰고 force한 뒤 이름을 바꾸는 것이 반영 시점이라, 도중에 종료되면 이전 기록이 그대로 남음
+ *   - 재생은 마지막 체크포인트 → 그 위치부터의 세그먼트 순
+ *   - 체크포인트 파일은 읽기 전용으로 매핑해 두고 재생과 find에 씀
+ * - keyOf가 돌려준 키(주문 ID)마다 마지막 레코드 위치(세그먼트 또는 체크포인트)를 인덱스에 두어 find로 바로 읽음
+ *   - 묶음을 force한 뒤에 인덱스에 넣으므로 find는 디스크에 반영된 레코드만 돌려줌 (0 이하 키는 인덱스 안 함)
+ *   - 열 때 체크포인트와 세그먼트를 읽으며, 체크포인트할 때 그 파일로 다시 만듦
+ * - 쓰기와 체크포인트는 커밋 스레드 하나만, 조회(find)는 여러 스레드에서 가능
+ *
+ * [Note]
+ * force가 실패하면 묶음은 실패로 알리지만 매핑에 복사한 레코드가 디스크에 남아 재시작 후 다시 읽힐 수 있습니다.
+ * 체크포인트 파일은 이름을 바꾸기 전에 force하므로 CRC가 맞지 않으면 복구하지 않고 열기를 실패합니다.
+ * 체크포인트 파일은 버퍼 하나로 매핑하므로 2GB를 넘으면 체크포인트를 실패로 알리고 이전 기록을 그대로 둡니다.
+ * 인덱스는 키 하나당 long 두 개(16바이트, 부하율 0.5 기준 32바이트)로 메모리에만 두고 열 때 다시 만듭니다.
+ */
+public class MappedJournal implements IndexedRecordLog {
+
+    private static final Logger log = LoggerFactory.getLogger(MappedJournal.class);
+
+    static final int HEADER = Integer.BYTES * 2;
+    private static final String SUFFIX = ".seg";
+    private static final String CHECKPOINT_SUFFIX = ".ckp";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final byte[] ZEROS = new byte[4096];
+    /** 인덱스 위치 중 체크포인트 파일 오프셋 표시 (세그먼트 논리 위치는 이 비트를 쓰지 않음) */
+    private static final long CHECKPOINT_FLAG = 1L << 62;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final ToLongFunction<ByteBuffer> keyOf;
+    private final CRC32C crc = new CRC32C();
+
+    /** 시작 위치 순, 롤링할 때 새 배열로 교체 */
+    private volatile Segment[] segments;
+    private Segment active;
+    private int dirtyFrom;
+
+    /** 마지막 체크포인트 파일 (없으면 null)과 그 위치 */
+    private Path checkpoint;
+    private volatile long checkpointPosition;
+    /** 체크포인트 파일 매핑 (없으면 null) */
+    private MappedByteBuffer checkpointBuffer;
+
+    /** 키별 마지막 레코드 위치, 세그먼트 배열/체크포인트 매핑 교체와 함께 이 잠금으로 보호 */
+    private final Object indexLock = new Object();
+    private LongLongHashMap index = new LongLongHashMap(1024, -1);
+    private long[] pendingKeys = new long[64];
+    private long[] pendingPositions = new long[64];
+
+    /**
+     * @param segmentSize 세그먼트 파일 크기 (레코드 하나는 이보다 작아야 함)
+     * @param keyOf 레코드 내용에서 인덱스 키를 꺼내는 함수 (인덱스하지 않을 레코드는 0 이하)
+     */
+    public MappedJournal(Path directory, int segmentSize, ToLongFunction<ByteBuffer> keyOf) throws IOException {
+        if (segmentSize <= HEADER) {
+            throw new IllegalArgumentException("segmentSize too small");
+        }
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.keyOf = keyOf;
+        Files.createDirectories(directory);
+        recover();
+    }
+
+    /**
+     * 묶음의 레코드를 차례로 복사하고 force 한 번
+     * - 크기가 맞지 않는 레코드가 하나라도 있으면 아무것도 복사하지 않고 실패 (묶음 일부만 남지 않음)
+     */
+    @Override
+    public void write(List<byte[]> batch) throws IOException {
+        for (byte[] record : batch) {
+            if (record.length == 0 || HEADER + record.length > segmentSize) {
+                throw new IllegalArgumentException("record size must be between 1 and " + (segmentSize - HEADER));
+            }
+        }
+        if (pendingKeys.length < batch.size()) {
+            pendingKeys = new long[batch.size()];
+            pendingPositions = new long[batch.size()];
+        }
+        int count = 0;
+        for (byte[] record : batch) {
+            int size = HEADER + record.length;
+            if (active.end + size > active.buffer.capacity()) {
+                roll();
+            }
+            MappedByteBuffer buffer = active.buffer;
+            int offset = active.end;
+            crc.reset();
+            crc.update(record);
+            buffer.put(offset + HEADER, record);
+            buffer.putInt(offset + Integer.BYTES, (int) crc.getValue());
+            buffer.putInt(offset, record.length);
+            active.end = offset + size;
+
+            long key = keyOf.applyAsLong(ByteBuffer.wrap(record).asReadOnlyBuffer());
+            if (key > 0) {
+                pendingKeys[count] = key;
+                pendingPositions[count++] = active.base + offset;
+            }
+        }
+        flush();
+
+        synchronized (indexLock) {
+            for (int i = 0; i < count; i++) {
+                index.put(pendingKeys[i], pendingPositions[i]);
+            }
+        }
+    }
+
+    /**
+     * 체크포인트 파일을 쓰고 그 앞의 세그먼트를 지움
+     * - 체크포인트 위치는 지금까지 쓴 끝이고, 이후 쓰기는 그 위치에서 시작하는 새 세그먼트로 감
+     */
+    @Override
+    public void checkpoint(List<byte[]> records) throws IOException {
+        flush();
+        long position = active.base + active.end;
+        Path target = directory.resolve(String.format("%020d%s", position, CHECKPOINT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + TEMP_SUFFIX);
+        long size = 0;
+        for (byte[] record : records) {
+            size += HEADER + record.length;
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("checkpoint of " + size + " bytes exceeds the 2GB mapping limit");
+        }
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER);
+            for (byte[] record : records) {
+                crc.reset();
+                crc.update(record);
+                header.clear();
+                header.putInt(record.length).putInt((int) crc.getValue()).flip();
+                writeFully(channel, header);
+                writeFully(channel, ByteBuffer.wrap(record));
+            }
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        Path previous = checkpoint;
+        checkpoint = target;
+        checkpointPosition = position;
+        if (active.end > 0) {
+            roll();
+        }
+        LongLongHashMap rebuilt = new LongLongHashMap(Math.max(1024, records.size()), -1);
+        MappedByteBuffer mapped = mapCheckpoint(target, rebuilt);
+        List<Segment> retained = new ArrayList<>();
+        List<Segment> removed = new ArrayList<>();
+        for (Segment segment : segments) {
+            (segment.base < position ? removed : retained).add(segment);
+        }
+        synchronized (indexLock) {
+            segments = retained.toArray(Segment[]::new);
+            checkpointBuffer = mapped;
+            index = rebuilt;
+        }
+        for (Segment segment : removed) {
+            segment.channel.close();
+            Files.delete(segment.path);
+        }
+        if (previous != null && !previous.equals(target)) {
+            Files.deleteIfExists(previous);
+        }
+        log.info("저널 체크포인트: {} (레코드 {}건)", target.getFileName(), records.size());
+    }
+
+    @Override
+    public long sizeSinceCheckpoint() {
+        Segment[] current = segments;
+        Segment last = current[current.length - 1];
+        return last.base + last.end - checkpointPosition;
+    }
+
+    @Override
+    public void replay(Consumer<ByteBuffer> consumer) {
+        if (checkpointBuffer != null) {
+            int limit = checkpointBuffer.capacity();
+            for (int offset = 0; offset < limit; ) {
+                int length = checkpointBuffer.getInt(offset);
+                consumer.accept(checkpointBuffer.slice(offset + HEADER, length).asReadOnlyBuffer());
+                offset += HEADER + length;
+            }
+        }
+        for (Segment segment : segments) {
+            int end = segment.end;
+            for (int offset = 0; offset < end; ) {
+                int length = segment.buffer.getInt(offset);
+                consumer.accept(segment.buffer.slice(offset + HEADER, length).asReadOnlyBuffer());
+                offset += HEADER + length;
+            }
+        }
+    }
+
+    /**
+     * 키의 마지막 레코드 (읽기 전용, 세그먼트나 체크포인트 매핑을 그대로 가리킴)
+     */
+    @Override
+    public Optional<ByteBuffer> find(long key) {
+        synchronized (indexLock) {
+            long position = index.get(key);
+            return position < 0 ? Optional.empty() : Optional.of(read(position));
+        }
+    }
+
+    @Override
+    public long[] keys() {
+        synchronized (indexLock) {
+            return index.keys();
+        }
+    }
+
+    /**
+     * 인덱스한 키 수
+     */
+    public int indexedKeys() {
+        synchronized (indexLock) {
+            return index.size();
+        }
+    }
+
+    /**
+     * 세그먼트 수
+     */
+    public int segmentCount() {
+        return segments.length;
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        for (Segment segment : segments) {
+            segment.channel.close();
+        }
+    }
+
+    private void flush() {
+        if (active.end > dirtyFrom) {
+            active.buffer.force(dirtyFrom, active.end - dirtyFrom);
+            dirtyFrom = active.end;
+        }
+    }
+
+    private void roll() throws IOException {
+        flush();
+        Segment next = open(active.base + active.end);
+        Segment[] rolled = Arrays.copyOf(segments, segments.length + 1);
+        rolled[rolled.length - 1] = next;
+        active = next;
+        dirtyFrom = 0;
+        segments = rolled;
+        log.info("저널 세그먼트 추가: {}", next.path.getFileName());
+    }
+
+    /**
+     * 위치의 레코드 내용 (indexLock 안에서 호출)
+     */
+    private ByteBuffer read(long position) {
+        MappedByteBuffer buffer;
+        int offset;
+        if ((position & CHECKPOINT_FLAG) != 0) {
+            buffer = checkpointBuffer;
+            offset = (int) (position & ~CHECKPOINT_FLAG);
+        } else {
+            Segment segment = segmentOf(position);
+            buffer = segment.buffer;
+            offset = (int) (position - segment.base);
+        }
+        return buffer.slice(offset + HEADER, buffer.getInt(offset)).asReadOnlyBuffer();
+    }
+
+    private Segment segmentOf(long position) {
+        Segment[] current = segments;
+        int low = 0;
+        int high = current.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (current[mid].base <= position) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return current[low];
+    }
+
+    /**
+     * 체크포인트 파일을 읽기 전용으로 매핑하고 CRC를 확인하며 레코드 키를 into에 인덱스 (맞지 않으면 IOException)
+     */
+    private MappedByteBuffer mapCheckpoint(Path file, LongLongHashMap into) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("checkpoint " + file.getFileName() + " exceeds the 2GB mapping limit");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int limit = buffer.capacity();
+        for (int offset = 0; offset < limit; ) {
+            int length = offset + HEADER <= limit ? buffer.getInt(offset) : -1;
+            if (length <= 0 || offset + HEADER + length > limit || !checksumMatches(buffer, offset, length)) {
+                throw new IOException("corrupted checkpoint " + file.getFileName() + " at " + offset);
+            }
+            long key = keyOf.applyAsLong(buffer.slice(offset + HEADER, length).asReadOnlyBuffer());
+            if (key > 0) {
+                into.put(key, CHECKPOINT_FLAG | offset);
+            }
+            offset += HEADER + length;
+        }
+        return buffer;
+    }
+
+    /**
+     * 마지막 체크포인트를 찾고 세그먼트를 차례로 열어 CRC를 확인하며 끝을 찾음
+     * - 체크포인트 위치 앞의 세그먼트, 이전 체크포인트, 이름을 바꾸기 전의 임시 파일은 삭제
+     * - 깨진 레코드를 만나면 그 세그먼트의 나머지를 0으로 지우고 뒤 세그먼트는 삭제
+     */
+    private void recover() throws IOException {
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(TEMP_SUFFIX)) {
+                Files.delete(file);
+            } else if (name.endsWith(CHECKPOINT_SUFFIX)) {
+                if (checkpoint != null) {
+                    Files.delete(checkpoint);
+                }
+                checkpoint = file;
+                checkpointPosition = baseOf(file, CHECKPOINT_SUFFIX);
+            }
+        }
+
+        if (checkpoint != null) {
+            checkpointBuffer = mapCheckpoint(checkpoint, index);
+        }
+
+        List<Segment> opened = new ArrayList<>();
+        boolean truncated = false;
+        for (Path file : files) {
+            if (!file.getFileName().toString().endsWith(SUFFIX)) {
+                continue;
+            }
+            if (baseOf(file, SUFFIX) < checkpointPosition) {
+                log.info("체크포인트 앞의 세그먼트 삭제: {}", file.getFileName());
+                Files.delete(file);
+                continue;
+            }
+            if (truncated) {
+                log.warn("깨진 레코드 뒤의 세그먼트 삭제: {}", file.getFileName());
+                Files.delete(file);
+                continue;
+            }
+            Segment segment = open(baseOf(file, SUFFIX));
+            opened.add(segment);
+            truncated = !scan(segment);
+        }
+        if (opened.isEmpty()) {
+            opened.add(open(checkpointPosition));
+        }
+        segments = opened.toArray(Segment[]::new);
+        active = segments[segments.length - 1];
+        dirtyFrom = active.end;
+    }
+
+    /**
+     * @return 세그먼트 끝까지 온전하면 true, 깨진 레코드를 만나 잘라냈으면 false
+     */
+    private boolean scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer;
+        int limit = buffer.capacity();
+        int offset = 0;
+        while (offset + HEADER <= limit) {
+            int length = buffer.getInt(offset);
+            if (length == 0) {
+                segment.end = offset;
+                return true;
+            }
+            if (length < 0 || offset + HEADER + length > limit || !checksumMatches(buffer, offset, length)) {
+                log.warn("저널 {} 오프셋 {}에서 깨진 레코드를 만나 이후를 잘라냄", segment.path.getFileName(), offset);
+                segment.end = offset;
+                for (int i = offset; i < limit; i += ZEROS.length) {
+                    buffer.put(i, ZEROS, 0, Math.min(ZEROS.length, limit - i));
+                }
+                buffer.force();
+                return false;
+            }
+            long key = keyOf.applyAsLong(buffer.slice(offset + HEADER, length).asReadOnlyBuffer());
+            if (key > 0) {
+                index.put(key, segment.base + offset);
+            }
+            offset += HEADER + length;
+        }
+        segment.end = offset;
+        return true;
+    }
+
+    private boolean checksumMatches(ByteBuffer buffer, int offset, int length) {
+        crc.reset();
+        crc.update(buffer.slice(offset + HEADER, length));
+        return (int) crc.getValue() == buffer.getInt(offset + Integer.BYTES);
+    }
+
+    private Segment open(long base) throws IOException {
+        Path path = directory.resolve(String.format("%020d%s", base, SUFFIX));
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            if (file.length() < segmentSize) {
+                file.setLength(segmentSize);
+            }
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        return new Segment(base, path, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+    }
+
+    private static long baseOf(Path file, String suffix) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - suffix.length()));
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static final class Segment {
+
+        private final long base;
+        private final Path path;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        /** 마지막 레코드의 끝 (다음에 쓸 오프셋) */
+        private volatile int end;
+
+        private Segment(long base, Path path, FileChannel channel, MappedByteBuffer buffer) {
+            this.base = base;
+            this.path = path;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.simiyami.orderapi.persistence;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 재시작 시 다시 읽을 수 있는 추가 전용 레코드 로그 (저널 저장소의 디스크 쪽)
+ * - order.journal.type=mapped (기본값): MappedJournal (메모리 매핑 세그먼트, CRC, 체크포인트 파일, 주문 ID 인덱스)
+ * - order.journal.type=file: AppendOnlyFileLog (파일 하나에 이어 쓰기)
+ * - checkpoint로 지금까지의 기록을 상태를 다시 만드는 레코드 묶음으로 바꿔 로그가 끝없이 커지지 않게 함
+ */
+public interface RecordLog extends BatchWriter<byte[]>, AutoCloseable {
+
+    /**
+     * 기록된 레코드를 쓴 순서대로 전달 (시작할 때 쓰기 전에 한 번)
+     * - 마지막에 일부만 쓰인 레코드는 열 때 잘라내므로 전달하지 않음
+     * - 전달한 버퍼는 호출 안에서만 유효 (보관하려면 복사)
+     */
+    void replay(Consumer<ByteBuffer> consumer) throws IOException;
+
+    /**
+     * 지금까지 기록한 레코드를 records로 교체 (write와 같은 스레드에서 호출)
+     * - 반영 전에 종료되면 이전 기록이 그대로 남고, 반영 뒤 replay는 records부터 전달
+     */
+    void checkpoint(List<byte[]> records) throws IOException;
+
+    /**
+     * 마지막 체크포인트 이후 기록한 크기 (bytes, 아무 스레드에서나 호출 가능)
+     */
+    long sizeSinceCheckpoint();
+
+    @Override
+    void close() throws IOException;
+}
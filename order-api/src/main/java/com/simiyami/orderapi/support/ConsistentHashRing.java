@@ -0,0 +1,75 @@
+package com.simiyami.orderapi.support;
+
+import java.util.Arrays;
+
+/**
+ * 가상 노드 일관 해시 링 (불변)
+ * - 샤드마다 virtualNodes개의 점을 링(long 범위)에 흩어 두고, 키 위치에서 시계 방향으로 처음 만나는 점의 샤드가 주인
+ * - 점 위치는 (샤드 번호, 가상 노드 번호)만으로 정해지므로 샤드를 더해도 기존 점은 그대로이고,
+ *   새 샤드의 점 바로 앞 구간만 새 샤드로 옮겨감 (평균 1/(샤드 수) 만큼)
+ * - 조회는 정렬된 long[]에서 이진 탐색 (O(log(샤드 수 × virtualNodes)))
+ */
+public final class ConsistentHashRing {
+
+    /** 키 해시와 같은 값이 나오지 않도록 가상 노드 번호에 섞는 값 (작은 정수 키와 점이 겹치는 것 방지) */
+    private static final long NODE_SALT = 0x5bd1e9955bd1e995L;
+
+    private final int shards;
+    private final int virtualNodes;
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int shards, int virtualNodes) {
+        if (shards < 1 || virtualNodes < 1) {
+            throw new IllegalArgumentException("shards and virtualNodes must be positive");
+        }
+        this.shards = shards;
+        this.virtualNodes = virtualNodes;
+        int count = shards * virtualNodes;
+        long[] raw = new long[count];
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            raw[i] = hash((((long) (i / virtualNodes) << 32) | (i % virtualNodes)) ^ NODE_SALT);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(raw[a], raw[b]));
+        this.points = new long[count];
+        this.owners = new int[count];
+        for (int i = 0; i < count; i++) {
+            points[i] = raw[order[i]];
+            owners[i] = order[i] / virtualNodes;
+        }
+    }
+
+    /**
+     * 샤드 하나를 더한 새 링 (새 샤드 번호는 기존 샤드 수)
+     */
+    public ConsistentHashRing withShard() {
+        return new ConsistentHashRing(shards + 1, virtualNodes);
+    }
+
+    /**
+     * 링 위치의 주인 샤드
+     */
+    public int shardOf(long position) {
+        int index = Arrays.binarySearch(points, position);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public int shards() {
+        return shards;
+    }
+
+    /**
+     * 키를 링 위치로 (SplitMix64 마무리 혼합, 연속된 키도 링 전체로 흩어짐)
+     */
+    public static long hash(long key) {
+        long h = key + 0x9e3779b97f4a7c15L;
+        h = (h ^ (h >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return h ^ (h >>> 31);
+    }
+}
@@ -0,0 +1,114 @@
+package com.simiyami.orderapi.support;
+
+/**
+ * long 키, long 값 전용 해시맵 (open addressing, linear probing)
+ * - 키와 값을 long[] 두 개에 그대로 보관 (박싱/엔트리 객체 없음)
+ * - 0은 빈 슬롯 표시로 쓰므로 키로 사용할 수 없음
+ * - 없는 키는 생성할 때 준 missingValue를 돌려줌
+ * - 동기화하지 않으므로 호출자가 잠금으로 보호해야 함
+ */
+public class LongLongHashMap {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private final long missingValue;
+    private long[] keys;
+    private long[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongLongHashMap(int expectedSize, long missingValue) {
+        this.missingValue = missingValue;
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    public long get(long key) {
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) {
+                return values[i];
+            }
+            if (current == 0) {
+                return missingValue;
+            }
+        }
+    }
+
+    /**
+     * @return 기존 값 (없으면 missingValue)
+     */
+    public long put(long key, long value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key must not be 0");
+        }
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (current == 0) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > resizeAt) {
+                    resize(keys.length << 1);
+                }
+                return missingValue;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 모든 키의 복사본 (순서 없음)
+     */
+    public long[] keys() {
+        long[] copy = new long[size];
+        int n = 0;
+        for (long key : keys) {
+            if (key != 0) {
+                copy[n++] = key;
+            }
+        }
+        return copy;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != 0) {
+                int i = indexOf(key, mask);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new long[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int indexOf(long key, int mask) {
+        // LongObjectHashMap과 같은 비트 혼합
+        long h = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return (int) (h ^ (h >>> 31)) & mask;
+    }
+}
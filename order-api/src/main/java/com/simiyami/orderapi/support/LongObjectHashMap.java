@@ -0,0 +1,176 @@
+package com.simiyami.orderapi.support;
+
+import java.util.Arrays;
+import java.util.function.LongFunction;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * long 키 전용 해시맵 (open addressing, linear probing)
+ * - 키를 Long으로 박싱하지 않고 long[]에 그대로 보관 (엔트리 객체 없음)
+ * - 0은 빈 슬롯 표시로 쓰므로 키로 사용할 수 없음
+ * - 동기화하지 않으므로 호출자가 잠금으로 보호해야 함
+ */
+public class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private Object[] values;
+    private int size;
+    private int resizeAt;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(DEFAULT_CAPACITY, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) {
+                return (V) values[i];
+            }
+            if (current == 0) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * @return 기존 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("key must not be 0");
+        }
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+            if (current == 0) {
+                keys[i] = key;
+                values[i] = value;
+                if (++size > resizeAt) {
+                    resize(keys.length << 1);
+                }
+                return null;
+            }
+        }
+    }
+
+    public V computeIfAbsent(long key, LongFunction<V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * @return 제거된 값 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public V remove(long key) {
+        int mask = keys.length - 1;
+        for (int i = indexOf(key, mask); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == 0) {
+                return null;
+            }
+            if (current == key) {
+                V previous = (V) values[i];
+                shiftDown(i, mask);
+                size--;
+                return previous;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * 모든 엔트리 순회 (순서 없음, 순회 중 변경 불가)
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(ObjLongConsumer<V> action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                action.accept((V) values[i], keys[i]);
+            }
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * 제거한 슬롯 뒤의 같은 클러스터 엔트리를 당겨서 탐색이 끊기지 않게 함 (tombstone 없음)
+     */
+    private void shiftDown(int slot, int mask) {
+        int gap = slot;
+        for (int i = (slot + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int home = indexOf(keys[i], mask);
+            // home이 (gap, i] 구간 밖이면 gap으로 옮겨도 탐색 경로가 유지됨
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = null;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(capacity);
+        int mask = capacity - 1;
+        for (int j = 0; j < oldKeys.length; j++) {
+            long key = oldKeys[j];
+            if (key != 0) {
+                int i = indexOf(key, mask);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+                values[i] = oldValues[j];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+    }
+
+    private static int indexOf(long key, int mask) {
+        // 순차 ID도 고르게 퍼지도록 비트 혼합 (Stafford variant 13)
+        long h = (key ^ (key >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h = (h ^ (h >>> 27)) * 0x94d049bb133111ebL;
+        return (int) (h ^ (h >>> 31)) & mask;
+    }
+}
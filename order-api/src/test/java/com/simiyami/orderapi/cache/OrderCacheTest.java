@@ -0,0 +1,153 @@
+package com.simiyami.orderapi.cache;
+
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderItem;
+import com.simiyami.orderapi.order.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OrderCacheTest {
+
+    private final Map<Long, Order> store = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final InMemoryRemoteOrderCache remote = new InMemoryRemoteOrderCache(1000, Duration.ofMinutes(10));
+    private final LocalOrderInvalidationChannel channel = new LocalOrderInvalidationChannel();
+    private final LocalLoadLease lease = new LocalLoadLease();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("한 번 읽은 주문은 L1에서 바로 응답하고 저장소를 다시 읽지 않는다")
+    void shouldServeRepeatedReadsFromLocal() {
+        store.put(1L, order(1, OrderStatus.PENDING));
+        OrderCache cache = cache();
+
+        assertThat(cache.find(1)).get().extracting(Order::status).isEqualTo(OrderStatus.PENDING);
+        assertThat(cache.find(1)).isPresent();
+        assertThat(cache.find(1)).isPresent();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.localSize()).isEqualTo(1);
+        assertThat(count("l1", "hit")).isEqualTo(2);
+        assertThat(count("l1", "miss")).isEqualTo(1);
+        assertThat(count("l2", "miss")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("L1에 없고 L2에 있으면 L2에서 읽어 L1을 채운다")
+    void shouldFillLocalFromRemote() {
+        remote.put(order(2, OrderStatus.CONFIRMED));
+        OrderCache cache = cache();
+
+        assertThat(cache.find(2)).get().extracting(Order::status).isEqualTo(OrderStatus.CONFIRMED);
+        assertThat(cache.find(2)).isPresent();
+
+        assertThat(loads).hasValue(0);
+        assertThat(count("l2", "hit")).isEqualTo(1);
+        assertThat(count("l1", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("무효화하면 L2와 구독한 모든 인스턴스의 L1에서 지워 다음 조회는 새 상태를 읽는다")
+    void shouldInvalidateEveryInstance() {
+        store.put(3L, order(3, OrderStatus.PENDING));
+        OrderCache first = cache();
+        OrderCache second = cache();
+        first.find(3);
+        second.find(3);
+
+        store.put(3L, order(3, OrderStatus.CANCELLED));
+        first.invalidate(3);
+
+        assertThat(first.localSize()).isZero();
+        assertThat(second.localSize()).isZero();
+        assertThat(remote.get(3)).isEmpty();
+        assertThat(second.find(3)).get().extracting(Order::status).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("없는 주문은 캐시하지 않는다")
+    void shouldNotCacheMissingOrders() {
+        OrderCache cache = cache();
+
+        assertThat(cache.find(4)).isEmpty();
+        assertThat(cache.find(4)).isEmpty();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.localSize()).isZero();
+        assertThat(remote.get(4)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("단계별 적중률과 미스율을 게이지로 노출한다")
+    void shouldExposeRatios() {
+        store.put(5L, order(5, OrderStatus.PENDING));
+        OrderCache cache = cache();
+        cache.find(5);
+        cache.find(5);
+        cache.find(5);
+        cache.find(5);
+
+        assertThat(meterRegistry.get("order.cache.hit.ratio").tag("level", "l1").gauge().value()).isEqualTo(0.75);
+        assertThat(meterRegistry.get("order.cache.miss.ratio").tag("level", "l1").gauge().value()).isEqualTo(0.25);
+        assertThat(meterRegistry.get("order.cache.miss.ratio").tag("level", "l2").gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("무효화 채널이 메시지를 놓쳤을 수 있다고 알리면 L1을 모두 비운다")
+    void shouldClearLocalOnResync() {
+        store.put(6L, order(6, OrderStatus.PENDING));
+        store.put(7L, order(7, OrderStatus.PENDING));
+        Runnable[] resync = new Runnable[1];
+        OrderInvalidationChannel reconnecting = new OrderInvalidationChannel() {
+            @Override
+            public void publish(long orderId) {
+            }
+
+            @Override
+            public void subscribe(LongConsumer subscriber, Runnable onResync) {
+                resync[0] = onResync;
+            }
+        };
+        OrderCache cache = cache(reconnecting);
+        cache.find(6);
+        cache.find(7);
+        assertThat(cache.localSize()).isEqualTo(2);
+
+        resync[0].run();
+
+        assertThat(cache.localSize()).isZero();
+    }
+
+    private OrderCache cache() {
+        return cache(channel);
+    }
+
+    private OrderCache cache(OrderInvalidationChannel channel) {
+        return new OrderCache(orderId -> {
+            loads.incrementAndGet();
+            return Optional.ofNullable(store.get(orderId));
+        }, remote, channel, new SingleFlight<>("order", lease, Duration.ofSeconds(5), Duration.ofSeconds(1), meterRegistry),
+            1000, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    private double count(String level, String result) {
+        return meterRegistry.get("order.cache.requests").tag("level", level).tag("result", result).counter().count();
+    }
+
+    private static Order order(long id, OrderStatus status) {
+        return new Order(id, 42, "user-1", List.of(new OrderItem(1, 1, 1000)), 1000, status,
+            Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
@@ -0,0 +1,107 @@
+package com.simiyami.orderapi.cache;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.SetArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisLoadLeaseTest {
+
+    private RedisCommands<String, String> sync;
+    private RedisAsyncCommands<String, String> async;
+    private RedisPubSubListener<String, String> listener;
+    private RedisLoadLease lease;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        sync = mock(RedisCommands.class);
+        async = mock(RedisAsyncCommands.class);
+        when(async.eval(anyString(), any(ScriptOutputType.class), any(String[].class), any(String[].class)))
+            .thenReturn(mock(RedisFuture.class));
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        when(connection.sync()).thenReturn(sync);
+        when(connection.async()).thenReturn(async);
+        StatefulRedisPubSubConnection<String, String> pubSubConnection = mock(StatefulRedisPubSubConnection.class);
+        when(pubSubConnection.sync()).thenReturn(mock(RedisPubSubCommands.class));
+
+        lease = new RedisLoadLease("fill:", "fill-release", connection, pubSubConnection);
+
+        ArgumentCaptor<RedisPubSubListener<String, String>> captor = ArgumentCaptor.forClass(RedisPubSubListener.class);
+        verify(pubSubConnection).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    @DisplayName("SET NX PX가 성공했을 때만 임대를 잡고, Redis에 닿지 못하면 직접 읽도록 잡은 것으로 본다")
+    void shouldAcquireWithSetNx() {
+        when(sync.set(eq("fill:1"), anyString(), any(SetArgs.class))).thenReturn("OK");
+        when(sync.set(eq("fill:2"), anyString(), any(SetArgs.class))).thenReturn(null);
+        when(sync.set(eq("fill:3"), anyString(), any(SetArgs.class))).thenThrow(new RedisException("down"));
+
+        assertThat(lease.tryAcquire(1, 7, Duration.ofSeconds(5))).isTrue();
+        assertThat(lease.tryAcquire(2, 7, Duration.ofSeconds(5))).isFalse();
+        assertThat(lease.tryAcquire(3, 7, Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    @DisplayName("해제는 잡을 때와 같은 owner 값으로 비교 후 삭제하고 같은 스크립트에서 키를 발행한다")
+    void shouldReleaseWithCompareAndDelete() {
+        ArgumentCaptor<String> acquiredValue = ArgumentCaptor.forClass(String.class);
+        when(sync.set(eq("fill:1"), acquiredValue.capture(), any(SetArgs.class))).thenReturn("OK");
+
+        lease.tryAcquire(1, 7, Duration.ofSeconds(5));
+        lease.release(1, 7);
+
+        verify(async).eval(RedisLoadLease.RELEASE_SCRIPT, ScriptOutputType.INTEGER, new String[]{"fill:1"},
+            acquiredValue.getValue(), "fill-release", "1");
+    }
+
+    @Test
+    @DisplayName("구독한 채널의 해제 메시지로 그 키를 기다리던 future만 완료한다")
+    void shouldWakeWaitersOfReleasedKey() {
+        CompletableFuture<Void> first = lease.awaitRelease(1);
+        CompletableFuture<Void> second = lease.awaitRelease(2);
+
+        listener.message("other", "1");
+        listener.message("fill-release", "not-a-number");
+        listener.message("fill-release", "1");
+
+        assertThat(first).isCompleted();
+        assertThat(second).isNotDone();
+        assertThat(lease.awaitRelease(1)).isNotDone();
+    }
+
+    @Test
+    @DisplayName("(재)구독이 확인되면 끊긴 동안 놓친 알림 대신 기다리던 future를 모두 완료한다")
+    void shouldWakeAllWaitersOnResubscribe() {
+        CompletableFuture<Void> first = lease.awaitRelease(1);
+        CompletableFuture<Void> second = lease.awaitRelease(2);
+
+        listener.subscribed("fill-release", 1);
+
+        assertThat(first).isCompleted();
+        assertThat(second).isCompleted();
+    }
+}
@@ -0,0 +1,83 @@
+package com.simiyami.orderapi.cache;
+
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.pubsub.RedisPubSubListener;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.sync.RedisPubSubCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisOrderInvalidationChannelTest {
+
+    private RedisAsyncCommands<String, String> async;
+    private StatefulRedisPubSubConnection<String, String> pubSubConnection;
+    private RedisOrderInvalidationChannel channel;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        async = mock(RedisAsyncCommands.class);
+        when(async.publish(anyString(), anyString())).thenReturn(mock(RedisFuture.class));
+        StatefulRedisConnection<String, String> connection = mock(StatefulRedisConnection.class);
+        when(connection.async()).thenReturn(async);
+        pubSubConnection = mock(StatefulRedisPubSubConnection.class);
+        when(pubSubConnection.sync()).thenReturn(mock(RedisPubSubCommands.class));
+        channel = new RedisOrderInvalidationChannel("invalidation", connection, pubSubConnection);
+    }
+
+    @Test
+    @DisplayName("주문 ID를 문자열로 발행한다")
+    void shouldPublishOrderId() {
+        channel.publish(42);
+
+        verify(async).publish("invalidation", "42");
+    }
+
+    @Test
+    @DisplayName("구독한 채널의 메시지만 주문 ID로 전달하고 형식이 틀린 메시지는 무시한다")
+    void shouldDeliverMessagesOfSubscribedChannel() {
+        List<Long> received = new ArrayList<>();
+        RedisPubSubListener<String, String> listener = subscribe(received, new AtomicInteger());
+
+        listener.message("invalidation", "7");
+        listener.message("other", "8");
+        listener.message("invalidation", "not-a-number");
+
+        assertThat(received).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("(재)구독이 확인될 때마다 resync를 호출한다")
+    void shouldResyncOnSubscribed() {
+        AtomicInteger resyncs = new AtomicInteger();
+        RedisPubSubListener<String, String> listener = subscribe(new ArrayList<>(), resyncs);
+
+        listener.subscribed("invalidation", 1);
+        listener.subscribed("other", 2);
+        listener.subscribed("invalidation", 1);
+
+        assertThat(resyncs).hasValue(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisPubSubListener<String, String> subscribe(List<Long> received, AtomicInteger resyncs) {
+        channel.subscribe(received::add, resyncs::incrementAndGet);
+        ArgumentCaptor<RedisPubSubListener<String, String>> listener = ArgumentCaptor.forClass(RedisPubSubListener.class);
+        verify(pubSubConnection).addListener(listener.capture());
+        return listener.getValue();
+    }
+}
@@ -0,0 +1,106 @@
+package com.simiyami.orderapi.cache;
+
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderItem;
+import com.simiyami.orderapi.order.OrderStatus;
+import io.lettuce.core.RedisConnectionException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RedisRemoteOrderCacheTest {
+
+    // GET/PSETEX/DEL만 흉내 내는 Redis 대역 (키 → 값, 키 → 마지막 PX)
+    private final Map<String, byte[]> values = new HashMap<>();
+    private final Map<String, Long> ttls = new HashMap<>();
+    private boolean down;
+    private RedisRemoteOrderCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisCommands<String, byte[]> sync = mock(RedisCommands.class, this::redis);
+        RedisAsyncCommands<String, byte[]> async = mock(RedisAsyncCommands.class, this::redis);
+        StatefulRedisConnection<String, byte[]> connection = mock(StatefulRedisConnection.class);
+        when(connection.sync()).thenReturn(sync);
+        when(connection.async()).thenReturn(async);
+        cache = new RedisRemoteOrderCache("order:", Duration.ofMinutes(10), connection);
+    }
+
+    @Test
+    @DisplayName("저장한 주문은 ttl과 함께 저장되고 그대로 읽힌다")
+    void shouldRoundTripOrder() {
+        Order order = order(1);
+
+        cache.put(order);
+
+        assertThat(cache.get(1)).contains(order);
+        assertThat(ttls).containsEntry("order:1", Duration.ofMinutes(10).toMillis());
+        assertThat(cache.get(2)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("지운 주문은 더 이상 읽히지 않는다")
+    void shouldEvict() {
+        cache.put(order(3));
+
+        cache.evict(3);
+
+        assertThat(cache.get(3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Redis에 연결할 수 없으면 조회는 미스로, 삭제는 예외 없이 넘어간다")
+    void shouldTreatFailureAsMiss() {
+        cache.put(order(4));
+        down = true;
+
+        assertThat(cache.get(4)).isEmpty();
+        cache.evict(4);
+    }
+
+    private Object redis(InvocationOnMock invocation) {
+        if (down) {
+            throw new RedisConnectionException("connection refused");
+        }
+        Object[] args = invocation.getArguments();
+        switch (invocation.getMethod().getName()) {
+            case "get" -> {
+                return values.get((String) args[0]);
+            }
+            case "psetex" -> {
+                values.put((String) args[0], (byte[]) args[2]);
+                ttls.put((String) args[0], (Long) args[1]);
+                return mock(RedisFuture.class);
+            }
+            case "del" -> {
+                long removed = 0;
+                for (Object key : args) {
+                    removed += values.remove((String) key) == null ? 0 : 1;
+                }
+                return removed;
+            }
+            default -> throw new UnsupportedOperationException(invocation.getMethod().getName());
+        }
+    }
+
+    private static Order order(long id) {
+        return new Order(id, 42, "user-1", List.of(new OrderItem(1, 2, 1000)), 2000, OrderStatus.PENDING,
+            Instant.parse("2026-01-01T00:00:00Z"));
+    }
+}
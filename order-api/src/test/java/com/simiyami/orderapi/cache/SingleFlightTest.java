@@ -0,0 +1,151 @@
+package com.simiyami.orderapi.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LocalLoadLease lease = new LocalLoadLease();
+    private final Map<Long, String> shared = new ConcurrentHashMap<>();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 저장소를 한 번만 읽고 결과를 함께 받는다")
+    void shouldCoalesceConcurrentMisses() throws Exception {
+        SingleFlight<String> flight = flight("a", Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        int callers = 32;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Optional<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flight.load(1, this::readShared, key -> {
+                    loading.countDown();
+                    await(proceed);
+                    return load(key);
+                })));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            while (count("a", "follower") < callers - 1) {
+                Thread.onSpinWait();
+            }
+            proceed.countDown();
+
+            for (Future<Optional<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).contains("order-1");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(count("a", "leader")).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 임대를 잡고 있으면 알림을 받은 뒤 공유 캐시에서 읽는다")
+    void shouldWaitForRemoteFill() throws Exception {
+        SingleFlight<String> first = flight("first", Duration.ofSeconds(5));
+        SingleFlight<String> second = flight("second", Duration.ofSeconds(5));
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Optional<String>> leader = executor.submit(() -> first.load(2, this::readShared, key -> {
+                loading.countDown();
+                await(proceed);
+                return load(key);
+            }));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Future<Optional<String>> follower = executor.submit(() -> second.load(2, this::readShared, this::load));
+            while (count("second", "remote-follower") < 1) {
+                Thread.onSpinWait();
+            }
+            proceed.countDown();
+
+            assertThat(leader.get(5, TimeUnit.SECONDS)).contains("order-2");
+            assertThat(follower.get(5, TimeUnit.SECONDS)).contains("order-2");
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("singleflight.timeouts").tag("name", "second").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("임대가 풀리지 않으면 timeout 뒤 기다리지 않고 직접 읽는다")
+    void shouldFallBackAfterTimeout() {
+        SingleFlight<String> flight = flight("timeout", Duration.ofMillis(50));
+        assertThat(lease.tryAcquire(3, 99, Duration.ofMinutes(1))).isTrue();
+
+        assertThat(flight.load(3, this::readShared, this::load)).contains("order-3");
+
+        assertThat(loads).hasValue(1);
+        assertThat(meterRegistry.get("singleflight.timeouts").tag("name", "timeout").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("리더의 조회가 실패하면 다음 호출은 새 리더로 다시 읽는다")
+    void shouldRetryAfterLeaderFailure() {
+        SingleFlight<String> flight = flight("failure", Duration.ofSeconds(5));
+
+        assertThatThrownBy(() -> flight.load(4, this::readShared, key -> {
+            throw new IllegalStateException("repository down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.inFlight()).isZero();
+        assertThat(lease.tryAcquire(4, 1, Duration.ofSeconds(1))).isTrue();
+        lease.release(4, 1);
+        assertThat(flight.load(4, this::readShared, this::load)).contains("order-4");
+    }
+
+    private SingleFlight<String> flight(String name, Duration timeout) {
+        return new SingleFlight<>(name, lease, Duration.ofSeconds(5), timeout, meterRegistry);
+    }
+
+    private Optional<String> readShared(long key) {
+        return Optional.ofNullable(shared.get(key));
+    }
+
+    private Optional<String> load(long key) {
+        loads.incrementAndGet();
+        String value = "order-" + key;
+        shared.put(key, value);
+        return Optional.of(value);
+    }
+
+    private double count(String name, String role) {
+        return meterRegistry.get("singleflight.loads").tag("name", name).tag("role", role).counter().count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
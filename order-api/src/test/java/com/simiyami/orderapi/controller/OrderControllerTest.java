@@ -1,12 +1,24 @@
 package com.simiyami.orderapi.controller;
 
+import com.jayway.jsonpath.JsonPath;
+import com.simiyami.orderapi.config.InventoryConfig;
+import com.simiyami.orderapi.config.OrderCacheConfig;
+import com.simiyami.orderapi.config.OrderIdConfig;
+import com.simiyami.orderapi.config.OrderRepositoryConfig;
+import com.simiyami.orderapi.order.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
 import org.springframework.context.annotation.Import;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
@@ -15,10 +27,13 @@ import java.util.Map;
 
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(OrderController.class)
-@Import(TestSecurityConfig.class)
+@Import({TestSecurityConfig.class, OrderService.class, OrderRepositoryConfig.class, OrderIdConfig.class,
+    InventoryConfig.class, OrderCacheConfig.class, OrderControllerTest.MetricsConfig.class})
+@TestPropertySource(properties = "inventory.initial-stock.901=1")
 class OrderControllerTest {
 
     @Autowired
@@ -96,4 +111,179 @@ class OrderControllerTest {
             .andExpect(status().isOk())
             .andExpect(jsonPath("$.idempotencyKey").value("not provided"));
     }
+
+    @Test
+    @DisplayName("주문 생성 - PENDING 상태와 총 금액을 응답한다")
+    void createOrderShouldReturnPending() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"items":[{"menuId":1,"quantity":2,"unitPrice":12000},{"menuId":7,"quantity":1,"unitPrice":3000}]}
+                    """))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.orderId").isNumber())
+            .andExpect(jsonPath("$.storeId").value(42))
+            .andExpect(jsonPath("$.status").value("PENDING"))
+            .andExpect(jsonPath("$.totalAmount").value(27000));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 인증 없이 호출 시 401")
+    void createOrderShouldRequireAuth() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"menuId\":1,\"quantity\":1,\"unitPrice\":1000}]}"))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - X-Store-Id 헤더가 없으면 400")
+    void createOrderShouldRequireStoreId() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"menuId\":1,\"quantity\":1,\"unitPrice\":1000}]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 잘못된 주문 항목은 400과 사유를 응답한다")
+    void createOrderShouldRejectInvalidItems() throws Exception {
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[{\"menuId\":1,\"quantity\":0,\"unitPrice\":1000}]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("items[0].quantity must be between 1 and 99"));
+
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"items\":[]}"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("items must not be empty"));
+    }
+
+    @Test
+    @DisplayName("주문 생성 - 한정 수량 메뉴가 품절되면 409와 메뉴 ID를 응답한다")
+    void createOrderShouldRejectWhenSoldOut() throws Exception {
+        String body = "{\"items\":[{\"menuId\":901,\"quantity\":1,\"unitPrice\":9900}]}";
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+            .andExpect(status().isConflict())
+            .andExpect(jsonPath("$.menuId").value(901));
+    }
+
+    @Test
+    @DisplayName("주문 조회 - 본인 주문은 200과 주문 내용을 응답한다")
+    void getOrderShouldReturnOwnOrder() throws Exception {
+        long orderId = createOrder();
+
+        mockMvc.perform(get("/api/orders/{orderId}", orderId)
+                .with(jwt().jwt(userJwt())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orderId").value(orderId))
+            .andExpect(jsonPath("$.storeId").value(42))
+            .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("주문 조회 - 다른 사용자의 주문이나 없는 주문은 404")
+    void getOrderShouldHideOthersOrders() throws Exception {
+        long orderId = createOrder();
+        Jwt otherUser = Jwt.withTokenValue("mock-token")
+            .header("alg", "RS256")
+            .subject("user-456")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .build();
+
+        mockMvc.perform(get("/api/orders/{orderId}", orderId)
+                .with(jwt().jwt(otherUser)))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/orders/{orderId}", Long.MAX_VALUE)
+                .with(jwt().jwt(userJwt())))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("주문 내역 - 최신 주문부터 응답하고 nextCursor로 다음 페이지를 읽는다")
+    void listOrdersShouldPageWithCursor() throws Exception {
+        long older = createOrder();
+        long newer = createOrder();
+
+        String firstPage = mockMvc.perform(get("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .param("size", "1"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders[0].orderId").value(newer))
+            .andExpect(jsonPath("$.nextCursor").isString())
+            .andReturn().getResponse().getContentAsString();
+
+        mockMvc.perform(get("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .param("size", "1")
+                .param("cursor", JsonPath.<String>read(firstPage, "$.nextCursor")))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.orders[0].orderId").value(older));
+    }
+
+    @Test
+    @DisplayName("주문 내역 - 잘못된 커서나 크기는 400")
+    void listOrdersShouldRejectInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .param("size", "0"))
+            .andExpect(status().isBadRequest());
+    }
+
+    private long createOrder() throws Exception {
+        String response = mockMvc.perform(post("/api/orders")
+                .with(jwt().jwt(userJwt()))
+                .header("X-Store-Id", "42")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {"items":[{"menuId":1,"quantity":1,"unitPrice":12000}]}
+                    """))
+            .andExpect(status().isCreated())
+            .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.orderId")).longValue();
+    }
+
+    private static Jwt userJwt() {
+        return Jwt.withTokenValue("mock-token")
+            .header("alg", "RS256")
+            .subject("user-123")
+            .issuedAt(Instant.now())
+            .expiresAt(Instant.now().plusSeconds(3600))
+            .build();
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
 }
@@ -0,0 +1,144 @@
+package com.simiyami.orderapi.filter;
+
+import com.simiyami.orderapi.config.IdentityHeaderConfig;
+import com.simiyami.orderapi.config.InventoryConfig;
+import com.simiyami.orderapi.config.OrderCacheConfig;
+import com.simiyami.orderapi.config.OrderIdConfig;
+import com.simiyami.orderapi.config.OrderRepositoryConfig;
+import com.simiyami.orderapi.config.SecurityConfig;
+import com.simiyami.orderapi.controller.OrderController;
+import com.simiyami.orderapi.order.OrderService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(OrderController.class)
+@Import({SecurityConfig.class, IdentityHeaderConfig.class, OrderService.class, OrderRepositoryConfig.class,
+    OrderIdConfig.class, InventoryConfig.class, OrderCacheConfig.class,
+    IdentityHeaderAuthenticationFilterTest.MetricsConfig.class})
+@TestPropertySource(properties = {
+    "security.identity-header.enabled=true",
+    "security.identity-header.secret=" + IdentityHeaderAuthenticationFilterTest.SECRET
+})
+class IdentityHeaderAuthenticationFilterTest {
+
+    static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("게이트웨이 서명 헤더만으로 인증된다")
+    void shouldAuthenticateWithSignedHeader() throws Exception {
+        mockMvc.perform(get("/api/orders/me")
+                .header(IdentityHeaderVerifier.HEADER, signedHeader(Instant.now().plusSeconds(300), SECRET)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.userId").value("user-123"))
+            .andExpect(jsonPath("$.username").value("testuser"))
+            .andExpect(jsonPath("$.email").value("testuser@example.com"));
+    }
+
+    @Test
+    @DisplayName("서명 헤더로 인증되면 Bearer 토큰은 검증하지 않는다")
+    void shouldSkipBearerTokenWhenHeaderIsValid() throws Exception {
+        mockMvc.perform(get("/api/orders/me")
+                .header("Authorization", "Bearer not-a-jwt")
+                .header(IdentityHeaderVerifier.HEADER, signedHeader(Instant.now().plusSeconds(300), SECRET)))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("다른 비밀키로 서명된 헤더는 거부한다")
+    void shouldRejectHeaderSignedWithOtherSecret() throws Exception {
+        double rejected = rejectedCount();
+
+        mockMvc.perform(get("/api/orders/me")
+                .header(IdentityHeaderVerifier.HEADER,
+                    signedHeader(Instant.now().plusSeconds(300), "fedcba9876543210fedcba9876543210")))
+            .andExpect(status().isUnauthorized());
+
+        assertThat(rejectedCount()).isEqualTo(rejected + 1);
+    }
+
+    @Test
+    @DisplayName("payload를 바꾼 헤더는 거부한다")
+    void shouldRejectTamperedPayload() throws Exception {
+        String header = signedHeader(Instant.now().plusSeconds(300), SECRET);
+        String forgedPayload = encode(Instant.now().plusSeconds(300).getEpochSecond()
+            + "\nadmin-1\nadmin\n\nROLE_admin");
+        String tampered = forgedPayload + header.substring(header.indexOf('.'));
+
+        mockMvc.perform(get("/api/orders/me").header(IdentityHeaderVerifier.HEADER, tampered))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("만료된 헤더는 거부한다")
+    void shouldRejectExpiredHeader() throws Exception {
+        mockMvc.perform(get("/api/orders/me")
+                .header(IdentityHeaderVerifier.HEADER, signedHeader(Instant.now().minusSeconds(1), SECRET)))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("헤더가 없으면 기존 JWT 인증을 사용한다")
+    void shouldFallBackToJwtWithoutHeader() throws Exception {
+        Jwt token = Jwt.withTokenValue("mock-token")
+            .header("alg", "RS256")
+            .subject("user-456")
+            .expiresAt(Instant.now().plusSeconds(300))
+            .build();
+
+        mockMvc.perform(get("/api/orders/me").with(jwt().jwt(token)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.userId").value("user-456"));
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.counter("identity.header", "result", "rejected").count();
+    }
+
+    private static String signedHeader(Instant expiresAt, String secret) throws Exception {
+        String payload = encode(expiresAt.getEpochSecond() + "\nuser-123\ntestuser\ntestuser@example.com\nROLE_user");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        byte[] signature = mac.doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+        return payload + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(signature);
+    }
+
+    private static String encode(String payload) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class MetricsConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.simiyami.orderapi.inventory;
+
+import com.simiyami.orderapi.order.OrderItem;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InventoryServiceTest {
+
+    private final InventoryService inventoryService = new InventoryService(4);
+
+    @Test
+    @DisplayName("여러 메뉴 중 하나라도 모자라면 앞서 예약한 메뉴도 되돌린다")
+    void shouldRollBackWhenAnyItemIsShort() {
+        inventoryService.restock(1, 10);
+        inventoryService.restock(2, 1);
+
+        assertThatThrownBy(() -> inventoryService.reserve(List.of(item(1, 3), item(2, 2))))
+            .isInstanceOf(InsufficientStockException.class)
+            .extracting("menuId").isEqualTo(2L);
+
+        assertThat(inventoryService.available(1)).hasValue(10);
+        assertThat(inventoryService.available(2)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재고를 등록하지 않은 메뉴는 수량 제한 없이 통과한다")
+    void shouldSkipUntrackedMenus() {
+        inventoryService.restock(1, 1);
+
+        inventoryService.reserve(List.of(item(1, 1), item(99, 50)));
+
+        assertThat(inventoryService.available(1)).hasValue(0);
+        assertThat(inventoryService.available(99)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("반납하면 주문 항목 수량만큼 재고가 돌아온다")
+    void shouldReleaseReservedItems() {
+        inventoryService.restock(1, 5);
+        List<OrderItem> items = List.of(item(1, 2), item(1, 3));
+
+        inventoryService.reserve(items);
+        assertThat(inventoryService.available(1)).hasValue(0);
+
+        inventoryService.release(items);
+        assertThat(inventoryService.available(1)).hasValue(5);
+    }
+
+    private static OrderItem item(long menuId, int quantity) {
+        return new OrderItem(menuId, quantity, 1000);
+    }
+}
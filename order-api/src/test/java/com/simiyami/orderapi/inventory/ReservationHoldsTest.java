@@ -0,0 +1,147 @@
+package com.simiyami.orderapi.inventory;
+
+import com.simiyami.orderapi.order.OrderItem;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReservationHoldsTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final InventoryService inventoryService = new InventoryService(4);
+    private final List<Long> expiredOrders = new ArrayList<>();
+    private ReservationHolds holds;
+
+    @BeforeEach
+    void setUp() {
+        inventoryService.restock(1, 100);
+        // 휠 4칸 x 100ms = 400ms 한 바퀴, ttl 1s는 두 바퀴 이상
+        holds = new ReservationHolds(inventoryService, Duration.ofSeconds(1), Duration.ofMillis(100), 4,
+            meterRegistry, nanos::get);
+        holds.onExpired(expired -> expired.forEach(hold -> expiredOrders.add(hold.orderId())));
+    }
+
+    @Test
+    @DisplayName("ttl이 지나기 전에는 만료하지 않고, 지나면 재고를 반납한다")
+    void shouldReleaseStockAfterTtl() {
+        reserveAndHold(10, 3);
+
+        assertThat(advanceTo(Duration.ofMillis(900))).isZero();
+        assertThat(inventoryService.available(1)).hasValue(97);
+
+        assertThat(advanceTo(Duration.ofMillis(1000))).isEqualTo(1);
+        assertThat(inventoryService.available(1)).hasValue(100);
+        assertThat(expiredOrders).containsExactly(10L);
+        assertThat(holds.outstanding()).isZero();
+    }
+
+    @Test
+    @DisplayName("결제 완료로 정산한 홀드는 만료되지 않고 재고도 돌아오지 않는다")
+    void shouldNotExpireSettledHold() {
+        reserveAndHold(10, 3);
+
+        assertThat(holds.settle(10)).isTrue();
+        assertThat(advanceTo(Duration.ofSeconds(5))).isZero();
+
+        assertThat(inventoryService.available(1)).hasValue(97);
+        assertThat(expiredOrders).isEmpty();
+        assertThat(holds.settle(10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("취소로 해제하면 재고를 바로 반납하고 이후 만료되지 않는다")
+    void shouldReleaseImmediatelyOnCancel() {
+        reserveAndHold(10, 3);
+        advanceTo(Duration.ofMillis(200));
+
+        assertThat(holds.release(10)).isTrue();
+        assertThat(inventoryService.available(1)).hasValue(100);
+
+        assertThat(advanceTo(Duration.ofSeconds(5))).isZero();
+        assertThat(inventoryService.available(1)).hasValue(100);
+        assertThat(holds.release(10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("만료 후에는 정산할 수 없다")
+    void shouldNotSettleExpiredHold() {
+        reserveAndHold(10, 3);
+        advanceTo(Duration.ofSeconds(2));
+
+        assertThat(holds.settle(10)).isFalse();
+        assertThat(inventoryService.available(1)).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("같은 tick에 만료된 홀드는 한 묶음으로 반납하고 지연을 기록한다")
+    void shouldReleaseExpiredHoldsInBatch() {
+        for (long orderId = 1; orderId <= 20; orderId++) {
+            reserveAndHold(orderId, 1);
+        }
+
+        assertThat(advanceTo(Duration.ofMillis(1150))).isEqualTo(20);
+
+        assertThat(inventoryService.available(1)).hasValue(100);
+        assertThat(meterRegistry.get("inventory.holds.expiry.batch").summary().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("inventory.holds.expiry.lag").timer().max(TimeUnit.MILLISECONDS)).isEqualTo(150);
+        assertThat(meterRegistry.get("inventory.holds").tag("result", "expired").counter().count()).isEqualTo(20);
+        assertThat(meterRegistry.get("inventory.holds.outstanding").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("등록 시점이 다르면 각자의 ttl에 맞춰 만료한다")
+    void shouldExpireEachHoldAtItsOwnDeadline() {
+        reserveAndHold(1, 1);
+        advanceTo(Duration.ofMillis(550));
+        reserveAndHold(2, 1);
+
+        advanceTo(Duration.ofMillis(1000));
+        assertThat(expiredOrders).containsExactly(1L);
+
+        advanceTo(Duration.ofMillis(1500));
+        assertThat(expiredOrders).containsExactly(1L);
+
+        advanceTo(Duration.ofMillis(1600));
+        assertThat(expiredOrders).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("이미 지난 시간을 주면 남은 시간만 홀드하고, ttl을 넘겼으면 다음 tick에 만료한다")
+    void shouldHoldOnlyRemainingTtl() {
+        List<OrderItem> items = List.of(new OrderItem(1, 1, 1000));
+        inventoryService.reserve(items);
+        holds.hold(1, items, Duration.ofMillis(700));
+        inventoryService.reserve(items);
+        holds.hold(2, items, Duration.ofMinutes(5));
+
+        advanceTo(Duration.ofMillis(100));
+        assertThat(expiredOrders).containsExactly(2L);
+
+        advanceTo(Duration.ofMillis(200));
+        assertThat(expiredOrders).containsExactly(2L);
+        advanceTo(Duration.ofMillis(300));
+        assertThat(expiredOrders).containsExactly(2L, 1L);
+        assertThat(inventoryService.available(1)).hasValue(100);
+    }
+
+    private void reserveAndHold(long orderId, int quantity) {
+        List<OrderItem> items = List.of(new OrderItem(1, quantity, 1000));
+        inventoryService.reserve(items);
+        holds.hold(orderId, items);
+    }
+
+    private int advanceTo(Duration elapsed) {
+        nanos.set(elapsed.toNanos());
+        return holds.advance(nanos.get());
+    }
+}
@@ -0,0 +1,100 @@
+package com.simiyami.orderapi.inventory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockTest {
+
+    @Test
+    @DisplayName("입고 수량은 모든 칸에 나눠 담고 합계로 조회된다")
+    void shouldSpreadRestockAcrossStripes() {
+        StripedStock stock = new StripedStock(6);
+        stock.restock(10);
+
+        assertThat(stock.stripes()).isEqualTo(8);
+        assertThat(stock.available()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("한 칸에 모자란 수량은 여러 칸에서 모아 예약한다")
+    void shouldCollectFromOtherStripes() {
+        StripedStock stock = new StripedStock(8);
+        stock.restock(8);
+
+        assertThat(stock.tryReserve(7)).isTrue();
+        assertThat(stock.available()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전체 수량이 모자라면 일부도 예약하지 않는다")
+    void shouldNotReservePartially() {
+        StripedStock stock = new StripedStock(8);
+        stock.restock(5);
+
+        assertThat(stock.tryReserve(6)).isFalse();
+        assertThat(stock.available()).isEqualTo(5);
+        assertThat(stock.tryReserve(5)).isTrue();
+        assertThat(stock.tryReserve(1)).isFalse();
+    }
+
+    @Test
+    @DisplayName("반납한 재고는 다시 예약할 수 있다")
+    void shouldReserveReleasedStock() {
+        StripedStock stock = new StripedStock(4);
+        stock.restock(1);
+
+        assertThat(stock.tryReserve(1)).isTrue();
+        stock.release(1);
+
+        assertThat(stock.tryReserve(1)).isTrue();
+        assertThat(stock.available()).isZero();
+    }
+
+    @Test
+    @DisplayName("64개 스레드가 한 메뉴에 몰려도 입고 수량보다 많이 팔지 않는다")
+    void shouldNeverOversellUnderContention() throws Exception {
+        StripedStock stock = new StripedStock(16);
+        stock.restock(10_000);
+        AtomicLong reserved = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(64);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 64; t++) {
+                int quantity = t % 3 + 1;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 200; i++) {
+                        if (stock.tryReserve(quantity)) {
+                            reserved.addAndGet(quantity);
+                        }
+                        if (i % 10 == 0 && stock.tryReserve(1)) {
+                            stock.release(1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(reserved.get()).isLessThanOrEqualTo(10_000);
+        assertThat(stock.available()).isEqualTo(10_000 - reserved.get());
+    }
+}
@@ -0,0 +1,119 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryOrderRepositoryTest {
+
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+
+    @Test
+    @DisplayName("저장한 주문을 ID로 조회한다")
+    void shouldFindSavedOrder() {
+        Order order = order(repository.nextId(42), 42);
+
+        repository.save(order);
+
+        assertThat(repository.findById(order.id())).contains(order);
+        assertThat(repository.findById(order.id() + (1 << InMemoryOrderRepository.PARTITION_BITS))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("같은 가게의 주문 ID는 같은 파티션 번호를 가진다")
+    void shouldEncodePartitionInId() {
+        long mask = (1 << InMemoryOrderRepository.PARTITION_BITS) - 1;
+        int partition = InMemoryOrderRepository.partitionOf(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(repository.nextId(42) & mask).isEqualTo(partition);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 가게에 동시에 저장해도 ID가 겹치거나 유실되지 않는다")
+    void shouldSaveConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 5_000; i++) {
+                        long storeId = i % 4 + 1;
+                        repository.save(order(repository.nextId(storeId), storeId));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(repository.size()).isEqualTo(40_000);
+    }
+
+    @Test
+    @DisplayName("주문과 함께 기록한 Outbox 이벤트는 주문 파티션에서 기록 순서대로 읽힌다")
+    void shouldAppendOutboxWithOrder() {
+        Order order = order(repository.nextId(42), 42);
+        Order cancelled = order.withStatus(OrderStatus.CANCELLED);
+        int partition = (int) (order.id() & ((1 << InMemoryOrderRepository.PARTITION_BITS) - 1));
+
+        repository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, Instant.EPOCH));
+        repository.save(cancelled, OutboxEvent.of(OutboxEvent.ORDER_CANCELLED, cancelled, Instant.EPOCH));
+
+        assertThat(repository.findById(order.id())).contains(cancelled);
+        assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::type)
+            .containsExactly(OutboxEvent.ORDER_CREATED, OutboxEvent.ORDER_CANCELLED);
+        assertThat(repository.pending()).isEqualTo(2);
+
+        repository.markPublished(partition, 1);
+        assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::type)
+            .containsExactly(OutboxEvent.ORDER_CANCELLED);
+        assertThat(repository.pending()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("사용자 주문 내역은 최신 주문부터 커서 다음 주문만 읽는다")
+    void shouldPageHistoryByCursor() {
+        Order first = order(repository.nextId(42), 42, "user-1", Instant.parse("2026-01-01T00:00:00Z"));
+        Order second = order(repository.nextId(42), 42, "user-1", Instant.parse("2026-01-01T00:00:01Z"));
+        Order sameTime = order(repository.nextId(7), 7, "user-1", Instant.parse("2026-01-01T00:00:01Z"));
+        Order other = order(repository.nextId(42), 42, "user-2", Instant.parse("2026-01-01T00:00:02Z"));
+        for (Order order : List.of(second, other, first, sameTime)) {
+            repository.save(order);
+        }
+        repository.save(second.withStatus(OrderStatus.CANCELLED));
+
+        List<Order> newest = List.of(second, sameTime).stream()
+            .sorted((a, b) -> Long.compare(b.id(), a.id()))
+            .toList();
+        assertThat(repository.findByUser("user-1", null, 2)).extracting(Order::id)
+            .containsExactly(newest.get(0).id(), newest.get(1).id());
+        assertThat(repository.findByUser("user-1", OrderCursor.of(newest.get(1)), 10)).containsExactly(first);
+        assertThat(repository.findByUser("user-1", null, 10)).filteredOn(order -> order.id() == second.id())
+            .extracting(Order::status).containsExactly(OrderStatus.CANCELLED);
+        assertThat(repository.findByUser("user-3", null, 10)).isEmpty();
+    }
+
+    private static Order order(long id, long storeId, String userId, Instant createdAt) {
+        return new Order(id, storeId, userId, List.of(new OrderItem(1, 1, 1000)), 1000, OrderStatus.PENDING,
+            createdAt);
+    }
+
+    private static Order order(long id, long storeId) {
+        return new Order(id, storeId, "user-1", List.of(new OrderItem(1, 1, 1000)), 1000, OrderStatus.PENDING,
+            Instant.EPOCH);
+    }
+}
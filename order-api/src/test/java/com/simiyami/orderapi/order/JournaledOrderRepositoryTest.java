@@ -0,0 +1,345 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import com.simiyami.orderapi.persistence.AppendOnlyFileLog;
+import com.simiyami.orderapi.persistence.GroupCommitter;
+import com.simiyami.orderapi.persistence.MappedJournal;
+import com.simiyami.orderapi.persistence.RecordLog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+class JournaledOrderRepositoryTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("저장한 주문과 이벤트는 저널에 기록된 뒤 조회된다")
+    void shouldWriteJournalBeforeMemory() throws Exception {
+        Path path = dir.resolve("orders.log");
+        Order order;
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = repository(log)) {
+            order = new Order(repository.nextId(42), 42, "user-1", List.of(new OrderItem(7, 2, 1500)), 3000,
+                OrderStatus.PENDING, Instant.parse("2026-01-01T00:00:00.123456789Z"));
+            repository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, order.createdAt()));
+
+            assertThat(repository.findById(order.id())).contains(order);
+            assertThat(repository.pending()).isEqualTo(1);
+        }
+
+        List<OrderRecordCodec.Entry> entries = readAll(path);
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).order()).isEqualTo(order);
+        assertThat(entries.get(0).event().type()).isEqualTo(OutboxEvent.ORDER_CREATED);
+    }
+
+    @Test
+    @DisplayName("동시에 저장한 주문은 묶음으로 기록되고 하나도 빠지지 않는다")
+    void shouldGroupConcurrentSaves() throws Exception {
+        Path path = dir.resolve("orders.log");
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = new JournaledOrderRepository(new InMemoryOrderRepository(),
+                 new GroupCommitter<>("orders", log, 64, Duration.ofMillis(5), meterRegistry))) {
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            try {
+                List<Future<?>> futures = new ArrayList<>();
+                for (int t = 0; t < 16; t++) {
+                    long storeId = t + 1;
+                    futures.add(executor.submit(() -> {
+                        for (int i = 0; i < 50; i++) {
+                            repository.save(new Order(repository.nextId(storeId), storeId, "user-1",
+                                List.of(new OrderItem(1, 1, 1000)), 1000, OrderStatus.PENDING, Instant.EPOCH));
+                        }
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        assertThat(readAll(path)).hasSize(800);
+        assertThat(meterRegistry.get("group.commit.batch.size").summary().count()).isLessThan(800);
+    }
+
+    @Test
+    @DisplayName("재시작하면 저널을 재생해 주문, 미발행 이벤트, ID 순번을 복구한다")
+    void shouldRecoverFromMappedJournal() throws Exception {
+        Path journalDir = dir.resolve("journal");
+        Order first;
+        Order second;
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal)) {
+            first = order(repository.nextId(42), 42);
+            second = order(repository.nextId(42), 42);
+            repository.save(first, OutboxEvent.of(OutboxEvent.ORDER_CREATED, first, first.createdAt()));
+            repository.save(second, OutboxEvent.of(OutboxEvent.ORDER_CREATED, second, second.createdAt()));
+            Order cancelled = first.withStatus(OrderStatus.CANCELLED);
+            repository.save(cancelled, OutboxEvent.of(OutboxEvent.ORDER_CANCELLED, cancelled, cancelled.createdAt()));
+
+            int partition = (int) (first.id() & (repository.partitions() - 1));
+            assertThat(repository.fetch(partition, 10)).hasSize(3);
+            repository.markPublished(partition, 1);
+        }
+
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal)) {
+            assertThat(repository.recover(journal)).isEqualTo(4);
+
+            assertThat(repository.findById(first.id())).get().extracting(Order::status).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(repository.findById(second.id())).contains(second);
+            int partition = (int) (first.id() & (repository.partitions() - 1));
+            assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::orderId, OutboxEvent::type)
+                .containsExactly(
+                    tuple(second.id(), OutboxEvent.ORDER_CREATED),
+                    tuple(first.id(), OutboxEvent.ORDER_CANCELLED));
+            assertThat(repository.nextId(42)).isGreaterThan(second.id());
+        }
+    }
+
+    @Test
+    @DisplayName("재시작하면 발급기도 복구한 ID 뒤에서 이어 발급해 같은 ms 안에 재시작해도 ID가 겹치지 않는다")
+    void shouldSeedIdGeneratorOnRecovery() throws Exception {
+        Path path = dir.resolve("orders.log");
+        long fixedMillis = Instant.parse("2026-03-01T00:00:00Z").toEpochMilli();
+        long last = 0;
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = repository(log, generator(fixedMillis))) {
+            for (int i = 0; i < 3; i++) {
+                Order order = order(repository.nextId(42), 42);
+                repository.save(order);
+                last = order.id();
+            }
+        }
+
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = repository(log, generator(fixedMillis))) {
+            repository.recover(log);
+
+            assertThat(repository.nextId(42)).isGreaterThan(last);
+        }
+    }
+
+    @Test
+    @DisplayName("체크포인트 뒤에 재시작하면 체크포인트와 이후 기록으로 주문과 미발행 이벤트를 복구한다")
+    void shouldRecoverFromCheckpoint() throws Exception {
+        Path journalDir = dir.resolve("journal");
+        Order first;
+        Order second;
+        Order third;
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal, 0)) {
+            first = order(repository.nextId(42), 42);
+            second = order(repository.nextId(42), 42);
+            repository.save(first, OutboxEvent.of(OutboxEvent.ORDER_CREATED, first, first.createdAt()));
+            repository.save(second, OutboxEvent.of(OutboxEvent.ORDER_CREATED, second, second.createdAt()));
+            Order cancelled = first.withStatus(OrderStatus.CANCELLED);
+            repository.save(cancelled, OutboxEvent.of(OutboxEvent.ORDER_CANCELLED, cancelled, cancelled.createdAt()));
+            int partition = (int) (first.id() & (repository.partitions() - 1));
+            repository.markPublished(partition, 1);
+
+            repository.checkpoint().get(2, TimeUnit.SECONDS);
+            assertThat(journal.sizeSinceCheckpoint()).isZero();
+
+            third = order(repository.nextId(42), 42);
+            repository.save(third, OutboxEvent.of(OutboxEvent.ORDER_CREATED, third, third.createdAt()));
+            repository.markPublished(partition, 1);
+        }
+
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal, 0)) {
+            repository.recover(journal);
+
+            assertThat(repository.findById(first.id())).get().extracting(Order::status).isEqualTo(OrderStatus.CANCELLED);
+            assertThat(repository.findById(second.id())).contains(second);
+            assertThat(repository.findById(third.id())).contains(third);
+            int partition = (int) (first.id() & (repository.partitions() - 1));
+            assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::orderId, OutboxEvent::type)
+                .containsExactly(
+                    tuple(first.id(), OutboxEvent.ORDER_CANCELLED),
+                    tuple(third.id(), OutboxEvent.ORDER_CREATED));
+            assertThat(repository.pending()).isEqualTo(2);
+            assertThat(repository.nextId(42)).isGreaterThan(third.id());
+        }
+    }
+
+    @Test
+    @DisplayName("checkpointBytes 이상 쓰면 저장 뒤에 체크포인트를 남긴다")
+    void shouldCheckpointWhenJournalGrows() throws Exception {
+        Path journalDir = dir.resolve("journal");
+        List<Order> saved = new ArrayList<>();
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal, 1)) {
+            for (int i = 0; i < 3; i++) {
+                Order order = order(repository.nextId(42), 42);
+                repository.save(order);
+                saved.add(order);
+            }
+        }
+        try (Stream<Path> files = Files.list(journalDir)) {
+            assertThat(files.map(file -> file.getFileName().toString())).anyMatch(name -> name.endsWith(".ckp"));
+        }
+
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(journal, 0)) {
+            repository.recover(journal);
+
+            for (Order order : saved) {
+                assertThat(repository.findById(order.id())).contains(order);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("복구한 주문의 재고를 다시 예약하고 결제 대기 주문만 주문 시각 기준 남은 시간으로 홀드를 다시 잡는다")
+    void shouldRestoreStockOfRecoveredOrders() throws Exception {
+        Path path = dir.resolve("orders.log");
+        Order pending;
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = repository(log)) {
+            pending = order(repository.nextId(42), 42, 2, OrderStatus.PENDING);
+            repository.save(pending);
+            repository.save(order(repository.nextId(42), 42, 3, OrderStatus.CONFIRMED));
+            repository.save(order(repository.nextId(42), 42, 4, OrderStatus.CANCELLED));
+            repository.save(order(repository.nextId(42), 42, 1, OrderStatus.COMPENSATING));
+        }
+
+        InventoryService inventoryService = new InventoryService(4);
+        inventoryService.restock(7, 10);
+        Clock clock = Clock.fixed(pending.createdAt().plus(Duration.ofMinutes(3)), ZoneOffset.UTC);
+        try (AppendOnlyFileLog log = new AppendOnlyFileLog(path);
+             JournaledOrderRepository repository = repository(log);
+             ReservationHolds holds = spy(new ReservationHolds(inventoryService, Duration.ofMinutes(10),
+                 Duration.ofMillis(100), 64, new SimpleMeterRegistry()))) {
+            repository.recover(log);
+
+            assertThat(repository.restoreStock(inventoryService, holds, clock)).isEqualTo(2);
+            assertThat(inventoryService.available(7)).hasValue(5);
+            assertThat(holds.outstanding()).isEqualTo(1);
+            verify(holds).hold(pending.id(), pending.items(), Duration.ofMinutes(3));
+        }
+    }
+
+    @Test
+    @DisplayName("매핑 저널이면 끝난 주문을 메모리에서 내리고 체크포인트와 재시작 뒤에도 저널 인덱스로 조회한다")
+    void shouldReadDoneOrdersFromJournalIndex() throws Exception {
+        Path journalDir = dir.resolve("journal");
+        Order pending;
+        Order confirmed;
+        InMemoryOrderRepository memory = new InMemoryOrderRepository();
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(memory, journal)) {
+            pending = order(repository.nextId(42), 42, 2, OrderStatus.PENDING);
+            Order placed = order(repository.nextId(42), 42, 3, OrderStatus.PENDING);
+            confirmed = placed.withStatus(OrderStatus.CONFIRMED);
+            repository.save(pending);
+            repository.save(placed, OutboxEvent.of(OutboxEvent.ORDER_CREATED, placed, placed.createdAt()));
+            repository.save(confirmed,
+                OutboxEvent.of(OutboxEvent.ORDER_STATUS_CHANGED, confirmed, confirmed.createdAt()));
+
+            assertThat(memory.size()).isEqualTo(1);
+            assertThat(repository.findById(confirmed.id())).contains(confirmed);
+            assertThat(repository.findByUser("user-1", null, 10)).containsExactlyInAnyOrder(pending, confirmed);
+
+            repository.checkpoint().get(2, TimeUnit.SECONDS);
+            assertThat(repository.findById(confirmed.id())).contains(confirmed);
+        }
+
+        memory = new InMemoryOrderRepository();
+        InventoryService inventoryService = new InventoryService(4);
+        inventoryService.restock(7, 10);
+        try (MappedJournal journal = mappedJournal(journalDir);
+             JournaledOrderRepository repository = repository(memory, journal);
+             ReservationHolds holds = new ReservationHolds(inventoryService, Duration.ofMinutes(10),
+                 Duration.ofMillis(100), 64, new SimpleMeterRegistry())) {
+            repository.recover(journal);
+
+            assertThat(memory.size()).isEqualTo(1);
+            assertThat(repository.findById(confirmed.id())).contains(confirmed);
+            assertThat(repository.findById(pending.id())).contains(pending);
+            assertThat(repository.findByUser("user-1", null, 10)).containsExactlyInAnyOrder(pending, confirmed);
+            int partition = (int) (confirmed.id() & (repository.partitions() - 1));
+            assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::type)
+                .containsExactly(OutboxEvent.ORDER_CREATED, OutboxEvent.ORDER_STATUS_CHANGED);
+            assertThat(repository.restoreStock(inventoryService, holds)).isEqualTo(2);
+            assertThat(inventoryService.available(7)).hasValue(5);
+        }
+    }
+
+    private static MappedJournal mappedJournal(Path journalDir) throws Exception {
+        return new MappedJournal(journalDir, 64 * 1024, OrderRecordCodec::orderIdOf);
+    }
+
+    private static Order order(long id, long storeId, int quantity, OrderStatus status) {
+        return new Order(id, storeId, "user-1", List.of(new OrderItem(7, quantity, 1000)), quantity * 1000L, status,
+            Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    private static Order order(long id, long storeId) {
+        return new Order(id, storeId, "user-1", List.of(new OrderItem(7, 1, 1000)), 1000, OrderStatus.PENDING,
+            Instant.parse("2026-01-01T00:00:00Z"));
+    }
+
+    private static JournaledOrderRepository repository(RecordLog log) {
+        return repository(log, null);
+    }
+
+    private static JournaledOrderRepository repository(RecordLog log, long checkpointBytes) {
+        return new JournaledOrderRepository(new InMemoryOrderRepository(),
+            new GroupCommitter<>("orders", log, 16, Duration.ofMillis(1), new SimpleMeterRegistry()),
+            log, checkpointBytes);
+    }
+
+    private static JournaledOrderRepository repository(InMemoryOrderRepository memory, RecordLog log) {
+        return new JournaledOrderRepository(memory,
+            new GroupCommitter<>("orders", log, 16, Duration.ofMillis(1), new SimpleMeterRegistry()), log, 0);
+    }
+
+    private static JournaledOrderRepository repository(RecordLog log, OrderIdGenerator idGenerator) {
+        return new JournaledOrderRepository(new InMemoryOrderRepository(idGenerator),
+            new GroupCommitter<>("orders", log, 16, Duration.ofMillis(1), new SimpleMeterRegistry()));
+    }
+
+    private static OrderIdGenerator generator(long fixedMillis) {
+        return new OrderIdGenerator(1, () -> fixedMillis, new SimpleMeterRegistry());
+    }
+
+    private static List<OrderRecordCodec.Entry> readAll(Path path) throws Exception {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        List<OrderRecordCodec.Entry> entries = new ArrayList<>();
+        while (buffer.hasRemaining()) {
+            byte[] record = new byte[buffer.getInt()];
+            buffer.get(record);
+            entries.add(OrderRecordCodec.decode(record));
+        }
+        return entries;
+    }
+}
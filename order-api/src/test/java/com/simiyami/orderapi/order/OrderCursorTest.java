@@ -0,0 +1,44 @@
+package com.simiyami.orderapi.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderCursorTest {
+
+    @Test
+    @DisplayName("커서는 22자 URL-safe 문자열로 인코딩되고 그대로 복원된다")
+    void shouldRoundTrip() {
+        OrderCursor cursor = OrderCursor.of(new Order(123_456_789L, 42, "user-1", List.of(new OrderItem(1, 1, 1000)),
+            1000, OrderStatus.PENDING, Instant.parse("2026-01-01T00:00:00.123456789Z")));
+
+        String encoded = cursor.encode();
+
+        assertThat(encoded).hasSize(22).matches("[A-Za-z0-9_-]+");
+        assertThat(OrderCursor.decode(encoded)).isEqualTo(cursor);
+        assertThat(cursor.createdAtMicros()).isEqualTo(Instant.parse("2026-01-01T00:00:00.123456Z").toEpochMilli() * 1000 + 456);
+    }
+
+    @Test
+    @DisplayName("최신 주문이 앞에 오고 같은 시각이면 ID가 큰 주문이 앞에 온다")
+    void shouldOrderNewestFirst() {
+        OrderCursor older = new OrderCursor(1_000, 9);
+        OrderCursor newer = new OrderCursor(2_000, 1);
+        OrderCursor newerHigherId = new OrderCursor(2_000, 5);
+
+        assertThat(List.of(older, newer, newerHigherId).stream().sorted().toList())
+            .containsExactly(newerHigherId, newer, older);
+    }
+
+    @Test
+    @DisplayName("만들지 않은 커서는 IllegalArgumentException")
+    void shouldRejectForeignCursor() {
+        assertThatThrownBy(() -> OrderCursor.decode("not a cursor!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderCursor.decode("AAAA")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,157 @@
+package com.simiyami.orderapi.order;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderIdGeneratorTest {
+
+    private static final long START = OrderIdGenerator.EPOCH.toEpochMilli() + 1_000_000;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicLong clock = new AtomicLong(START);
+    private final OrderIdGenerator generator = new OrderIdGenerator(7, clock::get, meterRegistry);
+
+    @Test
+    @DisplayName("ID에서 발급 시각, 노드 번호, 가게 샤드를 다시 꺼낼 수 있다")
+    void shouldEncodeFields() {
+        long id = generator.nextId(42);
+
+        assertThat(id).isPositive();
+        assertThat(OrderIdGenerator.timestampOf(id).toEpochMilli()).isEqualTo(START);
+        assertThat(OrderIdGenerator.nodeOf(id)).isEqualTo(7);
+        assertThat(OrderIdGenerator.shardOfId(id)).isEqualTo(OrderIdGenerator.shardOf(42));
+    }
+
+    @Test
+    @DisplayName("같은 ms에 순번을 다 쓰면 기다리지 않고 다음 ms로 넘어가며 ID는 계속 증가한다")
+    void shouldBorrowNextMillisOnSequenceOverflow() {
+        long previous = 0;
+        for (int i = 0; i < 65; i++) {
+            long id = generator.nextId(42);
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+
+        assertThat(OrderIdGenerator.timestampOf(previous).toEpochMilli()).isEqualTo(START + 1);
+        assertThat(meterRegistry.get("order.id.borrowed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시계가 조금 뒤로 가도 마지막 시각에서 이어 발급해 ID가 줄어들거나 겹치지 않는다")
+    void shouldSurviveClockRollback() {
+        long beforeRollback = generator.nextId(42);
+        clock.addAndGet(-OrderIdGenerator.MAX_LEAD_MILLIS);
+
+        long afterRollback = generator.nextId(42);
+        clock.set(START + 10);
+        long recovered = generator.nextId(42);
+
+        assertThat(afterRollback).isGreaterThan(beforeRollback);
+        assertThat(OrderIdGenerator.timestampOf(afterRollback).toEpochMilli()).isEqualTo(START);
+        assertThat(OrderIdGenerator.timestampOf(recovered).toEpochMilli()).isEqualTo(START + 10);
+        assertThat(meterRegistry.get("order.id.borrowed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("시계보다 너무 앞서게 되면 시계가 따라올 때까지 기다렸다가 발급한다")
+    void shouldWaitWhenLeadExceedsLimit() throws Exception {
+        long beforeRollback = generator.nextId(42);
+        clock.addAndGet(-1_000);
+
+        CompletableFuture<Long> waiting = CompletableFuture.supplyAsync(() -> generator.nextId(42));
+        Thread.sleep(50);
+        assertThat(waiting).isNotDone();
+
+        clock.set(START + 1);
+        long id = waiting.get(5, TimeUnit.SECONDS);
+
+        assertThat(id).isGreaterThan(beforeRollback);
+        assertThat(OrderIdGenerator.timestampOf(id).toEpochMilli()).isEqualTo(START + 1);
+        assertThat(meterRegistry.get("order.id.waits").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재시작 후 복구한 ID로 상태를 올리면 그 뒤에서 이어 발급한다")
+    void shouldContinueAfterRecoveredIds() {
+        long issued = 0;
+        for (int i = 0; i < 3; i++) {
+            issued = generator.nextId(42);
+        }
+
+        OrderIdGenerator restarted = new OrderIdGenerator(7, clock::get, new SimpleMeterRegistry());
+        restarted.advance(issued);
+
+        assertThat(restarted.nextId(42)).isGreaterThan(issued);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 같은 가게와 여러 가게에 동시에 발급해도 ID가 겹치지 않는다")
+    void shouldIssueUniqueIdsConcurrently() throws Exception {
+        OrderIdGenerator realClock = new OrderIdGenerator(3, meterRegistry);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(realClock.nextId(i % 3 + 1));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("ID 문자열은 11자 base62이고 문자열 순서가 ID 순서와 같다")
+    void shouldEncodeAsSortableString() {
+        long first = generator.nextId(42);
+        long second = generator.nextId(42);
+
+        String encoded = OrderIdGenerator.encode(first);
+
+        assertThat(encoded).hasSize(11).matches("[0-9A-Za-z]+");
+        assertThat(OrderIdGenerator.decode(encoded)).isEqualTo(first);
+        assertThat(OrderIdGenerator.encode(second)).isGreaterThan(encoded);
+        assertThat(OrderIdGenerator.decode(OrderIdGenerator.encode(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+        assertThatThrownBy(() -> OrderIdGenerator.decode("zzzzzzzzzzz")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderIdGenerator.decode("short")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호는 StatefulSet 순번으로 정하고 순번이 없거나 범위를 벗어나면 거부한다")
+    void shouldDeriveNodeFromOrdinal() {
+        assertThat(OrderIdGenerator.nodeIdOfOrdinal("order-api-3")).isEqualTo(3);
+        assertThat(OrderIdGenerator.nodeIdOfOrdinal("order-api-31")).isEqualTo(31);
+        assertThatThrownBy(() -> OrderIdGenerator.nodeIdOfOrdinal("order-api-32"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderIdGenerator.nodeIdOfOrdinal("order-api"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> OrderIdGenerator.nodeIdOfOrdinal("localhost"))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new OrderIdGenerator(OrderIdGenerator.NODE_COUNT, meterRegistry))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,231 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.inventory.InventoryService;
+import com.simiyami.orderapi.inventory.ReservationHolds;
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderServiceTest {
+
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+    private final InventoryService inventoryService = new InventoryService(4);
+    private ReservationHolds holds;
+    private OrderService orderService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryService.restock(1, 10);
+        // 휠 스레드를 시작하지 않으므로 만료는 일어나지 않음
+        holds = new ReservationHolds(inventoryService, Duration.ofMinutes(10), Duration.ofMillis(100), 64,
+            new SimpleMeterRegistry());
+        orderService = new OrderService(repository, inventoryService, holds,
+            Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    void tearDown() {
+        holds.close();
+    }
+
+    @Test
+    @DisplayName("결제 완료까지 전이하면 저장하고 이벤트를 남기며 재고 홀드를 정산한다")
+    void shouldPersistWinningTransitions() {
+        Order order = orderService.create("user-1", 42, List.of(new OrderItem(1, 3, 1000)));
+
+        assertThat(orderService.changeStatus(order.id(), OrderStatus.PAYMENT_PENDING)).get()
+            .extracting(OrderStateMachine.Transition::applied).isEqualTo(true);
+        assertThat(orderService.changeStatus(order.id(), OrderStatus.PAYMENT_COMPLETED)).get()
+            .extracting(OrderStateMachine.Transition::applied).isEqualTo(true);
+
+        assertThat(repository.findById(order.id())).get().extracting(Order::status)
+            .isEqualTo(OrderStatus.PAYMENT_COMPLETED);
+        assertThat(repository.fetch((int) (order.id() & (repository.partitions() - 1)), 10))
+            .extracting(OutboxEvent::type)
+            .containsExactly(OutboxEvent.ORDER_CREATED, OutboxEvent.ORDER_STATUS_CHANGED,
+                OutboxEvent.ORDER_STATUS_CHANGED);
+        assertThat(holds.outstanding()).isZero();
+        assertThat(inventoryService.available(1)).hasValue(7);
+    }
+
+    @Test
+    @DisplayName("진 전이는 저장하지 않고, 보상 후 취소되면 재고를 반납한다")
+    void shouldIgnoreLosingTransitionAndReleaseOnCancel() {
+        Order order = orderService.create("user-1", 42, List.of(new OrderItem(1, 3, 1000)));
+        orderService.changeStatus(order.id(), OrderStatus.PAYMENT_PENDING);
+        orderService.changeStatus(order.id(), OrderStatus.PAYMENT_FAILED);
+
+        assertThat(orderService.changeStatus(order.id(), OrderStatus.PAYMENT_COMPLETED)).get()
+            .isEqualTo(new OrderStateMachine.Transition(false, OrderStatus.PAYMENT_FAILED, OrderStatus.PAYMENT_FAILED));
+        assertThat(repository.findById(order.id())).get().extracting(Order::status)
+            .isEqualTo(OrderStatus.PAYMENT_FAILED);
+
+        orderService.changeStatus(order.id(), OrderStatus.COMPENSATING);
+        orderService.changeStatus(order.id(), OrderStatus.CANCELLED);
+
+        assertThat(orderService.status(order.id())).contains(OrderStatus.CANCELLED);
+        assertThat(inventoryService.available(1)).hasValue(10);
+    }
+
+    @Test
+    @DisplayName("앞선 전이의 저장이 끝나기 전에 다음 전이가 이겨도 저장 순서는 전이 순서를 따른다")
+    void shouldPersistTransitionsInOrder() throws Exception {
+        CountDownLatch saving = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        InMemoryOrderRepository slowRepository = new InMemoryOrderRepository() {
+            @Override
+            public void save(Order order, OutboxEvent event) {
+                if (order.status() == OrderStatus.PAYMENT_PENDING) {
+                    saving.countDown();
+                    await(proceed);
+                }
+                super.save(order, event);
+            }
+        };
+        OrderService service = new OrderService(slowRepository, inventoryService, holds, Clock.systemUTC());
+        Order order = service.create("user-1", 42, List.of(new OrderItem(1, 1, 1000)));
+
+        Thread paying = new Thread(() -> service.changeStatus(order.id(), OrderStatus.PAYMENT_PENDING));
+        paying.start();
+        saving.await(5, TimeUnit.SECONDS);
+        Thread compensating = new Thread(() -> service.changeStatus(order.id(), OrderStatus.COMPENSATING));
+        compensating.start();
+        while (compensating.isAlive() && compensating.getState() != Thread.State.BLOCKED) {
+            Thread.onSpinWait();
+        }
+        proceed.countDown();
+        paying.join(5_000);
+        compensating.join(5_000);
+
+        assertThat(service.status(order.id())).contains(OrderStatus.COMPENSATING);
+        assertThat(slowRepository.findById(order.id())).get().extracting(Order::status)
+            .isEqualTo(OrderStatus.COMPENSATING);
+        assertThat(slowRepository.fetch((int) (order.id() & (slowRepository.partitions() - 1)), 10))
+            .extracting(event -> event.payload().status())
+            .containsExactly(OrderStatus.PENDING, OrderStatus.PAYMENT_PENDING, OrderStatus.COMPENSATING);
+    }
+
+    @Test
+    @DisplayName("홀드 만료 묶음은 저장을 모두 요청한 뒤 한 번에 기다리고, 반영된 뒤에 리스너에 알린다")
+    void shouldSubmitExpiredBatchBeforeAwaiting() throws Exception {
+        AtomicReference<Consumer<List<ReservationHolds.Hold>>> expiry = new AtomicReference<>();
+        ReservationHolds capturing = new ReservationHolds(inventoryService, Duration.ofMinutes(10),
+            Duration.ofMillis(100), 64, new SimpleMeterRegistry()) {
+            @Override
+            public void onExpired(Consumer<List<Hold>> listener) {
+                expiry.set(listener);
+            }
+        };
+        CompletableFuture<Void> commit = new CompletableFuture<>();
+        List<OrderStatus> requested = new CopyOnWriteArrayList<>();
+        InMemoryOrderRepository groupCommitRepository = new InMemoryOrderRepository() {
+            @Override
+            public CompletableFuture<Void> saveAsync(Order order, OutboxEvent event) {
+                requested.add(order.status());
+                return commit.thenRun(() -> save(order, event));
+            }
+        };
+        OrderService service = new OrderService(groupCommitRepository, inventoryService, capturing, Clock.systemUTC());
+        List<Order> orders = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            orders.add(service.create("user-1", 42, List.of(new OrderItem(1, 1, 1000))));
+        }
+        service.changeStatus(orders.get(2).id(), OrderStatus.PAYMENT_PENDING);
+        List<Order> notified = new CopyOnWriteArrayList<>();
+        service.onStatusChanged(notified::add);
+        List<ReservationHolds.Hold> expired = orders.stream().map(order -> holds.hold(order.id(), order.items()))
+            .toList();
+
+        Thread wheel = new Thread(() -> expiry.get().accept(expired));
+        wheel.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (requested.size() < 3 && System.nanoTime() - deadline < 0) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(requested).containsExactly(OrderStatus.CANCELLED, OrderStatus.CANCELLED, OrderStatus.COMPENSATING);
+        assertThat(notified).isEmpty();
+
+        commit.complete(null);
+        wheel.join(5_000);
+
+        assertThat(notified).extracting(Order::status)
+            .containsExactly(OrderStatus.CANCELLED, OrderStatus.CANCELLED, OrderStatus.COMPENSATING);
+        assertThat(groupCommitRepository.findById(orders.get(2).id())).get().extracting(Order::status)
+            .isEqualTo(OrderStatus.COMPENSATING);
+    }
+
+    @Test
+    @DisplayName("상태 머신에 없는 주문은 저장된 상태에서 시작하고, 없는 주문은 empty")
+    void shouldTrackRecoveredOrders() {
+        Order recovered = new Order(repository.nextId(7), 7, "user-1", List.of(new OrderItem(1, 1, 1000)), 1000,
+            OrderStatus.PAYMENT_PENDING, Instant.EPOCH);
+        repository.save(recovered);
+
+        assertThat(orderService.changeStatus(recovered.id(), OrderStatus.CONFIRMED)).get()
+            .extracting(OrderStateMachine.Transition::previous).isEqualTo(OrderStatus.PAYMENT_PENDING);
+        assertThat(orderService.changeStatus(999_999, OrderStatus.CONFIRMED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("항목 금액이나 합계가 long 범위를 넘으면 재고를 잡지 않고 거절한다")
+    void shouldRejectOverflowingAmount() {
+        assertThatThrownBy(() -> orderService.create("user-1", 42,
+            List.of(new OrderItem(1, 3, Long.MAX_VALUE / 2))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("items[0]");
+        assertThatThrownBy(() -> orderService.create("user-1", 42,
+            List.of(new OrderItem(1, 1, Long.MAX_VALUE / 2 + 1), new OrderItem(1, 1, Long.MAX_VALUE / 2 + 1))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("items[1]");
+
+        assertThat(repository.size()).isZero();
+        assertThat(inventoryService.available(1)).hasValue(10);
+    }
+
+    @Test
+    @DisplayName("주문 내역은 커서를 따라 빠짐없이 한 번씩 읽히고 마지막 페이지의 커서는 null")
+    void shouldPageHistory() {
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(orderService.create("user-1", 42, List.of(new OrderItem(1, 1, 1000))).id());
+        }
+        orderService.create("user-2", 42, List.of(new OrderItem(1, 1, 1000)));
+
+        OrderPage first = orderService.history("user-1", null, 2);
+        OrderPage second = orderService.history("user-1", first.next(), 2);
+        OrderPage last = orderService.history("user-1", second.next(), 2);
+
+        assertThat(first.orders()).extracting(Order::id).containsExactly(created.get(4), created.get(3));
+        assertThat(second.orders()).extracting(Order::id).containsExactly(created.get(2), created.get(1));
+        assertThat(last.orders()).extracting(Order::id).containsExactly(created.get(0));
+        assertThat(last.next()).isNull();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.simiyami.orderapi.order;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderStateMachineTest {
+
+    private static final int ORDERS = 20_000;
+
+    private final OrderStateMachine stateMachine = new OrderStateMachine();
+
+    @Test
+    @DisplayName("전이표에 있는 전이만 허용하고 종료 상태에서는 어디로도 가지 않는다")
+    void shouldFollowTransitionTable() {
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.PAYMENT_PENDING)).isTrue();
+        assertThat(OrderStatus.PAYMENT_PENDING.canTransitionTo(OrderStatus.CONFIRMED)).isTrue();
+        assertThat(OrderStatus.PAYMENT_PENDING.canTransitionTo(OrderStatus.COMPENSATING)).isTrue();
+        assertThat(OrderStatus.COMPENSATING.canTransitionTo(OrderStatus.CANCELLED)).isTrue();
+
+        assertThat(OrderStatus.PENDING.canTransitionTo(OrderStatus.CONFIRMED)).isFalse();
+        assertThat(OrderStatus.PAYMENT_PENDING.canTransitionTo(OrderStatus.PENDING)).isFalse();
+        assertThat(OrderStatus.COMPENSATING.canTransitionTo(OrderStatus.CONFIRMED)).isFalse();
+        for (OrderStatus target : OrderStatus.values()) {
+            assertThat(OrderStatus.CONFIRMED.canTransitionTo(target)).isFalse();
+            assertThat(OrderStatus.CANCELLED.canTransitionTo(target)).isFalse();
+        }
+        assertThat(EnumSet.allOf(OrderStatus.class).stream().filter(OrderStatus::isTerminal))
+            .containsExactlyInAnyOrder(OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("허용된 전이는 반영하고, 허용되지 않은 전이는 현재 상태를 돌려준다")
+    void shouldApplyOnlyAllowedTransitions() {
+        stateMachine.register(1, OrderStatus.PENDING);
+
+        assertThat(stateMachine.transition(1, OrderStatus.CONFIRMED)).get()
+            .isEqualTo(new OrderStateMachine.Transition(false, OrderStatus.PENDING, OrderStatus.PENDING));
+        assertThat(stateMachine.transition(1, OrderStatus.PAYMENT_PENDING)).get()
+            .isEqualTo(new OrderStateMachine.Transition(true, OrderStatus.PENDING, OrderStatus.PAYMENT_PENDING));
+        assertThat(stateMachine.status(1)).contains(OrderStatus.PAYMENT_PENDING);
+        assertThat(stateMachine.transition(2, OrderStatus.PAYMENT_PENDING)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("expected 상태가 아니면 전이하지 않고 이긴 쪽이 남긴 상태를 돌려준다")
+    void shouldReportWinnerToLoser() {
+        stateMachine.register(1, OrderStatus.PAYMENT_PENDING);
+
+        assertThat(stateMachine.transition(1, OrderStatus.PAYMENT_PENDING, OrderStatus.COMPENSATING)).get()
+            .extracting(OrderStateMachine.Transition::applied).isEqualTo(true);
+        assertThat(stateMachine.transition(1, OrderStatus.PAYMENT_PENDING, OrderStatus.PAYMENT_COMPLETED)).get()
+            .isEqualTo(new OrderStateMachine.Transition(false, OrderStatus.COMPENSATING, OrderStatus.COMPENSATING));
+        assertThatThrownBy(() -> stateMachine.transition(1, OrderStatus.PENDING, OrderStatus.CONFIRMED))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("결제 완료, 결제 실패, 시간 초과가 같은 주문에 몰려도 한쪽만 이기고 나머지는 이긴 상태를 본다")
+    void shouldPickSingleWinnerUnderRace() throws Exception {
+        for (long orderId = 1; orderId <= ORDERS; orderId++) {
+            stateMachine.register(orderId, OrderStatus.PAYMENT_PENDING);
+        }
+        OrderStatus[] racers = {OrderStatus.PAYMENT_COMPLETED, OrderStatus.PAYMENT_FAILED, OrderStatus.COMPENSATING,
+            OrderStatus.CONFIRMED};
+        Queue<long[]> wins = new ConcurrentLinkedQueue<>();
+        Queue<long[]> losses = new ConcurrentLinkedQueue<>();
+
+        race(racers.length * 2, thread -> {
+            OrderStatus target = racers[thread % racers.length];
+            for (long orderId = 1; orderId <= ORDERS; orderId++) {
+                OrderStateMachine.Transition transition =
+                    stateMachine.transition(orderId, OrderStatus.PAYMENT_PENDING, target).orElseThrow();
+                (transition.applied() ? wins : losses).add(new long[]{orderId, transition.current().ordinal()});
+            }
+        });
+
+        OrderStatus[] winners = new OrderStatus[ORDERS + 1];
+        for (long[] win : wins) {
+            assertThat(winners[(int) win[0]]).as("order %d won twice", win[0]).isNull();
+            winners[(int) win[0]] = OrderStatus.of((int) win[1]);
+        }
+        for (long orderId = 1; orderId <= ORDERS; orderId++) {
+            assertThat(winners[(int) orderId]).isNotNull();
+            assertThat(stateMachine.status(orderId)).contains(winners[(int) orderId]);
+        }
+        assertThat(losses).hasSize(ORDERS * (racers.length * 2 - 1));
+        for (long[] loss : losses) {
+            assertThat(OrderStatus.of((int) loss[1])).isEqualTo(winners[(int) loss[0]]);
+        }
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 제각각 전이를 시도해도 한 상태에서 두 번 나가지 않고 전이표를 벗어나지 않는다")
+    void shouldNeverLeaveStateTwice() throws Exception {
+        for (long orderId = 1; orderId <= ORDERS; orderId++) {
+            stateMachine.register(orderId, OrderStatus.PENDING);
+        }
+        OrderStatus[] targets = OrderStatus.values();
+        Queue<long[]> applied = new ConcurrentLinkedQueue<>();
+
+        race(8, thread -> {
+            for (int round = 0; round < 3; round++) {
+                for (long orderId = 1; orderId <= ORDERS; orderId++) {
+                    OrderStatus target = targets[(int) ((orderId * 31 + thread * 7 + round) % targets.length)];
+                    OrderStateMachine.Transition transition = stateMachine.transition(orderId, target).orElseThrow();
+                    if (transition.applied()) {
+                        applied.add(new long[]{orderId, transition.previous().ordinal(), transition.current().ordinal()});
+                    }
+                }
+            }
+        });
+
+        int[][] exits = new int[ORDERS + 1][targets.length];
+        for (long[] transition : applied) {
+            OrderStatus previous = OrderStatus.of((int) transition[1]);
+            OrderStatus current = OrderStatus.of((int) transition[2]);
+            assertThat(previous.canTransitionTo(current)).isTrue();
+            assertThat(++exits[(int) transition[0]][previous.ordinal()]).as("order %d left %s twice", transition[0],
+                previous).isEqualTo(1);
+        }
+    }
+
+    private static void race(int threads, ThreadBody body) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    body.run(thread);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+
+        void run(int thread);
+    }
+}
@@ -0,0 +1,255 @@
+package com.simiyami.orderapi.order;
+
+import com.simiyami.orderapi.outbox.OutboxEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+class ShardedOrderRepositoryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ShardedOrderRepository repository = new ShardedOrderRepository(
+        new OrderIdGenerator(1, meterRegistry), 4, 256, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("같은 가게의 주문은 한 샤드에 저장되고 주문 ID만으로 조회된다")
+    void shouldRouteByStore() {
+        Order first = order(repository.nextId(42), 42, Instant.EPOCH);
+        Order second = order(repository.nextId(42), 42, Instant.EPOCH);
+
+        repository.save(first);
+        repository.save(second);
+
+        int shard = repository.shardOf(42);
+        assertThat(repository.findById(first.id())).contains(first);
+        assertThat(repository.findById(second.id())).contains(second);
+        assertThat(meterRegistry.get("order.shard.writes").tag("shard", Integer.toString(shard)).counter().count())
+            .isEqualTo(2);
+        assertThat(meterRegistry.get("order.shard.orders").tag("shard", Integer.toString(shard)).gauge().value())
+            .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("샤드를 더하면 새 샤드로 가는 가게만 옮겨지고, 이동 중 저장과 조회도 유실되지 않는다")
+    void shouldMigrateOnlyMovedStoresWhileServing() throws Exception {
+        List<Order> saved = new ArrayList<>();
+        for (long storeId = 1; storeId <= 2_000; storeId++) {
+            Order order = order(repository.nextId(storeId), storeId, Instant.EPOCH);
+            repository.save(order);
+            saved.add(order);
+        }
+        int[] before = new int[2_001];
+        for (int storeId = 1; storeId <= 2_000; storeId++) {
+            before[storeId] = repository.shardOf(storeId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                int offset = t;
+                writers.add(executor.submit(() -> {
+                    for (int i = offset; i < saved.size(); i += 4) {
+                        Order cancelled = saved.get(i).withStatus(OrderStatus.CANCELLED);
+                        repository.save(cancelled);
+                        assertThat(repository.findById(cancelled.id())).isPresent();
+                    }
+                }));
+            }
+            repository.addShard().get(10, TimeUnit.SECONDS);
+            for (Future<?> writer : writers) {
+                writer.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(repository.shards()).isEqualTo(5);
+        int moved = 0;
+        for (int storeId = 1; storeId <= 2_000; storeId++) {
+            int after = repository.shardOf(storeId);
+            if (after != before[storeId]) {
+                assertThat(after).isEqualTo(4);
+                moved++;
+            }
+        }
+        assertThat(moved).isBetween(200, 600);
+        for (Order order : saved) {
+            assertThat(repository.findById(order.id())).get()
+                .extracting(Order::status).isEqualTo(OrderStatus.CANCELLED);
+        }
+        assertThat(meterRegistry.get("order.shard.orders").tag("shard", "4").gauge().value()).isEqualTo(moved);
+        assertThat(meterRegistry.get("order.shard.migrating.slots").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("주문 내역은 여러 샤드의 주문을 최신순으로 합친다")
+    void shouldMergeHistoryAcrossShards() {
+        List<Order> orders = new ArrayList<>();
+        for (long storeId = 1; storeId <= 20; storeId++) {
+            Order order = order(repository.nextId(storeId), storeId, Instant.EPOCH.plusSeconds(storeId));
+            repository.save(order);
+            orders.add(order);
+        }
+
+        List<Order> firstPage = repository.findByUser("user-1", null, 5);
+        List<Order> secondPage = repository.findByUser("user-1", OrderCursor.of(firstPage.get(4)), 5);
+
+        assertThat(firstPage).extracting(Order::storeId).containsExactly(20L, 19L, 18L, 17L, 16L);
+        assertThat(secondPage).extracting(Order::storeId).containsExactly(15L, 14L, 13L, 12L, 11L);
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트는 파티션마다 샤드를 차례로 비우며 발행 완료 표시는 읽은 샤드에 반영된다")
+    void shouldRelayOutboxAcrossShards() {
+        long storeId = 42;
+        Order order = order(repository.nextId(storeId), storeId, Instant.EPOCH);
+        repository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, Instant.EPOCH));
+        int partition = -1;
+        for (int p = 0; p < repository.partitions(); p++) {
+            if (!repository.fetch(p, 10).isEmpty()) {
+                partition = p;
+            }
+        }
+
+        assertThat(repository.pending()).isEqualTo(1);
+        assertThat(repository.fetch(partition, 10)).extracting(OutboxEvent::orderId).containsExactly(order.id());
+        repository.markPublished(partition, 1);
+        assertThat(repository.pending()).isZero();
+        assertThat(repository.fetch(partition, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("샤드를 옮기는 중에도 건드리지 않은 주문 조회는 빠지지 않는다")
+    void shouldFindUntouchedOrdersDuringMigration() throws Exception {
+        List<Order> saved = new ArrayList<>();
+        for (long storeId = 1; storeId <= 20_000; storeId++) {
+            Order order = order(repository.nextId(storeId), storeId, Instant.EPOCH);
+            repository.save(order);
+            saved.add(order);
+        }
+
+        AtomicBoolean migrating = new AtomicBoolean(true);
+        AtomicInteger misses = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                readers.add(executor.submit(() -> {
+                    while (migrating.get()) {
+                        for (Order order : saved) {
+                            if (repository.findById(order.id()).isEmpty()) {
+                                misses.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            repository.addShard().get(10, TimeUnit.SECONDS);
+            migrating.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(misses).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("Outbox는 파티션마다 샤드를 돌아가며 읽어 한 샤드에 밀린 이벤트가 다른 샤드를 막지 않는다")
+    void shouldRoundRobinOutboxAcrossShards() {
+        long[] stores = storesOnDifferentShardsSamePartition();
+        for (int i = 0; i < 5; i++) {
+            Order order = order(repository.nextId(stores[0]), stores[0], Instant.EPOCH);
+            repository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, Instant.EPOCH));
+        }
+        Order other = order(repository.nextId(stores[1]), stores[1], Instant.EPOCH);
+        repository.save(other, OutboxEvent.of(OutboxEvent.ORDER_CREATED, other, Instant.EPOCH));
+        int partition = (int) (other.id() & (repository.partitions() - 1));
+
+        List<Long> firstTwo = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            List<OutboxEvent> events = repository.fetch(partition, 1);
+            repository.markPublished(partition, events.size());
+            firstTwo.add(events.get(0).orderId());
+        }
+
+        assertThat(firstTwo).contains(other.id());
+    }
+
+    @Test
+    @DisplayName("새 샤드로 옮긴 주문의 이벤트는 기존 샤드에 쌓인 이전 이벤트가 모두 발행된 뒤에 나간다")
+    void shouldKeepEventOrderAcrossShardAddition() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        try (ShardedOrderRepository single = new ShardedOrderRepository(
+            new OrderIdGenerator(1, registry), 1, 256, registry)) {
+            List<Order> orders = new ArrayList<>();
+            for (long storeId = 1; storeId <= 50; storeId++) {
+                Order created = order(single.nextId(storeId), storeId, Instant.EPOCH);
+                single.save(created, OutboxEvent.of(OutboxEvent.ORDER_CREATED, created, Instant.EPOCH));
+                Order paying = created.withStatus(OrderStatus.PAYMENT_PENDING);
+                single.save(paying, OutboxEvent.of(OutboxEvent.ORDER_STATUS_CHANGED, paying, Instant.EPOCH));
+                orders.add(paying);
+            }
+            single.addShard().get(10, TimeUnit.SECONDS);
+            Order moved = orders.stream().filter(order -> single.shardOf(order.storeId()) == 1).findFirst().orElseThrow();
+            Order cancelled = moved.withStatus(OrderStatus.CANCELLED);
+            single.save(cancelled, OutboxEvent.of(OutboxEvent.ORDER_CANCELLED, cancelled, Instant.EPOCH));
+
+            int partition = (int) (moved.id() & (single.partitions() - 1));
+            List<String> types = new ArrayList<>();
+            for (List<OutboxEvent> events = single.fetch(partition, 1); !events.isEmpty();
+                 events = single.fetch(partition, 1)) {
+                single.markPublished(partition, events.size());
+                if (events.get(0).orderId() == moved.id()) {
+                    types.add(events.get(0).type());
+                }
+            }
+
+            assertThat(types).containsExactly(
+                OutboxEvent.ORDER_CREATED, OutboxEvent.ORDER_STATUS_CHANGED, OutboxEvent.ORDER_CANCELLED);
+        }
+    }
+
+    /**
+     * 서로 다른 샤드에 있으면서 Outbox 파티션이 같은 가게 두 개
+     */
+    private long[] storesOnDifferentShardsSamePartition() {
+        int partitionMask = repository.partitions() - 1;
+        for (long first = 1; first < 1_000; first++) {
+            for (long second = first + 1; second < 1_000; second++) {
+                if (repository.shardOf(first) != repository.shardOf(second)
+                    && (OrderIdGenerator.shardOf(first) & partitionMask) == (OrderIdGenerator.shardOf(second) & partitionMask)) {
+                    return new long[]{first, second};
+                }
+            }
+        }
+        return fail("no store pair found");
+    }
+
+    private static Order order(long id, long storeId, Instant createdAt) {
+        return new Order(id, storeId, "user-1", List.of(new OrderItem(1, 1, 1000)), 1000, OrderStatus.PENDING,
+            createdAt);
+    }
+}
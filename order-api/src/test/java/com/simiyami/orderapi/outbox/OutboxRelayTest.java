@@ -0,0 +1,169 @@
+package com.simiyami.orderapi.outbox;
+
+import com.simiyami.orderapi.order.InMemoryOrderRepository;
+import com.simiyami.orderapi.order.Order;
+import com.simiyami.orderapi.order.OrderItem;
+import com.simiyami.orderapi.order.OrderStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboxRelayTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final InMemoryOrderRepository repository = new InMemoryOrderRepository();
+    private final RecordingEventPublisher publisher = new RecordingEventPublisher();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private OutboxRelay relay;
+
+    @AfterEach
+    void tearDown() {
+        if (relay != null) {
+            relay.close();
+        }
+    }
+
+    private OutboxRelay createRelay(int workers, int batchSize) {
+        relay = new OutboxRelay(repository, publisher, workers, batchSize, Duration.ofMillis(1),
+            Duration.ofMillis(10), meterRegistry, Clock.fixed(NOW.plusMillis(250), ZoneOffset.UTC));
+        return relay;
+    }
+
+    @Test
+    @DisplayName("파티션의 이벤트를 batchSize개씩 묶어 발행하고 발행한 만큼만 지운다")
+    void shouldPublishInBatches() {
+        long orderId = saveOrder(1);
+        for (int i = 0; i < 4; i++) {
+            saveEvent(orderId, "event-" + i);
+        }
+        int partition = partitionOf(orderId);
+        createRelay(1, 2);
+
+        assertThat(relay.relay(partition)).isEqualTo(2);
+        assertThat(repository.pending()).isEqualTo(3);
+        assertThat(relay.relay(partition)).isEqualTo(2);
+        assertThat(relay.relay(partition)).isEqualTo(1);
+        assertThat(relay.relay(partition)).isZero();
+
+        assertThat(publisher.batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(meterRegistry.get("outbox.published").counter().count()).isEqualTo(5);
+        assertThat(meterRegistry.get("outbox.batch.size").summary().max()).isEqualTo(2);
+        assertThat(meterRegistry.get("outbox.lag").timer().max(TimeUnit.MILLISECONDS)).isEqualTo(250);
+        assertThat(meterRegistry.get("outbox.pending").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("발행이 실패하면 지우지 않고 다음 시도에 같은 묶음부터 다시 보낸다")
+    void shouldRetrySameBatchAfterFailure() {
+        long orderId = saveOrder(1);
+        saveEvent(orderId, "paid");
+        int partition = partitionOf(orderId);
+        createRelay(1, 10);
+
+        publisher.failuresLeft.set(1);
+        assertThatThrownBy(() -> relay.relay(partition)).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.pending()).isEqualTo(2);
+
+        assertThat(relay.relay(partition)).isEqualTo(2);
+        assertThat(publisher.types(orderId)).containsExactly(OutboxEvent.ORDER_CREATED, "paid");
+    }
+
+    @Test
+    @DisplayName("여러 워커가 병렬로 발행해도 주문별 이벤트 순서는 기록한 순서 그대로다")
+    void shouldKeepPerOrderOrderingAcrossWorkers() throws Exception {
+        List<Long> orderIds = new ArrayList<>();
+        for (long storeId = 1; storeId <= 200; storeId++) {
+            orderIds.add(saveOrder(storeId));
+        }
+        createRelay(4, 16).start();
+        for (int round = 0; round < 20; round++) {
+            for (long orderId : orderIds) {
+                saveEvent(orderId, "event-" + round);
+            }
+        }
+        publisher.failuresLeft.set(3);
+
+        await(() -> repository.pending() == 0);
+
+        assertThat(publisher.threads.size()).isGreaterThan(1);
+        List<String> expected = new ArrayList<>();
+        expected.add(OutboxEvent.ORDER_CREATED);
+        for (int round = 0; round < 20; round++) {
+            expected.add("event-" + round);
+        }
+        for (long orderId : orderIds) {
+            assertThat(publisher.types(orderId)).isEqualTo(expected);
+        }
+        assertThat(meterRegistry.get("outbox.publish.failures").counter().count()).isEqualTo(3);
+    }
+
+    private long saveOrder(long storeId) {
+        Order order = new Order(repository.nextId(storeId), storeId, "user-1", List.of(new OrderItem(1, 1, 1000)),
+            1000, OrderStatus.PENDING, NOW);
+        repository.save(order, OutboxEvent.of(OutboxEvent.ORDER_CREATED, order, NOW));
+        return order.id();
+    }
+
+    private void saveEvent(long orderId, String type) {
+        Order order = repository.findById(orderId).orElseThrow();
+        repository.save(order, OutboxEvent.of(type, order, NOW));
+    }
+
+    private static int partitionOf(long orderId) {
+        return (int) (orderId & ((1 << 6) - 1));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+
+    /**
+     * Kafka 대역 - 발행 순서를 주문별로 기록하고, 지정한 횟수만큼 실패
+     */
+    static class RecordingEventPublisher implements EventPublisher {
+
+        final List<List<OutboxEvent>> batches = new ArrayList<>();
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger failuresLeft = new AtomicInteger();
+        private final Map<Long, List<String>> byOrder = new HashMap<>();
+
+        @Override
+        public synchronized void publish(List<OutboxEvent> events) {
+            if (failuresLeft.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw new IllegalStateException("broker unavailable");
+            }
+            threads.add(Thread.currentThread().getName());
+            batches.add(List.copyOf(events));
+            for (OutboxEvent event : events) {
+                byOrder.computeIfAbsent(event.orderId(), id -> new ArrayList<>()).add(event.type());
+            }
+        }
+
+        synchronized List<String> types(long orderId) {
+            return List.copyOf(byOrder.getOrDefault(orderId, List.of()));
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.simiyami.orderapi.persistence;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GroupCommitterTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private GroupCommitter<Integer> committer;
+
+    @AfterEach
+    void tearDown() {
+        if (committer != null) {
+            committer.close();
+        }
+    }
+
+    @Test
+    @DisplayName("window 안에 들어온 쓰기는 한 묶음으로 한 번에 쓴다")
+    void shouldCommitConcurrentWritesTogether() throws Exception {
+        committer = new GroupCommitter<>("test", batches::add, 100, Duration.ofMillis(200), meterRegistry);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            futures.add(committer.submit(i));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        assertThat(meterRegistry.get("group.commit.batch.size").summary().max()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("maxBatch개가 모이면 window를 기다리지 않고 바로 쓴다")
+    void shouldCommitWhenBatchIsFull() throws Exception {
+        committer = new GroupCommitter<>("test", batches::add, 4, Duration.ofSeconds(30), meterRegistry);
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(committer.submit(i));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(2, TimeUnit.SECONDS);
+
+        assertThat(batches).extracting(List::size).containsExactly(4, 4);
+    }
+
+    @Test
+    @DisplayName("쓰기가 끝나기 전에는 호출자 future가 완료되지 않는다")
+    void shouldCompleteOnlyAfterWrite() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        committer = new GroupCommitter<>("test", batch -> {
+            writing.countDown();
+            await(release);
+            batches.add(batch);
+        }, 10, Duration.ZERO, meterRegistry);
+
+        CompletableFuture<Void> future = committer.submit(1);
+        assertThat(writing.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(future).isNotDone();
+
+        release.countDown();
+        future.get(2, TimeUnit.SECONDS);
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("쓰기가 실패하면 묶음의 모든 호출자가 실패를 받는다")
+    void shouldFailWholeBatch() {
+        committer = new GroupCommitter<>("test", batch -> {
+            throw new IOException("disk full");
+        }, 10, Duration.ofMillis(100), meterRegistry);
+
+        CompletableFuture<Void> first = committer.submit(1);
+        CompletableFuture<Void> second = committer.submit(2);
+
+        assertThatThrownBy(() -> first.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+        assertThatThrownBy(() -> second.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class);
+        assertThat(meterRegistry.get("group.commit.failures").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("작업은 앞 요청을 쓴 뒤, 뒤 요청을 쓰기 전에 단독으로 실행한다")
+    void shouldRunTaskBetweenWrites() throws Exception {
+        List<String> order = new CopyOnWriteArrayList<>();
+        committer = new GroupCommitter<>("test", batch -> order.add("write " + batch), 100, Duration.ofMillis(200),
+            meterRegistry);
+
+        CompletableFuture<Void> first = committer.submit(1);
+        CompletableFuture<Void> second = committer.submit(2);
+        CompletableFuture<Void> task = committer.execute(() -> order.add("task"));
+        CompletableFuture<Void> third = committer.submit(3);
+        CompletableFuture.allOf(first, second, task, third).get(2, TimeUnit.SECONDS);
+
+        assertThat(order).containsExactly("write [1, 2]", "task", "write [3]");
+    }
+
+    @Test
+    @DisplayName("작업이 실패하면 그 작업의 future만 실패하고 뒤 요청은 그대로 쓴다")
+    void shouldIsolateTaskFailure() throws Exception {
+        committer = new GroupCommitter<>("test", batches::add, 100, Duration.ofMillis(100), meterRegistry);
+
+        CompletableFuture<Void> task = committer.execute(() -> {
+            throw new IOException("checkpoint failed");
+        });
+        CompletableFuture<Void> next = committer.submit(1);
+
+        assertThatThrownBy(() -> task.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IOException.class);
+        next.get(2, TimeUnit.SECONDS);
+        assertThat(batches).containsExactly(List.of(1));
+    }
+
+    @Test
+    @DisplayName("종료할 때 큐에 남은 쓰기를 모두 반영하고 이후 요청은 거절한다")
+    void shouldFlushOnClose() throws Exception {
+        committer = new GroupCommitter<>("test", batches::add, 100, Duration.ofSeconds(1), meterRegistry);
+        CompletableFuture<Void> pending = committer.submit(1);
+
+        committer.close();
+
+        assertThat(pending.get(2, TimeUnit.SECONDS)).isNull();
+        assertThat(committer.submit(2)).isCompletedExceptionally();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,229 @@
+package com.simiyami.orderapi.persistence;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedJournalTest {
+
+    private static final int SEGMENT_SIZE = 256;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("세그먼트가 차면 다음 세그먼트로 넘어가고 재시작 후 쓴 순서대로 재생한다")
+    void shouldRollSegmentsAndReplayInOrder() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long key = 1; key <= 40; key++) {
+                journal.write(List.of(record(key, key * 10)));
+            }
+            assertThat(journal.segmentCount()).isGreaterThan(1);
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).hasSize(40).isSorted().startsWith(1L).endsWith(40L);
+        }
+    }
+
+    @Test
+    @DisplayName("체크포인트 앞의 세그먼트는 지우고 재시작하면 체크포인트 → 이후 레코드 순으로 재생한다")
+    void shouldReplayFromCheckpoint() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long key = 1; key <= 40; key++) {
+                journal.write(List.of(record(key, key)));
+            }
+            assertThat(journal.segmentCount()).isGreaterThan(1);
+
+            journal.checkpoint(List.of(record(100, 1), record(101, 2)));
+            journal.write(List.of(record(41, 41), record(42, 42)));
+
+            assertThat(journal.segmentCount()).isEqualTo(1);
+            assertThat(journal.sizeSinceCheckpoint()).isEqualTo(2 * (MappedJournal.HEADER + 16));
+        }
+        assertThat(files(".ckp")).hasSize(1);
+        assertThat(files(".seg")).hasSize(1);
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(100L, 101L, 41L, 42L);
+            assertThat(journal.sizeSinceCheckpoint()).isEqualTo(2 * (MappedJournal.HEADER + 16));
+        }
+    }
+
+    @Test
+    @DisplayName("새 체크포인트를 남기면 이전 체크포인트는 지운다")
+    void shouldKeepOnlyLatestCheckpoint() throws Exception {
+        try (MappedJournal journal = open()) {
+            journal.write(List.of(record(1, 1)));
+            journal.checkpoint(List.of(record(100, 1)));
+            journal.write(List.of(record(2, 2)));
+            journal.checkpoint(List.of(record(200, 1)));
+            journal.checkpoint(List.of(record(300, 1)));
+        }
+        assertThat(files(".ckp")).hasSize(1);
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(300L);
+        }
+    }
+
+    @Test
+    @DisplayName("이름을 바꾸기 전에 종료된 체크포인트는 무시하고 이전 기록을 그대로 재생한다")
+    void shouldIgnoreUnfinishedCheckpoint() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long key = 1; key <= 3; key++) {
+                journal.write(List.of(record(key, key)));
+            }
+        }
+        Files.write(dir.resolve(String.format("%020d.ckp.tmp", 3 * (MappedJournal.HEADER + 16))), new byte[]{1, 2, 3});
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(1L, 2L, 3L);
+        }
+        assertThat(files(".tmp")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CRC가 맞지 않는 레코드부터 뒤를 잘라내고 그 자리에 이어 쓴다")
+    void shouldTruncateAtCorruptedRecord() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long key = 1; key <= 5; key++) {
+                journal.write(List.of(record(key, key)));
+            }
+        }
+        // 네 번째 레코드 내용 한 바이트를 바꿈 (레코드 = 헤더 8 + 내용 16)
+        try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            file.seek(3 * (MappedJournal.HEADER + 16) + MappedJournal.HEADER + 12);
+            file.write(0x7f);
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(1L, 2L, 3L);
+            journal.write(List.of(record(6, 6)));
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(1L, 2L, 3L, 6L);
+        }
+    }
+
+    @Test
+    @DisplayName("앞 세그먼트가 깨졌으면 뒤 세그먼트는 삭제한다")
+    void shouldDropSegmentsAfterCorruption() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long key = 1; key <= 40; key++) {
+                journal.write(List.of(record(key, key)));
+            }
+        }
+        int before = segments().size();
+        try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            file.seek(MappedJournal.HEADER);
+            file.write(0x7f);
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).isEmpty();
+            assertThat(journal.segmentCount()).isEqualTo(1);
+        }
+        assertThat(before).isGreaterThan(1);
+        assertThat(segments()).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("비어 있거나 세그먼트보다 큰 레코드는 거절한다")
+    void shouldRejectInvalidRecordSize() throws Exception {
+        try (MappedJournal journal = open()) {
+            assertThatThrownBy(() -> journal.write(List.of(new byte[0])))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> journal.write(List.of(new byte[SEGMENT_SIZE])))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Test
+    @DisplayName("묶음에 크기가 맞지 않는 레코드가 있으면 앞의 레코드도 쓰지 않는다")
+    void shouldRejectWholeBatchBeforeCopying() throws Exception {
+        try (MappedJournal journal = open()) {
+            assertThatThrownBy(() -> journal.write(List.of(record(1, 1), new byte[SEGMENT_SIZE])))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThat(replayKeys(journal)).isEmpty();
+            assertThat(journal.find(1)).isEmpty();
+
+            journal.write(List.of(record(2, 2)));
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(replayKeys(journal)).containsExactly(2L);
+        }
+    }
+
+    @Test
+    @DisplayName("키마다 마지막 레코드를 인덱스로 찾고 재시작과 체크포인트 뒤에도 찾는다")
+    void shouldFindLatestRecordByKey() throws Exception {
+        try (MappedJournal journal = open()) {
+            for (long value = 1; value <= 20; value++) {
+                journal.write(List.of(record(1, value), record(2, value * 10)));
+            }
+            assertThat(journal.segmentCount()).isGreaterThan(1);
+            assertThat(valueOf(journal, 1)).isEqualTo(20);
+            assertThat(valueOf(journal, 2)).isEqualTo(200);
+            assertThat(journal.find(3)).isEmpty();
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(valueOf(journal, 1)).isEqualTo(20);
+            assertThat(journal.indexedKeys()).isEqualTo(2);
+
+            journal.checkpoint(List.of(record(1, 21), record(3, 30)));
+            assertThat(valueOf(journal, 1)).isEqualTo(21);
+            assertThat(journal.find(2)).isEmpty();
+            journal.write(List.of(record(3, 31)));
+            assertThat(journal.keys()).containsExactlyInAnyOrder(1L, 3L);
+        }
+
+        try (MappedJournal journal = open()) {
+            assertThat(valueOf(journal, 1)).isEqualTo(21);
+            assertThat(valueOf(journal, 3)).isEqualTo(31);
+        }
+    }
+
+    private static long valueOf(MappedJournal journal, long key) {
+        ByteBuffer record = journal.find(key).orElseThrow();
+        return record.getLong(record.position() + Long.BYTES);
+    }
+
+    private MappedJournal open() throws Exception {
+        return new MappedJournal(dir, SEGMENT_SIZE, record -> record.getLong(record.position()));
+    }
+
+    private List<Path> segments() throws Exception {
+        return files(".seg");
+    }
+
+    private List<Path> files(String suffix) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(suffix)).sorted().toList();
+        }
+    }
+
+    private static List<Long> replayKeys(MappedJournal journal) throws Exception {
+        List<Long> keys = new ArrayList<>();
+        journal.replay(record -> keys.add(record.getLong(record.position())));
+        return keys;
+    }
+
+    private static byte[] record(long key, long value) {
+        return ByteBuffer.allocate(Long.BYTES * 2).putLong(key).putLong(value).array();
+    }
+}
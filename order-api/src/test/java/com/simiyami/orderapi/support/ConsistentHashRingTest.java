@@ -0,0 +1,55 @@
+package com.simiyami.orderapi.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+
+    @Test
+    @DisplayName("가상 노드로 키가 샤드에 고르게 나뉜다")
+    void shouldSpreadKeysEvenly() {
+        ConsistentHashRing ring = new ConsistentHashRing(4, 256);
+        int[] counts = new int[4];
+
+        for (long key = 1; key <= KEYS; key++) {
+            counts[ring.shardOf(ConsistentHashRing.hash(key))]++;
+        }
+
+        for (int count : counts) {
+            assertThat(count).isBetween(KEYS / 4 * 8 / 10, KEYS / 4 * 12 / 10);
+        }
+    }
+
+    @Test
+    @DisplayName("샤드를 더하면 새 샤드로 가는 키만 옮겨지고 그 양은 약 1/(샤드 수)")
+    void shouldMoveOnlyKeysTakenByNewShard() {
+        ConsistentHashRing before = new ConsistentHashRing(4, 256);
+        ConsistentHashRing after = before.withShard();
+        int moved = 0;
+
+        for (long key = 1; key <= KEYS; key++) {
+            long position = ConsistentHashRing.hash(key);
+            int from = before.shardOf(position);
+            int to = after.shardOf(position);
+            if (from != to) {
+                assertThat(to).isEqualTo(4);
+                moved++;
+            }
+        }
+
+        assertThat(after.shards()).isEqualTo(5);
+        assertThat(moved).isBetween(KEYS / 5 * 8 / 10, KEYS / 5 * 12 / 10);
+    }
+
+    @Test
+    @DisplayName("마지막 점보다 뒤의 위치는 처음 점의 샤드로 돌아간다")
+    void shouldWrapAround() {
+        ConsistentHashRing ring = new ConsistentHashRing(3, 16);
+
+        assertThat(ring.shardOf(Long.MAX_VALUE)).isEqualTo(ring.shardOf(Long.MIN_VALUE));
+    }
+}
@@ -0,0 +1,58 @@
+package com.simiyami.orderapi.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongLongHashMapTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하고 없는 키는 missingValue를 돌려준다")
+    void shouldPutAndGet() {
+        LongLongHashMap map = new LongLongHashMap(4, -1);
+
+        assertThat(map.put(1, 10)).isEqualTo(-1);
+        assertThat(map.put(1, 11)).isEqualTo(10);
+
+        assertThat(map.get(1)).isEqualTo(11);
+        assertThat(map.get(2)).isEqualTo(-1);
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 늘리고 기존 값을 유지한다")
+    void shouldGrow() {
+        LongLongHashMap map = new LongLongHashMap(4, -1);
+
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 10);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("저장한 키를 모두 복사해 돌려준다")
+    void shouldCopyKeys() {
+        LongLongHashMap map = new LongLongHashMap(4, -1);
+        for (long key = 1; key <= 100; key++) {
+            map.put(key, key);
+        }
+        map.put(7, 70);
+
+        assertThat(map.keys()).hasSize(100).doesNotHaveDuplicates().contains(1L, 7L, 100L);
+    }
+
+    @Test
+    @DisplayName("0은 키로 쓸 수 없다")
+    void shouldRejectZeroKey() {
+        LongLongHashMap map = new LongLongHashMap(4, -1);
+
+        assertThatThrownBy(() -> map.put(0, 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
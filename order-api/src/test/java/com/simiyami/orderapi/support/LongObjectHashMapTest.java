@@ -0,0 +1,73 @@
+package com.simiyami.orderapi.support;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LongObjectHashMapTest {
+
+    @Test
+    @DisplayName("저장한 값을 조회하고 같은 키는 덮어쓴다")
+    void shouldPutAndGet() {
+        LongObjectHashMap<String> map = new LongObjectHashMap<>();
+
+        assertThat(map.put(1, "a")).isNull();
+        assertThat(map.put(1, "b")).isEqualTo("a");
+
+        assertThat(map.get(1)).isEqualTo("b");
+        assertThat(map.get(2)).isNull();
+        assertThat(map.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 늘리고 기존 값을 유지한다")
+    void shouldGrow() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>(4);
+
+        for (long key = 1; key <= 10_000; key++) {
+            map.put(key, key * 10);
+        }
+
+        assertThat(map.size()).isEqualTo(10_000);
+        for (long key = 1; key <= 10_000; key++) {
+            assertThat(map.get(key)).isEqualTo(key * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("무작위 put/remove를 HashMap과 같게 처리한다")
+    void shouldMatchHashMapUnderRandomOperations() {
+        LongObjectHashMap<Long> map = new LongObjectHashMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // 키 범위를 좁혀 충돌/삭제 후 재삽입이 자주 일어나게 함
+            long key = random.nextLong(1, 2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            } else {
+                long value = random.nextLong();
+                assertThat(map.put(key, value)).isEqualTo(expected.put(key, value));
+            }
+        }
+
+        assertThat(map.size()).isEqualTo(expected.size());
+        for (long key = 1; key < 2_000; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+    }
+
+    @Test
+    @DisplayName("0은 키로 쓸 수 없다")
+    void shouldRejectZeroKey() {
+        assertThatThrownBy(() -> new LongObjectHashMap<>().put(0, "a"))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}